@@ -323,4 +323,28 @@ AmqpBaseOutboundEndpointSpec<S extends AmqpBaseOutboundEndpointSpec<S, E>, E ext
 		return _this();
 	}
 
+	/**
+	 * Set the maximum number of sent messages which are not confirmed by the broker yet.
+	 * @param maxUnconfirmed the maximum number of unconfirmed messages.
+	 * @return the spec.
+	 * @since 7.2
+	 * @see AbstractAmqpOutboundEndpoint#setMaxUnconfirmed(int)
+	 */
+	public S maxUnconfirmed(int maxUnconfirmed) {
+		this.target.setMaxUnconfirmed(maxUnconfirmed);
+		return _this();
+	}
+
+	/**
+	 * Set the number of publisher confirm acks to send as a single message to the confirm ack channel.
+	 * @param batchSize the number of acks in a batch.
+	 * @return the spec.
+	 * @since 7.2
+	 * @see AbstractAmqpOutboundEndpoint#setConfirmAckBatchSize(int)
+	 */
+	public S confirmAckBatchSize(int batchSize) {
+		this.target.setConfirmAckBatchSize(batchSize);
+		return _this();
+	}
+
 }
@@ -17,13 +17,19 @@
 package org.springframework.integration.amqp.outbound;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -39,6 +45,7 @@ import org.springframework.amqp.support.AmqpHeaders;
 import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.expression.Expression;
+import org.springframework.integration.MessageTimeoutException;
 import org.springframework.integration.amqp.support.AmqpHeaderMapper;
 import org.springframework.integration.amqp.support.DefaultAmqpHeaderMapper;
 import org.springframework.integration.amqp.support.NackedAmqpMessageException;
@@ -52,8 +59,12 @@ import org.springframework.integration.support.AbstractIntegrationMessageBuilder
 import org.springframework.integration.support.DefaultErrorMessageStrategy;
 import org.springframework.integration.support.ErrorMessageStrategy;
 import org.springframework.integration.support.management.ManageableLifecycle;
+import org.springframework.integration.support.management.metrics.GaugeFacade;
+import org.springframework.integration.support.management.metrics.MetricsCaptor;
+import org.springframework.integration.support.management.metrics.TimerFacade;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandlingException;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
@@ -75,6 +86,14 @@ public abstract class AbstractAmqpOutboundEndpoint extends AbstractReplyProducin
 
 	private final Lock lock = new ReentrantLock();
 
+	private final Lock confirmLock = new ReentrantLock();
+
+	private final Condition confirmCondition = this.confirmLock.newCondition();
+
+	private final AtomicInteger unconfirmed = new AtomicInteger();
+
+	private final List<Object> pendingConfirmAcks = new ArrayList<>();
+
 	private AmqpHeaderMapper headerMapper = DefaultAmqpHeaderMapper.outboundMapper();
 
 	private @Nullable String exchangeName;
@@ -119,6 +138,16 @@ public abstract class AbstractAmqpOutboundEndpoint extends AbstractReplyProducin
 
 	private @Nullable Duration confirmTimeout;
 
+	private int maxUnconfirmed;
+
+	private int confirmAckBatchSize = 1;
+
+	private @Nullable GaugeFacade unconfirmedGauge;
+
+	private @Nullable TimerFacade confirmAckTimer;
+
+	private @Nullable TimerFacade confirmNackTimer;
+
 	private volatile boolean running;
 
 	private volatile @Nullable ScheduledFuture<?> confirmChecker;
@@ -344,6 +373,47 @@ public abstract class AbstractAmqpOutboundEndpoint extends AbstractReplyProducin
 		this.confirmTimeout = Duration.ofMillis(confirmTimeout); // NOSONAR sync inconsistency
 	}
 
+	/**
+	 * Set the maximum number of sent messages with confirm correlation data which are not
+	 * confirmed by the broker yet. When this window is full, the send blocks until confirms
+	 * (or synthesized nacks, see {@link #setConfirmTimeout(long)}) are received, but not longer
+	 * than the confirm timeout (if set); a {@link MessageTimeoutException} is thrown otherwise.
+	 * This allows pipelining many publishes per channel, with the broker confirming ranges of
+	 * them at once (multiple acks), while still applying a backpressure to the producer.
+	 * Default 0 - unlimited.
+	 * @param maxUnconfirmed the maximum number of unconfirmed messages.
+	 * @since 7.2
+	 * @see #setConfirmCorrelationExpression(Expression)
+	 */
+	public void setMaxUnconfirmed(int maxUnconfirmed) {
+		this.maxUnconfirmed = maxUnconfirmed;
+	}
+
+	/**
+	 * Set the number of positive publisher confirms to accumulate before sending them as a
+	 * single message to the {@link #setConfirmAckChannel(MessageChannel) confirm ack channel}.
+	 * The payload of such a message is a {@link List} of the confirm correlation data
+	 * and the {@link AmqpHeaders#PUBLISH_CONFIRM} header is {@code true}.
+	 * A partial batch is sent when there are no more unconfirmed messages, and when this endpoint
+	 * is stopped. Negative confirms are still sent to the nack channel individually.
+	 * Default 1 - each ack is sent as a separate message.
+	 * @param confirmAckBatchSize the number of acks in a batch.
+	 * @since 7.2
+	 */
+	public void setConfirmAckBatchSize(int confirmAckBatchSize) {
+		Assert.isTrue(confirmAckBatchSize > 0, "'confirmAckBatchSize' must be greater than 0");
+		this.confirmAckBatchSize = confirmAckBatchSize;
+	}
+
+	/**
+	 * Return the number of sent messages which are waiting for publisher confirms.
+	 * @return the number of unconfirmed messages.
+	 * @since 7.2
+	 */
+	public int getUnconfirmedCount() {
+		return this.unconfirmed.get();
+	}
+
 	protected final void setConnectionFactory(ConnectionFactory connectionFactory) {
 		this.lock.lock();
 		try {
@@ -424,6 +494,10 @@ public abstract class AbstractAmqpOutboundEndpoint extends AbstractReplyProducin
 		return this.confirmTimeout;
 	}
 
+	protected int getMaxUnconfirmed() {
+		return this.maxUnconfirmed;
+	}
+
 	@Override
 	protected final void doInit() {
 		BeanFactory beanFactory = getBeanFactory();
@@ -491,6 +565,42 @@ public abstract class AbstractAmqpOutboundEndpoint extends AbstractReplyProducin
 	protected void endpointInit() {
 	}
 
+	@Override
+	public void registerMetricsCaptor(MetricsCaptor metricsCaptor) {
+		super.registerMetricsCaptor(metricsCaptor);
+		String name = getComponentName() == null ? "unknown" : getComponentName();
+		this.unconfirmedGauge =
+				metricsCaptor.gaugeBuilder("spring.integration.amqp.unconfirmed", this,
+								(endpoint) -> getUnconfirmedCount())
+						.tag("name", name)
+						.description("The number of sent messages waiting for publisher confirms")
+						.build();
+		this.confirmAckTimer = buildConfirmTimer(metricsCaptor, name, "ack");
+		this.confirmNackTimer = buildConfirmTimer(metricsCaptor, name, "nack");
+	}
+
+	private static TimerFacade buildConfirmTimer(MetricsCaptor metricsCaptor, String name, String result) {
+		return metricsCaptor.timerBuilder("spring.integration.amqp.confirm")
+				.tag("name", name)
+				.tag("result", result)
+				.description("The time from sending a message to its publisher confirm")
+				.build();
+	}
+
+	@Override
+	public void destroy() {
+		super.destroy();
+		if (this.unconfirmedGauge != null) {
+			this.unconfirmedGauge.remove();
+		}
+		if (this.confirmAckTimer != null) {
+			this.confirmAckTimer.remove();
+		}
+		if (this.confirmNackTimer != null) {
+			this.confirmNackTimer.remove();
+		}
+	}
+
 	@Override
 	public void start() {
 		this.lock.lock();
@@ -507,7 +617,9 @@ public abstract class AbstractAmqpOutboundEndpoint extends AbstractReplyProducin
 				}
 				doStart();
 				Duration confirmTimeoutToUse = this.confirmTimeout;
-				if (confirmTimeoutToUse != null && getConfirmNackChannel() != null && getRabbitTemplate() != null) {
+				if (confirmTimeoutToUse != null && (getConfirmNackChannel() != null || this.maxUnconfirmed > 0)
+						&& getRabbitTemplate() != null) {
+
 					this.confirmChecker = getTaskScheduler()
 							.scheduleAtFixedRate(checkUnconfirmed(confirmTimeoutToUse), confirmTimeoutToUse.dividedBy(2L));
 				}
@@ -553,6 +665,7 @@ public abstract class AbstractAmqpOutboundEndpoint extends AbstractReplyProducin
 		finally {
 			this.lock.unlock();
 		}
+		flushConfirmAcks();
 	}
 
 	protected void doStart() {
@@ -598,6 +711,82 @@ public abstract class AbstractAmqpOutboundEndpoint extends AbstractReplyProducin
 		return correlationData;
 	}
 
+	/**
+	 * Register the message with the provided correlation data as waiting for a publisher confirm.
+	 * Must be called before sending the message.
+	 * Blocks if the {@link #setMaxUnconfirmed(int) window} of unconfirmed messages is full.
+	 * The registration is released when the confirm is handled, or by the
+	 * {@link #releaseUnconfirmed(CorrelationData)} if the send has failed.
+	 * @param requestMessage the message to send.
+	 * @param correlationData the correlation data for the message.
+	 * @since 7.2
+	 */
+	protected void reserveUnconfirmed(Message<?> requestMessage, CorrelationData correlationData) {
+		if (!(correlationData instanceof CorrelationDataWrapper wrapper)
+				|| !wrapper.reserved.compareAndSet(false, true)) {
+
+			return;
+		}
+		if (this.maxUnconfirmed > 0) {
+			Duration timeout = this.confirmTimeout;
+			long nanos = timeout != null ? timeout.toNanos() : Long.MAX_VALUE;
+			this.confirmLock.lock();
+			try {
+				while (this.unconfirmed.get() >= this.maxUnconfirmed) {
+					if (nanos <= 0) {
+						wrapper.reserved.set(false);
+						throw new MessageTimeoutException(requestMessage,
+								this + ": Timed out awaiting publisher confirms for unconfirmed messages");
+					}
+					if (timeout != null) {
+						nanos = this.confirmCondition.awaitNanos(nanos);
+					}
+					else {
+						this.confirmCondition.await();
+					}
+				}
+				this.unconfirmed.incrementAndGet();
+			}
+			catch (InterruptedException ex) {
+				wrapper.reserved.set(false);
+				Thread.currentThread().interrupt();
+				throw new MessageHandlingException(requestMessage,
+						"Interrupted waiting for the unconfirmed messages window", ex);
+			}
+			finally {
+				this.confirmLock.unlock();
+			}
+		}
+		else {
+			this.unconfirmed.incrementAndGet();
+		}
+		wrapper.sentTime = System.nanoTime();
+	}
+
+	/**
+	 * Release the registration made by the {@link #reserveUnconfirmed(Message, CorrelationData)}
+	 * when no confirm is going to arrive, e.g. the send has failed.
+	 * @param correlationData the correlation data for the message.
+	 * @since 7.2
+	 */
+	protected void releaseUnconfirmed(CorrelationData correlationData) {
+		if (correlationData instanceof CorrelationDataWrapper wrapper && wrapper.reserved.compareAndSet(true, false)) {
+			int remaining = this.unconfirmed.decrementAndGet();
+			if (this.maxUnconfirmed > 0) {
+				this.confirmLock.lock();
+				try {
+					this.confirmCondition.signal();
+				}
+				finally {
+					this.confirmLock.unlock();
+				}
+			}
+			if (remaining == 0) {
+				flushConfirmAcks();
+			}
+		}
+	}
+
 	protected @Nullable String generateExchangeName(Message<?> requestMessage) {
 		String exchange = this.exchangeName;
 		if (this.exchangeNameGenerator != null) {
@@ -663,21 +852,89 @@ public abstract class AbstractAmqpOutboundEndpoint extends AbstractReplyProducin
 			return;
 		}
 		CorrelationDataWrapper wrapper = (CorrelationDataWrapper) correlationData;
+		recordConfirmTime(wrapper, ack);
 		Object userCorrelationData = wrapper.getUserData();
 		MessageChannel ackChannel = getConfirmAckChannel();
-		if (ack && ackChannel != null) {
-			sendOutput(buildConfirmMessage(ack, cause, wrapper, userCorrelationData), ackChannel, true);
-		}
-		else {
-			MessageChannel nackChannel = getConfirmNackChannel();
-			if (!ack && nackChannel != null) {
-				sendOutput(buildConfirmMessage(ack, cause, wrapper, userCorrelationData), nackChannel, true);
+		try {
+			if (ack && ackChannel != null) {
+				if (this.confirmAckBatchSize > 1) {
+					addToConfirmAckBatch(userCorrelationData);
+				}
+				else {
+					sendOutput(buildConfirmMessage(ack, cause, wrapper, userCorrelationData), ackChannel, true);
+				}
 			}
 			else {
-				logger.debug(() -> "Nowhere to send publisher confirm " + (ack ? "ack" : "nack") + " for "
-						+ userCorrelationData);
+				MessageChannel nackChannel = getConfirmNackChannel();
+				if (!ack && nackChannel != null) {
+					sendOutput(buildConfirmMessage(ack, cause, wrapper, userCorrelationData), nackChannel, true);
+				}
+				else {
+					logger.debug(() -> "Nowhere to send publisher confirm " + (ack ? "ack" : "nack") + " for "
+							+ userCorrelationData);
+				}
+			}
+		}
+		finally {
+			releaseUnconfirmed(wrapper);
+		}
+	}
+
+	private void recordConfirmTime(CorrelationDataWrapper wrapper, boolean ack) {
+		TimerFacade timer = ack ? this.confirmAckTimer : this.confirmNackTimer;
+		long sentTime = wrapper.sentTime;
+		if (timer != null && sentTime > 0) {
+			timer.record(System.nanoTime() - sentTime, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	private void addToConfirmAckBatch(Object userCorrelationData) {
+		List<Object> acks = null;
+		this.confirmLock.lock();
+		try {
+			this.pendingConfirmAcks.add(userCorrelationData);
+			if (this.pendingConfirmAcks.size() >= this.confirmAckBatchSize) {
+				acks = drainConfirmAcks();
+			}
+		}
+		finally {
+			this.confirmLock.unlock();
+		}
+		if (acks != null) {
+			sendConfirmAcks(acks);
+		}
+	}
+
+	private void flushConfirmAcks() {
+		List<Object> acks = null;
+		this.confirmLock.lock();
+		try {
+			if (!this.pendingConfirmAcks.isEmpty()) {
+				acks = drainConfirmAcks();
 			}
 		}
+		finally {
+			this.confirmLock.unlock();
+		}
+		if (acks != null) {
+			sendConfirmAcks(acks);
+		}
+	}
+
+	private List<Object> drainConfirmAcks() {
+		List<Object> acks = new ArrayList<>(this.pendingConfirmAcks);
+		this.pendingConfirmAcks.clear();
+		return acks;
+	}
+
+	private void sendConfirmAcks(List<Object> acks) {
+		MessageChannel ackChannel = getConfirmAckChannel();
+		if (ackChannel != null) {
+			Message<?> message = getMessageBuilderFactory().withPayload(acks)
+					.setHeader(AmqpHeaders.PUBLISH_CONFIRM, true)
+					.build();
+			sendOutput(message, ackChannel, true);
+		}
 	}
 
 	private Message<?> buildConfirmMessage(boolean ack, @Nullable String cause, CorrelationDataWrapper wrapper,
@@ -706,6 +963,10 @@ public abstract class AbstractAmqpOutboundEndpoint extends AbstractReplyProducin
 
 		private final Message<?> message;
 
+		private final AtomicBoolean reserved = new AtomicBoolean();
+
+		private volatile long sentTime;
+
 		CorrelationDataWrapper(String id, Object userData, Message<?> message) {
 			super(id);
 			this.userData = userData;
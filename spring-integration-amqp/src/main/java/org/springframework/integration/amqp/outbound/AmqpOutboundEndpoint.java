@@ -69,6 +69,8 @@ public class AmqpOutboundEndpoint extends AbstractAmqpOutboundEndpoint
 
 	private boolean multiSend;
 
+	private boolean trackConfirms;
+
 	@SuppressWarnings("this-escape")
 	public AmqpOutboundEndpoint(AmqpTemplate amqpTemplate) {
 		Assert.notNull(amqpTemplate, "amqpTemplate must not be null");
@@ -167,6 +169,7 @@ public class AmqpOutboundEndpoint extends AbstractAmqpOutboundEndpoint
 			this.logger.warn("The 'waitForConfirm' is set to true but the underlying connection factory "
 					+ "does not support publisher confirms; no confirmations will be awaited");
 		}
+		this.trackConfirms = getConfirmCorrelationExpression() != null && usesCorrelatedPublisherConfirms();
 		Duration confirmTimeout = getConfirmTimeout();
 		if (confirmTimeout != null) {
 			this.waitForConfirmTimeout = confirmTimeout;
@@ -185,24 +188,35 @@ public class AmqpOutboundEndpoint extends AbstractAmqpOutboundEndpoint
 		CorrelationData correlationData = generateCorrelationData(requestMessage);
 		String exchangeName = generateExchangeName(requestMessage);
 		String routingKey = generateRoutingKey(requestMessage);
-		if (this.expectReply) {
-			return sendAndReceive(exchangeName, routingKey, requestMessage, correlationData);
-		}
-		if (this.multiSend && requestMessage.getPayload() instanceof Iterable) {
+		if (this.multiSend && !this.expectReply && requestMessage.getPayload() instanceof Iterable) {
 			multiSend(requestMessage, exchangeName, routingKey);
 			return null;
 		}
-		else if (this.waitForConfirm && correlationData == null && usesSimplePublisherConfirms()) {
+		else if (this.waitForConfirm && !this.expectReply && correlationData == null
+				&& usesSimplePublisherConfirms()) {
+
 			sendAndWaitForConfirms(exchangeName, routingKey, requestMessage);
 			return null;
 		}
-		else {
+		if (correlationData != null && this.trackConfirms) {
+			reserveUnconfirmed(requestMessage, correlationData);
+		}
+		try {
+			if (this.expectReply) {
+				return sendAndReceive(exchangeName, routingKey, requestMessage, correlationData);
+			}
 			send(exchangeName, routingKey, requestMessage, correlationData);
-			if (this.waitForConfirm && correlationData != null) {
-				waitForConfirm(requestMessage, correlationData);
+		}
+		catch (RuntimeException ex) {
+			if (correlationData != null) {
+				releaseUnconfirmed(correlationData);
 			}
-			return null;
+			throw ex;
+		}
+		if (this.waitForConfirm && correlationData != null) {
+			waitForConfirm(requestMessage, correlationData);
 		}
+		return null;
 	}
 
 	@SuppressWarnings("unchecked")
@@ -91,9 +91,21 @@ public class AsyncAmqpOutboundGateway extends AbstractAmqpOutboundEndpoint {
 		org.springframework.amqp.core.Message amqpMessage = MappingUtils.mapMessage(requestMessage,
 				this.messageConverter, getHeaderMapper(), getDefaultDeliveryMode(), isHeadersMappedLast());
 		addDelayProperty(requestMessage, amqpMessage);
-		RabbitMessageFuture future = this.template.sendAndReceive(generateExchangeName(requestMessage),
-				generateRoutingKey(requestMessage), amqpMessage);
 		CorrelationData correlationData = generateCorrelationData(requestMessage);
+		if (correlationData != null && this.template.getRabbitTemplate().getConnectionFactory().isPublisherConfirms()) {
+			reserveUnconfirmed(requestMessage, correlationData);
+		}
+		RabbitMessageFuture future;
+		try {
+			future = this.template.sendAndReceive(generateExchangeName(requestMessage),
+					generateRoutingKey(requestMessage), amqpMessage);
+		}
+		catch (RuntimeException ex) {
+			if (correlationData != null) {
+				releaseUnconfirmed(correlationData);
+			}
+			throw ex;
+		}
 		if (correlationData != null) {
 			future.getConfirm().whenComplete(new CorrelationCallback(correlationData, future));
 		}
@@ -194,6 +206,9 @@ public class AsyncAmqpOutboundGateway extends AbstractAmqpOutboundEndpoint {
 					logger.error("Failed to send publisher confirm");
 				}
 			}
+			else {
+				releaseUnconfirmed(this.correlationData);
+			}
 		}
 
 	}
@@ -17,6 +17,7 @@
 package org.springframework.integration.amqp.outbound;
 
 import java.util.Date;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.jupiter.api.Test;
@@ -29,9 +30,11 @@ import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.connection.CorrelationData;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.amqp.support.AmqpHeaders;
 import org.springframework.amqp.support.converter.DefaultJacksonJavaTypeMapper;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.core.ResolvableType;
+import org.springframework.integration.MessageTimeoutException;
 import org.springframework.integration.amqp.support.DefaultAmqpHeaderMapper;
 import org.springframework.integration.channel.NullChannel;
 import org.springframework.integration.channel.QueueChannel;
@@ -43,15 +46,18 @@ import org.springframework.messaging.support.GenericMessage;
 import org.springframework.scheduling.TaskScheduler;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.BDDMockito.willDoNothing;
 import static org.mockito.BDDMockito.willReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 /**
@@ -193,6 +199,56 @@ public class OutboundEndpointTests implements TestApplicationContextAware {
 				.containsEntry(JsonHeaders.RESOLVABLE_TYPE, ResolvableType.forClass(String.class));
 	}
 
+	@Test
+	public void testUnconfirmedWindowAndBatchedAcks() {
+		ConnectionFactory connectionFactory = mock(ConnectionFactory.class);
+		given(connectionFactory.isPublisherConfirms()).willReturn(true);
+		RabbitTemplate amqpTemplate = spy(new RabbitTemplate(connectionFactory));
+		willDoNothing()
+				.given(amqpTemplate).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+		AmqpOutboundEndpoint endpoint = new AmqpOutboundEndpoint(amqpTemplate);
+		endpoint.setExchangeName("foo");
+		endpoint.setRoutingKey("bar");
+		endpoint.setConfirmCorrelationExpressionString("payload");
+		QueueChannel ackChannel = new QueueChannel();
+		endpoint.setConfirmAckChannel(ackChannel);
+		endpoint.setMaxUnconfirmed(2);
+		endpoint.setConfirmAckBatchSize(2);
+		endpoint.setConfirmTimeout(100);
+		endpoint.setBeanFactory(TEST_INTEGRATION_CONTEXT);
+		endpoint.afterPropertiesSet();
+
+		endpoint.handleMessage(new GenericMessage<>("one"));
+		endpoint.handleMessage(new GenericMessage<>("two"));
+		assertThat(endpoint.getUnconfirmedCount()).isEqualTo(2);
+
+		assertThatExceptionOfType(MessageTimeoutException.class)
+				.isThrownBy(() -> endpoint.handleMessage(new GenericMessage<>("three")));
+
+		ArgumentCaptor<CorrelationData> captor = ArgumentCaptor.forClass(CorrelationData.class);
+		verify(amqpTemplate, times(2)).send(eq("foo"), eq("bar"), any(Message.class), captor.capture());
+		List<CorrelationData> correlations = captor.getAllValues();
+
+		// The broker confirms with 'multiple = true' are resolved per correlation by the template
+		endpoint.confirm(correlations.get(1), true, null);
+		assertThat(ackChannel.receive(0)).isNull();
+		assertThat(endpoint.getUnconfirmedCount()).isEqualTo(1);
+
+		endpoint.handleMessage(new GenericMessage<>("three"));
+		endpoint.confirm(correlations.get(0), true, null);
+		org.springframework.messaging.Message<?> acks = ackChannel.receive(0);
+		assertThat(acks).isNotNull();
+		assertThat(acks.getPayload()).isEqualTo(List.of("two", "one"));
+		assertThat(acks.getHeaders()).containsEntry(AmqpHeaders.PUBLISH_CONFIRM, true);
+
+		verify(amqpTemplate, times(3)).send(eq("foo"), eq("bar"), any(Message.class), captor.capture());
+		endpoint.confirm(captor.getValue(), true, null);
+		acks = ackChannel.receive(0);
+		assertThat(acks).isNotNull();
+		assertThat(acks.getPayload()).isEqualTo(List.of("three"));
+		assertThat(endpoint.getUnconfirmedCount()).isEqualTo(0);
+	}
+
 	/**
 	 * Increase method visibility
 	 */
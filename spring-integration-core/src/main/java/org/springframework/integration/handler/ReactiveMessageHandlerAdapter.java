@@ -16,6 +16,8 @@
 
 package org.springframework.integration.handler;
 
+import org.springframework.context.Lifecycle;
+import org.springframework.integration.support.management.ManageableLifecycle;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageHandler;
 import org.springframework.messaging.MessagingException;
@@ -36,6 +38,9 @@ import org.springframework.util.Assert;
  * <p>
  * The framework unwraps a delegate {@link ReactiveMessageHandler} whenever it can compose
  * reactive streams, e.g. {@link org.springframework.integration.endpoint.ReactiveStreamsConsumer}.
+ * <p>
+ * Starting with version 7.2, the {@link Lifecycle} calls are propagated to the delegate
+ * {@link ReactiveMessageHandler} if it implements this interface.
  *
  * @author Artem Bilan
  *
@@ -43,7 +48,7 @@ import org.springframework.util.Assert;
  *
  * @see org.springframework.integration.endpoint.ReactiveStreamsConsumer
  */
-public class ReactiveMessageHandlerAdapter implements MessageHandler {
+public class ReactiveMessageHandlerAdapter implements MessageHandler, ManageableLifecycle {
 
 	private final ReactiveMessageHandler delegate;
 
@@ -71,4 +76,23 @@ public class ReactiveMessageHandlerAdapter implements MessageHandler {
 		this.delegate.handleMessage(message).subscribe();
 	}
 
+	@Override
+	public void start() {
+		if (this.delegate instanceof Lifecycle lifecycle) {
+			lifecycle.start();
+		}
+	}
+
+	@Override
+	public void stop() {
+		if (this.delegate instanceof Lifecycle lifecycle) {
+			lifecycle.stop();
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return !(this.delegate instanceof Lifecycle lifecycle) || lifecycle.isRunning();
+	}
+
 }
@@ -0,0 +1,342 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.metadata;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.beans.factory.BeanNameAware;
+import org.springframework.integration.support.management.IntegrationManagement;
+import org.springframework.integration.support.management.metrics.CounterFacade;
+import org.springframework.integration.support.management.metrics.GaugeFacade;
+import org.springframework.integration.support.management.metrics.MetricsCaptor;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link ConcurrentMetadataStore} decorator which keeps a bounded local near-cache
+ * in front of a (typically distributed) target store, e.g. Redis, JDBC, MongoDB or Hazelcast.
+ * <p>
+ * The cache is an LRU map limited by the {@link #setMaxSize(int) max size}; each entry expires
+ * after the {@link #setTimeToLive(Duration) time to live}, which bounds the staleness of entries
+ * changed in the target store by other instances.
+ * When {@link #setCacheMisses(boolean) cacheMisses} is enabled (default), absent keys are cached
+ * as well, so repeated {@link #get(String)} calls for unknown keys do not reach the target store.
+ * <p>
+ * A {@link #putIfAbsent(String, String)} for a key with a cached value returns that value
+ * without calling the target store, which is the hot path for idempotent receivers and
+ * persistent file list filters; any other mutating operation is delegated to the target store
+ * and the cache is updated according to its result.
+ * <p>
+ * If the target store is a {@link ListenableMetadataStore}, this store registers a listener
+ * to invalidate the cache entries for keys changed in the target store.
+ * Otherwise, {@link #invalidate(String)} and {@link #invalidateAll()} can be called from
+ * any external notification mechanism, e.g. Redis keyspace notifications.
+ *
+ * @author Artem Bilan
+ *
+ * @since 7.2
+ */
+public class CachingMetadataStore implements ConcurrentMetadataStore, IntegrationManagement, BeanNameAware {
+
+	private static final int DEFAULT_MAX_SIZE = 1000;
+
+	private final ConcurrentMetadataStore targetMetadataStore;
+
+	private final MetadataStoreListener invalidationListener = new MetadataStoreListenerAdapter() {
+
+		@Override
+		public void onAdd(String key, String value) {
+			invalidate(key);
+		}
+
+		@Override
+		public void onRemove(String key, String oldValue) {
+			invalidate(key);
+		}
+
+		@Override
+		public void onUpdate(String key, String newValue) {
+			invalidate(key);
+		}
+
+	};
+
+	@SuppressWarnings("serial")
+	private final Map<String, CacheEntry> cache =
+			Collections.synchronizedMap(
+					new LinkedHashMap<>(DEFAULT_MAX_SIZE, 0.75f, true) {
+
+						@Override
+						protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+							return size() > CachingMetadataStore.this.maxSize;
+						}
+
+					});
+
+	private final AtomicLong hits = new AtomicLong();
+
+	private final AtomicLong misses = new AtomicLong();
+
+	private volatile int maxSize = DEFAULT_MAX_SIZE;
+
+	private long timeToLive = Duration.ofMinutes(1).toNanos();
+
+	private boolean cacheMisses = true;
+
+	private String beanName = "cachingMetadataStore";
+
+	private @Nullable CounterFacade hitCounter;
+
+	private @Nullable CounterFacade missCounter;
+
+	private @Nullable GaugeFacade sizeGauge;
+
+	/**
+	 * Instantiate a caching store in front of the provided target store.
+	 * @param targetMetadataStore the store to cache values from.
+	 */
+	public CachingMetadataStore(ConcurrentMetadataStore targetMetadataStore) {
+		Assert.notNull(targetMetadataStore, "'targetMetadataStore' must not be null");
+		this.targetMetadataStore = targetMetadataStore;
+		if (targetMetadataStore instanceof ListenableMetadataStore listenableMetadataStore) {
+			listenableMetadataStore.addListener(this.invalidationListener);
+		}
+	}
+
+	/**
+	 * Set the maximum number of entries in the cache.
+	 * The least recently used entries are evicted when the limit is exceeded.
+	 * @param maxSize the max cache size. Defaults to {@code 1000}.
+	 */
+	public void setMaxSize(int maxSize) {
+		Assert.isTrue(maxSize > 0, "'maxSize' must be greater than 0");
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * Set the time after which a cache entry is considered stale and the value is
+	 * requested from the target store again.
+	 * @param timeToLive the time to live for cache entries. Defaults to 1 minute.
+	 */
+	public void setTimeToLive(Duration timeToLive) {
+		Assert.isTrue(!timeToLive.isNegative() && !timeToLive.isZero(), "'timeToLive' must be positive");
+		this.timeToLive = timeToLive.toNanos();
+	}
+
+	/**
+	 * Set to false to not cache the absence of keys in the target store.
+	 * @param cacheMisses false to always consult the target store for unknown keys.
+	 * Defaults to {@code true}.
+	 */
+	public void setCacheMisses(boolean cacheMisses) {
+		this.cacheMisses = cacheMisses;
+	}
+
+	@Override
+	public void setBeanName(String name) {
+		this.beanName = name;
+	}
+
+	@Override
+	public String getComponentName() {
+		return this.beanName;
+	}
+
+	@Override
+	public String getComponentType() {
+		return "caching-metadata-store";
+	}
+
+	@Override
+	public void registerMetricsCaptor(MetricsCaptor metricsCaptor) {
+		this.hitCounter = buildCounter(metricsCaptor, "hit");
+		this.missCounter = buildCounter(metricsCaptor, "miss");
+		this.sizeGauge =
+				metricsCaptor.gaugeBuilder("spring.integration.metadata.cache.size", this,
+								(store) -> ((CachingMetadataStore) store).getCacheSize())
+						.tag("name", this.beanName)
+						.description("The number of entries in the metadata store cache")
+						.build();
+	}
+
+	private CounterFacade buildCounter(MetricsCaptor metricsCaptor, String result) {
+		return metricsCaptor.counterBuilder("spring.integration.metadata.cache")
+				.tag("name", this.beanName)
+				.tag("result", result)
+				.description("The metadata store cache lookups")
+				.build();
+	}
+
+	@Override
+	public void put(String key, String value) {
+		this.targetMetadataStore.put(key, value);
+		cache(key, value);
+	}
+
+	@Override
+	public @Nullable String get(String key) {
+		CacheEntry entry = lookup(key);
+		if (entry != null) {
+			recordLookup(true);
+			return entry.value();
+		}
+		recordLookup(false);
+		String value = this.targetMetadataStore.get(key);
+		cache(key, value);
+		return value;
+	}
+
+	@Override
+	public @Nullable String putIfAbsent(String key, String value) {
+		CacheEntry entry = lookup(key);
+		String cachedValue = entry != null ? entry.value() : null;
+		if (cachedValue != null) {
+			recordLookup(true);
+			return cachedValue;
+		}
+		recordLookup(false);
+		String oldValue = this.targetMetadataStore.putIfAbsent(key, value);
+		cache(key, oldValue != null ? oldValue : value);
+		return oldValue;
+	}
+
+	@Override
+	public boolean replace(String key, String oldValue, String newValue) {
+		boolean replaced = this.targetMetadataStore.replace(key, oldValue, newValue);
+		if (replaced) {
+			cache(key, newValue);
+		}
+		else {
+			invalidate(key);
+		}
+		return replaced;
+	}
+
+	@Override
+	public @Nullable String remove(String key) {
+		try {
+			return this.targetMetadataStore.remove(key);
+		}
+		finally {
+			invalidate(key);
+		}
+	}
+
+	/**
+	 * Remove the cache entry for the key, so the next access consults the target store.
+	 * @param key the key to invalidate.
+	 */
+	public void invalidate(String key) {
+		this.cache.remove(key);
+	}
+
+	/**
+	 * Remove all the cache entries.
+	 */
+	public void invalidateAll() {
+		this.cache.clear();
+	}
+
+	/**
+	 * Return the number of entries in the cache; may include expired entries not yet evicted.
+	 * @return the cache size.
+	 */
+	public int getCacheSize() {
+		return this.cache.size();
+	}
+
+	/**
+	 * Return the number of lookups answered from the cache.
+	 * @return the hit count.
+	 */
+	public long getHitCount() {
+		return this.hits.get();
+	}
+
+	/**
+	 * Return the number of lookups which had to consult the target store.
+	 * @return the miss count.
+	 */
+	public long getMissCount() {
+		return this.misses.get();
+	}
+
+	/**
+	 * Return the ratio of lookups answered from the cache.
+	 * @return the hit ratio; {@code 0} if there were no lookups yet.
+	 */
+	public double getHitRatio() {
+		long hitCount = this.hits.get();
+		long total = hitCount + this.misses.get();
+		return total == 0 ? 0 : (double) hitCount / total;
+	}
+
+	private @Nullable CacheEntry lookup(String key) {
+		CacheEntry entry = this.cache.get(key);
+		if (entry != null && entry.expiresAt() - System.nanoTime() < 0) {
+			this.cache.remove(key, entry);
+			return null;
+		}
+		return entry;
+	}
+
+	private void recordLookup(boolean hit) {
+		(hit ? this.hits : this.misses).incrementAndGet();
+		CounterFacade counter = hit ? this.hitCounter : this.missCounter;
+		if (counter != null) {
+			counter.increment();
+		}
+	}
+
+	private void cache(String key, @Nullable String value) {
+		if (value != null) {
+			this.cache.put(key, new CacheEntry(value, System.nanoTime() + this.timeToLive));
+		}
+		else if (this.cacheMisses) {
+			this.cache.put(key, new CacheEntry(null, System.nanoTime() + this.timeToLive));
+		}
+		else {
+			this.cache.remove(key);
+		}
+	}
+
+	@Override
+	public void destroy() {
+		if (this.targetMetadataStore instanceof ListenableMetadataStore listenableMetadataStore) {
+			listenableMetadataStore.removeListener(this.invalidationListener);
+		}
+		if (this.hitCounter != null) {
+			this.hitCounter.remove();
+		}
+		if (this.missCounter != null) {
+			this.missCounter.remove();
+		}
+		if (this.sizeGauge != null) {
+			this.sizeGauge.remove();
+		}
+	}
+
+	private record CacheEntry(@Nullable String value, long expiresAt) {
+
+	}
+
+}
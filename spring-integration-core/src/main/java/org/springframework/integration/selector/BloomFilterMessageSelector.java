@@ -0,0 +1,361 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.selector;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.integration.core.MessageSelector;
+import org.springframework.integration.handler.MessageProcessor;
+import org.springframework.integration.metadata.ConcurrentMetadataStore;
+import org.springframework.messaging.Message;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link MessageSelector} implementation for an
+ * <a href="https://www.enterpriseintegrationpatterns.com/IdempotentReceiver.html">Idempotent Receiver</a>
+ * based on in-memory Bloom filters.
+ * <p>
+ * The {@link #accept} method extracts a key from the provided {@code message}
+ * using the {@link MessageProcessor} and checks it against the Bloom filters.
+ * A key which is definitely not seen before is accepted and added to the current filter;
+ * a probable duplicate is rejected.
+ * The memory used by the filter is fixed and derived from the expected number of keys
+ * and the desired false positive probability.
+ * <p>
+ * To bound the number of keys the filters have to hold, a {@link #setWindow(Duration, int) window}
+ * can be configured: the filters are rotated each window, and a key is remembered for
+ * at least {@code window * (generations - 1)} and at most {@code window * generations}.
+ * <p>
+ * When a {@link #setMetadataStore(ConcurrentMetadataStore) metadata store} is provided,
+ * it is the source of truth: every key is written to the store with a
+ * {@link ConcurrentMetadataStore#putIfAbsent} call, and a message is accepted only if the key
+ * has not been in the store yet.
+ * This way the false positives of the filters are eliminated, concurrent duplicates are accepted
+ * only once, and duplicates of keys already rotated out of the filters are still rejected.
+ * The filters still provide the {@link #getProbableDuplicateCount() probable duplicates} statistics.
+ * <p>
+ * The state of the filters can be saved to and restored from a stream, e.g. a file snapshot,
+ * via the {@link #saveSnapshot(OutputStream)} and {@link #loadSnapshot(InputStream)} methods.
+ *
+ * @author Artem Bilan
+ *
+ * @since 7.2
+ *
+ * @see MetadataStoreSelector
+ */
+public class BloomFilterMessageSelector implements MessageSelector {
+
+	private static final double LN2 = Math.log(2);
+
+	private final Lock lock = new ReentrantLock();
+
+	private final MessageProcessor<String> keyStrategy;
+
+	private final int numBits;
+
+	private final int numHashFunctions;
+
+	private final AtomicLong probableDuplicates = new AtomicLong();
+
+	private final AtomicLong falsePositives = new AtomicLong();
+
+	private long[][] filters;
+
+	private int current;
+
+	private @Nullable MessageProcessor<String> valueStrategy;
+
+	private @Nullable ConcurrentMetadataStore metadataStore;
+
+	private long window;
+
+	private long windowStart = System.nanoTime();
+
+	/**
+	 * Create a selector with a single (not rotated) Bloom filter.
+	 * @param keyStrategy the strategy to extract a key from a message.
+	 * @param expectedKeys the expected number of keys in a filter.
+	 * @param falsePositiveProbability the desired false positive probability, e.g. {@code 0.001}.
+	 */
+	public BloomFilterMessageSelector(MessageProcessor<String> keyStrategy, int expectedKeys,
+			double falsePositiveProbability) {
+
+		Assert.notNull(keyStrategy, "'keyStrategy' must not be null");
+		Assert.isTrue(expectedKeys > 0, "'expectedKeys' must be greater than 0");
+		Assert.isTrue(falsePositiveProbability > 0 && falsePositiveProbability < 1,
+				"'falsePositiveProbability' must be between 0 and 1");
+		this.keyStrategy = keyStrategy;
+		long bits = (long) Math.ceil(-expectedKeys * Math.log(falsePositiveProbability) / (LN2 * LN2));
+		Assert.isTrue(bits <= Integer.MAX_VALUE - Long.SIZE, "The filter is too large; reduce 'expectedKeys'");
+		this.numBits = (int) Math.max(Long.SIZE, bits);
+		this.numHashFunctions = Math.max(1, (int) Math.round((double) this.numBits / expectedKeys * LN2));
+		this.filters = new long[1][words()];
+	}
+
+	/**
+	 * Set the strategy to build a value for the key in the metadata store.
+	 * Defaults to the {@code timestamp} header, as in the {@link MetadataStoreSelector}.
+	 * @param valueStrategy the value strategy.
+	 * @see #setMetadataStore(ConcurrentMetadataStore)
+	 */
+	public void setValueStrategy(@Nullable MessageProcessor<String> valueStrategy) {
+		this.valueStrategy = valueStrategy;
+	}
+
+	/**
+	 * Set a {@link ConcurrentMetadataStore} to confirm probable duplicates exactly.
+	 * @param metadataStore the metadata store.
+	 */
+	public void setMetadataStore(@Nullable ConcurrentMetadataStore metadataStore) {
+		this.metadataStore = metadataStore;
+	}
+
+	/**
+	 * Rotate the filters each {@code window}, keeping the specified number of generations.
+	 * @param window the duration of a filter generation.
+	 * @param generations the number of filters; must be at least 2.
+	 */
+	public void setWindow(Duration window, int generations) {
+		Assert.isTrue(!window.isNegative() && !window.isZero(), "'window' must be positive");
+		Assert.isTrue(generations > 1, "'generations' must be greater than 1");
+		this.lock.lock();
+		try {
+			this.window = window.toNanos();
+			this.filters = new long[generations][words()];
+			this.current = 0;
+			this.windowStart = System.nanoTime();
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Return the number of bits in each filter.
+	 * @return the number of bits.
+	 */
+	public int getNumBits() {
+		return this.numBits;
+	}
+
+	/**
+	 * Return the number of hash functions (bits per key).
+	 * @return the number of hash functions.
+	 */
+	public int getNumHashFunctions() {
+		return this.numHashFunctions;
+	}
+
+	/**
+	 * Return the number of messages detected by the filters as probable duplicates.
+	 * @return the number of probable duplicates.
+	 */
+	public long getProbableDuplicateCount() {
+		return this.probableDuplicates.get();
+	}
+
+	/**
+	 * Return the number of probable duplicates accepted after confirmation with the metadata store.
+	 * @return the number of false positives.
+	 */
+	public long getFalsePositiveCount() {
+		return this.falsePositives.get();
+	}
+
+	@Override
+	public boolean accept(Message<?> message) {
+		String key = this.keyStrategy.processMessage(message);
+		Assert.state(key != null, () -> "The keyStrategy.processMessage must not return null.");
+
+		boolean probableDuplicate;
+		this.lock.lock();
+		try {
+			rotateIfNecessary();
+			probableDuplicate = !add(key);
+		}
+		finally {
+			this.lock.unlock();
+		}
+
+		ConcurrentMetadataStore store = this.metadataStore;
+		if (probableDuplicate) {
+			this.probableDuplicates.incrementAndGet();
+			if (store != null && store.putIfAbsent(key, value(message)) == null) {
+				this.falsePositives.incrementAndGet();
+				return true;
+			}
+			return false;
+		}
+		return store == null || store.putIfAbsent(key, value(message)) == null;
+	}
+
+	private String value(Message<?> message) {
+		Long timestamp = message.getHeaders().getTimestamp();
+		String value = (this.valueStrategy != null)
+				? this.valueStrategy.processMessage(message)
+				: (timestamp == null ? "0" : Long.toString(timestamp));
+		Assert.state(value != null, () -> "The valueStrategy.processMessage must not return null.");
+		return value;
+	}
+
+	/**
+	 * Write the state of the filters into the provided stream.
+	 * The stream is not closed.
+	 * @param outputStream the stream to write to.
+	 * @throws IOException the IO exception.
+	 */
+	public void saveSnapshot(OutputStream outputStream) throws IOException {
+		DataOutputStream out = new DataOutputStream(outputStream);
+		this.lock.lock();
+		try {
+			out.writeInt(this.filters.length);
+			out.writeInt(this.numBits);
+			out.writeInt(this.current);
+			for (long[] filter : this.filters) {
+				for (long word : filter) {
+					out.writeLong(word);
+				}
+			}
+		}
+		finally {
+			this.lock.unlock();
+		}
+		out.flush();
+	}
+
+	/**
+	 * Restore the state of the filters from the provided stream, written by the
+	 * {@link #saveSnapshot(OutputStream)} of a selector with the same configuration.
+	 * The current window is restarted.
+	 * The stream is not closed.
+	 * @param inputStream the stream to read from.
+	 * @throws IOException the IO exception.
+	 */
+	public void loadSnapshot(InputStream inputStream) throws IOException {
+		DataInputStream in = new DataInputStream(inputStream);
+		this.lock.lock();
+		try {
+			int generations = in.readInt();
+			int bits = in.readInt();
+			Assert.state(generations == this.filters.length && bits == this.numBits,
+					() -> "The snapshot (generations: " + generations + ", bits: " + bits
+							+ ") does not match this selector (generations: " + this.filters.length
+							+ ", bits: " + this.numBits + ")");
+			int currentGeneration = in.readInt();
+			long[][] restored = new long[generations][words()];
+			for (long[] filter : restored) {
+				for (int i = 0; i < filter.length; i++) {
+					filter[i] = in.readLong();
+				}
+			}
+			this.filters = restored;
+			this.current = currentGeneration;
+			this.windowStart = System.nanoTime();
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	private int words() {
+		return (this.numBits + Long.SIZE - 1) / Long.SIZE;
+	}
+
+	private void rotateIfNecessary() {
+		if (this.window > 0) {
+			long now = System.nanoTime();
+			long elapsedWindows = (now - this.windowStart) / this.window;
+			if (elapsedWindows > 0) {
+				int generations = this.filters.length;
+				for (long i = 0; i < Math.min(elapsedWindows, generations); i++) {
+					this.current = (this.current + 1) % generations;
+					Arrays.fill(this.filters[this.current], 0L);
+				}
+				this.windowStart += elapsedWindows * this.window;
+			}
+		}
+	}
+
+	/**
+	 * Add the key to the current filter.
+	 * @return true if the key is definitely not in any of the filters.
+	 */
+	private boolean add(String key) {
+		byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+		long hash1 = fmix64(fnv1a64(bytes));
+		long hash2 = fmix64(hash1 ^ 0x9E3779B97F4A7C15L);
+		boolean definitelyNew = true;
+		for (long[] filter : this.filters) {
+			if (contains(filter, hash1, hash2)) {
+				definitelyNew = false;
+				break;
+			}
+		}
+		long[] currentFilter = this.filters[this.current];
+		for (int i = 0; i < this.numHashFunctions; i++) {
+			int bit = bitIndex(hash1, hash2, i);
+			currentFilter[bit >>> 6] |= 1L << bit;
+		}
+		return definitelyNew;
+	}
+
+	private boolean contains(long[] filter, long hash1, long hash2) {
+		for (int i = 0; i < this.numHashFunctions; i++) {
+			int bit = bitIndex(hash1, hash2, i);
+			if ((filter[bit >>> 6] & (1L << bit)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private int bitIndex(long hash1, long hash2, int i) {
+		return (int) Long.remainderUnsigned(hash1 + i * hash2, this.numBits);
+	}
+
+	private static long fnv1a64(byte[] bytes) {
+		long hash = 0xcbf29ce484222325L;
+		for (byte b : bytes) {
+			hash ^= b & 0xff;
+			hash *= 0x100000001b3L;
+		}
+		return hash;
+	}
+
+	private static long fmix64(long value) {
+		long hash = value;
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		hash *= 0xc4ceb9fe1a85ec53L;
+		hash ^= hash >>> 33;
+		return hash;
+	}
+
+}
@@ -0,0 +1,382 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.util;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+/**
+ * A {@link Pool} implementation which does not serialize threads on a lock or a semaphore
+ * for obtaining and releasing items.
+ * Each thread first tries to reuse items it has released recently (thread affinity),
+ * then steals any idle item from the shared list with a compare-and-set on the item state,
+ * then creates a new item if the pool size limit allows.
+ * Only when the pool is exhausted, a thread waits for an item to be handed off directly
+ * by a releasing thread.
+ * The algorithm is similar to the {@code ConcurrentBag} from HikariCP.
+ * The per-thread affinity lists hold only weak references to the pool entries and are pruned
+ * of removed entries on each release, so threads which outlive the pool (or the items removed
+ * from it) do not prevent those items from being garbage collected.
+ * <p>
+ * The pool supports the same dynamic resizing and wait timeout semantics as the
+ * {@link SimplePool} and can be used as a drop-in replacement in high contention
+ * scenarios, e.g. many threads obtaining pooled TCP connections per request.
+ *
+ * @param <T> pool element type.
+ *
+ * @author Artem Bilan
+ *
+ * @since 7.2
+ *
+ * @see SimplePool
+ */
+public class ConcurrentBagPool<T> implements Pool<T> {
+
+	private static final int NOT_IN_USE = 0;
+
+	private static final int IN_USE = 1;
+
+	private static final int REMOVED = -1;
+
+	private static final int MAX_THREAD_LOCAL_ITEMS = 16;
+
+	private static final long MAX_WAIT_SLICE_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+	protected final Log logger = LogFactory.getLog(getClass()); // NOSONAR final
+
+	private final List<PoolEntry<T>> sharedList = new CopyOnWriteArrayList<>();
+
+	private final Map<T, PoolEntry<T>> entries = new ConcurrentHashMap<>();
+
+	private final ThreadLocal<List<WeakReference<PoolEntry<T>>>> threadList =
+			ThreadLocal.withInitial(ArrayList::new);
+
+	private final SynchronousQueue<PoolEntry<T>> handoffQueue = new SynchronousQueue<>(true);
+
+	private final AtomicInteger allocated = new AtomicInteger();
+
+	private final AtomicInteger waiters = new AtomicInteger();
+
+	private final SimplePool.PoolItemCallback<T> callback;
+
+	private volatile int targetPoolSize;
+
+	private volatile long waitTimeout = Long.MAX_VALUE;
+
+	private volatile boolean closed;
+
+	/**
+	 * Create a ConcurrentBagPool with a specific limit.
+	 * @param poolSize The maximum number of items the pool supports; unlimited if not positive.
+	 * @param callback A {@link SimplePool.PoolItemCallback} implementation called during various
+	 * pool operations.
+	 */
+	public ConcurrentBagPool(int poolSize, SimplePool.PoolItemCallback<T> callback) {
+		this.targetPoolSize = poolSize <= 0 ? Integer.MAX_VALUE : poolSize;
+		this.callback = callback;
+	}
+
+	/**
+	 * Adjust the current pool size. When reducing the pool size, attempts to
+	 * remove the delta from the idle items. If there are not enough idle items in
+	 * the pool, the actual pool size will decrease to the specified size as in-use
+	 * items are returned.
+	 * @param poolSize The desired target pool size; unlimited if not positive.
+	 */
+	@Override
+	public void setPoolSize(int poolSize) {
+		int newPoolSize = poolSize <= 0 ? Integer.MAX_VALUE : poolSize;
+		if (this.logger.isDebugEnabled()) {
+			this.logger.debug(String.format("Target pool size changed from %d to %d", this.targetPoolSize,
+					newPoolSize));
+		}
+		this.targetPoolSize = newPoolSize;
+		for (PoolEntry<T> entry : this.sharedList) {
+			if (this.allocated.get() <= newPoolSize) {
+				break;
+			}
+			if (entry.compareAndSet(NOT_IN_USE, REMOVED)) {
+				doRemoveItem(entry);
+			}
+		}
+		int overcommit = this.allocated.get() - newPoolSize;
+		if (overcommit > 0 && this.logger.isDebugEnabled()) {
+			this.logger.debug(String.format("Pool is overcommitted by %d; items will be removed when returned",
+					overcommit));
+		}
+	}
+
+	/**
+	 * Return the current size of the pool; may be greater than the target pool size
+	 * if it was recently reduced and too many items were in use to allow the new size
+	 * to be set.
+	 */
+	@Override
+	public int getPoolSize() {
+		return Math.max(this.targetPoolSize, this.allocated.get());
+	}
+
+	@Override
+	public int getIdleCount() {
+		return countEntries(NOT_IN_USE);
+	}
+
+	@Override
+	public int getActiveCount() {
+		return countEntries(IN_USE);
+	}
+
+	@Override
+	public int getAllocatedCount() {
+		return this.allocated.get();
+	}
+
+	private int countEntries(int state) {
+		int count = 0;
+		for (PoolEntry<T> entry : this.sharedList) {
+			if (entry.get() == state) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Adjust the wait timeout - the time for which getItem() will wait if no idle
+	 * entries are available.
+	 * <br>
+	 * Default: infinity.
+	 * @param waitTimeout The wait timeout in milliseconds.
+	 */
+	@Override
+	public void setWaitTimeout(long waitTimeout) {
+		this.waitTimeout = waitTimeout;
+	}
+
+	/**
+	 * Obtain an item from the pool; waits up to waitTime milliseconds (default infinity).
+	 * @throws PoolItemNotAvailableException if no items become available in time.
+	 */
+	@Override
+	public T getItem() {
+		Assert.state(!this.closed, "Pool has been closed");
+		PoolEntry<T> entry = pollThreadList();
+		if (entry == null) {
+			entry = borrowShared();
+		}
+		if (entry == null) {
+			entry = awaitEntry();
+		}
+		if (this.logger.isDebugEnabled()) {
+			this.logger.debug("Obtained " + entry.item + " from pool.");
+		}
+		return entry.item;
+	}
+
+	private @Nullable PoolEntry<T> pollThreadList() {
+		List<WeakReference<PoolEntry<T>>> list = this.threadList.get();
+		for (int i = list.size() - 1; i >= 0; i--) {
+			PoolEntry<T> entry = list.remove(i).get();
+			if (entry != null && entry.compareAndSet(NOT_IN_USE, IN_USE) && validate(entry)) {
+				return entry;
+			}
+		}
+		return null;
+	}
+
+	private @Nullable PoolEntry<T> borrowShared() {
+		for (PoolEntry<T> entry : this.sharedList) {
+			if (entry.compareAndSet(NOT_IN_USE, IN_USE) && validate(entry)) {
+				return entry;
+			}
+		}
+		return createEntry();
+	}
+
+	private boolean validate(PoolEntry<T> entry) {
+		if (this.callback.isStale(entry.item)) {
+			if (this.logger.isDebugEnabled()) {
+				this.logger.debug("Received a stale item " + entry.item + ", will attempt to get a new one.");
+			}
+			entry.set(REMOVED);
+			doRemoveItem(entry);
+			return false;
+		}
+		return true;
+	}
+
+	private @Nullable PoolEntry<T> createEntry() {
+		int current;
+		do {
+			current = this.allocated.get();
+			if (current >= this.targetPoolSize) {
+				return null;
+			}
+		}
+		while (!this.allocated.compareAndSet(current, current + 1));
+
+		try {
+			T item = this.callback.createForPool();
+			PoolEntry<T> entry = new PoolEntry<>(item);
+			this.entries.put(item, entry);
+			this.sharedList.add(entry);
+			if (this.logger.isDebugEnabled()) {
+				this.logger.debug("Obtained new " + item + ".");
+			}
+			return entry;
+		}
+		catch (Exception ex) {
+			this.allocated.decrementAndGet();
+			throw new PoolItemNotAvailableException("Failed to obtain pooled item", ex);
+		}
+	}
+
+	private PoolEntry<T> awaitEntry() {
+		long timeout = this.waitTimeout;
+		long deadline = timeout == Long.MAX_VALUE
+				? Long.MAX_VALUE
+				: System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+		this.waiters.incrementAndGet();
+		try {
+			while (true) {
+				PoolEntry<T> entry = borrowShared();
+				if (entry != null) {
+					return entry;
+				}
+				long remaining = deadline == Long.MAX_VALUE ? MAX_WAIT_SLICE_NANOS : deadline - System.nanoTime();
+				if (remaining <= 0) {
+					throw new PoolItemNotAvailableException("Timed out while waiting to acquire a pool entry.");
+				}
+				entry = this.handoffQueue.poll(Math.min(remaining, MAX_WAIT_SLICE_NANOS), TimeUnit.NANOSECONDS);
+				if (entry != null && entry.compareAndSet(NOT_IN_USE, IN_USE) && validate(entry)) {
+					return entry;
+				}
+				Assert.state(!this.closed, "Pool has been closed");
+			}
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new PoolItemNotAvailableException("Interrupted awaiting a pooled resource", ex);
+		}
+		finally {
+			this.waiters.decrementAndGet();
+		}
+	}
+
+	/**
+	 * Return an item to the pool.
+	 */
+	@Override
+	public void releaseItem(T item) {
+		Assert.notNull(item, "Item cannot be null");
+		PoolEntry<T> entry = this.entries.get(item);
+		Assert.isTrue(entry != null, "You can only release items that were obtained from the pool");
+		if (entry.get() != IN_USE) {
+			if (this.logger.isDebugEnabled()) {
+				this.logger.debug("Ignoring release of " + item + " back to the pool - not in use");
+			}
+			return;
+		}
+		if ((this.closed || this.allocated.get() > this.targetPoolSize) && entry.compareAndSet(IN_USE, REMOVED)) {
+			doRemoveItem(entry);
+			return;
+		}
+		if (!entry.compareAndSet(IN_USE, NOT_IN_USE)) {
+			return;
+		}
+		if (this.logger.isDebugEnabled()) {
+			this.logger.debug("Releasing " + item + " back to the pool");
+		}
+		handOff(entry);
+		List<WeakReference<PoolEntry<T>>> list = this.threadList.get();
+		list.removeIf((reference) -> {
+			PoolEntry<T> cached = reference.get();
+			return cached == null || cached == entry || cached.get() == REMOVED;
+		});
+		if (list.size() < MAX_THREAD_LOCAL_ITEMS) {
+			list.add(new WeakReference<>(entry));
+		}
+	}
+
+	private void handOff(PoolEntry<T> entry) {
+		for (int i = 0; this.waiters.get() > 0; i++) {
+			if (entry.get() != NOT_IN_USE || this.handoffQueue.offer(entry)) {
+				return;
+			}
+			if ((i & 0xff) == 0xff) {
+				LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(10));
+			}
+			else {
+				Thread.yield();
+			}
+		}
+	}
+
+	@Override
+	public void removeAllIdleItems() {
+		for (PoolEntry<T> entry : this.sharedList) {
+			if (entry.compareAndSet(NOT_IN_USE, REMOVED)) {
+				doRemoveItem(entry);
+			}
+		}
+	}
+
+	private void doRemoveItem(PoolEntry<T> entry) {
+		if (this.logger.isDebugEnabled()) {
+			this.logger.debug("Removing " + entry.item + " from the pool");
+		}
+		if (this.sharedList.remove(entry)) {
+			this.entries.remove(entry.item);
+			this.allocated.decrementAndGet();
+			this.callback.removedFromPool(entry.item);
+		}
+	}
+
+	@Override
+	public void close() {
+		this.closed = true;
+		removeAllIdleItems();
+		this.threadList.remove();
+	}
+
+	@SuppressWarnings("serial")
+	private static final class PoolEntry<T> extends AtomicInteger {
+
+		private final T item;
+
+		PoolEntry(T item) {
+			super(IN_USE);
+			this.item = item;
+		}
+
+	}
+
+}
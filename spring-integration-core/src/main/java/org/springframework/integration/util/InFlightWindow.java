@@ -0,0 +1,261 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.integration.support.management.metrics.GaugeFacade;
+import org.springframework.integration.support.management.metrics.MetricsCaptor;
+import org.springframework.integration.support.management.metrics.TimerFacade;
+import org.springframework.util.Assert;
+
+/**
+ * A window of operations (e.g. sent messages) which have been started, but not completed yet,
+ * for outbound components which are notified about completions asynchronously.
+ * When the window is full, a sending thread blocks until a previous operation is completed,
+ * or the provided timeout elapses.
+ * The window can be bounded by the number of operations, by their total size, or both.
+ * <p>
+ * When a {@link MetricsCaptor} is provided, the window registers a gauge for the number of
+ * in-flight operations and a timer for the time from starting an operation to its successful completion.
+ *
+ * @author Artem Bilan
+ *
+ * @since 7.2
+ */
+public class InFlightWindow {
+
+	private final Lock lock = new ReentrantLock();
+
+	private final Condition released = this.lock.newCondition();
+
+	private final String inFlightGaugeName;
+
+	private final String completionTimerName;
+
+	private volatile int maxInFlight;
+
+	private volatile long maxInFlightSize;
+
+	private volatile int inFlightCount;
+
+	private long inFlightSize;
+
+	private @Nullable GaugeFacade inFlightGauge;
+
+	private volatile @Nullable TimerFacade completionTimer;
+
+	/**
+	 * Create a window with the names for its meters.
+	 * @param inFlightGaugeName the name of the gauge for the number of in-flight operations.
+	 * @param completionTimerName the name of the timer for the operation completion time.
+	 */
+	public InFlightWindow(String inFlightGaugeName, String completionTimerName) {
+		Assert.hasText(inFlightGaugeName, "'inFlightGaugeName' must not be empty");
+		Assert.hasText(completionTimerName, "'completionTimerName' must not be empty");
+		this.inFlightGaugeName = inFlightGaugeName;
+		this.completionTimerName = completionTimerName;
+	}
+
+	/**
+	 * Set the maximum number of operations which have been started, but not completed yet.
+	 * Defaults to 0 - no limit.
+	 * @param maxInFlight the maximum number of in-flight operations.
+	 */
+	public void setMaxInFlight(int maxInFlight) {
+		Assert.isTrue(maxInFlight >= 0, "'maxInFlight' must not be negative");
+		this.maxInFlight = maxInFlight;
+	}
+
+	public int getMaxInFlight() {
+		return this.maxInFlight;
+	}
+
+	/**
+	 * Set the maximum total size of operations which have been started, but not completed yet.
+	 * The size of an operation is provided to the {@link #tryAcquire(boolean, long, long)}.
+	 * A single operation exceeding this limit is started when no other operations are in flight.
+	 * Defaults to 0 - no limit.
+	 * @param maxInFlightSize the maximum total size of in-flight operations.
+	 */
+	public void setMaxInFlightSize(long maxInFlightSize) {
+		Assert.isTrue(maxInFlightSize >= 0, "'maxInFlightSize' must not be negative");
+		this.maxInFlightSize = maxInFlightSize;
+	}
+
+	public long getMaxInFlightSize() {
+		return this.maxInFlightSize;
+	}
+
+	/**
+	 * Return the number of operations which have been started in the window, but not completed yet.
+	 * @return the number of in-flight operations.
+	 */
+	public int getInFlightCount() {
+		return this.inFlightCount;
+	}
+
+	/**
+	 * Start an operation.
+	 * If the operation is bounded and the {@link #setMaxInFlight(int) max in-flight} is configured,
+	 * wait for a free slot in the window.
+	 * The returned {@link Permit} must be {@link Permit#complete(boolean) completed}
+	 * when the operation is complete or fails.
+	 * @param bounded whether the operation takes a slot in the window.
+	 * @param timeout the time in milliseconds to wait for a free slot.
+	 * @return the permit for the operation, or null if no free slot is available in time.
+	 * @throws InterruptedException if the current thread is interrupted while waiting for a free slot.
+	 */
+	public @Nullable Permit tryAcquire(boolean bounded, long timeout) throws InterruptedException {
+		return tryAcquire(bounded, 0, timeout);
+	}
+
+	/**
+	 * Start an operation of the provided size.
+	 * If the operation is bounded and the {@link #setMaxInFlight(int) max in-flight}
+	 * or the {@link #setMaxInFlightSize(long) max in-flight size} is configured,
+	 * wait for enough room in the window.
+	 * The returned {@link Permit} must be {@link Permit#complete(boolean) completed}
+	 * when the operation is complete or fails.
+	 * @param bounded whether the operation takes a slot in the window.
+	 * @param size the size of the operation.
+	 * @param timeout the time in milliseconds to wait for a free slot.
+	 * @return the permit for the operation, or null if no free slot is available in time.
+	 * @throws InterruptedException if the current thread is interrupted while waiting for a free slot.
+	 */
+	public @Nullable Permit tryAcquire(boolean bounded, long size, long timeout) throws InterruptedException {
+		Assert.isTrue(size >= 0, "'size' must not be negative");
+		boolean inFlight = bounded && (this.maxInFlight > 0 || this.maxInFlightSize > 0);
+		if (inFlight) {
+			long nanos = TimeUnit.MILLISECONDS.toNanos(timeout);
+			this.lock.lock();
+			try {
+				while (isFull(size)) {
+					if (nanos <= 0) {
+						return null;
+					}
+					nanos = this.released.awaitNanos(nanos);
+				}
+				this.inFlightCount++;
+				this.inFlightSize += size;
+			}
+			finally {
+				this.lock.unlock();
+			}
+		}
+		return new Permit(inFlight, size);
+	}
+
+	private boolean isFull(long size) {
+		int max = this.maxInFlight;
+		long maxSize = this.maxInFlightSize;
+		return (max > 0 && this.inFlightCount >= max)
+				|| (maxSize > 0 && this.inFlightCount > 0 && this.inFlightSize + size > maxSize);
+	}
+
+	/**
+	 * Register the in-flight gauge and the completion timer with the provided {@link MetricsCaptor}.
+	 * @param metricsCaptor the {@link MetricsCaptor} to use.
+	 * @param componentName the name of the component to tag the meters with.
+	 */
+	public void registerMetrics(MetricsCaptor metricsCaptor, @Nullable String componentName) {
+		String name = componentName == null ? "unknown" : componentName;
+		this.inFlightGauge =
+				metricsCaptor.gaugeBuilder(this.inFlightGaugeName, this,
+								(window) -> ((InFlightWindow) window).getInFlightCount())
+						.tag("name", name)
+						.description("The number of messages sent, but not completed yet")
+						.build();
+		this.completionTimer =
+				metricsCaptor.timerBuilder(this.completionTimerName)
+						.tag("name", name)
+						.description("The time from sending a message to its completion")
+						.build();
+	}
+
+	/**
+	 * Remove the meters registered by the {@link #registerMetrics(MetricsCaptor, String)}, if any.
+	 */
+	public void removeMetrics() {
+		if (this.inFlightGauge != null) {
+			this.inFlightGauge.remove();
+			this.inFlightGauge = null;
+		}
+		TimerFacade timer = this.completionTimer;
+		if (timer != null) {
+			timer.remove();
+			this.completionTimer = null;
+		}
+	}
+
+	private void release(long size) {
+		this.lock.lock();
+		try {
+			this.inFlightCount--;
+			this.inFlightSize -= size;
+			this.released.signalAll();
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * An operation started in the {@link InFlightWindow}.
+	 */
+	public final class Permit {
+
+		private final long startTime = System.nanoTime();
+
+		private final AtomicBoolean completed = new AtomicBoolean();
+
+		private final boolean inFlight;
+
+		private final long size;
+
+		private Permit(boolean inFlight, long size) {
+			this.inFlight = inFlight;
+			this.size = size;
+		}
+
+		/**
+		 * Complete the operation: record the completion time if successful and release
+		 * the window slot, if any.
+		 * Has no effect for the second call.
+		 * @param success whether the operation is completed successfully.
+		 */
+		public void complete(boolean success) {
+			if (this.completed.compareAndSet(false, true)) {
+				TimerFacade timer = InFlightWindow.this.completionTimer;
+				if (success && timer != null) {
+					timer.record(System.nanoTime() - this.startTime, TimeUnit.NANOSECONDS);
+				}
+				if (this.inFlight) {
+					release(this.size);
+				}
+			}
+		}
+
+	}
+
+}
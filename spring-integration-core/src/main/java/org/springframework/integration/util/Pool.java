@@ -22,6 +22,7 @@ package org.springframework.integration.util;
  * @param <T> pool element type.
  *
  * @author Gary Russell
+ * @author Artem Bilan
  *
  * @since 2.2
  *
@@ -76,6 +77,26 @@ public interface Pool<T> {
 	 */
 	int getAllocatedCount();
 
+	/**
+	 * Adjust the current size (limit) of the pool.
+	 * @param poolSize the desired target pool size.
+	 * @throws UnsupportedOperationException if the pool cannot be resized.
+	 * @since 7.2
+	 */
+	default void setPoolSize(int poolSize) {
+		throw new UnsupportedOperationException("This pool cannot be resized: " + this);
+	}
+
+	/**
+	 * Adjust the time for which {@link #getItem()} waits if no idle items are available.
+	 * @param waitTimeout the wait timeout in milliseconds.
+	 * @throws UnsupportedOperationException if the pool does not support a wait timeout.
+	 * @since 7.2
+	 */
+	default void setWaitTimeout(long waitTimeout) {
+		throw new UnsupportedOperationException("This pool does not support a wait timeout: " + this);
+	}
+
 	/**
 	 * Close the pool; returned items will be destroyed.
 	 * @since 4.3.23
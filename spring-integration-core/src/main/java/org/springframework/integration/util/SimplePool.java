@@ -26,6 +26,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -98,6 +99,7 @@ public class SimplePool<T> implements Pool<T> {
 	 * items are returned.
 	 * @param poolSize The desired target pool size.
 	 */
+	@Override
 	public void setPoolSize(int poolSize) {
 		this.lock.lock();
 		try {
@@ -178,6 +180,7 @@ public class SimplePool<T> implements Pool<T> {
 	 * Default: infinity.
 	 * @param waitTimeout The wait timeout in milliseconds.
 	 */
+	@Override
 	public void setWaitTimeout(long waitTimeout) {
 		this.waitTimeout = waitTimeout;
 	}
@@ -286,6 +289,83 @@ public class SimplePool<T> implements Pool<T> {
 		}
 	}
 
+	/**
+	 * Check idle items with the provided predicate and remove those for which it returns {@code true}.
+	 * Each idle item is taken out of the pool for the check, so the predicate is evaluated
+	 * outside the pool lock and may perform blocking operations, e.g. a network round trip.
+	 * An item is checked only if a permit is available for it, so the pool size limit is
+	 * never exceeded; therefore, idle items are not checked when the pool is exhausted.
+	 * An exception thrown from the predicate is treated as a signal to remove the item.
+	 * @param evictionPredicate the predicate to check idle items.
+	 * @return the number of removed items.
+	 * @since 7.2
+	 */
+	public int evictIdleItems(Predicate<T> evictionPredicate) {
+		int evicted = 0;
+		for (int i = this.available.size(); i > 0 && !this.closed; i--) {
+			if (!this.permits.tryAcquire()) {
+				break;
+			}
+			T item = this.available.poll();
+			if (item == null) {
+				this.permits.release();
+				break;
+			}
+			boolean evict;
+			try {
+				evict = evictionPredicate.test(item);
+			}
+			catch (Exception ex) {
+				this.logger.debug("Failed to check idle item " + item + "; it will be removed", ex);
+				evict = true;
+			}
+			this.lock.lock();
+			try {
+				if (evict || this.closed) {
+					doRemoveItem(item);
+					evicted++;
+				}
+				else {
+					this.available.add(item);
+				}
+				this.permits.release();
+			}
+			finally {
+				this.lock.unlock();
+			}
+		}
+		return evicted;
+	}
+
+	/**
+	 * Create new idle items until the number of idle items reaches the provided value,
+	 * or the pool size limit is reached.
+	 * @param minIdle the desired minimum number of idle items.
+	 * @return the number of created items.
+	 * @since 7.2
+	 */
+	public int fillIdleItems(int minIdle) {
+		int created = 0;
+		while (!this.closed && this.available.size() < minIdle && this.permits.tryAcquire()) {
+			try {
+				if (this.allocated.size() >= this.poolSize.get()) {
+					break;
+				}
+				T item = this.callback.createForPool();
+				if (this.logger.isDebugEnabled()) {
+					this.logger.debug("Created new idle " + item + ".");
+				}
+				this.allocated.add(item);
+				this.available.add(item);
+				created++;
+			}
+			finally {
+				this.permits.release();
+			}
+		}
+		return created;
+	}
+
 	private void doRemoveItem(T item) {
 		if (this.logger.isDebugEnabled()) {
 			this.logger.debug("Removing " + item + " from the pool");
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.metadata;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+
+/**
+ * @author Artem Bilan
+ *
+ * @since 7.2
+ */
+class CachingMetadataStoreTests {
+
+	@Test
+	void valuesAndMissesAreCached() {
+		SimpleMetadataStore target = spy(new SimpleMetadataStore());
+		CachingMetadataStore metadataStore = new CachingMetadataStore(target);
+
+		assertThat(metadataStore.get("foo")).isNull();
+		assertThat(metadataStore.get("foo")).isNull();
+		then(target).should(times(1)).get("foo");
+
+		assertThat(metadataStore.putIfAbsent("foo", "bar")).isNull();
+		assertThat(metadataStore.putIfAbsent("foo", "baz")).isEqualTo("bar");
+		assertThat(metadataStore.get("foo")).isEqualTo("bar");
+		then(target).should(times(1)).putIfAbsent(anyString(), anyString());
+
+		assertThat(metadataStore.replace("foo", "bar", "baz")).isTrue();
+		assertThat(metadataStore.get("foo")).isEqualTo("baz");
+
+		assertThat(metadataStore.remove("foo")).isEqualTo("baz");
+		assertThat(metadataStore.get("foo")).isNull();
+		then(target).should(times(2)).get("foo");
+
+		assertThat(metadataStore.getHitCount()).isEqualTo(4);
+		assertThat(metadataStore.getMissCount()).isEqualTo(3);
+		assertThat(metadataStore.getHitRatio()).isEqualTo(4.0 / 7);
+	}
+
+	@Test
+	void entriesExpireAndAreEvicted() {
+		SimpleMetadataStore target = spy(new SimpleMetadataStore());
+		CachingMetadataStore metadataStore = new CachingMetadataStore(target);
+		metadataStore.setTimeToLive(Duration.ofMillis(100));
+		metadataStore.setMaxSize(2);
+
+		metadataStore.put("foo", "1");
+		metadataStore.put("bar", "2");
+		metadataStore.put("baz", "3");
+		assertThat(metadataStore.getCacheSize()).isEqualTo(2);
+
+		assertThat(metadataStore.get("foo")).isEqualTo("1");
+		then(target).should(times(1)).get("foo");
+
+		target.put("bar", "4");
+		await().untilAsserted(() -> assertThat(metadataStore.get("bar")).isEqualTo("4"));
+	}
+
+	@Test
+	void listenableStoreInvalidatesCache() {
+		ListenableMetadataStore target = mock();
+		given(target.get("foo")).willReturn("bar", "baz");
+		CachingMetadataStore metadataStore = new CachingMetadataStore(target);
+		ArgumentCaptor<MetadataStoreListener> listenerCaptor = ArgumentCaptor.forClass(MetadataStoreListener.class);
+		then(target).should().addListener(listenerCaptor.capture());
+
+		assertThat(metadataStore.get("foo")).isEqualTo("bar");
+		assertThat(metadataStore.get("foo")).isEqualTo("bar");
+
+		listenerCaptor.getValue().onUpdate("foo", "baz");
+		assertThat(metadataStore.get("foo")).isEqualTo("baz");
+
+		metadataStore.destroy();
+		then(target).should().removeListener(listenerCaptor.getValue());
+	}
+
+}
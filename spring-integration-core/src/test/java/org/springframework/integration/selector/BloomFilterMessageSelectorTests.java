@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.selector;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.integration.handler.MessageProcessor;
+import org.springframework.integration.metadata.SimpleMetadataStore;
+import org.springframework.messaging.support.GenericMessage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * @author Artem Bilan
+ *
+ * @since 7.2
+ */
+class BloomFilterMessageSelectorTests {
+
+	private static final MessageProcessor<String> PAYLOAD_KEY = (message) -> (String) message.getPayload();
+
+	@Test
+	void duplicatesAreRejectedWithinFalsePositiveRate() {
+		BloomFilterMessageSelector selector = new BloomFilterMessageSelector(PAYLOAD_KEY, 10_000, 0.01);
+		int accepted = 0;
+		for (int i = 0; i < 10_000; i++) {
+			if (selector.accept(new GenericMessage<>("key" + i))) {
+				accepted++;
+			}
+		}
+		assertThat(accepted).isGreaterThan(9_800);
+		for (int i = 0; i < 10_000; i++) {
+			assertThat(selector.accept(new GenericMessage<>("key" + i))).isFalse();
+		}
+		assertThat(selector.getProbableDuplicateCount()).isEqualTo(20_000 - accepted);
+	}
+
+	@Test
+	void metadataStoreEliminatesFalsePositives() {
+		SimpleMetadataStore store = new SimpleMetadataStore();
+		BloomFilterMessageSelector selector = new BloomFilterMessageSelector(PAYLOAD_KEY, 100, 0.1);
+		selector.setMetadataStore(store);
+		for (int i = 0; i < 1_000; i++) {
+			assertThat(selector.accept(new GenericMessage<>("key" + i))).isTrue();
+		}
+		assertThat(selector.getFalsePositiveCount()).isGreaterThan(0);
+		assertThat(selector.accept(new GenericMessage<>("key1"))).isFalse();
+		assertThat(store.get("key999")).isNotNull();
+	}
+
+	@Test
+	void concurrentDuplicatesAreAcceptedOnceWithMetadataStore() throws InterruptedException {
+		SimpleMetadataStore store = new SimpleMetadataStore();
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			for (int i = 0; i < 100; i++) {
+				BloomFilterMessageSelector selector = new BloomFilterMessageSelector(PAYLOAD_KEY, 100, 0.01);
+				selector.setMetadataStore(store);
+				String key = "key" + i;
+				AtomicInteger accepted = new AtomicInteger();
+				CountDownLatch start = new CountDownLatch(1);
+				CountDownLatch done = new CountDownLatch(8);
+				for (int j = 0; j < 8; j++) {
+					executor.execute(() -> {
+						try {
+							start.await(10, TimeUnit.SECONDS);
+							if (selector.accept(new GenericMessage<>(key))) {
+								accepted.incrementAndGet();
+							}
+						}
+						catch (InterruptedException ex) {
+							Thread.currentThread().interrupt();
+						}
+						finally {
+							done.countDown();
+						}
+					});
+				}
+				start.countDown();
+				assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+				assertThat(accepted.get()).isEqualTo(1);
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void duplicateRotatedOutOfFiltersIsRejectedByMetadataStore() {
+		BloomFilterMessageSelector selector = new BloomFilterMessageSelector(PAYLOAD_KEY, 100, 0.001);
+		selector.setWindow(Duration.ofMillis(100), 2);
+		selector.setMetadataStore(new SimpleMetadataStore());
+		assertThat(selector.accept(new GenericMessage<>("foo"))).isTrue();
+
+		await().pollDelay(Duration.ofMillis(300))
+				.untilAsserted(() -> assertThat(selector.accept(new GenericMessage<>("foo"))).isFalse());
+		assertThat(selector.getProbableDuplicateCount()).isZero();
+	}
+
+	@Test
+	void filtersAreRotatedAndRestoredFromSnapshot() throws IOException {
+		BloomFilterMessageSelector selector = new BloomFilterMessageSelector(PAYLOAD_KEY, 100, 0.001);
+		selector.setWindow(Duration.ofMillis(500), 2);
+		assertThat(selector.accept(new GenericMessage<>("foo"))).isTrue();
+		assertThat(selector.accept(new GenericMessage<>("foo"))).isFalse();
+
+		ByteArrayOutputStream snapshot = new ByteArrayOutputStream();
+		selector.saveSnapshot(snapshot);
+		BloomFilterMessageSelector restored = new BloomFilterMessageSelector(PAYLOAD_KEY, 100, 0.001);
+		restored.setWindow(Duration.ofMillis(500), 2);
+		restored.loadSnapshot(new ByteArrayInputStream(snapshot.toByteArray()));
+		assertThat(restored.accept(new GenericMessage<>("foo"))).isFalse();
+
+		await().pollDelay(Duration.ofMillis(1100))
+				.untilAsserted(() -> assertThat(selector.accept(new GenericMessage<>("foo"))).isTrue());
+	}
+
+}
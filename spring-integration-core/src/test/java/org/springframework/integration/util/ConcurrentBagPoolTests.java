@@ -0,0 +1,190 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.util;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * @author Artem Bilan
+ *
+ * @since 7.2
+ */
+public class ConcurrentBagPoolTests {
+
+	@Test
+	void testReuseAndStale() {
+		Set<String> strings = ConcurrentHashMap.newKeySet();
+		AtomicBoolean stale = new AtomicBoolean();
+		ConcurrentBagPool<String> pool = stringPool(2, strings, stale);
+		String s1 = pool.getItem();
+		String s2 = pool.getItem();
+		assertThat(s2).isNotSameAs(s1);
+		pool.releaseItem(s1);
+		String s3 = pool.getItem();
+		assertThat(s3).isSameAs(s1);
+		stale.set(true);
+		pool.releaseItem(s3);
+		s3 = pool.getItem();
+		assertThat(s3).isNotSameAs(s1);
+		assertThat(strings).doesNotContain(s1);
+		assertThat(pool.getAllocatedCount()).isEqualTo(2);
+	}
+
+	@Test
+	void testOverCommitAndResize() {
+		Set<String> strings = ConcurrentHashMap.newKeySet();
+		ConcurrentBagPool<String> pool = stringPool(2, strings, new AtomicBoolean());
+		String s1 = pool.getItem();
+		String s2 = pool.getItem();
+		pool.setWaitTimeout(1);
+		assertThat(pool.getActiveCount()).isEqualTo(2);
+
+		assertThatExceptionOfType(PoolItemNotAvailableException.class)
+				.isThrownBy(pool::getItem);
+
+		// resize up
+		pool.setPoolSize(4);
+
+		String s3 = pool.getItem();
+		String s4 = pool.getItem();
+		assertThat(pool.getActiveCount()).isEqualTo(4);
+		assertThat(pool.getAllocatedCount()).isEqualTo(4);
+		pool.releaseItem(s4);
+		assertThat(pool.getIdleCount()).isEqualTo(1);
+		assertThat(pool.getActiveCount()).isEqualTo(3);
+
+		// resize down
+		pool.setPoolSize(2);
+
+		assertThat(pool.getIdleCount()).isEqualTo(0);
+		assertThat(pool.getActiveCount()).isEqualTo(3);
+		assertThat(pool.getPoolSize()).isEqualTo(3);
+		pool.releaseItem(s3);
+		assertThat(pool.getActiveCount()).isEqualTo(2);
+		assertThat(pool.getPoolSize()).isEqualTo(2);
+		assertThat(strings).hasSize(2);
+		pool.releaseItem(s2);
+		pool.releaseItem(s1);
+		assertThat(pool.getIdleCount()).isEqualTo(2);
+		assertThat(pool.getActiveCount()).isEqualTo(0);
+		assertThat(pool.getAllocatedCount()).isEqualTo(2);
+	}
+
+	@Test
+	void testForeignObjectAndDoubleReturn() {
+		ConcurrentBagPool<String> pool = stringPool(2, ConcurrentHashMap.newKeySet(), new AtomicBoolean());
+		String s1 = pool.getItem();
+		assertThatIllegalArgumentException().isThrownBy(() -> pool.releaseItem("Hello, world!"));
+		pool.releaseItem(s1);
+		pool.releaseItem(s1);
+		assertThat(pool.getIdleCount()).isEqualTo(1);
+		assertThat(pool.getActiveCount()).isEqualTo(0);
+	}
+
+	@Test
+	void testClose() {
+		ConcurrentBagPool<String> pool = stringPool(10, ConcurrentHashMap.newKeySet(), new AtomicBoolean());
+		String item1 = pool.getItem();
+		String item2 = pool.getItem();
+		pool.releaseItem(item2);
+		assertThat(pool.getAllocatedCount()).isEqualTo(2);
+		pool.close();
+		pool.releaseItem(item1);
+		assertThat(pool.getAllocatedCount()).isEqualTo(0);
+		assertThatIllegalStateException().isThrownBy(pool::getItem);
+	}
+
+	@Test
+	void testHighContention() throws InterruptedException {
+		int poolSize = 8;
+		int threads = 64;
+		int iterations = 1000;
+		Set<String> strings = ConcurrentHashMap.newKeySet();
+		ConcurrentBagPool<String> pool = stringPool(poolSize, strings, new AtomicBoolean());
+		pool.setWaitTimeout(10_000);
+		AtomicInteger concurrent = new AtomicInteger();
+		AtomicInteger maxConcurrent = new AtomicInteger();
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+		CountDownLatch latch = new CountDownLatch(threads);
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		for (int i = 0; i < threads; i++) {
+			executor.execute(() -> {
+				try {
+					for (int j = 0; j < iterations; j++) {
+						String item = pool.getItem();
+						maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+						concurrent.decrementAndGet();
+						pool.releaseItem(item);
+					}
+				}
+				catch (Throwable ex) {
+					failure.compareAndSet(null, ex);
+				}
+				finally {
+					latch.countDown();
+				}
+			});
+		}
+		assertThat(latch.await(30, TimeUnit.SECONDS)).isTrue();
+		executor.shutdown();
+		assertThat(failure.get()).isNull();
+		assertThat(maxConcurrent.get()).isLessThanOrEqualTo(poolSize);
+		assertThat(pool.getAllocatedCount()).isLessThanOrEqualTo(poolSize);
+		assertThat(pool.getIdleCount()).isEqualTo(pool.getAllocatedCount());
+		assertThat(strings).hasSize(pool.getAllocatedCount());
+	}
+
+	private static ConcurrentBagPool<String> stringPool(int size, Set<String> strings, AtomicBoolean stale) {
+		AtomicInteger counter = new AtomicInteger();
+		return new ConcurrentBagPool<>(size, new SimplePool.PoolItemCallback<>() {
+
+			@Override
+			public String createForPool() {
+				String string = "String" + counter.getAndIncrement();
+				strings.add(string);
+				return string;
+			}
+
+			@Override
+			public boolean isStale(String item) {
+				return stale.get();
+			}
+
+			@Override
+			public void removedFromPool(String item) {
+				strings.remove(item);
+			}
+
+		});
+	}
+
+}
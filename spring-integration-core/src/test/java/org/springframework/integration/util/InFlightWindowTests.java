@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.integration.support.management.micrometer.MicrometerMetricsCaptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * @author Artem Bilan
+ *
+ * @since 7.2
+ */
+public class InFlightWindowTests {
+
+	@Test
+	void windowBlocksUntilPermitIsCompleted() throws Exception {
+		InFlightWindow window = new InFlightWindow("test.in.flight", "test.completion");
+		window.setMaxInFlight(2);
+
+		InFlightWindow.Permit permit1 = window.tryAcquire(true, 100);
+		InFlightWindow.Permit permit2 = window.tryAcquire(true, 100);
+		assertThat(permit1).isNotNull();
+		assertThat(permit2).isNotNull();
+		assertThat(window.getInFlightCount()).isEqualTo(2);
+
+		assertThat(window.tryAcquire(true, 10)).isNull();
+		assertThat(window.tryAcquire(false, 10)).isNotNull();
+
+		CompletableFuture<InFlightWindow.Permit> third =
+				CompletableFuture.supplyAsync(() -> {
+					try {
+						return window.tryAcquire(true, 10_000);
+					}
+					catch (InterruptedException ex) {
+						Thread.currentThread().interrupt();
+						throw new IllegalStateException(ex);
+					}
+				});
+
+		permit1.complete(true);
+		permit1.complete(true);
+
+		assertThat(third.get(10, TimeUnit.SECONDS)).isNotNull();
+		assertThat(window.getInFlightCount()).isEqualTo(2);
+
+		permit2.complete(false);
+		assertThat(window.getInFlightCount()).isEqualTo(1);
+	}
+
+	@Test
+	void windowIsBoundedBySize() throws Exception {
+		InFlightWindow window = new InFlightWindow("test.in.flight", "test.completion");
+		window.setMaxInFlightSize(10);
+
+		InFlightWindow.Permit permit1 = window.tryAcquire(true, 6, 100);
+		assertThat(permit1).isNotNull();
+		assertThat(window.tryAcquire(true, 5, 10)).isNull();
+
+		InFlightWindow.Permit permit2 = window.tryAcquire(true, 4, 100);
+		assertThat(permit2).isNotNull();
+		assertThat(window.getInFlightCount()).isEqualTo(2);
+
+		permit1.complete(true);
+		permit2.complete(true);
+
+		InFlightWindow.Permit oversized = window.tryAcquire(true, 20, 100);
+		assertThat(oversized).isNotNull();
+		assertThat(window.tryAcquire(true, 1, 10)).isNull();
+		oversized.complete(false);
+		assertThat(window.tryAcquire(true, 1, 10)).isNotNull();
+	}
+
+	@Test
+	void metricsAreRegisteredAndRemoved() throws InterruptedException {
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		InFlightWindow window = new InFlightWindow("test.in.flight", "test.completion");
+		window.setMaxInFlight(1);
+		window.registerMetrics(new MicrometerMetricsCaptor(meterRegistry), "testWindow");
+
+		InFlightWindow.Permit permit = window.tryAcquire(true, 100);
+		assertThat(permit).isNotNull();
+		assertThat(meterRegistry.get("test.in.flight").tag("name", "testWindow").gauge().value()).isEqualTo(1);
+
+		permit.complete(true);
+		assertThat(meterRegistry.get("test.in.flight").gauge().value()).isZero();
+		assertThat(meterRegistry.get("test.completion").timer().count()).isEqualTo(1);
+
+		window.tryAcquire(true, 100).complete(false);
+		assertThat(meterRegistry.get("test.completion").timer().count()).isEqualTo(1);
+
+		window.removeMetrics();
+		assertThat(meterRegistry.getMeters()).isEmpty();
+	}
+
+	@Test
+	void negativeMaxInFlightIsRejected() {
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> new InFlightWindow("test.in.flight", "test.completion").setMaxInFlight(-1));
+	}
+
+}
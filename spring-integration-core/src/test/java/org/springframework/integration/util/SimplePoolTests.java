@@ -332,6 +332,38 @@ public class SimplePoolTests {
 		assertThatIllegalStateException().isThrownBy(pool::getItem);
 	}
 
+	@Test
+	void testFillAndEvictIdleItems() {
+		Set<String> strings = new HashSet<>();
+		SimplePool<String> pool = stringPool(3, strings, new AtomicBoolean());
+		String inUse = pool.getItem();
+		assertThat(pool.fillIdleItems(5)).isEqualTo(2);
+		assertThat(pool.getIdleCount()).isEqualTo(2);
+		assertThat(pool.getAllocatedCount()).isEqualTo(3);
+		assertThat(pool.fillIdleItems(2)).isEqualTo(0);
+
+		assertThat(pool.evictIdleItems("String1"::equals)).isEqualTo(1);
+		assertThat(pool.getIdleCount()).isEqualTo(1);
+		assertThat(pool.getAllocatedCount()).isEqualTo(2);
+		assertThat(strings).containsExactlyInAnyOrder("String0", "String2");
+
+		assertThat(pool.evictIdleItems(item -> {
+			throw new IllegalStateException("test");
+		})).isEqualTo(1);
+		assertThat(pool.getIdleCount()).isEqualTo(0);
+
+		pool.releaseItem(inUse);
+		assertThat(pool.getIdleCount()).isEqualTo(1);
+		assertThat(pool.getItem()).isEqualTo(inUse);
+		assertThat(pool.getItem()).isNotEqualTo(inUse);
+		assertThat(pool.getItem()).isNotEqualTo(inUse);
+		assertThatExceptionOfType(PoolItemNotAvailableException.class)
+				.isThrownBy(() -> {
+					pool.setWaitTimeout(1);
+					pool.getItem();
+				});
+	}
+
 	private SimplePool<String> stringPool(int size, Set<String> strings, AtomicBoolean stale) {
 		return new SimplePool<String>(size, new SimplePool.PoolItemCallback<String>() {
 
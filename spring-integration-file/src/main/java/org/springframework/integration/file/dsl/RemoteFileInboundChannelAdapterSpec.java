@@ -24,6 +24,7 @@ import java.util.function.Function;
 
 import org.jspecify.annotations.Nullable;
 
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.expression.Expression;
 import org.springframework.integration.dsl.ComponentsRegistration;
 import org.springframework.integration.dsl.MessageSourceSpec;
@@ -298,6 +299,30 @@ public abstract class RemoteFileInboundChannelAdapterSpec<F, S extends RemoteFil
 		return _this();
 	}
 
+	/**
+	 * Set the number of sessions to transfer remote files concurrently.
+	 * @param transferConcurrency the number of sessions to transfer files over.
+	 * @return the spec.
+	 * @since 7.2
+	 * @see AbstractInboundFileSynchronizer#setTransferConcurrency(int)
+	 */
+	public S transferConcurrency(int transferConcurrency) {
+		this.synchronizer.setTransferConcurrency(transferConcurrency);
+		return _this();
+	}
+
+	/**
+	 * Set a {@link TaskExecutor} for concurrent file transfers.
+	 * @param taskExecutor the {@link TaskExecutor} to use.
+	 * @return the spec.
+	 * @since 7.2
+	 * @see AbstractInboundFileSynchronizer#setTaskExecutor(TaskExecutor)
+	 */
+	public S transferTaskExecutor(TaskExecutor taskExecutor) {
+		this.synchronizer.setTaskExecutor(taskExecutor);
+		return _this();
+	}
+
 	@Override
 	public Map<Object, @Nullable String> getComponentsToRegister() {
 		Map<Object, @Nullable String> componentsToRegister = new LinkedHashMap<>();
@@ -23,8 +23,17 @@ import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.logging.Log;
@@ -36,9 +45,12 @@ import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.BeanFactoryAware;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.core.io.Resource;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.expression.Expression;
 import org.springframework.integration.file.DefaultFileNameGenerator;
 import org.springframework.integration.file.FileNameGenerator;
+import org.springframework.integration.file.remote.session.CachingSessionFactory;
 import org.springframework.integration.file.remote.session.Session;
 import org.springframework.integration.file.remote.session.SessionFactory;
 import org.springframework.integration.file.support.FileExistsMode;
@@ -70,6 +82,12 @@ import org.springframework.util.StringUtils;
  */
 public class RemoteFileTemplate<F> implements RemoteFileOperations<F>, InitializingBean, BeanFactoryAware {
 
+	/**
+	 * The default minimum file size (64 MB) for a segmented transfer.
+	 * @since 7.2
+	 */
+	public static final long DEFAULT_SEGMENTED_TRANSFER_THRESHOLD = 64 * 1024 * 1024;
+
 	protected final Log logger = LogFactory.getLog(getClass()); // NOSONAR - final
 
 	/**
@@ -109,6 +127,12 @@ public class RemoteFileTemplate<F> implements RemoteFileOperations<F>, Initializ
 	@SuppressWarnings("NullAway.Init")
 	private BeanFactory beanFactory;
 
+	private int segmentedTransferConcurrency = 1;
+
+	private long segmentedTransferThreshold = DEFAULT_SEGMENTED_TRANSFER_THRESHOLD;
+
+	private TaskExecutor segmentedTransferTaskExecutor = new SimpleAsyncTaskExecutor("remote-file-segment-");
+
 	/**
 	 * Construct a {@link RemoteFileTemplate} with the supplied session factory.
 	 * @param sessionFactory the session factory.
@@ -248,6 +272,68 @@ public class RemoteFileTemplate<F> implements RemoteFileOperations<F>, Initializ
 		this.temporaryFileSuffix = temporaryFileSuffix;
 	}
 
+	/**
+	 * Set the number of sessions to transfer a large file over concurrently.
+	 * When greater than {@code 1}, files not smaller than the
+	 * {@link #setSegmentedTransferThreshold(long) segmentedTransferThreshold} are split
+	 * into this number of disjoint byte ranges, which are transferred concurrently:
+	 * the first one over the current session and the rest over sessions
+	 * obtained from the {@link SessionFactory}.
+	 * Requires a {@link Session} implementation supporting ranged reads
+	 * ({@link Session#read(String, long, long, OutputStream)}) for downloads and
+	 * positional writes ({@link Session#write(InputStream, String, long)}) for uploads;
+	 * otherwise, the file is transferred over a single session as usual.
+	 * Only {@link java.io.File} payloads are uploaded in segments; appending is always
+	 * done over a single session.
+	 * The segment sessions are obtained while the current session is held, so with a
+	 * {@link CachingSessionFactory} the number of segments is capped at its pool size to not wait
+	 * for a session which is never released; concurrent segmented transfers may still exhaust
+	 * the pool and wait for each other, so configure the pool size with a margin for them,
+	 * or a {@link CachingSessionFactory#setSessionWaitTimeout(long) session wait timeout}.
+	 * Defaults to {@code 1} - no segmented transfer.
+	 * @param segmentedTransferConcurrency the number of sessions for a segmented transfer.
+	 * @since 7.2
+	 */
+	public void setSegmentedTransferConcurrency(int segmentedTransferConcurrency) {
+		Assert.isTrue(segmentedTransferConcurrency > 0, "'segmentedTransferConcurrency' must be greater than 0");
+		this.segmentedTransferConcurrency = segmentedTransferConcurrency;
+	}
+
+	/**
+	 * Set the minimum file size for a segmented transfer.
+	 * Defaults to {@link #DEFAULT_SEGMENTED_TRANSFER_THRESHOLD}.
+	 * @param segmentedTransferThreshold the minimum file size in bytes.
+	 * @since 7.2
+	 * @see #setSegmentedTransferConcurrency(int)
+	 */
+	public void setSegmentedTransferThreshold(long segmentedTransferThreshold) {
+		Assert.isTrue(segmentedTransferThreshold > 0, "'segmentedTransferThreshold' must be greater than 0");
+		this.segmentedTransferThreshold = segmentedTransferThreshold;
+	}
+
+	/**
+	 * Set a {@link TaskExecutor} to transfer file segments on.
+	 * Defaults to a {@link SimpleAsyncTaskExecutor}.
+	 * @param segmentedTransferTaskExecutor the {@link TaskExecutor} to use.
+	 * @since 7.2
+	 * @see #setSegmentedTransferConcurrency(int)
+	 */
+	public void setSegmentedTransferTaskExecutor(TaskExecutor segmentedTransferTaskExecutor) {
+		Assert.notNull(segmentedTransferTaskExecutor, "'segmentedTransferTaskExecutor' must not be null");
+		this.segmentedTransferTaskExecutor = segmentedTransferTaskExecutor;
+	}
+
+	/**
+	 * Check if a file of the provided size is going to be transferred in segments.
+	 * @param fileSize the size of the file to transfer.
+	 * @return true if the file is going to be transferred in segments.
+	 * @since 7.2
+	 * @see #setSegmentedTransferConcurrency(int)
+	 */
+	public boolean isSegmentedTransfer(long fileSize) {
+		return this.segmentedTransferConcurrency > 1 && fileSize >= this.segmentedTransferThreshold;
+	}
+
 	@Override
 	public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
 		this.beanFactory = beanFactory;
@@ -348,7 +434,7 @@ public class RemoteFileTemplate<F> implements RemoteFileOperations<F>, Initializ
 				temporaryRemoteDirectory = this.temporaryDirectoryExpressionProcessor.processMessage(message);
 			}
 			fileName = this.fileNameGenerator.generateFileName(message);
-			sendFileToRemoteDirectory(inputStreamHolder.stream, temporaryRemoteDirectory, remoteDirectory, fileName,
+			sendFileToRemoteDirectory(inputStreamHolder, temporaryRemoteDirectory, remoteDirectory, fileName,
 					session, mode);
 			return remoteDirectory + fileName;
 		}
@@ -416,6 +502,94 @@ public class RemoteFileTemplate<F> implements RemoteFileOperations<F>, Initializ
 		return Boolean.TRUE.equals(result);
 	}
 
+	/**
+	 * Copy a remote file into the local file by reading disjoint byte ranges
+	 * concurrently: the first range over the provided session, the rest over sessions
+	 * obtained from the {@link SessionFactory}.
+	 * Each range is written into its position of the local file via a {@link FileChannel}.
+	 * Falls back to a regular single stream read if the session does not
+	 * {@link Session#supportsRangedRead() support ranged reads}.
+	 * @param remotePath the remote file path.
+	 * @param fileSize the size of the remote file.
+	 * @param localFile the local file to write into; truncated if it exists.
+	 * @param session the session to read the first range over.
+	 * @throws IOException any IO exception.
+	 * @since 7.2
+	 * @see #setSegmentedTransferConcurrency(int)
+	 */
+	public void readSegmented(String remotePath, long fileSize, File localFile, Session<F> session)
+			throws IOException {
+
+		if (!session.supportsRangedRead()) {
+			try (OutputStream outputStream = Files.newOutputStream(localFile.toPath())) {
+				session.read(remotePath, outputStream);
+			}
+			return;
+		}
+
+		try (FileChannel channel = FileChannel.open(localFile.toPath(), StandardOpenOption.CREATE,
+				StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+
+			transferSegments(fileSize, session, (segmentSession, offset, length) ->
+					segmentSession.read(remotePath, offset, length, new FileChannelOutputStream(channel, offset)));
+		}
+	}
+
+	private void writeSegmented(File localFile, String remotePath, Session<F> session) throws IOException {
+		// Create (or truncate) the remote file before concurrent positional writes
+		session.write(InputStream.nullInputStream(), remotePath);
+		try (FileChannel channel = FileChannel.open(localFile.toPath(), StandardOpenOption.READ)) {
+			transferSegments(channel.size(), session, (segmentSession, offset, length) ->
+					segmentSession.write(new FileChannelInputStream(channel, offset, length), remotePath, offset));
+		}
+	}
+
+	private void transferSegments(long fileSize, Session<F> session, SegmentTransfer<F> segmentTransfer)
+			throws IOException {
+
+		TaskExecutor executor = this.segmentedTransferTaskExecutor;
+		int segments = this.segmentedTransferConcurrency;
+		if (this.sessionFactory instanceof CachingSessionFactory<F> cachingSessionFactory) {
+			// The current session is held while the rest are obtained from the same pool
+			segments = Math.min(segments, cachingSessionFactory.getPoolSize());
+		}
+		long segmentSize = (fileSize + segments - 1) / segments;
+		List<CompletableFuture<Void>> transfers = new ArrayList<>(segments - 1);
+		for (long offset = segmentSize; offset < fileSize; offset += segmentSize) {
+			long segmentOffset = offset;
+			long length = Math.min(segmentSize, fileSize - offset);
+			transfers.add(CompletableFuture.runAsync(() ->
+							execute((SessionCallbackWithoutResult<F>) segmentSession ->
+									segmentTransfer.transfer(segmentSession, segmentOffset, length)),
+					executor));
+		}
+
+		IOException failure = null;
+		try {
+			segmentTransfer.transfer(session, 0, Math.min(segmentSize, fileSize));
+		}
+		catch (IOException ex) {
+			failure = ex;
+		}
+		for (CompletableFuture<Void> transfer : transfers) {
+			try {
+				transfer.join();
+			}
+			catch (CompletionException ex) {
+				Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+				if (failure == null) {
+					failure = new IOException("Failed to transfer a file segment", cause);
+				}
+				else {
+					failure.addSuppressed(cause);
+				}
+			}
+		}
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
 	@Override
 	@SuppressWarnings("NullAway") // The 'session.list' never returns null.
 	public F[] list(@Nullable String path) {
@@ -521,7 +695,8 @@ public class RemoteFileTemplate<F> implements RemoteFileOperations<F>, Initializ
 			if (payload instanceof File inputFile) {
 				if (inputFile.exists()) {
 					return new StreamHolder(
-							new BufferedInputStream(new FileInputStream(inputFile)), inputFile.getAbsolutePath());
+							new BufferedInputStream(new FileInputStream(inputFile)), inputFile.getAbsolutePath(),
+							inputFile);
 				}
 			}
 			else if (payload instanceof byte[] || payload instanceof String) {
@@ -535,14 +710,15 @@ public class RemoteFileTemplate<F> implements RemoteFileOperations<F>, Initializ
 					bytes = (byte[]) payload;
 					name = "byte[] payload";
 				}
-				return new StreamHolder(new ByteArrayInputStream(bytes), name);
+				return new StreamHolder(new ByteArrayInputStream(bytes), name, null);
 			}
 			else if (payload instanceof InputStream) {
-				return new StreamHolder((InputStream) payload, "InputStream payload");
+				return new StreamHolder((InputStream) payload, "InputStream payload", null);
 			}
 			else if (payload instanceof Resource resource) {
 				String filename = resource.getFilename();
-				return new StreamHolder(resource.getInputStream(), filename != null ? filename : "Resource payload");
+				return new StreamHolder(resource.getInputStream(), filename != null ? filename : "Resource payload",
+						null);
 			}
 			else {
 				throw new IllegalArgumentException("Unsupported payload type ["
@@ -557,8 +733,9 @@ public class RemoteFileTemplate<F> implements RemoteFileOperations<F>, Initializ
 		return null;
 	}
 
-	private void sendFileToRemoteDirectory(InputStream inputStream, @Nullable String temporaryRemoteDirectoryArg,
-			String remoteDirectoryArg, String fileName, Session<F> session, FileExistsMode mode) throws IOException {
+	private void sendFileToRemoteDirectory(StreamHolder inputStreamHolder,
+			@Nullable String temporaryRemoteDirectoryArg, String remoteDirectoryArg, String fileName,
+			Session<F> session, FileExistsMode mode) throws IOException {
 
 		String remoteDirectory = normalizeDirectoryPath(remoteDirectoryArg);
 		String temporaryRemoteDirectory = normalizeDirectoryPath(temporaryRemoteDirectoryArg);
@@ -588,8 +765,8 @@ public class RemoteFileTemplate<F> implements RemoteFileOperations<F>, Initializ
 			}
 		}
 
-		try (InputStream stream = inputStream) {
-			doSend(session, mode, remoteFilePath, tempFilePath, stream);
+		try (InputStream stream = inputStreamHolder.stream) {
+			doSend(session, mode, remoteFilePath, tempFilePath, stream, inputStreamHolder.file);
 		}
 		catch (Exception e) {
 			throw new MessagingException("Failed to write to '" + tempFilePath + "' while uploading the file", e);
@@ -597,11 +774,11 @@ public class RemoteFileTemplate<F> implements RemoteFileOperations<F>, Initializ
 	}
 
 	private void doSend(Session<F> session, FileExistsMode mode, String remoteFilePath, String tempFilePath,
-			InputStream stream) throws IOException {
+			InputStream stream, @Nullable File localFile) throws IOException {
 
 		boolean rename = this.useTemporaryFileName;
 		if (FileExistsMode.REPLACE.equals(mode)) {
-			session.write(stream, tempFilePath);
+			write(session, stream, tempFilePath, localFile);
 		}
 		else if (FileExistsMode.APPEND.equals(mode)) {
 			session.append(stream, tempFilePath);
@@ -620,7 +797,7 @@ public class RemoteFileTemplate<F> implements RemoteFileOperations<F>, Initializ
 				rename = false;
 			}
 			else {
-				session.write(stream, tempFilePath);
+				write(session, stream, tempFilePath, localFile);
 			}
 		}
 		// then rename it to its final name if necessary
@@ -629,6 +806,17 @@ public class RemoteFileTemplate<F> implements RemoteFileOperations<F>, Initializ
 		}
 	}
 
+	private void write(Session<F> session, InputStream stream, String remotePath, @Nullable File localFile)
+			throws IOException {
+
+		if (localFile != null && session.supportsPositionalWrite() && isSegmentedTransfer(localFile.length())) {
+			writeSegmented(localFile, remotePath, session);
+		}
+		else {
+			session.write(stream, remotePath);
+		}
+	}
+
 	private String normalizeDirectoryPath(@Nullable String directoryPath) {
 		if (!StringUtils.hasText(directoryPath)) {
 			return "";
@@ -641,7 +829,82 @@ public class RemoteFileTemplate<F> implements RemoteFileOperations<F>, Initializ
 		}
 	}
 
-	private record StreamHolder(InputStream stream, String name) {
+	private record StreamHolder(InputStream stream, String name, @Nullable File file) {
+
+	}
+
+	@FunctionalInterface
+	private interface SegmentTransfer<F> {
+
+		void transfer(Session<F> session, long offset, long length) throws IOException;
+
+	}
+
+	/**
+	 * An {@link OutputStream} performing positional writes into a shared {@link FileChannel}.
+	 */
+	private static final class FileChannelOutputStream extends OutputStream {
+
+		private final FileChannel channel;
+
+		private long position;
+
+		FileChannelOutputStream(FileChannel channel, long position) {
+			this.channel = channel;
+			this.position = position;
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			write(new byte[] {(byte) b}, 0, 1);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			ByteBuffer buffer = ByteBuffer.wrap(b, off, len);
+			while (buffer.hasRemaining()) {
+				this.position += this.channel.write(buffer, this.position);
+			}
+		}
+
+	}
+
+	/**
+	 * An {@link InputStream} performing positional reads of a range from a shared {@link FileChannel}.
+	 */
+	private static final class FileChannelInputStream extends InputStream {
+
+		private final FileChannel channel;
+
+		private long position;
+
+		private long remaining;
+
+		FileChannelInputStream(FileChannel channel, long position, long length) {
+			this.channel = channel;
+			this.position = position;
+			this.remaining = length;
+		}
+
+		@Override
+		public int read() throws IOException {
+			byte[] b = new byte[1];
+			return read(b, 0, 1) < 0 ? -1 : b[0] & 0xFF;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			if (this.remaining <= 0) {
+				return -1;
+			}
+			ByteBuffer buffer = ByteBuffer.wrap(b, off, (int) Math.min(len, this.remaining));
+			int read = this.channel.read(buffer, this.position);
+			if (read > 0) {
+				this.position += read;
+				this.remaining -= read;
+			}
+			return read;
+		}
 
 	}
 
@@ -405,6 +405,29 @@ public abstract class AbstractRemoteFileOutboundGateway<F> extends AbstractReply
 		this.remoteFileTemplate.setUseTemporaryFileName(useTemporaryFileName);
 	}
 
+	/**
+	 * Set the number of sessions to transfer a large file over concurrently
+	 * for {@code get}, {@code mget}, {@code put} and {@code mput} commands.
+	 * @param segmentedTransferConcurrency the number of sessions for a segmented transfer.
+	 * @since 7.2
+	 * @see RemoteFileTemplate#setSegmentedTransferConcurrency(int)
+	 */
+	public void setSegmentedTransferConcurrency(int segmentedTransferConcurrency) {
+		assertRemoteFileTemplateMutability("segmentedTransferConcurrency");
+		this.remoteFileTemplate.setSegmentedTransferConcurrency(segmentedTransferConcurrency);
+	}
+
+	/**
+	 * Set the minimum file size for a segmented transfer.
+	 * @param segmentedTransferThreshold the minimum file size in bytes.
+	 * @since 7.2
+	 * @see RemoteFileTemplate#setSegmentedTransferThreshold(long)
+	 */
+	public void setSegmentedTransferThreshold(long segmentedTransferThreshold) {
+		assertRemoteFileTemplateMutability("segmentedTransferThreshold");
+		this.remoteFileTemplate.setSegmentedTransferThreshold(segmentedTransferThreshold);
+	}
+
 	/**
 	 * Set the file name generator used to generate the remote filename to be used when transferring
 	 * files to the remote system.
@@ -1194,7 +1217,16 @@ public abstract class AbstractRemoteFileOutboundGateway<F> extends AbstractReply
 				this.logger.warn(() -> "Failed to delete " + localFile);
 			}
 			try {
-				session.read(remoteFilePath, outputStream);
+				long fileSize = asFileInfoList(Collections.singletonList(fileInfo)).get(0).getSize();
+				if (!appending && session.supportsRangedRead()
+						&& this.remoteFileTemplate.isSegmentedTransfer(fileSize)) {
+
+					outputStream.close();
+					this.remoteFileTemplate.readSegmented(remoteFilePath, fileSize, tempFile, session);
+				}
+				else {
+					session.read(remoteFilePath, outputStream);
+				}
 			}
 			catch (Exception ex) {
 				/* Some operational systems acquire exclusive file-lock during file processing
@@ -140,6 +140,26 @@ public class FileTransferringMessageHandler<F> extends AbstractMessageHandler {
 		this.remoteFileTemplate.setUseTemporaryFileName(useTemporaryFileName);
 	}
 
+	/**
+	 * Set the number of sessions to upload a large {@link java.io.File} payload over concurrently.
+	 * @param segmentedTransferConcurrency the number of sessions for a segmented transfer.
+	 * @since 7.2
+	 * @see RemoteFileTemplate#setSegmentedTransferConcurrency(int)
+	 */
+	public void setSegmentedTransferConcurrency(int segmentedTransferConcurrency) {
+		this.remoteFileTemplate.setSegmentedTransferConcurrency(segmentedTransferConcurrency);
+	}
+
+	/**
+	 * Set the minimum file size for a segmented upload.
+	 * @param segmentedTransferThreshold the minimum file size in bytes.
+	 * @since 7.2
+	 * @see RemoteFileTemplate#setSegmentedTransferThreshold(long)
+	 */
+	public void setSegmentedTransferThreshold(long segmentedTransferThreshold) {
+		this.remoteFileTemplate.setSegmentedTransferThreshold(segmentedTransferThreshold);
+	}
+
 	/**
 	 * Set the file name generator used to generate the remote filename to be used when
 	 * transferring files to the remote system. Default
@@ -19,6 +19,14 @@ package org.springframework.integration.file.remote.session;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -26,8 +34,17 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.jspecify.annotations.Nullable;
 
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.BeanNameAware;
 import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.integration.context.IntegrationContextUtils;
+import org.springframework.integration.support.management.metrics.MeterFacade;
+import org.springframework.integration.support.management.metrics.MetricsCaptor;
+import org.springframework.integration.support.management.metrics.TimerFacade;
 import org.springframework.integration.util.SimplePool;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.util.Assert;
 
 /**
@@ -47,10 +64,13 @@ import org.springframework.util.Assert;
  *
  * @since 2.0
  */
-public class CachingSessionFactory<F> implements SessionFactory<F>, DisposableBean {
+public class CachingSessionFactory<F>
+		implements SessionFactory<F>, BeanNameAware, BeanFactoryAware, InitializingBean, DisposableBean {
 
 	private static final Log LOGGER = LogFactory.getLog(CachingSessionFactory.class);
 
+	private static final String METER_PREFIX = "spring.integration.sessions.";
+
 	private final Lock lock = new ReentrantLock();
 
 	private final SessionFactory<F> sessionFactory;
@@ -59,10 +79,34 @@ public class CachingSessionFactory<F> implements SessionFactory<F>, DisposableBe
 
 	private final boolean isSharedSessionCapable;
 
+	private final Map<Session<F>, Long> idleSince = new ConcurrentHashMap<>();
+
+	private final List<MeterFacade> meters = new ArrayList<>();
+
 	private boolean testSession;
 
 	private volatile long sharedSessionEpoch;
 
+	private String beanName = "cachingSessionFactory";
+
+	private @Nullable BeanFactory beanFactory;
+
+	private @Nullable TaskScheduler taskScheduler;
+
+	private @Nullable Duration idleValidationInterval;
+
+	private @Nullable Duration maxIdleTime;
+
+	private int minIdle;
+
+	private @Nullable ScheduledFuture<?> idleValidationTask;
+
+	private @Nullable MetricsCaptor metricsCaptor;
+
+	private @Nullable TimerFacade acquireTimer;
+
+	private @Nullable TimerFacade roundTripTimer;
+
 	/**
 	 * Create a CachingSessionFactory with an unlimited number of sessions.
 	 * @param sessionFactory the underlying session factory.
@@ -90,16 +134,19 @@ public class CachingSessionFactory<F> implements SessionFactory<F>, DisposableBe
 
 					@Override
 					public Session<F> createForPool() {
-						return CachingSessionFactory.this.sessionFactory.getSession();
+						Session<F> session = CachingSessionFactory.this.sessionFactory.getSession();
+						CachingSessionFactory.this.idleSince.put(session, System.currentTimeMillis());
+						return session;
 					}
 
 					@Override
 					public boolean isStale(Session<F> session) {
-						return CachingSessionFactory.this.testSession ? !session.test() : !session.isOpen();
+						return CachingSessionFactory.this.testSession ? !testSession(session) : !session.isOpen();
 					}
 
 					@Override
 					public void removedFromPool(Session<F> session) {
+						CachingSessionFactory.this.idleSince.remove(session);
 						session.close();
 					}
 
@@ -125,6 +172,16 @@ public class CachingSessionFactory<F> implements SessionFactory<F>, DisposableBe
 		this.pool.setPoolSize(poolSize);
 	}
 
+	/**
+	 * Return the current size (limit) of the session pool.
+	 * @return the pool size; {@link Integer#MAX_VALUE} for an unlimited pool.
+	 * @since 7.2
+	 * @see #setPoolSize(int)
+	 */
+	public int getPoolSize() {
+		return this.pool.getPoolSize();
+	}
+
 	/**
 	 * Set to true to test the session when checking one out from the cache.
 	 * @param testSession true to test.
@@ -134,12 +191,177 @@ public class CachingSessionFactory<F> implements SessionFactory<F>, DisposableBe
 		this.testSession = testSession;
 	}
 
+	/**
+	 * Set an interval to check idle sessions in the background.
+	 * On each check, sessions idle for longer than {@link #setMaxIdleTime(Duration) maxIdleTime}
+	 * are closed, the rest of idle sessions are validated with the {@link Session#test()},
+	 * and new sessions are created, if necessary, to keep {@link #setMinIdle(int) minIdle}
+	 * sessions in the cache.
+	 * Idle sessions are checked only if the pool is not exhausted.
+	 * Requires this factory to be initialized as a bean (or via {@link #afterPropertiesSet()}).
+	 * @param idleValidationInterval the interval between checks.
+	 * @since 7.2
+	 * @see #setTaskScheduler(TaskScheduler)
+	 */
+	public void setIdleValidationInterval(Duration idleValidationInterval) {
+		Assert.isTrue(!idleValidationInterval.isNegative() && !idleValidationInterval.isZero(),
+				"'idleValidationInterval' must be positive");
+		this.idleValidationInterval = idleValidationInterval;
+	}
+
+	/**
+	 * Set the maximum time for a session to stay idle in the cache before
+	 * it is closed on the next {@link #setIdleValidationInterval(Duration) idle sessions check}.
+	 * @param maxIdleTime the maximum idle time.
+	 * @since 7.2
+	 */
+	public void setMaxIdleTime(Duration maxIdleTime) {
+		this.maxIdleTime = maxIdleTime;
+	}
+
+	/**
+	 * Set the minimum number of idle sessions to keep in the cache.
+	 * The cache is pre-warmed with this number of sessions when this factory is initialized,
+	 * and topped up on each {@link #setIdleValidationInterval(Duration) idle sessions check}.
+	 * The pool size limit is never exceeded.
+	 * @param minIdle the minimum number of idle sessions.
+	 * @since 7.2
+	 */
+	public void setMinIdle(int minIdle) {
+		Assert.isTrue(minIdle >= 0, "'minIdle' must not be negative");
+		this.minIdle = minIdle;
+	}
+
+	/**
+	 * Set a {@link TaskScheduler} for the idle sessions check.
+	 * Defaults to the {@code taskScheduler} bean from the application context.
+	 * @param taskScheduler the {@link TaskScheduler} to use.
+	 * @since 7.2
+	 * @see #setIdleValidationInterval(Duration)
+	 */
+	public void setTaskScheduler(TaskScheduler taskScheduler) {
+		this.taskScheduler = taskScheduler;
+	}
+
+	/**
+	 * Set a {@link MetricsCaptor} to expose the session pool meters:
+	 * the session acquisition time ({@code spring.integration.sessions.acquire}),
+	 * the round trip time of {@link Session#test()} calls ({@code spring.integration.sessions.roundtrip}),
+	 * and the gauges for active, idle and allocated sessions
+	 * ({@code spring.integration.sessions.active}, {@code .idle}, {@code .allocated}).
+	 * All the meters are tagged with the bean name of this factory.
+	 * The meters are registered when this factory is initialized as a bean
+	 * (or via {@link #afterPropertiesSet()}).
+	 * @param metricsCaptor the {@link MetricsCaptor} to use.
+	 * @since 7.2
+	 */
+	public void setMetricsCaptor(MetricsCaptor metricsCaptor) {
+		this.metricsCaptor = metricsCaptor;
+	}
+
+	private void buildMeters(MetricsCaptor metricsCaptor) {
+		this.acquireTimer = addMeter(metricsCaptor.timerBuilder(METER_PREFIX + "acquire")
+				.tag("name", this.beanName)
+				.description("Session acquisition time")
+				.build());
+		this.roundTripTimer = addMeter(metricsCaptor.timerBuilder(METER_PREFIX + "roundtrip")
+				.tag("name", this.beanName)
+				.description("Session test round trip time")
+				.build());
+		addMeter(metricsCaptor.gaugeBuilder(METER_PREFIX + "active", this, (factory) -> getActiveCount())
+				.tag("name", this.beanName)
+				.description("The number of sessions in use")
+				.build());
+		addMeter(metricsCaptor.gaugeBuilder(METER_PREFIX + "idle", this, (factory) -> getIdleCount())
+				.tag("name", this.beanName)
+				.description("The number of idle sessions in the cache")
+				.build());
+		addMeter(metricsCaptor.gaugeBuilder(METER_PREFIX + "allocated", this, (factory) -> getAllocatedCount())
+				.tag("name", this.beanName)
+				.description("The number of allocated (in use and idle) sessions")
+				.build());
+	}
+
+	private <M extends MeterFacade> M addMeter(M meter) {
+		this.meters.add(meter);
+		return meter;
+	}
+
+	@Override
+	public void setBeanName(String name) {
+		this.beanName = name;
+	}
+
+	@Override
+	public void setBeanFactory(BeanFactory beanFactory) {
+		this.beanFactory = beanFactory;
+	}
+
+	/**
+	 * Return the number of sessions currently checked out from the cache.
+	 * @return the number of sessions in use.
+	 * @since 7.2
+	 */
+	public int getActiveCount() {
+		return this.pool.getActiveCount();
+	}
+
+	/**
+	 * Return the number of idle sessions in the cache.
+	 * @return the number of idle sessions.
+	 * @since 7.2
+	 */
+	public int getIdleCount() {
+		return this.pool.getIdleCount();
+	}
+
+	/**
+	 * Return the number of allocated (in use and idle) sessions.
+	 * @return the number of allocated sessions.
+	 * @since 7.2
+	 */
+	public int getAllocatedCount() {
+		return this.pool.getAllocatedCount();
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+		if (this.metricsCaptor != null) {
+			buildMeters(this.metricsCaptor);
+		}
+		if (this.minIdle > 0) {
+			try {
+				this.pool.fillIdleItems(this.minIdle);
+			}
+			catch (Exception ex) {
+				LOGGER.warn("Failed to pre-warm the session cache", ex);
+			}
+		}
+		if (this.idleValidationInterval != null) {
+			TaskScheduler scheduler = this.taskScheduler;
+			if (scheduler == null) {
+				Assert.state(this.beanFactory != null,
+						"A 'taskScheduler' or 'beanFactory' is required for idle sessions validation");
+				scheduler = IntegrationContextUtils.getTaskScheduler(this.beanFactory);
+			}
+			this.idleValidationTask =
+					scheduler.scheduleWithFixedDelay(this::validateIdleSessions,
+							Instant.now().plus(this.idleValidationInterval), this.idleValidationInterval);
+		}
+	}
+
 	/**
 	 * Get a session from the pool (or block if none available).
 	 */
 	@Override
 	public Session<F> getSession() {
-		return new CachedSession(this.pool.getItem(), this.sharedSessionEpoch);
+		long start = System.nanoTime();
+		Session<F> session = this.pool.getItem();
+		if (this.acquireTimer != null) {
+			this.acquireTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+		this.idleSince.remove(session);
+		return new CachedSession(session, this.sharedSessionEpoch);
 	}
 
 	/**
@@ -147,9 +369,48 @@ public class CachingSessionFactory<F> implements SessionFactory<F>, DisposableBe
 	 */
 	@Override
 	public void destroy() {
+		if (this.idleValidationTask != null) {
+			this.idleValidationTask.cancel(true);
+			this.idleValidationTask = null;
+		}
+		this.meters.forEach(MeterFacade::remove);
+		this.meters.clear();
 		this.pool.close();
 	}
 
+	private void validateIdleSessions() {
+		try {
+			long now = System.currentTimeMillis();
+			int evicted = this.pool.evictIdleItems((session) -> isIdleExpired(session, now) || !testSession(session));
+			if (evicted > 0 && LOGGER.isDebugEnabled()) {
+				LOGGER.debug(evicted + " idle sessions have been removed from the cache");
+			}
+			if (this.minIdle > 0) {
+				this.pool.fillIdleItems(this.minIdle);
+			}
+		}
+		catch (Exception ex) {
+			LOGGER.warn("Failed to validate idle sessions", ex);
+		}
+	}
+
+	private boolean isIdleExpired(Session<F> session, long now) {
+		Long releaseTime = this.idleSince.get(session);
+		return this.maxIdleTime != null && releaseTime != null && now - releaseTime > this.maxIdleTime.toMillis();
+	}
+
+	private boolean testSession(Session<F> session) {
+		long start = System.nanoTime();
+		try {
+			return session.test();
+		}
+		finally {
+			if (this.roundTripTimer != null) {
+				this.roundTripTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+			}
+		}
+	}
+
 	/**
 	 * Clear the cache of sessions; also any in-use sessions will be closed when
 	 * returned to the cache.
@@ -230,6 +491,7 @@ public class CachingSessionFactory<F> implements SessionFactory<F>, DisposableBe
 							// No-op in this context
 						}
 					}
+					CachingSessionFactory.this.idleSince.put(this.targetSession, System.currentTimeMillis());
 					CachingSessionFactory.this.pool.releaseItem(this.targetSession);
 					this.released = true;
 				}
@@ -254,11 +516,31 @@ public class CachingSessionFactory<F> implements SessionFactory<F>, DisposableBe
 			this.targetSession.read(source, os);
 		}
 
+		@Override
+		public boolean supportsRangedRead() {
+			return this.targetSession.supportsRangedRead();
+		}
+
+		@Override
+		public void read(String source, long offset, long length, OutputStream outputStream) throws IOException {
+			this.targetSession.read(source, offset, length, outputStream);
+		}
+
 		@Override
 		public void write(InputStream inputStream, String destination) throws IOException {
 			this.targetSession.write(inputStream, destination);
 		}
 
+		@Override
+		public boolean supportsPositionalWrite() {
+			return this.targetSession.supportsPositionalWrite();
+		}
+
+		@Override
+		public void write(InputStream inputStream, String destination, long offset) throws IOException {
+			this.targetSession.write(inputStream, destination, offset);
+		}
+
 		@Override
 		public void append(InputStream inputStream, String destination) throws IOException {
 			this.targetSession.append(inputStream, destination);
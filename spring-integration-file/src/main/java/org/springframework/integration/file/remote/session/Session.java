@@ -46,8 +46,54 @@ public interface Session<F> extends Closeable {
 
 	void read(String source, OutputStream outputStream) throws IOException;
 
+	/**
+	 * Check if this session supports {@link #read(String, long, long, OutputStream) ranged reads}.
+	 * @return true if ranged reads are supported; false by default.
+	 * @since 7.2
+	 */
+	default boolean supportsRangedRead() {
+		return false;
+	}
+
+	/**
+	 * Read a range of bytes from the remote file.
+	 * Not supported by default.
+	 * Must fail with an {@link IOException} if fewer than {@code length} bytes are read.
+	 * @param source the path of the remote file.
+	 * @param offset the position in the remote file to start reading from.
+	 * @param length the number of bytes to read.
+	 * @param outputStream the stream to write the bytes into.
+	 * @throws IOException an IO exception.
+	 * @since 7.2
+	 */
+	default void read(String source, long offset, long length, OutputStream outputStream) throws IOException {
+		throw new UnsupportedOperationException("Ranged read is not supported by " + getClass().getName());
+	}
+
 	void write(InputStream inputStream, String destination) throws IOException;
 
+	/**
+	 * Check if this session supports {@link #write(InputStream, String, long) positional writes}.
+	 * @return true if positional writes are supported; false by default.
+	 * @since 7.2
+	 */
+	default boolean supportsPositionalWrite() {
+		return false;
+	}
+
+	/**
+	 * Write the content of the stream into the existing remote file starting at the provided position.
+	 * Not supported by default.
+	 * @param inputStream the stream.
+	 * @param destination the path of the remote file.
+	 * @param offset the position in the remote file to start writing at.
+	 * @throws IOException an IO exception.
+	 * @since 7.2
+	 */
+	default void write(InputStream inputStream, String destination, long offset) throws IOException {
+		throw new UnsupportedOperationException("Positional write is not supported by " + getClass().getName());
+	}
+
 	/**
 	 * Append to a file.
 	 * @param inputStream the stream.
@@ -33,6 +33,11 @@ import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Lock;
 import java.util.regex.Matcher;
 
@@ -45,6 +50,8 @@ import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.BeanFactoryAware;
 import org.springframework.beans.factory.BeanNameAware;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.Expression;
 import org.springframework.expression.ExpressionParser;
@@ -55,6 +62,7 @@ import org.springframework.integration.file.filters.FileListFilter;
 import org.springframework.integration.file.filters.ResettableFileListFilter;
 import org.springframework.integration.file.filters.ReversibleFileListFilter;
 import org.springframework.integration.file.remote.RemoteFileTemplate;
+import org.springframework.integration.file.remote.SessionCallbackWithoutResult;
 import org.springframework.integration.file.remote.session.Session;
 import org.springframework.integration.file.remote.session.SessionFactory;
 import org.springframework.integration.file.support.FileUtils;
@@ -157,6 +165,10 @@ public abstract class AbstractInboundFileSynchronizer<F>
 	@SuppressWarnings("NullAway.Init")
 	private String name;
 
+	private int transferConcurrency = 1;
+
+	private @Nullable TaskExecutor taskExecutor;
+
 	/**
 	 * Create a synchronizer with the {@link SessionFactory} used to acquire {@link Session} instances.
 	 * @param sessionFactory The session factory.
@@ -298,6 +310,37 @@ public abstract class AbstractInboundFileSynchronizer<F>
 		this.metadataStorePrefix = metadataStorePrefix;
 	}
 
+	/**
+	 * Set the number of sessions to transfer remote files concurrently.
+	 * The remote directory is listed and filtered on a single session as usual,
+	 * then the files to transfer (limited by the {@code maxFetchSize}, if any) are
+	 * distributed across this number of sessions: the one used for listing,
+	 * plus sessions obtained from the {@link SessionFactory} on the
+	 * {@link #setTaskExecutor(TaskExecutor) task executor} threads.
+	 * Makes sense mostly with a
+	 * {@link org.springframework.integration.file.remote.session.CachingSessionFactory}
+	 * with a pool size not less than this value.
+	 * Defaults to {@code 1} - all the files are transferred sequentially over one session.
+	 * @param transferConcurrency the number of sessions to transfer files over.
+	 * @since 7.2
+	 */
+	public void setTransferConcurrency(int transferConcurrency) {
+		Assert.isTrue(transferConcurrency > 0, "'transferConcurrency' must be greater than 0");
+		this.transferConcurrency = transferConcurrency;
+	}
+
+	/**
+	 * Set a {@link TaskExecutor} for concurrent file transfers.
+	 * Defaults to a {@link SimpleAsyncTaskExecutor}.
+	 * Ignored if {@link #setTransferConcurrency(int)} is {@code 1}.
+	 * @param taskExecutor the {@link TaskExecutor} to use.
+	 * @since 7.2
+	 */
+	public void setTaskExecutor(TaskExecutor taskExecutor) {
+		Assert.notNull(taskExecutor, "'taskExecutor' must not be null");
+		this.taskExecutor = taskExecutor;
+	}
+
 	@Override
 	public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
 		this.beanFactory = beanFactory;
@@ -410,36 +453,52 @@ public abstract class AbstractInboundFileSynchronizer<F>
 
 			int copied = 0;
 
-			for (int i = 0; i < sliceToTransfer.size(); i++) {
-				F file = sliceToTransfer.get(i);
-				boolean transferred = false;
+			if (this.transferConcurrency > 1 && sliceToTransfer.size() > 1) {
 				try {
-					if (transferFile(remoteDirectory, localDirectory, session, file)) {
-						copied++;
-					}
+					copied = transferFilesConcurrently(remoteDirectory, localDirectory, session, sliceToTransfer,
+							remoteFiles);
 				}
 				catch (RuntimeException | IOException ex) {
-					// The filtering has happened before transfer, so if it fails,
-					// all the following files have to be rest from the filter.
-					if (this.filter != null && this.filter.supportsSingleFileFiltering()) {
-						for (int j = i; j < remoteFiles.size(); j++) {
-							F fileToReset = remoteFiles.get(j);
-							resetFilterIfNecessary(fileToReset);
-						}
-					}
-					else {
-						rollbackFromFileToListEnd(remoteFiles, file);
-					}
-
 					if (maxFetchSize > 0) {
 						// When trasfer fails, reset the cache as well
 						// for a fresh session.list on the next synchronization.
 						this.fetchCache.remove(remoteDirectoryKey);
 					}
-
 					throw ex;
 				}
 			}
+			else {
+				for (int i = 0; i < sliceToTransfer.size(); i++) {
+					F file = sliceToTransfer.get(i);
+					boolean transferred = false;
+					try {
+						if (transferFile(remoteDirectory, localDirectory, session, file)) {
+							copied++;
+						}
+					}
+					catch (RuntimeException | IOException ex) {
+						// The filtering has happened before transfer, so if it fails,
+						// all the following files have to be rest from the filter.
+						if (this.filter != null && this.filter.supportsSingleFileFiltering()) {
+							for (int j = i; j < remoteFiles.size(); j++) {
+								F fileToReset = remoteFiles.get(j);
+								resetFilterIfNecessary(fileToReset);
+							}
+						}
+						else {
+							rollbackFromFileToListEnd(remoteFiles, file);
+						}
+
+						if (maxFetchSize > 0) {
+							// When trasfer fails, reset the cache as well
+							// for a fresh session.list on the next synchronization.
+							this.fetchCache.remove(remoteDirectoryKey);
+						}
+
+						throw ex;
+					}
+				}
+			}
 
 			if (maxFetchSize > 0) {
 				if (!CollectionUtils.isEmpty(remoteFilesToCache)) {
@@ -459,6 +518,112 @@ public abstract class AbstractInboundFileSynchronizer<F>
 		}
 	}
 
+	private int transferFilesConcurrently(@Nullable String remoteDirectory, File localDirectory,
+			Session<F> listingSession, List<F> filesToTransfer, List<F> remoteFiles) throws IOException {
+
+		TaskExecutor executor = this.taskExecutor;
+		if (executor == null) {
+			executor = new SimpleAsyncTaskExecutor(this.name + "-");
+			this.taskExecutor = executor;
+		}
+
+		int sessions = Math.min(this.transferConcurrency, filesToTransfer.size());
+		AtomicInteger nextFile = new AtomicInteger();
+		AtomicInteger copied = new AtomicInteger();
+		Set<F> processed = ConcurrentHashMap.newKeySet();
+		AtomicReference<@Nullable Exception> failure = new AtomicReference<>();
+
+		List<CompletableFuture<Void>> transfers = new ArrayList<>(sessions - 1);
+		for (int i = 1; i < sessions; i++) {
+			transfers.add(CompletableFuture.runAsync(() ->
+							this.remoteFileTemplate.execute((SessionCallbackWithoutResult<F>) session ->
+									transferFilesFromQueue(remoteDirectory, localDirectory, session, filesToTransfer,
+											nextFile, copied, processed, failure)),
+					executor));
+		}
+
+		// The session used for listing is one of the transfer sessions as well
+		transferFilesFromQueue(remoteDirectory, localDirectory, listingSession, filesToTransfer, nextFile, copied,
+				processed, failure);
+
+		for (CompletableFuture<Void> transfer : transfers) {
+			try {
+				transfer.join();
+			}
+			catch (RuntimeException ex) {
+				Throwable cause = ex.getCause();
+				recordFailure(failure, cause instanceof Exception exception ? exception : ex);
+			}
+		}
+
+		Exception exception = failure.get();
+		if (exception != null) {
+			// The filtering has happened before transfer, so if it fails,
+			// all the files not transferred yet have to be rest from the filter.
+			List<F> notProcessed = new ArrayList<>(remoteFiles);
+			notProcessed.removeAll(processed);
+			rollbackFilter(notProcessed);
+			if (exception instanceof IOException ioException) {
+				throw ioException;
+			}
+			else if (exception instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new MessagingException("Problem occurred while transferring files from '"
+					+ remoteDirectory + "'", exception);
+		}
+
+		return copied.get();
+	}
+
+	private void transferFilesFromQueue(@Nullable String remoteDirectory, File localDirectory, Session<F> session,
+			List<F> filesToTransfer, AtomicInteger nextFile, AtomicInteger copied, Set<F> processed,
+			AtomicReference<@Nullable Exception> failure) {
+
+		long start = System.currentTimeMillis();
+		int transferred = 0;
+		int index;
+		while (failure.get() == null && (index = nextFile.getAndIncrement()) < filesToTransfer.size()) {
+			F file = filesToTransfer.get(index);
+			try {
+				if (transferFile(remoteDirectory, localDirectory, session, file)) {
+					copied.incrementAndGet();
+					transferred++;
+				}
+				processed.add(file);
+			}
+			catch (RuntimeException | IOException ex) {
+				recordFailure(failure, ex);
+			}
+		}
+		if (this.logger.isDebugEnabled()) {
+			long elapsed = System.currentTimeMillis() - start;
+			this.logger.debug(transferred + " files transferred from '" + remoteDirectory + "' over session "
+					+ session + " in " + elapsed + " ms");
+		}
+	}
+
+	private static void recordFailure(AtomicReference<@Nullable Exception> failure, Exception exception) {
+		Exception existing = failure.compareAndExchange(null, exception);
+		if (existing != null && existing != exception) {
+			existing.addSuppressed(exception);
+		}
+	}
+
+	private void rollbackFilter(List<F> notTransferredFiles) {
+		if (notTransferredFiles.isEmpty()) {
+			return;
+		}
+		if (this.filter != null && this.filter.supportsSingleFileFiltering()) {
+			for (F fileToReset : notTransferredFiles) {
+				resetFilterIfNecessary(fileToReset);
+			}
+		}
+		else {
+			rollbackFromFileToListEnd(notTransferredFiles, notTransferredFiles.get(0));
+		}
+	}
+
 	private List<F> listAndFilterFiles(@Nullable String remoteDirectory, Session<F> session) throws IOException {
 		F[] files = session.list(remoteDirectory);
 		if (!ObjectUtils.isEmpty(files)) {
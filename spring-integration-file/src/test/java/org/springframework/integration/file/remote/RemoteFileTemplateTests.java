@@ -20,6 +20,7 @@ import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.UUID;
@@ -30,6 +31,7 @@ import org.junit.jupiter.api.io.TempDir;
 
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.expression.common.LiteralExpression;
+import org.springframework.integration.file.remote.session.CachingSessionFactory;
 import org.springframework.integration.file.remote.session.Session;
 import org.springframework.integration.file.remote.session.SessionFactory;
 import org.springframework.integration.file.support.FileExistsMode;
@@ -38,11 +40,14 @@ import org.springframework.messaging.MessageDeliveryException;
 import org.springframework.messaging.MessagingException;
 import org.springframework.messaging.support.GenericMessage;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -155,6 +160,119 @@ public class RemoteFileTemplateTests implements TestApplicationContextAware {
 		verifyNoMoreInteractions(this.session);
 	}
 
+	@Test
+	public void testSegmentedRead() throws IOException {
+		byte[] content = "0123456789abcdefghij".getBytes();
+		doAnswer(invocation -> {
+			long offset = invocation.getArgument(1);
+			long length = invocation.getArgument(2);
+			OutputStream outputStream = invocation.getArgument(3);
+			outputStream.write(content, (int) offset, (int) length);
+			return null;
+		}).when(this.session).read(anyString(), anyLong(), anyLong(), any(OutputStream.class));
+		when(this.session.supportsRangedRead()).thenReturn(true);
+		this.template.setSegmentedTransferConcurrency(3);
+		this.template.setSegmentedTransferThreshold(10);
+		assertThat(this.template.isSegmentedTransfer(content.length)).isTrue();
+
+		File localFile = this.folder.resolve("segmented.txt").toFile();
+		this.template.readSegmented("/foo/bar.txt", content.length, localFile, this.session);
+
+		assertThat(localFile).hasBinaryContent(content);
+		verify(this.session).read(eq("/foo/bar.txt"), eq(0L), eq(7L), any(OutputStream.class));
+		verify(this.session).read(eq("/foo/bar.txt"), eq(7L), eq(7L), any(OutputStream.class));
+		verify(this.session).read(eq("/foo/bar.txt"), eq(14L), eq(6L), any(OutputStream.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testSegmentedReadIsCappedAtCachingSessionFactoryPoolSize() throws IOException {
+		byte[] content = "0123456789abcdefghij".getBytes();
+		Session<Object> session1 = rangedReadSession(content);
+		Session<Object> session2 = rangedReadSession(content);
+		SessionFactory<Object> targetSessionFactory = mock(SessionFactory.class);
+		when(targetSessionFactory.getSession()).thenReturn(session1, session2);
+		CachingSessionFactory<Object> cachingSessionFactory = new CachingSessionFactory<>(targetSessionFactory, 2);
+		cachingSessionFactory.setSessionWaitTimeout(1000);
+		RemoteFileTemplate<Object> cachingTemplate = new RemoteFileTemplate<>(cachingSessionFactory);
+		cachingTemplate.setBeanFactory(TEST_INTEGRATION_CONTEXT);
+		cachingTemplate.afterPropertiesSet();
+		cachingTemplate.setSegmentedTransferConcurrency(3);
+		cachingTemplate.setSegmentedTransferThreshold(10);
+
+		File localFile = this.folder.resolve("segmented.txt").toFile();
+		Session<Object> session = cachingSessionFactory.getSession();
+		cachingTemplate.readSegmented("/foo/bar.txt", content.length, localFile, session);
+		session.close();
+
+		assertThat(localFile).hasBinaryContent(content);
+		verify(session1).read(eq("/foo/bar.txt"), eq(0L), eq(10L), any(OutputStream.class));
+		verify(session2).read(eq("/foo/bar.txt"), eq(10L), eq(10L), any(OutputStream.class));
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Session<Object> rangedReadSession(byte[] content) throws IOException {
+		Session<Object> session = mock(Session.class);
+		doAnswer(invocation -> {
+			long offset = invocation.getArgument(1);
+			long length = invocation.getArgument(2);
+			OutputStream outputStream = invocation.getArgument(3);
+			outputStream.write(content, (int) offset, (int) length);
+			return null;
+		}).when(session).read(anyString(), anyLong(), anyLong(), any(OutputStream.class));
+		when(session.supportsRangedRead()).thenReturn(true);
+		when(session.isOpen()).thenReturn(true);
+		return session;
+	}
+
+	@Test
+	public void testSegmentedWrite() throws IOException {
+		byte[] content = "0123456789abcdefghij".getBytes();
+		Files.write(this.file.toPath(), content);
+		byte[] remoteContent = new byte[content.length];
+		doAnswer(invocation -> {
+			InputStream inputStream = invocation.getArgument(0);
+			long offset = invocation.getArgument(2);
+			byte[] segment = inputStream.readAllBytes();
+			System.arraycopy(segment, 0, remoteContent, (int) offset, segment.length);
+			return null;
+		}).when(this.session).write(any(InputStream.class), anyString(), anyLong());
+		when(this.session.supportsPositionalWrite()).thenReturn(true);
+		this.template.setSegmentedTransferConcurrency(2);
+		this.template.setSegmentedTransferThreshold(10);
+
+		this.template.send(new GenericMessage<>(this.file), FileExistsMode.REPLACE);
+
+		assertThat(remoteContent).isEqualTo(content);
+		verify(this.session).write(any(InputStream.class), eq("/foo/" + this.file.getName() + ".writing"));
+		verify(this.session).write(any(InputStream.class), eq("/foo/" + this.file.getName() + ".writing"), eq(0L));
+		verify(this.session).write(any(InputStream.class), eq("/foo/" + this.file.getName() + ".writing"), eq(10L));
+	}
+
+	@Test
+	public void testSegmentedWriteFallsBackWhenPositionalWriteNotSupported() throws IOException {
+		Files.write(this.file.toPath(), "0123456789abcdefghij".getBytes());
+		this.template.setSegmentedTransferConcurrency(2);
+		this.template.setSegmentedTransferThreshold(10);
+
+		this.template.send(new GenericMessage<>(this.file), FileExistsMode.REPLACE);
+
+		verify(this.session).write(any(InputStream.class), eq("/foo/" + this.file.getName() + ".writing"));
+		verify(this.session, never()).write(any(InputStream.class), anyString(), anyLong());
+	}
+
+	@Test
+	public void testSegmentedReadFallsBackWhenRangedReadNotSupported() throws IOException {
+		File localFile = this.folder.resolve("segmented.txt").toFile();
+		this.template.setSegmentedTransferConcurrency(3);
+		this.template.setSegmentedTransferThreshold(10);
+
+		this.template.readSegmented("/foo/bar.txt", 20, localFile, this.session);
+
+		verify(this.session).read(eq("/foo/bar.txt"), any(OutputStream.class));
+		verify(this.session, never()).read(anyString(), anyLong(), anyLong(), any(OutputStream.class));
+	}
+
 	@Test
 	public void testInvalid() {
 		assertThatThrownBy(() -> this.template
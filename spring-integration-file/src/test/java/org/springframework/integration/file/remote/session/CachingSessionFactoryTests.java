@@ -19,6 +19,7 @@ package org.springframework.integration.file.remote.session;
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.time.Duration;
 
 import org.junit.jupiter.api.Test;
 
@@ -28,9 +29,11 @@ import org.springframework.integration.test.support.TestApplicationContextAware;
 import org.springframework.integration.test.util.TestUtils;
 import org.springframework.messaging.MessagingException;
 import org.springframework.messaging.support.GenericMessage;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.awaitility.Awaitility.await;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -106,6 +109,35 @@ public class CachingSessionFactoryTests implements TestApplicationContextAware {
 		verify(session).close();
 	}
 
+	@Test
+	public void testMinIdleAndIdleEviction() {
+		TestSessionFactory factory = new TestSessionFactory();
+		CachingSessionFactory<String> cache = new CachingSessionFactory<>(factory, 3);
+		cache.setMinIdle(2);
+		cache.setMaxIdleTime(Duration.ofMillis(10));
+		cache.setIdleValidationInterval(Duration.ofMillis(500));
+		ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+		taskScheduler.initialize();
+		cache.setTaskScheduler(taskScheduler);
+		cache.afterPropertiesSet();
+
+		assertThat(cache.getIdleCount()).isEqualTo(2);
+		assertThat(cache.getAllocatedCount()).isEqualTo(2);
+
+		Session<String> session = cache.getSession();
+		assertThat(TestUtils.<String>getPropertyValue(session, "targetSession.id"))
+				.isEqualTo("session:1");
+		assertThat(cache.getActiveCount()).isEqualTo(1);
+		session.close();
+
+		await().untilAsserted(() -> assertThat(session.isOpen()).isFalse());
+		await().untilAsserted(() -> assertThat(cache.getIdleCount()).isEqualTo(2));
+		assertThat(factory.n).isGreaterThan(2);
+
+		cache.destroy();
+		taskScheduler.destroy();
+	}
+
 	private static class TestSessionFactory implements SessionFactory<String> {
 
 		private int n;
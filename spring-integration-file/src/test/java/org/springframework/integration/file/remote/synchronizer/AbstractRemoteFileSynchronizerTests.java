@@ -25,7 +25,11 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
@@ -118,6 +122,125 @@ public class AbstractRemoteFileSynchronizerTests implements TestApplicationConte
 		sync.close();
 	}
 
+	@Test
+	public void testConcurrentTransfer() throws Exception {
+		Set<String> threads = ConcurrentHashMap.newKeySet();
+		AtomicInteger count = new AtomicInteger();
+		CountDownLatch allTransferring = new CountDownLatch(3);
+		AbstractInboundFileSynchronizer<String> sync =
+				new AbstractInboundFileSynchronizer<>(new StringSessionFactory()) {
+
+					@Override
+					protected boolean isFile(String file) {
+						return true;
+					}
+
+					@Override
+					protected String getFilename(String file) {
+						return file;
+					}
+
+					@Override
+					protected long getModified(String file) {
+						return 0;
+					}
+
+					@Override
+					protected String protocol() {
+						return "file";
+					}
+
+					@Override
+					protected boolean copyFileToLocalDirectory(String remoteDirectoryPath,
+							EvaluationContext localFileEvaluationContext, String remoteFile,
+							File localDirectory, Session<String> session) {
+
+						threads.add(Thread.currentThread().getName());
+						allTransferring.countDown();
+						try {
+							allTransferring.await(10, TimeUnit.SECONDS);
+						}
+						catch (InterruptedException ex) {
+							Thread.currentThread().interrupt();
+						}
+						count.incrementAndGet();
+						return true;
+					}
+
+				};
+		sync.setFilter(new AcceptOnceFileListFilter<>());
+		sync.setRemoteDirectory("testRemoteDirectory");
+		sync.setTransferConcurrency(3);
+		sync.setBeanName("concurrentSync");
+		sync.setBeanFactory(TEST_INTEGRATION_CONTEXT);
+		sync.afterPropertiesSet();
+
+		sync.synchronizeToLocalDirectory(mock(File.class));
+		assertThat(count.get()).isEqualTo(3);
+		assertThat(threads).hasSize(3);
+
+		sync.synchronizeToLocalDirectory(mock(File.class));
+		assertThat(count.get()).isEqualTo(3);
+		sync.close();
+	}
+
+	@Test
+	public void testConcurrentTransferRollback() throws Exception {
+		AtomicBoolean failWhenCopyingTestFile2 = new AtomicBoolean(true);
+		Set<String> copied = ConcurrentHashMap.newKeySet();
+		AbstractInboundFileSynchronizer<String> sync =
+				new AbstractInboundFileSynchronizer<>(new StringSessionFactory()) {
+
+					@Override
+					protected boolean isFile(String file) {
+						return true;
+					}
+
+					@Override
+					protected String getFilename(String file) {
+						return file;
+					}
+
+					@Override
+					protected long getModified(String file) {
+						return 0;
+					}
+
+					@Override
+					protected String protocol() {
+						return "file";
+					}
+
+					@Override
+					protected boolean copyFileToLocalDirectory(String remoteDirectoryPath,
+							EvaluationContext localFileEvaluationContext, String remoteFile,
+							File localDirectory, Session<String> session) throws IOException {
+
+						if ("testFile2".equals(remoteFile) && failWhenCopyingTestFile2.getAndSet(false)) {
+							throw new IOException("fail");
+						}
+						copied.add(remoteFile);
+						return true;
+					}
+
+				};
+		sync.setFilter(new AcceptOnceFileListFilter<>());
+		sync.setRemoteDirectory("testRemoteDirectory");
+		sync.setTransferConcurrency(2);
+		sync.setBeanName("concurrentSync");
+		sync.setBeanFactory(TEST_INTEGRATION_CONTEXT);
+		sync.afterPropertiesSet();
+
+		assertThatExceptionOfType(MessagingException.class)
+				.isThrownBy(() -> sync.synchronizeToLocalDirectory(mock(File.class)))
+				.withRootCauseInstanceOf(IOException.class)
+				.withStackTraceContaining("fail");
+
+		sync.synchronizeToLocalDirectory(mock(File.class));
+		assertThat(copied).containsExactlyInAnyOrder("testFile1", "testFile2", "testFile3");
+		sync.close();
+	}
+
 	@Test
 	public void testMaxFetchSizeSynchronizer() throws Exception {
 		final AtomicInteger count = new AtomicInteger();
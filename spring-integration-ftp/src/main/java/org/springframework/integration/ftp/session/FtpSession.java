@@ -31,6 +31,7 @@ import org.jspecify.annotations.Nullable;
 import org.springframework.integration.file.remote.session.Session;
 import org.springframework.util.Assert;
 import org.springframework.util.ObjectUtils;
+import org.springframework.util.StreamUtils;
 import org.springframework.util.StringUtils;
 
 /**
@@ -104,6 +105,42 @@ public class FtpSession implements Session<FTPFile> {
 		}
 	}
 
+	@Override
+	public void read(String source, long offset, long length, OutputStream outputStream) throws IOException {
+		Assert.hasText(source, "path must not be null");
+		Assert.notNull(outputStream, "outputStream must not be null");
+		this.client.setRestartOffset(offset);
+		InputStream inputStream = this.client.retrieveFileStream(source);
+		if (inputStream == null) {
+			throw new IOException("Failed to obtain InputStream for remote file '" + source +
+					SERVER_REPLIED_WITH + this.client.getReplyString());
+		}
+		long copied;
+		try (inputStream) {
+			copied = StreamUtils.copyRange(inputStream, outputStream, 0, length - 1);
+		}
+		boolean completed = this.client.completePendingCommand();
+		int replyCode = this.client.getReplyCode();
+		if (copied < length) {
+			throw new IOException("Failed to read " + length + " bytes at offset " + offset + " from '" + source +
+					"'; only " + copied + " bytes were transferred");
+		}
+		// The data connection is closed before the end of file for all the ranges except the last one,
+		// so the server may reply with a 'transfer aborted' status which is expected.
+		if (!completed
+				&& replyCode != FTPReply.TRANSFER_ABORTED
+				&& replyCode != FTPReply.ACTION_ABORTED) {
+
+			throw new IOException("Failed to complete reading a range from '" + source +
+					SERVER_REPLIED_WITH + this.client.getReplyString());
+		}
+	}
+
+	@Override
+	public boolean supportsRangedRead() {
+		return true;
+	}
+
 	@Override
 	public InputStream readRaw(String source) throws IOException {
 		if (!this.readingRaw.compareAndSet(false, true)) {
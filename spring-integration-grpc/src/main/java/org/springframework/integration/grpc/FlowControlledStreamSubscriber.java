@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.grpc;
+
+import java.util.function.Consumer;
+
+import io.grpc.stub.CallStreamObserver;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.BaseSubscriber;
+
+import org.springframework.util.Assert;
+
+/**
+ * A Reactive Streams subscriber writing elements into a gRPC {@link CallStreamObserver}
+ * according to its readiness.
+ * An element is requested from the upstream only when the {@link CallStreamObserver#isReady()},
+ * and the demand is resumed from the {@link CallStreamObserver#setOnReadyHandler(Runnable)} callback.
+ * This way, the elements are not buffered in the gRPC transport beyond its flow-control window.
+ * <p>
+ * An instance must be created when the on-ready handler can be set on the observer:
+ * for a server call, during the initial call to the service method;
+ * for a client call, in the {@link io.grpc.stub.ClientResponseObserver#beforeStart}.
+ *
+ * @author Artem Bilan
+ *
+ * @since 7.2
+ */
+public final class FlowControlledStreamSubscriber extends BaseSubscriber<Object> {
+
+	private final CallStreamObserver<Object> streamObserver;
+
+	private final Consumer<Throwable> errorHandler;
+
+	/**
+	 * Create an instance for the provided {@link CallStreamObserver} and register its on-ready handler.
+	 * @param streamObserver the observer to write elements to.
+	 * @param errorHandler the callback for an upstream error.
+	 */
+	public FlowControlledStreamSubscriber(CallStreamObserver<Object> streamObserver,
+			Consumer<Throwable> errorHandler) {
+
+		Assert.notNull(streamObserver, "'streamObserver' must not be null");
+		Assert.notNull(errorHandler, "'errorHandler' must not be null");
+		this.streamObserver = streamObserver;
+		this.errorHandler = errorHandler;
+		streamObserver.setOnReadyHandler(this::requestIfReady);
+	}
+
+	@Override
+	protected void hookOnSubscribe(Subscription subscription) {
+		requestIfReady();
+	}
+
+	@Override
+	protected void hookOnNext(Object value) {
+		this.streamObserver.onNext(value);
+		requestIfReady();
+	}
+
+	@Override
+	protected void hookOnComplete() {
+		this.streamObserver.onCompleted();
+	}
+
+	@Override
+	protected void hookOnError(Throwable throwable) {
+		this.errorHandler.accept(throwable);
+	}
+
+	private void requestIfReady() {
+		if (upstream() != null && !isDisposed() && this.streamObserver.isReady()) {
+			request(1);
+		}
+	}
+
+}
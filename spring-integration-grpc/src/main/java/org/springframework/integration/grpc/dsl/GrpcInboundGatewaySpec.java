@@ -36,4 +36,16 @@ public class GrpcInboundGatewaySpec extends MessagingGatewaySpec<GrpcInboundGate
 		super(new GrpcInboundGateway(grpcServiceClass));
 	}
 
+	/**
+	 * Set to true to bridge the gRPC flow control of streaming calls to the backpressure of the downstream flow.
+	 * @param flowControl true to enable the flow control for streaming calls.
+	 * @return the spec
+	 * @since 7.2
+	 * @see GrpcInboundGateway#setFlowControl(boolean)
+	 */
+	public GrpcInboundGatewaySpec flowControl(boolean flowControl) {
+		this.target.setFlowControl(flowControl);
+		return this;
+	}
+
 }
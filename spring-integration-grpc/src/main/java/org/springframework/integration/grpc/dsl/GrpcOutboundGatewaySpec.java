@@ -104,4 +104,17 @@ public class GrpcOutboundGatewaySpec extends MessageHandlerSpec<GrpcOutboundGate
 		return this;
 	}
 
+	/**
+	 * Set to true to bridge the gRPC flow control of streaming calls to the backpressure of the
+	 * request and response {@link reactor.core.publisher.Flux}es.
+	 * @param flowControl true to enable the flow control for streaming calls.
+	 * @return the spec
+	 * @since 7.2
+	 * @see GrpcOutboundGateway#setFlowControl(boolean)
+	 */
+	public GrpcOutboundGatewaySpec flowControl(boolean flowControl) {
+		this.target.setFlowControl(flowControl);
+		return this;
+	}
+
 }
@@ -24,6 +24,7 @@ import io.grpc.MethodDescriptor;
 import io.grpc.ServerServiceDefinition;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
 import org.aopalliance.intercept.MethodInterceptor;
 import org.aopalliance.intercept.MethodInvocation;
@@ -36,6 +37,7 @@ import org.springframework.aop.framework.ProxyFactory;
 import org.springframework.core.log.LogMessage;
 import org.springframework.integration.gateway.DefaultMethodInvokingMethodInterceptor;
 import org.springframework.integration.gateway.MessagingGatewaySupport;
+import org.springframework.integration.grpc.FlowControlledStreamSubscriber;
 import org.springframework.integration.grpc.GrpcHeaders;
 import org.springframework.messaging.Message;
 import org.springframework.util.Assert;
@@ -60,6 +62,11 @@ import org.springframework.util.StringUtils;
  * The {@link MethodDescriptor.MethodType#CLIENT_STREAMING} produces a {@link Flux} of gRPC request payloads.
  * The {@link MethodDescriptor.MethodType#SERVER_STREAMING} reply can be a single entity or a {@link Flux} of them.
  * <p>
+ * With the {@link #setFlowControl(boolean) flow control}, the streaming calls are bridged to the
+ * backpressure of the downstream flow: the request messages from the client are requested
+ * according to the demand of the request {@link Flux} consumer, and the reply stream elements
+ * are requested only when the gRPC call is ready to send them.
+ * <p>
  * For convenience, the {@link GrpcHeaders} are populated into a request message.
  * Such information can be used, for example, in downstream flow for routing.
  *
@@ -78,10 +85,27 @@ public class GrpcInboundGateway extends MessagingGatewaySupport implements Binda
 	@SuppressWarnings("NullAway.Init")
 	private ServerServiceDefinition serverServiceDefinition;
 
+	private boolean flowControl;
+
 	public GrpcInboundGateway(Class<? extends BindableService> grpcServiceClass) {
 		this.grpcServiceClass = grpcServiceClass;
 	}
 
+	/**
+	 * Set to true to bridge the gRPC flow control of streaming calls to the backpressure of the downstream flow.
+	 * For the {@link MethodDescriptor.MethodType#CLIENT_STREAMING}, the request message with the {@link Flux}
+	 * payload is produced when the call starts (not when the client completes its stream),
+	 * and the client messages are requested from gRPC according to the demand of this {@link Flux} consumer.
+	 * For the {@link MethodDescriptor.MethodType#BIDI_STREAMING}, the client messages are requested
+	 * according to the reply stream demand and the replies are emitted in the order of requests.
+	 * The reply stream elements are requested only when the gRPC call is ready to send them.
+	 * @param flowControl true to enable the flow control for streaming calls.
+	 * @since 7.2
+	 */
+	public void setFlowControl(boolean flowControl) {
+		this.flowControl = flowControl;
+	}
+
 	@Override
 	protected void onInit() {
 		super.onInit();
@@ -163,16 +187,34 @@ public class GrpcInboundGateway extends MessagingGatewaySupport implements Binda
 	private void serverStreaming(MethodDescriptor<?, ?> methodDescriptor, Object requestPayload,
 			StreamObserver<Object> responseObserver) {
 
-		sendRequestAndProduceReply(methodDescriptor, requestPayload)
-				.flatMapMany(payload -> payload instanceof Flux<?> flux ? flux : Flux.just(payload))
-				.subscribe(responseObserver::onNext,
-						t -> responseObserver.onError(toGrpcStatusException(t)),
-						responseObserver::onCompleted);
+		Flux<?> replies =
+				sendRequestAndProduceReply(methodDescriptor, requestPayload)
+						.flatMapMany(payload -> payload instanceof Flux<?> flux ? flux : Flux.just(payload));
+
+		if (this.flowControl && responseObserver instanceof ServerCallStreamObserver<Object> serverCallObserver) {
+			replies.subscribe(flowControlledSubscriber(serverCallObserver));
+		}
+		else {
+			replies.subscribe(responseObserver::onNext,
+					t -> responseObserver.onError(toGrpcStatusException(t)),
+					responseObserver::onCompleted);
+		}
 	}
 
 	private StreamObserver<?> clientStreaming(MethodDescriptor<?, ?> methodDescriptor,
 			StreamObserver<Object> responseObserver) {
 
+		if (this.flowControl && responseObserver instanceof ServerCallStreamObserver<Object> serverCallObserver) {
+			Sinks.Many<Object> requestSink = Sinks.many().unicast().onBackpressureBuffer();
+			serverCallObserver.setOnCancelHandler(() ->
+					requestSink.tryEmitError(Status.CANCELLED.withDescription("Call cancelled").asRuntimeException()));
+			sendRequestAndProduceReply(methodDescriptor, flowControlledRequests(requestSink, serverCallObserver))
+					.subscribe(responseObserver::onNext,
+							t -> responseObserver.onError(toGrpcStatusException(t)),
+							responseObserver::onCompleted);
+			return sinkRequestObserver(requestSink, methodDescriptor);
+		}
+
 		Sinks.Many<Object> requestPayload = Sinks.many().unicast().onBackpressureBuffer();
 
 		return new StreamObserver<>() {
@@ -202,6 +244,14 @@ public class GrpcInboundGateway extends MessagingGatewaySupport implements Binda
 	private StreamObserver<?> bidiStreaming(MethodDescriptor<?, ?> methodDescriptor,
 			StreamObserver<Object> responseObserver) {
 
+		if (this.flowControl && responseObserver instanceof ServerCallStreamObserver<Object> serverCallObserver) {
+			Sinks.Many<Object> requestSink = Sinks.many().unicast().onBackpressureBuffer();
+			flowControlledRequests(requestSink, serverCallObserver)
+					.flatMapSequential((requestPayload) -> sendRequestAndProduceReply(methodDescriptor, requestPayload))
+					.subscribe(flowControlledSubscriber(serverCallObserver));
+			return sinkRequestObserver(requestSink, methodDescriptor);
+		}
+
 		return new StreamObserver<>() {
 
 			@Override
@@ -224,6 +274,52 @@ public class GrpcInboundGateway extends MessagingGatewaySupport implements Binda
 		};
 	}
 
+	/**
+	 * Switch the call to manual flow control and request the client messages according to the sink demand.
+	 * Must be called during the initial call to the service method.
+	 */
+	private static Flux<Object> flowControlledRequests(Sinks.Many<Object> requestSink,
+			ServerCallStreamObserver<Object> serverCallObserver) {
+
+		serverCallObserver.disableAutoRequest();
+		return requestSink.asFlux()
+				.doOnRequest((n) -> serverCallObserver.request((int) Math.min(n, Integer.MAX_VALUE)));
+	}
+
+	private StreamObserver<Object> sinkRequestObserver(Sinks.Many<Object> requestSink,
+			MethodDescriptor<?, ?> methodDescriptor) {
+
+		return new StreamObserver<>() {
+
+			@Override
+			public void onNext(Object value) {
+				requestSink.tryEmitNext(value);
+			}
+
+			@Override
+			public void onError(Throwable t) {
+				String description = "gRPC request [" + methodDescriptor.getFullMethodName() + "] has failed";
+				requestSink.tryEmitError(toGrpcStatusException(t, description));
+			}
+
+			@Override
+			public void onCompleted() {
+				requestSink.tryEmitComplete();
+			}
+
+		};
+	}
+
+	private FlowControlledStreamSubscriber flowControlledSubscriber(
+			ServerCallStreamObserver<Object> serverCallObserver) {
+
+		FlowControlledStreamSubscriber subscriber =
+				new FlowControlledStreamSubscriber(serverCallObserver,
+						(t) -> serverCallObserver.onError(toGrpcStatusException(t)));
+		serverCallObserver.setOnCancelHandler(subscriber::dispose);
+		return subscriber;
+	}
+
 	private Mono<?> sendRequestAndProduceReply(MethodDescriptor<?, ?> serviceMethod, Object requestPayload) {
 		Message<?> requestMessage =
 				getMessageBuilderFactory()
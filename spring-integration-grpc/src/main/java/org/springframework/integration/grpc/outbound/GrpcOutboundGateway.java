@@ -26,8 +26,11 @@ import io.grpc.Channel;
 import io.grpc.ClientCall;
 import io.grpc.MethodDescriptor;
 import io.grpc.ServiceDescriptor;
+import io.grpc.stub.ClientCallStreamObserver;
 import io.grpc.stub.ClientCalls;
+import io.grpc.stub.ClientResponseObserver;
 import io.grpc.stub.StreamObserver;
+import org.jspecify.annotations.Nullable;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.Sinks;
@@ -37,6 +40,7 @@ import org.springframework.expression.Expression;
 import org.springframework.expression.common.LiteralExpression;
 import org.springframework.integration.expression.ExpressionUtils;
 import org.springframework.integration.expression.FunctionExpression;
+import org.springframework.integration.grpc.FlowControlledStreamSubscriber;
 import org.springframework.integration.grpc.GrpcHeaders;
 import org.springframework.integration.handler.AbstractReplyProducingMessageHandler;
 import org.springframework.messaging.Message;
@@ -74,6 +78,10 @@ import org.springframework.util.StringUtils;
  * 	<li><b>Bidirectional Streaming:</b> Returns a {@link Flux} of response messages</li>
  *  </ul>
  * </p>
+ * <p>
+ * With the {@link #setFlowControl(boolean) flow control}, the request stream elements are requested
+ * only when the gRPC call is ready to send them, and the response stream elements are requested
+ * from gRPC according to the demand of the returned {@link Flux} consumer.
  *
  * @author Glenn Renfro
  * @author Artem Bilan
@@ -99,6 +107,8 @@ public class GrpcOutboundGateway extends AbstractReplyProducingMessageHandler {
 
 	private CallOptions callOptions = CallOptions.DEFAULT;
 
+	private boolean flowControl;
+
 	/**
 	 * Create a new {@code GrpcOutboundGateway} based on the gRPC service class and {@link Channel} for communication.
 	 * The gateway is set to async mode by default.
@@ -148,6 +158,19 @@ public class GrpcOutboundGateway extends AbstractReplyProducingMessageHandler {
 		this.callOptions = callOptions;
 	}
 
+	/**
+	 * Set to true to bridge the gRPC flow control of streaming calls to the backpressure of the
+	 * request and response {@link Flux}es.
+	 * The request stream elements are requested only when the gRPC call is ready to send them.
+	 * The response stream elements are requested from gRPC according to the demand
+	 * of the returned {@link Flux} consumer.
+	 * @param flowControl true to enable the flow control for streaming calls.
+	 * @since 7.2
+	 */
+	public void setFlowControl(boolean flowControl) {
+		this.flowControl = flowControl;
+	}
+
 	@Override
 	protected void doInit() {
 		super.doInit();
@@ -214,6 +237,13 @@ public class GrpcOutboundGateway extends AbstractReplyProducingMessageHandler {
 		StreamObserver<Object> responseObserver = createSinkManyResponseObserver(responseSink);
 
 		ClientCall<Object, Object> call = this.channel.newCall(methodDescriptor, this.callOptions);
+		if (this.flowControl) {
+			FlowControlledResponseObserver flowControlledObserver =
+					new FlowControlledResponseObserver(responseObserver, null, true);
+			ClientCalls.asyncServerStreamingCall(call, request, flowControlledObserver);
+			return responseSink.asFlux().doOnRequest(flowControlledObserver::request);
+		}
+
 		ClientCalls.asyncServerStreamingCall(call, request, responseObserver);
 
 		return responseSink.asFlux();
@@ -224,7 +254,13 @@ public class GrpcOutboundGateway extends AbstractReplyProducingMessageHandler {
 
 		StreamObserver<Object> responseObserver = createSinkOneResponseObserver(responseSink);
 
-		handleRequestAsFlux(request, methodDescriptor, responseObserver);
+		if (this.flowControl) {
+			invokeStreamingCall(methodDescriptor,
+					new FlowControlledResponseObserver(responseObserver, requestToFlux(request), false));
+		}
+		else {
+			handleRequestAsFlux(request, methodDescriptor, responseObserver);
+		}
 
 		return responseSink.asMono();
 	}
@@ -234,6 +270,13 @@ public class GrpcOutboundGateway extends AbstractReplyProducingMessageHandler {
 
 		StreamObserver<Object> responseObserver = createSinkManyResponseObserver(responseSink);
 
+		if (this.flowControl) {
+			FlowControlledResponseObserver flowControlledObserver =
+					new FlowControlledResponseObserver(responseObserver, requestToFlux(request), true);
+			invokeStreamingCall(methodDescriptor, flowControlledObserver);
+			return responseSink.asFlux().doOnRequest(flowControlledObserver::request);
+		}
+
 		handleRequestAsFlux(request, methodDescriptor, responseObserver);
 
 		return responseSink.asFlux();
@@ -344,5 +387,64 @@ public class GrpcOutboundGateway extends AbstractReplyProducingMessageHandler {
 		};
 	}
 
-}
+	/**
+	 * The {@link ClientResponseObserver} to switch a call to the flow control:
+	 * the request stream is written via {@link FlowControlledStreamSubscriber},
+	 * the response messages are requested from gRPC via {@link #request(long)}.
+	 */
+	private static final class FlowControlledResponseObserver implements ClientResponseObserver<Object, Object> {
+
+		private final StreamObserver<Object> delegate;
+
+		private final @Nullable Flux<?> requests;
+
+		private final boolean manualResponseDemand;
 
+		@SuppressWarnings("NullAway.Init")
+		private volatile ClientCallStreamObserver<Object> requestStream;
+
+		FlowControlledResponseObserver(StreamObserver<Object> delegate, @Nullable Flux<?> requests,
+				boolean manualResponseDemand) {
+
+			this.delegate = delegate;
+			this.requests = requests;
+			this.manualResponseDemand = manualResponseDemand;
+		}
+
+		@Override
+		public void beforeStart(ClientCallStreamObserver<Object> requestStream) {
+			this.requestStream = requestStream;
+			if (this.manualResponseDemand) {
+				requestStream.disableAutoRequestWithInitial(0);
+			}
+			if (this.requests != null) {
+				this.requests.subscribe(
+						new FlowControlledStreamSubscriber(requestStream, (ex) -> {
+							requestStream.onError(ex);
+							this.delegate.onError(ex);
+						}));
+			}
+		}
+
+		void request(long n) {
+			this.requestStream.request((int) Math.min(n, Integer.MAX_VALUE));
+		}
+
+		@Override
+		public void onNext(Object value) {
+			this.delegate.onNext(value);
+		}
+
+		@Override
+		public void onError(Throwable ex) {
+			this.delegate.onError(ex);
+		}
+
+		@Override
+		public void onCompleted() {
+			this.delegate.onCompleted();
+		}
+
+	}
+
+}
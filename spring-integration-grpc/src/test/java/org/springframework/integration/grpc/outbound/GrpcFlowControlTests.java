@@ -0,0 +1,182 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.grpc.outbound;
+
+import java.time.Duration;
+
+import io.grpc.ManagedChannel;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.integration.config.EnableIntegration;
+import org.springframework.integration.dsl.IntegrationFlow;
+import org.springframework.integration.grpc.GrpcHeaders;
+import org.springframework.integration.grpc.TestInProcessConfiguration;
+import org.springframework.integration.grpc.inbound.GrpcInboundGateway;
+import org.springframework.integration.grpc.proto.HelloReply;
+import org.springframework.integration.grpc.proto.HelloRequest;
+import org.springframework.integration.grpc.proto.TestHelloWorldGrpc;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.GenericMessage;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verify streaming exchanges between the {@link GrpcOutboundGateway} and {@link GrpcInboundGateway}
+ * with flow control enabled on both sides.
+ *
+ * @author Artem Bilan
+ *
+ * @since 7.2
+ */
+@SpringJUnitConfig
+@DirtiesContext
+class GrpcFlowControlTests {
+
+	private static final int STREAM_SIZE = 10_000;
+
+	@Autowired
+	private GrpcOutboundGateway grpcOutboundGateway;
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void serverStreamingIsFlowControlled() {
+		this.grpcOutboundGateway.setMethodName("StreamSayHello");
+
+		Object response =
+				this.grpcOutboundGateway.handleRequestMessage(
+						new GenericMessage<>(HelloRequest.newBuilder().setName("Jack").build()));
+
+		assertThat(response).isInstanceOf(Flux.class);
+
+		StepVerifier.create(((Flux<HelloReply>) response).map(HelloReply::getMessage), 1)
+				.expectNext("Hello Jack #1")
+				.thenRequest(Long.MAX_VALUE)
+				.expectNextCount(STREAM_SIZE - 1)
+				.expectComplete()
+				.verify(Duration.ofSeconds(30));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void clientStreamingIsFlowControlled() {
+		this.grpcOutboundGateway.setMethodName("HelloToEveryOne");
+
+		Flux<HelloRequest> requests =
+				Flux.range(1, STREAM_SIZE)
+						.map(i -> HelloRequest.newBuilder().setName("Jack #" + i).build());
+
+		Object response = this.grpcOutboundGateway.handleRequestMessage(new GenericMessage<>(requests));
+
+		assertThat(response).isInstanceOf(Mono.class);
+
+		StepVerifier.create(((Mono<HelloReply>) response).map(HelloReply::getMessage))
+				.expectNext("Hello " + STREAM_SIZE + " names")
+				.expectComplete()
+				.verify(Duration.ofSeconds(30));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void bidiStreamingIsFlowControlledAndOrdered() {
+		this.grpcOutboundGateway.setMethodName("BidiStreamHello");
+
+		Flux<HelloRequest> requests =
+				Flux.range(1, STREAM_SIZE)
+						.map(i -> HelloRequest.newBuilder().setName("Jack #" + i).build());
+
+		Object response = this.grpcOutboundGateway.handleRequestMessage(new GenericMessage<>(requests));
+
+		assertThat(response).isInstanceOf(Flux.class);
+
+		StepVerifier.create(((Flux<HelloReply>) response).map(HelloReply::getMessage).index())
+				.thenConsumeWhile(indexed -> indexed.getT2().equals("Hello Jack #" + (indexed.getT1() + 1)))
+				.expectComplete()
+				.verify(Duration.ofSeconds(30));
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@Import(TestInProcessConfiguration.class)
+	@EnableIntegration
+	static class TestConfig {
+
+		@Bean
+		GrpcOutboundGateway grpcOutboundGateway(ManagedChannel channel) {
+			GrpcOutboundGateway grpcOutboundGateway = new GrpcOutboundGateway(channel, TestHelloWorldGrpc.class);
+			grpcOutboundGateway.setFlowControl(true);
+			return grpcOutboundGateway;
+		}
+
+		@Bean
+		GrpcInboundGateway helloWorldService() {
+			GrpcInboundGateway grpcInboundGateway =
+					new GrpcInboundGateway(TestHelloWorldGrpc.TestHelloWorldImplBase.class);
+			grpcInboundGateway.setFlowControl(true);
+			return grpcInboundGateway;
+		}
+
+		@Bean
+		IntegrationFlow grpcIntegrationFlow(GrpcInboundGateway helloWorldService) {
+			return IntegrationFlow.from(helloWorldService)
+					.route(Message.class, message ->
+									message.getHeaders().get(GrpcHeaders.SERVICE_METHOD, String.class),
+							router -> router
+
+									.subFlowMapping("StreamSayHello", flow -> flow
+											.transform(this::streamReply))
+
+									.subFlowMapping("HelloToEveryOne", flow -> flow
+											.transformWith(transformSpec -> transformSpec
+													.transformer(this::countRequests)
+													.async(true)))
+
+									.subFlowMapping("BidiStreamHello", flow -> flow
+											.transform(this::requestReply))
+					)
+					.get();
+		}
+
+		private HelloReply requestReply(HelloRequest helloRequest) {
+			return newHelloReply("Hello " + helloRequest.getName());
+		}
+
+		private Flux<HelloReply> streamReply(HelloRequest helloRequest) {
+			return Flux.range(1, STREAM_SIZE)
+					.map(i -> newHelloReply("Hello " + helloRequest.getName() + " #" + i));
+		}
+
+		private Mono<HelloReply> countRequests(Flux<HelloRequest> request) {
+			return request
+					.count()
+					.map(count -> newHelloReply("Hello " + count + " names"));
+		}
+
+		private static HelloReply newHelloReply(String message) {
+			return HelloReply.newBuilder().setMessage(message).build();
+		}
+
+	}
+
+}
@@ -82,6 +82,29 @@ public class TcpInboundChannelAdapterSpec
 		return _this();
 	}
 
+	/**
+	 * @param backpressure true to pause reads when the downstream channel is saturated.
+	 * @return the spec.
+	 * @since 7.2
+	 * @see TcpReceivingChannelAdapter#setBackpressure(boolean)
+	 */
+	public TcpInboundChannelAdapterSpec backpressure(boolean backpressure) {
+		this.target.setBackpressure(backpressure);
+		return _this();
+	}
+
+	/**
+	 * @param highWaterMark the downstream queue size to pause the reads.
+	 * @param lowWaterMark the downstream queue size to resume the reads.
+	 * @return the spec.
+	 * @since 7.2
+	 * @see TcpReceivingChannelAdapter#setBackpressureWaterMarks(int, int)
+	 */
+	public TcpInboundChannelAdapterSpec backpressureWaterMarks(int highWaterMark, int lowWaterMark) {
+		this.target.setBackpressureWaterMarks(highWaterMark, lowWaterMark);
+		return _this();
+	}
+
 	/**
 	 * @param taskScheduler the scheduler for connecting in client mode.
 	 * @return the spec.
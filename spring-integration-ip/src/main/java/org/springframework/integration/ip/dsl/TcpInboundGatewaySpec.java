@@ -81,6 +81,29 @@ public class TcpInboundGatewaySpec extends MessagingGatewaySpec<TcpInboundGatewa
 		return _this();
 	}
 
+	/**
+	 * @param backpressure true to pause reads when the downstream channel is saturated.
+	 * @return the spec.
+	 * @since 7.2
+	 * @see TcpInboundGateway#setBackpressure(boolean)
+	 */
+	public TcpInboundGatewaySpec backpressure(boolean backpressure) {
+		this.target.setBackpressure(backpressure);
+		return _this();
+	}
+
+	/**
+	 * @param highWaterMark the downstream queue size to pause the reads.
+	 * @param lowWaterMark the downstream queue size to resume the reads.
+	 * @return the spec.
+	 * @since 7.2
+	 * @see TcpInboundGateway#setBackpressureWaterMarks(int, int)
+	 */
+	public TcpInboundGatewaySpec backpressureWaterMarks(int highWaterMark, int lowWaterMark) {
+		this.target.setBackpressureWaterMarks(highWaterMark, lowWaterMark);
+		return _this();
+	}
+
 	/**
 	 * @param taskScheduler the scheduler for connecting in client mode.
 	 * @return the spec.
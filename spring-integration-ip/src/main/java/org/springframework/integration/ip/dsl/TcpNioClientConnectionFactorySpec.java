@@ -43,6 +43,18 @@ public class TcpNioClientConnectionFactorySpec
 		return this;
 	}
 
+	/**
+	 * True to coalesce messages sent concurrently on a connection into gathering writes.
+	 * @param writeCoalescing true to coalesce writes.
+	 * @return the spec.
+	 * @since 7.2
+	 * @see TcpNioClientConnectionFactory#setWriteCoalescing(boolean)
+	 */
+	public TcpNioClientConnectionFactorySpec writeCoalescing(boolean writeCoalescing) {
+		this.target.setWriteCoalescing(writeCoalescing);
+		return this;
+	}
+
 	/**
 	 * The {@link TcpNioConnectionSupport} to use.
 	 * @param tcpNioSupport the {@link TcpNioConnectionSupport}.
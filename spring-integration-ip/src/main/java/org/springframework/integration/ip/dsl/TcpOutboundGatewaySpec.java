@@ -22,6 +22,7 @@ import java.util.function.Function;
 
 import org.jspecify.annotations.Nullable;
 
+import org.springframework.integration.aggregator.CorrelationStrategy;
 import org.springframework.integration.dsl.ComponentsRegistration;
 import org.springframework.integration.dsl.MessageHandlerSpec;
 import org.springframework.integration.expression.FunctionExpression;
@@ -139,6 +140,31 @@ public class TcpOutboundGatewaySpec extends MessageHandlerSpec<TcpOutboundGatewa
 		return this;
 	}
 
+	/**
+	 * Set a {@link CorrelationStrategy} to enable the multiplexed mode,
+	 * where concurrent requests share the connection and replies are correlated by the extracted key.
+	 * @param correlationStrategy the strategy to extract the correlation key.
+	 * @return the spec.
+	 * @since 7.2
+	 * @see TcpOutboundGateway#setCorrelationStrategy(CorrelationStrategy)
+	 */
+	public TcpOutboundGatewaySpec correlationStrategy(CorrelationStrategy correlationStrategy) {
+		this.target.setCorrelationStrategy(correlationStrategy);
+		return this;
+	}
+
+	/**
+	 * Set a {@link CorrelationStrategy} to extract the correlation key from replies in the multiplexed mode.
+	 * @param replyCorrelationStrategy the strategy to extract the correlation key from replies.
+	 * @return the spec.
+	 * @since 7.2
+	 * @see TcpOutboundGateway#setReplyCorrelationStrategy(CorrelationStrategy)
+	 */
+	public TcpOutboundGatewaySpec replyCorrelationStrategy(CorrelationStrategy replyCorrelationStrategy) {
+		this.target.setReplyCorrelationStrategy(replyCorrelationStrategy);
+		return this;
+	}
+
 	@Override
 	public Map<Object, @Nullable String> getComponentsToRegister() {
 		return this.connectionFactory != null
@@ -105,6 +105,28 @@ public class UdpInboundChannelAdapterSpec
 		return this;
 	}
 
+	/**
+	 * @param receiverCount the number of threads receiving packets concurrently.
+	 * @return the spec.
+	 * @since 7.2
+	 * @see UnicastReceivingChannelAdapter#setReceiverCount(int)
+	 */
+	public UdpInboundChannelAdapterSpec receiverCount(int receiverCount) {
+		this.target.setReceiverCount(receiverCount);
+		return this;
+	}
+
+	/**
+	 * @param receiveBufferPoolSize the maximum number of receive buffers to reuse.
+	 * @return the spec.
+	 * @since 7.2
+	 * @see UnicastReceivingChannelAdapter#setReceiveBufferPoolSize(int)
+	 */
+	public UdpInboundChannelAdapterSpec receiveBufferPoolSize(int receiveBufferPoolSize) {
+		this.target.setReceiveBufferPoolSize(receiveBufferPoolSize);
+		return this;
+	}
+
 	/**
 	 * @param poolSize set the pool size.
 	 * @return the spec.
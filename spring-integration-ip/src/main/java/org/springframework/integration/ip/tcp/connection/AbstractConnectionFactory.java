@@ -86,6 +86,10 @@ public abstract class AbstractConnectionFactory extends IntegrationObjectSupport
 
 	private final BlockingQueue<PendingIO> delayedReads = new LinkedBlockingQueue<>();
 
+	private final Set<String> readPausedConnections = ConcurrentHashMap.newKeySet();
+
+	private final Map<String, SelectionKey> parkedReads = new ConcurrentHashMap<>();
+
 	private final List<TcpSender> senders = Collections.synchronizedList(new ArrayList<>());
 
 	private @Nullable String host;
@@ -518,7 +522,13 @@ public abstract class AbstractConnectionFactory extends IntegrationObjectSupport
 		return this.delayedReads;
 	}
 
-	protected long getReadDelay() {
+	/**
+	 * Return the delay (in milliseconds) before retrying a read after the previous attempt
+	 * failed due to insufficient threads.
+	 * @return the read delay.
+	 * @see #setReadDelay(long)
+	 */
+	public long getReadDelay() {
 		return this.readDelay;
 	}
 
@@ -532,6 +542,80 @@ public abstract class AbstractConnectionFactory extends IntegrationObjectSupport
 		this.readDelay = readDelay;
 	}
 
+	/**
+	 * Stop reading from the connection with the specified id, e.g. when the downstream flow
+	 * is saturated; TCP flow control then pushes back on the sender.
+	 * Only supported by NIO connections: the read interest of the connection is removed
+	 * (instead of re-registered) after its current read completes, until {@link #resumeReads(String)}.
+	 * The {@link #setSoTimeout(int) soTimeout} is not applied to a connection while its reads are paused,
+	 * and a connection closed by the peer is not detected until its reads are resumed.
+	 * With {@code java.net} connections, this is a no-op, because the reading thread
+	 * is blocked by the downstream flow anyway.
+	 * @param connectionId the connection id.
+	 * @since 7.2
+	 * @see #resumeReads(String)
+	 */
+	public void pauseReads(String connectionId) {
+		Assert.notNull(connectionId, "'connectionId' must not be null");
+		if (this.readPausedConnections.add(connectionId)) {
+			logger.debug(() -> "Reads paused for connection " + connectionId);
+		}
+	}
+
+	/**
+	 * Resume reading from the connection with the specified id after {@link #pauseReads(String)}.
+	 * @param connectionId the connection id.
+	 * @since 7.2
+	 */
+	public void resumeReads(String connectionId) {
+		Assert.notNull(connectionId, "'connectionId' must not be null");
+		if (this.readPausedConnections.remove(connectionId)) {
+			logger.debug(() -> "Reads resumed for connection " + connectionId);
+		}
+		resumeParkedRead(connectionId);
+	}
+
+	/**
+	 * Return true if the reads from the connection with the specified id are paused.
+	 * @param connectionId the connection id.
+	 * @return true if paused.
+	 * @since 7.2
+	 * @see #pauseReads(String)
+	 */
+	public boolean isReadPaused(String connectionId) {
+		return this.readPausedConnections.contains(connectionId);
+	}
+
+	private void parkRead(TcpNioConnection connection, SelectionKey key) {
+		String connectionId = connection.getConnectionId();
+		this.parkedReads.put(connectionId, key);
+		if (!isReadPaused(connectionId)) {
+			// resumed concurrently
+			resumeParkedRead(connectionId);
+		}
+	}
+
+	private void resumeParkedRead(String connectionId) {
+		SelectionKey key = this.parkedReads.remove(connectionId);
+		if (key != null) {
+			TcpNioConnection connection = (TcpNioConnection) key.attachment();
+			if (key.channel().isOpen()) {
+				// The time spent paused must not count for the soTimeout
+				connection.setLastRead(System.currentTimeMillis());
+				try {
+					key.interestOps(SelectionKey.OP_READ);
+					key.selector().wakeup();
+				}
+				catch (@SuppressWarnings(UNUSED) CancelledKeyException ex) {
+					logger.debug(() -> "Selection key " + key + " cancelled");
+				}
+			}
+			else {
+				connection.sendExceptionToListener(new EOFException("Connection is closed"));
+			}
+		}
+	}
+
 	protected Object getLifecycleMonitor() {
 		return this.lifecycleMonitor;
 	}
@@ -576,6 +660,8 @@ public abstract class AbstractConnectionFactory extends IntegrationObjectSupport
 	@Override
 	public void stop() {
 		this.active = false;
+		this.readPausedConnections.clear();
+		this.parkedReads.clear();
 		this.connectionsMonitor.lock();
 		try {
 			Iterator<Entry<String, TcpConnectionSupport>> iterator = this.connections.entrySet().iterator();
@@ -672,12 +758,33 @@ public abstract class AbstractConnectionFactory extends IntegrationObjectSupport
 	protected void processNioSelections(int selectionCount, Selector selector,
 			@Nullable ServerSocketChannel server, Map<SocketChannel, TcpNioConnection> connectionMap) {
 
+		this.nextCheckForClosedNioConnections =
+				processNioSelections(selectionCount, selector, server, connectionMap,
+						this.nextCheckForClosedNioConnections);
+	}
+
+	/**
+	 * Same as {@link #processNioSelections(int, Selector, ServerSocketChannel, Map)},
+	 * but with the time for the next check for closed connections managed by the caller,
+	 * e.g. a {@link TcpNioReactor} with its own connections.
+	 * @param selectionCount Number of IO Events, if 0 we were probably woken up by a close.
+	 * @param selector The selector.
+	 * @param server The server socket channel.
+	 * @param connectionMap Map of connections.
+	 * @param nextCheckForClosedConnections the time for the next check for closed connections.
+	 * @return the time for the next check for closed connections.
+	 * @since 7.2
+	 */
+	long processNioSelections(int selectionCount, Selector selector, @Nullable ServerSocketChannel server,
+			Map<SocketChannel, TcpNioConnection> connectionMap, long nextCheckForClosedConnections) {
+
+		long nextCheck = nextCheckForClosedConnections;
 		final long now = System.currentTimeMillis();
 		rescheduleDelayedReads(selector, now);
 		if (this.soTimeout > 0 ||
-				now >= this.nextCheckForClosedNioConnections ||
+				now >= nextCheck ||
 				selectionCount == 0) {
-			this.nextCheckForClosedNioConnections = now + this.nioHarvestInterval;
+			nextCheck = now + this.nioHarvestInterval;
 			Iterator<Entry<SocketChannel, TcpNioConnection>> it = connectionMap.entrySet().iterator();
 			while (it.hasNext()) {
 				checkChannel(connectionMap, now, it);
@@ -711,6 +818,7 @@ public abstract class AbstractConnectionFactory extends IntegrationObjectSupport
 				}
 			}
 		}
+		return nextCheck;
 	}
 
 	private void checkChannel(Map<SocketChannel, TcpNioConnection> connectionMap, final long now,
@@ -723,7 +831,11 @@ public abstract class AbstractConnectionFactory extends IntegrationObjectSupport
 		else if (this.soTimeout > 0) {
 			TcpNioConnection connection = connectionMap.get(channel);
 			Assert.state(connection != null, () -> "No 'connection' for channel: " + channel);
-			if (now - connection.getLastRead() >= this.soTimeout) {
+			if (isReadPaused(connection.getConnectionId())) {
+				logger.trace(() -> "Skipping a connection timeout because the reads are paused " +
+						connection.getConnectionId());
+			}
+			else if (now - connection.getLastRead() >= this.soTimeout) {
 				/*
 				 * For client connections, we have to wait for 2 timeouts if the last
 				 * send was within the current timeout.
@@ -767,6 +879,10 @@ public abstract class AbstractConnectionFactory extends IntegrationObjectSupport
 		final TcpNioConnection connection;
 		connection = (TcpNioConnection) key.attachment();
 		connection.setLastRead(System.currentTimeMillis());
+		if (isReadPaused(connection.getConnectionId())) {
+			parkRead(connection, key);
+			return;
+		}
 		try {
 			getTaskExecutor().execute(() -> {
 				boolean delayed = false;
@@ -789,7 +905,10 @@ public abstract class AbstractConnectionFactory extends IntegrationObjectSupport
 					}
 				}
 				if (!delayed) {
-					if (key.channel().isOpen()) {
+					if (isReadPaused(connection.getConnectionId()) && key.channel().isOpen()) {
+						parkRead(connection, key);
+					}
+					else if (key.channel().isOpen()) {
 						key.interestOps(SelectionKey.OP_READ);
 						selector.wakeup();
 					}
@@ -842,7 +961,14 @@ public abstract class AbstractConnectionFactory extends IntegrationObjectSupport
 					PendingIO pendingRead = this.delayedReads.take();
 					if (pendingRead.key.channel().isOpen()) {
 						pendingRead.key.interestOps(SelectionKey.OP_READ);
-						wakeSelector = true;
+						Selector keySelector = pendingRead.key.selector();
+						if (keySelector.equals(selector)) {
+							wakeSelector = true;
+						}
+						else {
+							// The key is served by another reactor
+							keySelector.wakeup();
+						}
 						logger.debug(() -> "Rescheduling delayed read for " +
 								((TcpNioConnection) pendingRead.key.attachment()).getConnectionId());
 					}
@@ -905,6 +1031,8 @@ public abstract class AbstractConnectionFactory extends IntegrationObjectSupport
 				TcpConnectionSupport connection = entry.getValue();
 				if (!connection.isOpen()) {
 					iterator.remove();
+					this.readPausedConnections.remove(entry.getKey());
+					this.parkedReads.remove(entry.getKey());
 					if (connection instanceof TcpConnectionInterceptorSupport) {
 						((TcpConnectionInterceptorSupport) connection).removeDeadConnection(connection);
 					}
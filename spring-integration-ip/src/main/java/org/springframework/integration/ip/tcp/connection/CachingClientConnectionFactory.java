@@ -30,6 +30,8 @@ import org.springframework.core.serializer.Deserializer;
 import org.springframework.core.serializer.Serializer;
 import org.springframework.integration.ip.IpHeaders;
 import org.springframework.integration.support.AbstractIntegrationMessageBuilder;
+import org.springframework.integration.util.ConcurrentBagPool;
+import org.springframework.integration.util.Pool;
 import org.springframework.integration.util.SimplePool;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessagingException;
@@ -55,7 +57,7 @@ public class CachingClientConnectionFactory extends AbstractClientConnectionFact
 
 	private final AbstractClientConnectionFactory targetConnectionFactory;
 
-	private final SimplePool<TcpConnectionSupport> pool;
+	private final Pool<TcpConnectionSupport> pool;
 
 	/**
 	 * Construct a caching connection factory that delegates to the provided factory, with
@@ -64,16 +66,31 @@ public class CachingClientConnectionFactory extends AbstractClientConnectionFact
 	 * @param poolSize the number of connections to allow.
 	 */
 	public CachingClientConnectionFactory(AbstractClientConnectionFactory target, int poolSize) {
+		this(target, new SimplePool<>(poolSize, poolItemCallback(target)));
+	}
+
+	/**
+	 * Construct a caching connection factory that delegates to the provided factory and
+	 * caches the connections in the provided pool, e.g. a {@link ConcurrentBagPool}
+	 * when many threads obtain connections concurrently (a connection per request).
+	 * The pool must create its connections with the {@link #poolItemCallback(AbstractClientConnectionFactory)}
+	 * for the same target factory.
+	 * @param target the target factory.
+	 * @param pool the pool to cache connections in.
+	 * @since 7.2
+	 */
+	public CachingClientConnectionFactory(AbstractClientConnectionFactory target, Pool<TcpConnectionSupport> pool) {
 		super("", 0);
+		Assert.notNull(pool, "'pool' must not be null");
 		// override single-use to true so the target creates multiple connections
 		target.setSingleUse(true);
 		this.targetConnectionFactory = target;
-		this.pool = new SimplePool<>(poolSize, new TcpConnectionPoolItemCallback(this.targetConnectionFactory));
+		this.pool = pool;
 	}
 
 	/**
 	 * @param connectionWaitTimeout the new timeout.
-	 * @see SimplePool#setWaitTimeout(long)
+	 * @see Pool#setWaitTimeout(long)
 	 */
 	public void setConnectionWaitTimeout(int connectionWaitTimeout) {
 		this.pool.setWaitTimeout(connectionWaitTimeout);
@@ -81,7 +98,7 @@ public class CachingClientConnectionFactory extends AbstractClientConnectionFact
 
 	/**
 	 * @param poolSize the new pool size.
-	 * @see SimplePool#setPoolSize(int)
+	 * @see Pool#setPoolSize(int)
 	 */
 	public void setPoolSize(int poolSize) {
 		this.pool.setPoolSize(poolSize);
@@ -500,6 +517,20 @@ public class CachingClientConnectionFactory extends AbstractClientConnectionFact
 
 	}
 
+	/**
+	 * Create a {@link SimplePool.PoolItemCallback} to obtain connections from the target factory
+	 * for the pool provided to the {@link #CachingClientConnectionFactory(AbstractClientConnectionFactory, Pool)}.
+	 * @param target the target factory.
+	 * @return the callback.
+	 * @since 7.2
+	 */
+	public static SimplePool.PoolItemCallback<TcpConnectionSupport> poolItemCallback(
+			AbstractClientConnectionFactory target) {
+
+		Assert.notNull(target, "'target' must not be null");
+		return new TcpConnectionPoolItemCallback(target);
+	}
+
 	private record TcpConnectionPoolItemCallback(AbstractClientConnectionFactory targetConnectionFactory)
 			implements SimplePool.PoolItemCallback<TcpConnectionSupport> {
 
@@ -19,25 +19,29 @@ package org.springframework.integration.ip.tcp.connection;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.net.InetSocketAddress;
-import java.nio.channels.CancelledKeyException;
-import java.nio.channels.ClosedChannelException;
 import java.nio.channels.ClosedSelectorException;
-import java.nio.channels.SelectionKey;
 import java.nio.channels.Selector;
 import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 
 import org.jspecify.annotations.Nullable;
 
+import org.springframework.integration.support.management.metrics.MetricsCaptor;
 import org.springframework.scheduling.SchedulingAwareRunnable;
 import org.springframework.util.Assert;
 
 /**
  * A client connection factory that creates {@link TcpNioConnection}s.
+ * <p>
+ * By default, a single selector thread serves read events for all the connections.
+ * With a {@link #setReactorCount(int) reactor count} greater than 1, each new connection
+ * is registered with the reactor (a selector on its own thread) with the fewest connections.
  *
  * @author Gary Russell
  * @author Artem Bilan
@@ -59,6 +63,16 @@ public class TcpNioClientConnectionFactory extends
 
 	private TcpNioConnectionSupport tcpNioConnectionSupport = new DefaultTcpNioConnectionSupport();
 
+	private int reactorCount = 1;
+
+	private @Nullable MetricsCaptor metricsCaptor;
+
+	private boolean writeCoalescing;
+
+	private volatile TcpNioConnection.@Nullable WriteCounters writeCounters;
+
+	private volatile List<TcpNioReactor> reactors = List.of();
+
 	private volatile @Nullable Selector selector;
 
 	/**
@@ -98,6 +112,8 @@ public class TcpNioClientConnectionFactory extends
 					this.tcpNioConnectionSupport.createNewConnection(socketChannel, false, isLookupHost(),
 							getApplicationEventPublisher(), getComponentName());
 			connection.setUsingDirectBuffers(this.usingDirectBuffers);
+			connection.setWriteCoalescing(this.writeCoalescing);
+			connection.setWriteCounters(this.writeCounters);
 			connection.setTaskExecutor(getTaskExecutor());
 			Integer sslHandshakeTimeout = getSslHandshakeTimeout();
 			if (sslHandshakeTimeout != null && connection instanceof TcpNioSSLConnection) {
@@ -111,10 +127,9 @@ public class TcpNioClientConnectionFactory extends
 			if (getSoTimeout() > 0) {
 				connection.setLastRead(System.currentTimeMillis());
 			}
-			this.channelMap.put(socketChannel, connection);
+			TcpNioReactor reactor = nextReactor();
 			wrappedConnection.publishConnectionOpenEvent();
-			this.newChannels.add(socketChannel);
-			Objects.requireNonNull(this.selector).wakeup();
+			reactor.addConnection(socketChannel, connection);
 			return wrappedConnection;
 		}
 		catch (IOException e) {
@@ -134,6 +149,17 @@ public class TcpNioClientConnectionFactory extends
 		}
 	}
 
+	private TcpNioReactor nextReactor() {
+		TcpNioReactor leastLoaded = null;
+		for (TcpNioReactor reactor : this.reactors) {
+			if (leastLoaded == null || reactor.getConnectionCount() < leastLoaded.getConnectionCount()) {
+				leastLoaded = reactor;
+			}
+		}
+		Assert.state(leastLoaded != null, "The reactors are not started");
+		return leastLoaded;
+	}
+
 	private void connect(SocketChannel socketChannel) throws IOException, InterruptedException {
 		socketChannel.configureBlocking(false);
 		socketChannel.connect(new InetSocketAddress(getHost(), getPort()));
@@ -159,11 +185,66 @@ public class TcpNioClientConnectionFactory extends
 		this.usingDirectBuffers = usingDirectBuffers;
 	}
 
+	/**
+	 * Set to true to coalesce messages sent concurrently on the same connection into
+	 * gathering writes.
+	 * When a {@link #setMetricsCaptor(MetricsCaptor) metrics captor} is provided, the
+	 * {@code spring.integration.ip.tcp.writes} and {@code spring.integration.ip.tcp.write.frames}
+	 * counters are exposed; their ratio is the average number of frames per write.
+	 * @param writeCoalescing true to coalesce writes.
+	 * @since 7.2
+	 * @see TcpNioConnection#setWriteCoalescing(boolean)
+	 */
+	public void setWriteCoalescing(boolean writeCoalescing) {
+		this.writeCoalescing = writeCoalescing;
+	}
+
 	public void setTcpNioConnectionSupport(TcpNioConnectionSupport tcpNioSupport) {
 		Assert.notNull(tcpNioSupport, "TcpNioSupport must not be null");
 		this.tcpNioConnectionSupport = tcpNioSupport;
 	}
 
+	/**
+	 * Set the number of reactors (selectors with their own threads) to serve read events
+	 * for the connections. With the default {@code 1}, a single selector serves all the connections.
+	 * Otherwise, each new connection is registered with the reactor which has the fewest connections
+	 * at the moment.
+	 * The reactor threads are obtained from the {@link #setTaskExecutor(java.util.concurrent.Executor)
+	 * task executor} and occupy them while the factory is running.
+	 * @param reactorCount the number of reactors.
+	 * @since 7.2
+	 */
+	public void setReactorCount(int reactorCount) {
+		Assert.isTrue(reactorCount > 0, "'reactorCount' must be greater than 0");
+		this.reactorCount = reactorCount;
+	}
+
+	/**
+	 * Set a {@link MetricsCaptor} to expose the number of connections
+	 * ({@code spring.integration.ip.tcp.reactor.connections} gauge) and the time to process
+	 * the selected keys per select loop iteration ({@code spring.integration.ip.tcp.reactor.select} timer)
+	 * for each reactor.
+	 * The meters are tagged with the {@code name} of this factory and the {@code reactor} index.
+	 * @param metricsCaptor the {@link MetricsCaptor} to use.
+	 * @since 7.2
+	 * @see #setReactorCount(int)
+	 */
+	public void setMetricsCaptor(MetricsCaptor metricsCaptor) {
+		this.metricsCaptor = metricsCaptor;
+	}
+
+	/**
+	 * Return the number of connections served by each reactor.
+	 * @return the number of connections per reactor index.
+	 * @since 7.2
+	 * @see #setReactorCount(int)
+	 */
+	public List<Integer> getReactorConnectionCounts() {
+		return this.reactors.stream()
+				.map(TcpNioReactor::getConnectionCount)
+				.toList();
+	}
+
 	@Override
 	public boolean isLongLived() {
 		return true;
@@ -171,6 +252,13 @@ public class TcpNioClientConnectionFactory extends
 
 	@Override
 	public void stop() {
+		this.reactors.forEach(TcpNioReactor::close);
+		this.reactors = List.of();
+		TcpNioConnection.WriteCounters writeCountersToRemove = this.writeCounters;
+		if (writeCountersToRemove != null) {
+			writeCountersToRemove.remove();
+			this.writeCounters = null;
+		}
 		Selector selectorToClose = this.selector;
 		if (selectorToClose != null) {
 			try {
@@ -203,9 +291,10 @@ public class TcpNioClientConnectionFactory extends
 		logger.debug(() -> "Read selector running for connections to " + getHost() + ':' + getPort());
 		try {
 			Selector selectorToUse = Selector.open();
+			TcpNioReactor mainReactor = startReactors(selectorToUse);
 			this.selector = selectorToUse;
 			while (isActive()) {
-				processSelectorWhileActive(selectorToUse);
+				mainReactor.select(null);
 			}
 		}
 		catch (ClosedSelectorException cse) {
@@ -220,29 +309,29 @@ public class TcpNioClientConnectionFactory extends
 		logger.debug(() -> "Read selector exiting for connections to " + getHost() + ':' + getPort());
 	}
 
-	private void processSelectorWhileActive(Selector selector) throws IOException {
-		SocketChannel newChannel;
-		int soTimeout = getSoTimeout();
-		int selectionCount = 0;
-		try {
-			long timeout = Math.max(soTimeout, 0);
-			if (!getDelayedReads().isEmpty() && (timeout == 0 || getReadDelay() < timeout)) {
-				timeout = getReadDelay();
-			}
-			selectionCount = selector.select(timeout);
-		}
-		catch (@SuppressWarnings("unused") CancelledKeyException cke) {
-			logger.debug("CancelledKeyException during Selector.select()");
+	/**
+	 * Create the reactors; the first one is for the selector served by the factory thread,
+	 * the rest are started on the task executor.
+	 */
+	private TcpNioReactor startReactors(Selector mainSelector) throws IOException {
+		List<TcpNioReactor> reactorsToStart = new ArrayList<>();
+		reactorsToStart.add(new TcpNioReactor(this, 0, mainSelector, this.channelMap, this.newChannels));
+		for (int i = 1; i < this.reactorCount; i++) {
+			reactorsToStart.add(new TcpNioReactor(this, i, Selector.open(), new ConcurrentHashMap<>(),
+					new ConcurrentLinkedQueue<>()));
 		}
-		while ((newChannel = this.newChannels.poll()) != null) {
-			try {
-				newChannel.register(selector, SelectionKey.OP_READ, this.channelMap.get(newChannel));
-			}
-			catch (@SuppressWarnings("unused") ClosedChannelException cce) {
-				logger.debug("Channel closed before registering with selector for reading");
+		MetricsCaptor metricsCaptorToUse = this.metricsCaptor;
+		if (metricsCaptorToUse != null) {
+			reactorsToStart.forEach((reactor) -> reactor.registerMeters(metricsCaptorToUse, getComponentName()));
+			if (this.writeCoalescing) {
+				this.writeCounters = TcpNioConnection.WriteCounters.build(metricsCaptorToUse, getComponentName());
 			}
 		}
-		processNioSelections(selectionCount, selector, null, this.channelMap);
+		this.reactors = reactorsToStart;
+		for (int i = 1; i < reactorsToStart.size(); i++) {
+			getTaskExecutor().execute(reactorsToStart.get(i));
+		}
+		return reactorsToStart.get(0);
 	}
 
 	/**
@@ -253,6 +342,9 @@ public class TcpNioClientConnectionFactory extends
 	}
 
 	/**
+	 * Return the connections served by the selector of the factory thread;
+	 * does not include connections of other reactors if the
+	 * {@link #setReactorCount(int) reactor count} is greater than 1.
 	 * @return the connections
 	 */
 	protected Map<SocketChannel, TcpNioConnection> getConnections() {
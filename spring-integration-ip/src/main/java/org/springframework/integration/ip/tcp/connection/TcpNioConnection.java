@@ -17,6 +17,7 @@
 package org.springframework.integration.ip.tcp.connection;
 
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -27,9 +28,13 @@ import java.nio.channels.ClosedChannelException;
 import java.nio.channels.SelectionKey;
 import java.nio.channels.Selector;
 import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
+import java.util.Queue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
@@ -38,6 +43,7 @@ import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -48,6 +54,8 @@ import org.jspecify.annotations.Nullable;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.serializer.Serializer;
 import org.springframework.integration.ip.tcp.serializer.SoftEndOfStreamException;
+import org.springframework.integration.support.management.metrics.CounterFacade;
+import org.springframework.integration.support.management.metrics.MetricsCaptor;
 import org.springframework.integration.util.CompositeExecutor;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessagingException;
@@ -91,8 +99,18 @@ public class TcpNioConnection extends TcpConnectionSupport {
 
 	private final Lock executionControlMonitor = new ReentrantLock();
 
+	private final Queue<PendingWrite> pendingWrites = new ConcurrentLinkedQueue<>();
+
+	private final LongAdder writeCount = new LongAdder();
+
+	private final LongAdder writtenFrameCount = new LongAdder();
+
 	private boolean usingDirectBuffers;
 
+	private boolean writeCoalescing;
+
+	private @Nullable WriteCounters writeCounters;
+
 	private long pipeTimeout = DEFAULT_PIPE_TIMEOUT;
 
 	private volatile @Nullable OutputStream bufferedOutputStream;
@@ -165,6 +183,10 @@ public class TcpNioConnection extends TcpConnectionSupport {
 	@Override
 	@SuppressWarnings("unchecked")
 	public void send(Message<?> message) {
+		if (this.writeCoalescing) {
+			sendCoalesced(message);
+			return;
+		}
 		this.socketChannelMonitor.lock();
 		try {
 			try {
@@ -196,6 +218,85 @@ public class TcpNioConnection extends TcpConnectionSupport {
 		}
 	}
 
+	/**
+	 * Serialize the message outside the lock and queue the frame; the thread holding
+	 * the lock writes all the queued frames with a single gathering write.
+	 */
+	@SuppressWarnings("unchecked")
+	private void sendCoalesced(Message<?> message) {
+		PendingWrite pendingWrite;
+		try {
+			Object object = getMapper().fromMessage(message);
+			Assert.state(object != null, () -> "The mapper returned null for message: " + message);
+			ByteArrayOutputStream frame = new ByteArrayOutputStream();
+			((Serializer<Object>) getSerializer()).serialize(object, frame);
+			pendingWrite = new PendingWrite(ByteBuffer.wrap(frame.toByteArray()));
+		}
+		catch (Exception e) {
+			MessagingException mex = new MessagingException(message, "Send Failed", e);
+			publishConnectionExceptionEvent(mex);
+			closeConnection(true);
+			throw mex;
+		}
+		this.pendingWrites.add(pendingWrite);
+		this.socketChannelMonitor.lock();
+		try {
+			while (!pendingWrite.written) {
+				writePendingFrames();
+			}
+		}
+		catch (Exception e) {
+			MessagingException mex = new MessagingException(message, "Send Failed", e);
+			publishConnectionExceptionEvent(mex);
+			closeConnection(true);
+			throw mex;
+		}
+		finally {
+			this.socketChannelMonitor.unlock();
+		}
+		Exception failure = pendingWrite.failure;
+		if (failure != null) {
+			// The frame was written (and failed) together with another thread's frame
+			throw new MessagingException(message, "Send Failed", failure);
+		}
+		if (logger.isDebugEnabled()) {
+			logger.debug(getConnectionId() + " Message sent " + message);
+		}
+	}
+
+	private void writePendingFrames() throws IOException {
+		List<PendingWrite> frames = new ArrayList<>();
+		PendingWrite next;
+		while ((next = this.pendingWrites.poll()) != null) {
+			frames.add(next);
+		}
+		if (frames.isEmpty()) {
+			return;
+		}
+		ByteBuffer[] buffers = new ByteBuffer[frames.size()];
+		for (int i = 0; i < buffers.length; i++) {
+			buffers[i] = frames.get(i).buffer;
+		}
+		this.lastSend = System.currentTimeMillis();
+		try {
+			getChannelOutputStream().doWrite(buffers);
+		}
+		catch (IOException | RuntimeException ex) {
+			frames.forEach((frame) -> frame.failure = ex);
+			throw ex;
+		}
+		finally {
+			frames.forEach((frame) -> frame.written = true);
+		}
+		this.writeCount.increment();
+		this.writtenFrameCount.add(frames.size());
+		WriteCounters counters = this.writeCounters;
+		if (counters != null) {
+			counters.writes().increment();
+			frames.forEach((frame) -> counters.frames().increment());
+		}
+	}
+
 	@Override
 	public Object getPayload() {
 		try {
@@ -581,6 +682,44 @@ public class TcpNioConnection extends TcpConnectionSupport {
 		return this.usingDirectBuffers;
 	}
 
+	/**
+	 * Set to true to serialize messages sent concurrently on this connection outside the
+	 * send lock and write all the frames queued meanwhile with a single gathering write
+	 * ({@link SocketChannel#write(ByteBuffer[])}) by the thread holding the lock.
+	 * No delay is added to wait for more frames: a batch consists of the frames
+	 * queued while the previous write was in progress.
+	 * @param writeCoalescing true to coalesce concurrent writes.
+	 * @since 7.2
+	 */
+	public void setWriteCoalescing(boolean writeCoalescing) {
+		this.writeCoalescing = writeCoalescing;
+	}
+
+	void setWriteCounters(@Nullable WriteCounters writeCounters) {
+		this.writeCounters = writeCounters;
+	}
+
+	/**
+	 * Return the number of (gathering) write operations performed for coalesced sends.
+	 * @return the number of writes.
+	 * @since 7.2
+	 * @see #setWriteCoalescing(boolean)
+	 */
+	public long getWriteCount() {
+		return this.writeCount.sum();
+	}
+
+	/**
+	 * Return the number of frames written by coalesced sends;
+	 * divided by {@link #getWriteCount()}, gives the average number of frames per write.
+	 * @return the number of frames.
+	 * @since 7.2
+	 * @see #setWriteCoalescing(boolean)
+	 */
+	public long getWrittenFrameCount() {
+		return this.writtenFrameCount.sum();
+	}
+
 	protected ChannelOutputStream getChannelOutputStream() {
 		return this.channelOutputStream;
 	}
@@ -669,6 +808,49 @@ public class TcpNioConnection extends TcpConnectionSupport {
 			doWrite(buffer);
 		}
 
+		/**
+		 * Write the buffers with gathering writes; implements timeout on write.
+		 * @param buffers the buffers to write.
+		 * @throws IOException an IO exception.
+		 * @since 7.2
+		 */
+		protected void doWrite(ByteBuffer[] buffers) throws IOException {
+			this.innerLock.lock();
+			try {
+				ByteBuffer last = buffers[buffers.length - 1];
+				if (logger.isDebugEnabled()) {
+					logger.debug(getConnectionId() + " writing " + buffers.length + " frames");
+				}
+				TcpNioConnection.this.socketChannel.write(buffers);
+				if (!last.hasRemaining()) {
+					return;
+				}
+				Selector selectorToUse = obtainSelector();
+				TcpNioConnection.this.socketChannel.register(selectorToUse, SelectionKey.OP_WRITE);
+				while (last.hasRemaining()) {
+					int selectionCount = selectorToUse.select(this.soTimeout);
+					if (selectionCount == 0) {
+						throw new SocketTimeoutException("Timeout on write");
+					}
+					selectorToUse.selectedKeys().clear();
+					TcpNioConnection.this.socketChannel.write(buffers);
+				}
+			}
+			finally {
+				this.innerLock.unlock();
+			}
+		}
+
+		private Selector obtainSelector() throws IOException {
+			Selector selectorToUse = this.selector;
+			if (selectorToUse == null) {
+				selectorToUse = Selector.open();
+				this.selector = selectorToUse;
+				this.soTimeout = TcpNioConnection.this.socketChannel.socket().getSoTimeout();
+			}
+			return selectorToUse;
+		}
+
 		protected void doWrite(ByteBuffer buffer) throws IOException {
 			this.innerLock.lock();
 			try {
@@ -681,12 +863,7 @@ public class TcpNioConnection extends TcpConnectionSupport {
 				if (remaining == 0) {
 					return;
 				}
-				Selector selectorToUse = this.selector;
-				if (selectorToUse == null) {
-					selectorToUse = Selector.open();
-					this.selector = selectorToUse;
-					this.soTimeout = TcpNioConnection.this.socketChannel.socket().getSoTimeout();
-				}
+				Selector selectorToUse = obtainSelector();
 				TcpNioConnection.this.socketChannel.register(selectorToUse, SelectionKey.OP_WRITE);
 				while (remaining > 0) {
 					int selectionCount = selectorToUse.select(this.soTimeout);
@@ -853,4 +1030,44 @@ public class TcpNioConnection extends TcpConnectionSupport {
 
 	}
 
+	private static final class PendingWrite {
+
+		private final ByteBuffer buffer;
+
+		private boolean written;
+
+		private @Nullable Exception failure;
+
+		PendingWrite(ByteBuffer buffer) {
+			this.buffer = buffer;
+		}
+
+	}
+
+	/**
+	 * The counters for the gathering writes and the frames written by them.
+	 * @param writes the writes counter.
+	 * @param frames the frames counter.
+	 */
+	record WriteCounters(CounterFacade writes, CounterFacade frames) {
+
+		static WriteCounters build(MetricsCaptor metricsCaptor, String name) {
+			return new WriteCounters(
+					metricsCaptor.counterBuilder("spring.integration.ip.tcp.writes")
+							.tag("name", name)
+							.description("The number of gathering writes for coalesced sends")
+							.build(),
+					metricsCaptor.counterBuilder("spring.integration.ip.tcp.write.frames")
+							.tag("name", name)
+							.description("The number of frames written by coalesced sends")
+							.build());
+		}
+
+		void remove() {
+			this.writes.remove();
+			this.frames.remove();
+		}
+
+	}
+
 }
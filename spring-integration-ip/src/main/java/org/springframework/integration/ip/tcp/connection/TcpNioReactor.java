@@ -0,0 +1,208 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.ip.tcp.connection;
+
+import java.io.IOException;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.core.log.LogAccessor;
+import org.springframework.integration.support.management.metrics.MeterFacade;
+import org.springframework.integration.support.management.metrics.MetricsCaptor;
+import org.springframework.integration.support.management.metrics.TimerFacade;
+
+/**
+ * A select loop over a {@link Selector} serving read events for a subset of
+ * {@link TcpNioConnection}s of a connection factory.
+ * New channels can be added from any thread; they are registered with the selector
+ * by the reactor thread itself.
+ *
+ * @author Artem Bilan
+ *
+ * @since 7.2
+ */
+final class TcpNioReactor implements Runnable {
+
+	private static final LogAccessor LOGGER = new LogAccessor(TcpNioReactor.class);
+
+	private final AbstractConnectionFactory connectionFactory;
+
+	private final int index;
+
+	private final Selector selector;
+
+	private final Map<SocketChannel, TcpNioConnection> connections;
+
+	private final Queue<SocketChannel> newChannels;
+
+	private final List<MeterFacade> meters = new ArrayList<>();
+
+	private long nextCheckForClosedConnections;
+
+	private @Nullable TimerFacade selectTimer;
+
+	private volatile boolean closed;
+
+	TcpNioReactor(AbstractConnectionFactory connectionFactory, int index, Selector selector,
+			Map<SocketChannel, TcpNioConnection> connections, Queue<SocketChannel> newChannels) {
+
+		this.connectionFactory = connectionFactory;
+		this.index = index;
+		this.selector = selector;
+		this.connections = connections;
+		this.newChannels = newChannels;
+	}
+
+	Selector getSelector() {
+		return this.selector;
+	}
+
+	Map<SocketChannel, TcpNioConnection> getConnections() {
+		return this.connections;
+	}
+
+	int getConnectionCount() {
+		return this.connections.size();
+	}
+
+	/**
+	 * Add the channel to this reactor; it is registered for reading on the next select loop iteration.
+	 * @param channel the channel.
+	 * @param connection the connection for the channel.
+	 */
+	void addConnection(SocketChannel channel, TcpNioConnection connection) {
+		this.connections.put(channel, connection);
+		this.newChannels.add(channel);
+		this.selector.wakeup();
+	}
+
+	/**
+	 * Register the {@code spring.integration.ip.tcp.reactor.connections} gauge and
+	 * {@code spring.integration.ip.tcp.reactor.select} timer for this reactor.
+	 * @param metricsCaptor the captor to build meters.
+	 * @param name the connection factory name.
+	 */
+	void registerMeters(MetricsCaptor metricsCaptor, String name) {
+		String reactor = Integer.toString(this.index);
+		this.meters.add(
+				metricsCaptor.gaugeBuilder("spring.integration.ip.tcp.reactor.connections", this,
+								(nioReactor) -> ((TcpNioReactor) nioReactor).getConnectionCount())
+						.tag("name", name)
+						.tag("reactor", reactor)
+						.description("The number of connections served by the reactor")
+						.build());
+		TimerFacade timer =
+				metricsCaptor.timerBuilder("spring.integration.ip.tcp.reactor.select")
+						.tag("name", name)
+						.tag("reactor", reactor)
+						.description("The time to process the selected keys in one select loop iteration")
+						.build();
+		this.meters.add(timer);
+		this.selectTimer = timer;
+	}
+
+	@Override
+	public void run() {
+		LOGGER.debug(() -> "Reactor " + this.index + " running for " + this.connectionFactory);
+		try {
+			selectWhileActive(null);
+		}
+		catch (ClosedSelectorException ex) {
+			if (!this.closed && this.connectionFactory.isActive()) {
+				LOGGER.error(ex, "Selector closed");
+			}
+		}
+		catch (Exception ex) {
+			LOGGER.error(ex, () -> "Exception in reactor " + this.index + " for " + this.connectionFactory);
+		}
+		LOGGER.debug(() -> "Reactor " + this.index + " exiting for " + this.connectionFactory);
+	}
+
+	void selectWhileActive(@Nullable ServerSocketChannel server) throws IOException {
+		while (this.connectionFactory.isActive() && !this.closed) {
+			select(server);
+		}
+	}
+
+	/**
+	 * Perform one select loop iteration: wait for events, register the new channels
+	 * and process the selected keys.
+	 * @param server the server channel to accept connections from, if any.
+	 * @throws IOException a thrown IO exception.
+	 */
+	void select(@Nullable ServerSocketChannel server) throws IOException {
+		long timeout = Math.max(this.connectionFactory.getSoTimeout(), 0);
+		long readDelay = this.connectionFactory.getReadDelay();
+		if (!this.connectionFactory.getDelayedReads().isEmpty() && (timeout == 0 || readDelay < timeout)) {
+			timeout = readDelay;
+		}
+		int selectionCount = 0;
+		try {
+			selectionCount = this.selector.select(timeout);
+		}
+		catch (@SuppressWarnings("unused") CancelledKeyException cke) {
+			LOGGER.debug("CancelledKeyException during Selector.select()");
+		}
+		long start = System.nanoTime();
+		registerNewChannels();
+		this.nextCheckForClosedConnections =
+				this.connectionFactory.processNioSelections(selectionCount, this.selector, server, this.connections,
+						this.nextCheckForClosedConnections);
+		TimerFacade timer = this.selectTimer;
+		if (timer != null) {
+			timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	private void registerNewChannels() {
+		SocketChannel newChannel;
+		while ((newChannel = this.newChannels.poll()) != null) {
+			try {
+				newChannel.register(this.selector, SelectionKey.OP_READ, this.connections.get(newChannel));
+			}
+			catch (@SuppressWarnings("unused") ClosedChannelException cce) {
+				LOGGER.debug("Channel closed before registering with selector for reading");
+			}
+		}
+	}
+
+	void close() {
+		this.closed = true;
+		try {
+			this.selector.close();
+		}
+		catch (Exception ex) {
+			LOGGER.error(ex, "Error closing selector");
+		}
+		this.meters.forEach(MeterFacade::remove);
+		this.meters.clear();
+		this.selectTimer = null;
+	}
+
+}
@@ -339,6 +339,17 @@ public class TcpNioSSLConnection extends TcpNioConnection {
 			this.channelOutputStream = channelOutputStream;
 		}
 
+		/**
+		 * Encrypt the buffers one by one; the encoded data is written to the SocketChannel
+		 * for each buffer.
+		 */
+		@Override
+		protected void doWrite(ByteBuffer[] buffers) throws IOException {
+			for (ByteBuffer buffer : buffers) {
+				doWrite(buffer);
+			}
+		}
+
 		/**
 		 * Encrypt the plaintText buffer and writes it to the SocketChannel.
 		 * Will participate in SSL handshaking as necessary. For very large
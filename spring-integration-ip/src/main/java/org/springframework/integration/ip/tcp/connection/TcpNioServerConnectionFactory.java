@@ -22,23 +22,32 @@ import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.Socket;
 import java.net.SocketAddress;
-import java.nio.channels.CancelledKeyException;
 import java.nio.channels.ClosedSelectorException;
 import java.nio.channels.SelectionKey;
 import java.nio.channels.Selector;
 import java.nio.channels.ServerSocketChannel;
 import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import org.jspecify.annotations.Nullable;
 
+import org.springframework.integration.support.management.metrics.MetricsCaptor;
 import org.springframework.util.Assert;
 
 /**
  /**
  * Implements a server connection factory that produces {@link TcpNioConnection}s using
  * a {@link ServerSocketChannel}. Must have a {@link TcpListener} registered.
+ * <p>
+ * By default, a single selector thread accepts new connections and serves read events
+ * for all of them. With a {@link #setReactorCount(int) reactor count} greater than 1,
+ * the selector thread only accepts connections and hands them over to the reactor
+ * (a selector on its own thread) with the fewest connections.
  *
  * @author Gary Russell
  * @author Artem Bilan
@@ -57,6 +66,16 @@ public class TcpNioServerConnectionFactory extends AbstractServerConnectionFacto
 
 	private boolean usingDirectBuffers;
 
+	private int reactorCount = 1;
+
+	private @Nullable MetricsCaptor metricsCaptor;
+
+	private boolean writeCoalescing;
+
+	private volatile TcpNioConnection.@Nullable WriteCounters writeCounters;
+
+	private volatile List<TcpNioReactor> reactors = List.of();
+
 	private volatile @Nullable ServerSocketChannel serverChannel;
 
 	private volatile @Nullable Selector selector;
@@ -81,6 +100,47 @@ public class TcpNioServerConnectionFactory extends AbstractServerConnectionFacto
 		this.multiAccept = multiAccept;
 	}
 
+	/**
+	 * Set the number of reactors (selectors with their own threads) to serve read events
+	 * for accepted connections. With the default {@code 1}, the accepting selector serves
+	 * all the connections. Otherwise, each accepted connection is registered with the reactor
+	 * which has the fewest connections at the moment.
+	 * The reactor threads are obtained from the {@link #setTaskExecutor(java.util.concurrent.Executor)
+	 * task executor} and occupy them while the factory is running.
+	 * @param reactorCount the number of reactors.
+	 * @since 7.2
+	 */
+	public void setReactorCount(int reactorCount) {
+		Assert.isTrue(reactorCount > 0, "'reactorCount' must be greater than 0");
+		this.reactorCount = reactorCount;
+	}
+
+	/**
+	 * Set a {@link MetricsCaptor} to expose the number of connections
+	 * ({@code spring.integration.ip.tcp.reactor.connections} gauge) and the time to process
+	 * the selected keys per select loop iteration ({@code spring.integration.ip.tcp.reactor.select} timer)
+	 * for each reactor.
+	 * The meters are tagged with the {@code name} of this factory and the {@code reactor} index.
+	 * @param metricsCaptor the {@link MetricsCaptor} to use.
+	 * @since 7.2
+	 * @see #setReactorCount(int)
+	 */
+	public void setMetricsCaptor(MetricsCaptor metricsCaptor) {
+		this.metricsCaptor = metricsCaptor;
+	}
+
+	/**
+	 * Return the number of connections served by each reactor.
+	 * @return the number of connections per reactor index.
+	 * @since 7.2
+	 * @see #setReactorCount(int)
+	 */
+	public List<Integer> getReactorConnectionCounts() {
+		return this.reactors.stream()
+				.map(TcpNioReactor::getConnectionCount)
+				.toList();
+	}
+
 	@Override
 	public String getComponentType() {
 		return "tcp-nio-server-connection-factory";
@@ -156,7 +216,10 @@ public class TcpNioServerConnectionFactory extends AbstractServerConnectionFacto
 				setListening(true);
 				publishServerListeningEvent(getPort());
 				this.selector = theSelector;
-				doSelect(serverChannelToUse, theSelector);
+				TcpNioReactor acceptor =
+						new TcpNioReactor(this, 0, theSelector, this.channelMap, new ConcurrentLinkedQueue<>());
+				startReactors(acceptor);
+				doSelect(serverChannelToUse, acceptor);
 			}
 		}
 		catch (IOException ex) {
@@ -171,34 +234,47 @@ public class TcpNioServerConnectionFactory extends AbstractServerConnectionFacto
 		}
 	}
 
+	private void startReactors(TcpNioReactor acceptor) throws IOException {
+		List<TcpNioReactor> reactorsToStart = new ArrayList<>();
+		if (this.reactorCount == 1) {
+			reactorsToStart.add(acceptor);
+		}
+		else {
+			for (int i = 0; i < this.reactorCount; i++) {
+				reactorsToStart.add(new TcpNioReactor(this, i, Selector.open(), new ConcurrentHashMap<>(),
+						new ConcurrentLinkedQueue<>()));
+			}
+		}
+		MetricsCaptor metricsCaptorToUse = this.metricsCaptor;
+		if (metricsCaptorToUse != null) {
+			reactorsToStart.forEach((reactor) -> reactor.registerMeters(metricsCaptorToUse, getComponentName()));
+			if (this.writeCoalescing) {
+				this.writeCounters = TcpNioConnection.WriteCounters.build(metricsCaptorToUse, getComponentName());
+			}
+		}
+		this.reactors = reactorsToStart;
+		if (this.reactorCount > 1) {
+			reactorsToStart.forEach(getTaskExecutor()::execute);
+		}
+	}
+
 	/**
 	 * Listens for incoming connections and for notifications that a connected
 	 * socket is ready for reading.
 	 * Accepts incoming connections, registers the new socket with the
-	 * selector for reading.
+	 * selector for reading (or hands it over to a reactor).
 	 * When a socket is ready for reading, unregisters the read interest and
 	 * schedules a call to doRead which reads all available data. When the read
 	 * is complete, the socket is again registered for read interest.
 	 * @param server the ServerSocketChannel to select
-	 * @param selectorToSelect the Selector multiplexor
+	 * @param acceptor the reactor for the accepting selector
 	 * @throws IOException a thrown IO exception
 	 */
-	private void doSelect(ServerSocketChannel server, final Selector selectorToSelect) throws IOException {
+	private void doSelect(ServerSocketChannel server, TcpNioReactor acceptor) throws IOException {
 		while (isActive()) {
-			int soTimeout = getSoTimeout();
-			int selectionCount;
 			try {
-				long timeout = Math.max(soTimeout, 0);
-				if (!getDelayedReads().isEmpty() && (timeout == 0 || getReadDelay() < timeout)) {
-					timeout = getReadDelay();
-				}
-				long timeoutToLog = timeout;
-				logger.trace(() -> "Delayed reads: " + getDelayedReads().size() + " timeout " + timeoutToLog);
-				selectionCount = selectorToSelect.select(timeout);
-				processNioSelections(selectionCount, selectorToSelect, server, this.channelMap);
-			}
-			catch (@SuppressWarnings("unused") CancelledKeyException cke) {
-				logger.debug("CancelledKeyException during Selector.select()");
+				logger.trace(() -> "Delayed reads: " + getDelayedReads().size());
+				acceptor.select(server);
 			}
 			catch (ClosedSelectorException cse) {
 				if (isActive()) {
@@ -230,7 +306,7 @@ public class TcpNioServerConnectionFactory extends AbstractServerConnectionFacto
 										+ " rejected; the server is in the process of shutting down.");
 						theChannel.close();
 					}
-					else if (createConnectionForAcceptedChannel(selectorForNewSocket, now, theChannel) == null) {
+					else if (createConnectionForAcceptedChannel(now, theChannel) == null) {
 						return;
 					}
 				}
@@ -244,8 +320,8 @@ public class TcpNioServerConnectionFactory extends AbstractServerConnectionFacto
 	}
 
 	@Nullable
-	private TcpNioConnection createConnectionForAcceptedChannel(Selector selectorForNewSocket, long now,
-			SocketChannel channel) throws IOException {
+	private TcpNioConnection createConnectionForAcceptedChannel(long now, SocketChannel channel)
+			throws IOException {
 
 		TcpNioConnection connection = null;
 		try {
@@ -260,8 +336,7 @@ public class TcpNioServerConnectionFactory extends AbstractServerConnectionFacto
 				if (sslHandshakeTimeout != null && connection instanceof TcpNioSSLConnection) {
 					((TcpNioSSLConnection) connection).setHandshakeTimeout(sslHandshakeTimeout);
 				}
-				this.channelMap.put(channel, connection);
-				channel.register(selectorForNewSocket, SelectionKey.OP_READ, connection);
+				nextReactor().addConnection(channel, connection);
 			}
 		}
 		catch (IOException ex) {
@@ -273,12 +348,25 @@ public class TcpNioServerConnectionFactory extends AbstractServerConnectionFacto
 		return connection;
 	}
 
+	private TcpNioReactor nextReactor() {
+		TcpNioReactor leastLoaded = null;
+		for (TcpNioReactor reactor : this.reactors) {
+			if (leastLoaded == null || reactor.getConnectionCount() < leastLoaded.getConnectionCount()) {
+				leastLoaded = reactor;
+			}
+		}
+		Assert.state(leastLoaded != null, "The reactors are not started");
+		return leastLoaded;
+	}
+
 	@Nullable
 	private TcpNioConnection createTcpNioConnection(SocketChannel socketChannel) {
 		try {
 			TcpNioConnection connection = this.tcpNioConnectionSupport.createNewConnection(socketChannel, true,
 					isLookupHost(), getApplicationEventPublisher(), getComponentName());
 			connection.setUsingDirectBuffers(this.usingDirectBuffers);
+			connection.setWriteCoalescing(this.writeCoalescing);
+			connection.setWriteCounters(this.writeCounters);
 			TcpConnectionSupport wrappedConnection = wrapConnection(connection);
 			if (!wrappedConnection.equals(connection)) {
 				connection.setSenders(getSenders());
@@ -295,6 +383,13 @@ public class TcpNioServerConnectionFactory extends AbstractServerConnectionFacto
 
 	@Override
 	public void stop() {
+		this.reactors.forEach(TcpNioReactor::close);
+		this.reactors = List.of();
+		TcpNioConnection.WriteCounters writeCountersToRemove = this.writeCounters;
+		if (writeCountersToRemove != null) {
+			writeCountersToRemove.remove();
+			this.writeCounters = null;
+		}
 		Selector selectorToClose = this.selector;
 		if (selectorToClose != null) {
 			try {
@@ -327,6 +422,20 @@ public class TcpNioServerConnectionFactory extends AbstractServerConnectionFacto
 		this.usingDirectBuffers = usingDirectBuffers;
 	}
 
+	/**
+	 * Set to true to coalesce messages sent concurrently on the same connection into
+	 * gathering writes.
+	 * When a {@link #setMetricsCaptor(MetricsCaptor) metrics captor} is provided, the
+	 * {@code spring.integration.ip.tcp.writes} and {@code spring.integration.ip.tcp.write.frames}
+	 * counters are exposed; their ratio is the average number of frames per write.
+	 * @param writeCoalescing true to coalesce writes.
+	 * @since 7.2
+	 * @see TcpNioConnection#setWriteCoalescing(boolean)
+	 */
+	public void setWriteCoalescing(boolean writeCoalescing) {
+		this.writeCoalescing = writeCoalescing;
+	}
+
 	/**
 	 * Set the {@link TcpNioConnectionSupport} to use.
 	 * @param tcpNioSupport the {@link TcpNioConnectionSupport}.
@@ -351,6 +460,8 @@ public class TcpNioServerConnectionFactory extends AbstractServerConnectionFacto
 	}
 
 	/**
+	 * Return the connections served by the accepting selector;
+	 * empty if the {@link #setReactorCount(int) reactor count} is greater than 1.
 	 * @return the connections
 	 */
 	protected Map<SocketChannel, TcpNioConnection> getConnections() {
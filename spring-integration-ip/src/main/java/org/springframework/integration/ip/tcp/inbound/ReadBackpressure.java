@@ -0,0 +1,185 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.ip.tcp.inbound;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.core.log.LogAccessor;
+import org.springframework.integration.channel.QueueChannelOperations;
+import org.springframework.integration.ip.IpHeaders;
+import org.springframework.integration.ip.tcp.connection.AbstractConnectionFactory;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.util.Assert;
+
+/**
+ * Pauses the reads of a connection when the channel the inbound endpoint sends its messages to
+ * is saturated and resumes the reads of all the paused connections when the channel is drained.
+ * Other connections keep reading until they deliver a message to the saturated channel.
+ * The channel is saturated when its queue size reaches the high-water mark
+ * (for {@link QueueChannelOperations} channels), or when a send fails because
+ * of a {@link RejectedExecutionException} (e.g. an {@code ExecutorChannel} with a bounded executor).
+ * While paused, the channel is checked each {@link AbstractConnectionFactory#getReadDelay() read delay};
+ * the reads are resumed when the queue size drops to the low-water mark or, for other channels,
+ * on the first check.
+ *
+ * @author Artem Bilan
+ *
+ * @since 7.2
+ */
+final class ReadBackpressure {
+
+	private static final LogAccessor LOGGER = new LogAccessor(ReadBackpressure.class);
+
+	private static final double DEFAULT_HIGH_WATER_MARK_RATIO = 0.8;
+
+	private static final double DEFAULT_LOW_WATER_MARK_RATIO = 0.5;
+
+	private final Lock lock = new ReentrantLock();
+
+	private int highWaterMark = -1;
+
+	private int lowWaterMark = -1;
+
+	private final Set<String> pausedConnectionIds = new HashSet<>();
+
+	private @Nullable ScheduledFuture<?> resumeTask;
+
+	void setWaterMarks(int highWaterMark, int lowWaterMark) {
+		Assert.isTrue(highWaterMark > 0, "'highWaterMark' must be greater than 0");
+		Assert.isTrue(lowWaterMark >= 0 && lowWaterMark < highWaterMark,
+				"'lowWaterMark' must be between 0 and 'highWaterMark'");
+		this.highWaterMark = highWaterMark;
+		this.lowWaterMark = lowWaterMark;
+	}
+
+	/**
+	 * Pause the reads of the message connection if the channel queue has reached the high-water mark.
+	 * @param message the message sent to the channel.
+	 * @param channel the channel the endpoint sends to.
+	 * @param connectionFactory the factory of the connection.
+	 * @param taskScheduler the scheduler for resume checks.
+	 */
+	void checkSaturation(Message<?> message, @Nullable MessageChannel channel,
+			AbstractConnectionFactory connectionFactory, TaskScheduler taskScheduler) {
+
+		if (channel instanceof QueueChannelOperations queue
+				&& queue.getQueueSize() >= highWaterMark(queue)) {
+
+			pause(message, channel, connectionFactory, taskScheduler);
+		}
+	}
+
+	/**
+	 * Pause the reads of the message connection if the exception is caused by
+	 * a {@link RejectedExecutionException}.
+	 * @param exception the send exception.
+	 * @param message the message sent to the channel.
+	 * @param channel the channel the endpoint sends to.
+	 * @param connectionFactory the factory of the connection.
+	 * @param taskScheduler the scheduler for resume checks.
+	 */
+	void checkRejected(Throwable exception, Message<?> message, @Nullable MessageChannel channel,
+			AbstractConnectionFactory connectionFactory, TaskScheduler taskScheduler) {
+
+		Throwable cause = exception;
+		while (cause != null) {
+			if (cause instanceof RejectedExecutionException) {
+				pause(message, channel, connectionFactory, taskScheduler);
+				return;
+			}
+			cause = cause.getCause();
+		}
+	}
+
+	private void pause(Message<?> message, @Nullable MessageChannel channel,
+			AbstractConnectionFactory connectionFactory, TaskScheduler taskScheduler) {
+
+		String connectionId = message.getHeaders().get(IpHeaders.CONNECTION_ID, String.class);
+		if (connectionId == null) {
+			return;
+		}
+		this.lock.lock();
+		try {
+			if (this.pausedConnectionIds.add(connectionId)) {
+				LOGGER.debug(() -> "Channel " + channel + " is saturated; pausing reads of " + connectionId);
+				connectionFactory.pauseReads(connectionId);
+			}
+			if (this.resumeTask == null) {
+				this.resumeTask =
+						taskScheduler.scheduleWithFixedDelay(() -> resumeIfDrained(channel, connectionFactory),
+								Duration.ofMillis(connectionFactory.getReadDelay()));
+			}
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	private void resumeIfDrained(@Nullable MessageChannel channel, AbstractConnectionFactory connectionFactory) {
+		if (!(channel instanceof QueueChannelOperations queue) || queue.getQueueSize() <= lowWaterMark(queue)) {
+			LOGGER.debug(() -> "Channel " + channel + " is drained; resuming reads");
+			resume(connectionFactory);
+		}
+	}
+
+	/**
+	 * Cancel the resume checks, if any, and resume the reads of the paused connections.
+	 * @param connectionFactory the factory of the connections.
+	 */
+	void resume(AbstractConnectionFactory connectionFactory) {
+		this.lock.lock();
+		try {
+			ScheduledFuture<?> resumeTaskToCancel = this.resumeTask;
+			if (resumeTaskToCancel != null) {
+				resumeTaskToCancel.cancel(false);
+				this.resumeTask = null;
+			}
+			this.pausedConnectionIds.forEach(connectionFactory::resumeReads);
+			this.pausedConnectionIds.clear();
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	private int highWaterMark(QueueChannelOperations queue) {
+		return this.highWaterMark > 0
+				? this.highWaterMark
+				: Math.max(1, (int) (capacity(queue) * DEFAULT_HIGH_WATER_MARK_RATIO));
+	}
+
+	private int lowWaterMark(QueueChannelOperations queue) {
+		return this.highWaterMark > 0
+				? this.lowWaterMark
+				: (int) (capacity(queue) * DEFAULT_LOW_WATER_MARK_RATIO);
+	}
+
+	private static long capacity(QueueChannelOperations queue) {
+		return (long) queue.getQueueSize() + queue.getRemainingCapacity();
+	}
+
+}
@@ -84,6 +84,8 @@ public class TcpInboundGateway extends MessagingGatewaySupport implements
 
 	private volatile boolean shuttingDown;
 
+	private @Nullable ReadBackpressure readBackpressure;
+
 	@Override
 	public void onMessage(Message<?> message) {
 		boolean isErrorMessage = message instanceof ErrorMessage;
@@ -103,9 +105,20 @@ public class TcpInboundGateway extends MessagingGatewaySupport implements
 				try {
 					doOnMessage(message);
 				}
+				catch (RuntimeException ex) {
+					if (this.readBackpressure != null) {
+						this.readBackpressure.checkRejected(ex, message, getRequestChannel(),
+								receivingConnectionFactory(), getTaskScheduler());
+					}
+					throw ex;
+				}
 				finally {
 					this.activeCount.decrementAndGet();
 				}
+				if (this.readBackpressure != null) {
+					this.readBackpressure.checkSaturation(message, getRequestChannel(), receivingConnectionFactory(),
+							getTaskScheduler());
+				}
 			}
 		}
 		finally {
@@ -144,6 +157,11 @@ public class TcpInboundGateway extends MessagingGatewaySupport implements
 		}
 	}
 
+	@SuppressWarnings("NullAway") // One of the factories is set
+	private AbstractConnectionFactory receivingConnectionFactory() {
+		return this.serverConnectionFactory != null ? this.serverConnectionFactory : this.clientConnectionFactory;
+	}
+
 	@SuppressWarnings("NullAway") // Dataflow analysis limitation
 	private void publishNoConnectionEvent(Message<?> message, String connectionId) {
 		AbstractConnectionFactory cf =
@@ -237,6 +255,9 @@ public class TcpInboundGateway extends MessagingGatewaySupport implements
 			scheduledFutureToCancel.cancel(true);
 		}
 		this.clientModeConnectionManager = null;
+		if (this.readBackpressure != null) {
+			this.readBackpressure.resume(receivingConnectionFactory());
+		}
 		if (this.clientConnectionFactory != null) {
 			this.clientConnectionFactory.stop();
 		}
@@ -277,6 +298,38 @@ public class TcpInboundGateway extends MessagingGatewaySupport implements
 		this.retryInterval = retryInterval;
 	}
 
+	/**
+	 * Set to true to pause reading from a connection (NIO only) when the {@code requestChannel}
+	 * is saturated by a message from that connection, so TCP flow control pushes back on its sender.
+	 * The paused connections are resumed together; other connections keep reading meanwhile.
+	 * The channel is saturated when its queue (for a {@code QueueChannel}) reaches the high-water mark,
+	 * or when a send fails with a {@link java.util.concurrent.RejectedExecutionException}
+	 * (e.g. an {@code ExecutorChannel} with a bounded executor).
+	 * The reads are resumed when the queue drops to the low-water mark; without a queue,
+	 * after the connection factory {@code readDelay}.
+	 * By default, the water marks are 80% and 50% of the queue capacity.
+	 * @param backpressure true to enable backpressure.
+	 * @since 7.2
+	 * @see #setBackpressureWaterMarks(int, int)
+	 * @see AbstractConnectionFactory#pauseReads(String)
+	 */
+	public void setBackpressure(boolean backpressure) {
+		this.readBackpressure = backpressure ? new ReadBackpressure() : null;
+	}
+
+	/**
+	 * Set the queue size of the {@code requestChannel} at which the reads are paused and the size
+	 * at which they are resumed; enables the {@link #setBackpressure(boolean) backpressure}.
+	 * @param highWaterMark the queue size to pause the reads.
+	 * @param lowWaterMark the queue size to resume the reads.
+	 * @since 7.2
+	 */
+	public void setBackpressureWaterMarks(int highWaterMark, int lowWaterMark) {
+		ReadBackpressure backpressure = new ReadBackpressure();
+		backpressure.setWaterMarks(highWaterMark, lowWaterMark);
+		this.readBackpressure = backpressure;
+	}
+
 	@Override
 	public boolean isClientModeConnected() {
 		ClientModeConnectionManager clientModeConnectionManagerToCheck = this.clientModeConnectionManager;
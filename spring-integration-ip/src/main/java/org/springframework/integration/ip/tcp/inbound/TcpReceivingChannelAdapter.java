@@ -69,6 +69,8 @@ public class TcpReceivingChannelAdapter
 
 	private final AtomicInteger activeCount = new AtomicInteger();
 
+	private @Nullable ReadBackpressure readBackpressure;
+
 	@Override
 	public void onMessage(Message<?> message) {
 		boolean isErrorMessage = message instanceof ErrorMessage;
@@ -85,9 +87,20 @@ public class TcpReceivingChannelAdapter
 				try {
 					sendMessage(message);
 				}
+				catch (RuntimeException ex) {
+					if (this.readBackpressure != null) {
+						this.readBackpressure.checkRejected(ex, message, getOutputChannel(),
+								receivingConnectionFactory(), getTaskScheduler());
+					}
+					throw ex;
+				}
 				finally {
 					this.activeCount.decrementAndGet();
 				}
+				if (this.readBackpressure != null) {
+					this.readBackpressure.checkSaturation(message, getOutputChannel(), receivingConnectionFactory(),
+							getTaskScheduler());
+				}
 			}
 		}
 		finally {
@@ -107,6 +120,11 @@ public class TcpReceivingChannelAdapter
 		}
 	}
 
+	@SuppressWarnings("NullAway") // One of the factories is set
+	private AbstractConnectionFactory receivingConnectionFactory() {
+		return this.serverConnectionFactory != null ? this.serverConnectionFactory : this.clientConnectionFactory;
+	}
+
 	@Override
 	protected void onInit() {
 		super.onInit();
@@ -141,6 +159,9 @@ public class TcpReceivingChannelAdapter
 			scheduledFutureToCancel.cancel(true);
 		}
 		this.clientModeConnectionManager = null;
+		if (this.readBackpressure != null) {
+			this.readBackpressure.resume(receivingConnectionFactory());
+		}
 		if (this.clientConnectionFactory != null) {
 			this.clientConnectionFactory.stop();
 		}
@@ -166,6 +187,38 @@ public class TcpReceivingChannelAdapter
 		this.isSingleUse = connectionFactory.isSingleUse();
 	}
 
+	/**
+	 * Set to true to pause reading from a connection (NIO only) when the {@code outputChannel}
+	 * is saturated by a message from that connection, so TCP flow control pushes back on its sender.
+	 * The paused connections are resumed together; other connections keep reading meanwhile.
+	 * The channel is saturated when its queue (for a {@code QueueChannel}) reaches the high-water mark,
+	 * or when a send fails with a {@link java.util.concurrent.RejectedExecutionException}
+	 * (e.g. an {@code ExecutorChannel} with a bounded executor).
+	 * The reads are resumed when the queue drops to the low-water mark; without a queue,
+	 * after the connection factory {@code readDelay}.
+	 * By default, the water marks are 80% and 50% of the queue capacity.
+	 * @param backpressure true to enable backpressure.
+	 * @since 7.2
+	 * @see #setBackpressureWaterMarks(int, int)
+	 * @see AbstractConnectionFactory#pauseReads(String)
+	 */
+	public void setBackpressure(boolean backpressure) {
+		this.readBackpressure = backpressure ? new ReadBackpressure() : null;
+	}
+
+	/**
+	 * Set the queue size of the {@code outputChannel} at which the reads are paused and the size
+	 * at which they are resumed; enables the {@link #setBackpressure(boolean) backpressure}.
+	 * @param highWaterMark the queue size to pause the reads.
+	 * @param lowWaterMark the queue size to resume the reads.
+	 * @since 7.2
+	 */
+	public void setBackpressureWaterMarks(int highWaterMark, int lowWaterMark) {
+		ReadBackpressure backpressure = new ReadBackpressure();
+		backpressure.setWaterMarks(highWaterMark, lowWaterMark);
+		this.readBackpressure = backpressure;
+	}
+
 	public boolean isListening() {
 		if (this.serverConnectionFactory == null) {
 			return false;
@@ -18,10 +18,12 @@ package org.springframework.integration.ip.tcp.outbound;
 
 import java.io.IOException;
 import java.time.Instant;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
@@ -32,6 +34,7 @@ import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.Expression;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.integration.MessageTimeoutException;
+import org.springframework.integration.aggregator.CorrelationStrategy;
 import org.springframework.integration.expression.ExpressionUtils;
 import org.springframework.integration.expression.ValueExpression;
 import org.springframework.integration.handler.AbstractReplyProducingMessageHandler;
@@ -56,8 +59,12 @@ import org.springframework.util.Assert;
  * TCP outbound gateway that uses a client connection factory. If the factory is configured
  * for single-use connections, each request is sent on a new connection; if the factory does not use
  * single use connections, each request is blocked until the previous response is received
- * (or times out). Asynchronous requests/responses over the same connection are not
- * supported - use a pair of outbound/inbound adapters for that use case.
+ * (or times out).
+ * <p>
+ * When a {@link #setCorrelationStrategy(CorrelationStrategy) correlation strategy} is provided,
+ * the gateway operates in a multiplexed mode: concurrent requests are not blocked and are
+ * pipelined over the shared connection; replies are correlated to requests by the key
+ * extracted from the request and reply messages, so the server may reply in any order.
  * <p>
  * {@link org.springframework.context.Lifecycle} methods delegate to the underlying {@link AbstractConnectionFactory}.
  *
@@ -75,6 +82,8 @@ public class TcpOutboundGateway extends AbstractReplyProducingMessageHandler
 
 	private final Map<String, AsyncReply> pendingReplies = new ConcurrentHashMap<>();
 
+	private final Map<Object, AsyncReply> multiplexedReplies = new ConcurrentHashMap<>();
+
 	private final Semaphore semaphore = new Semaphore(1, true);
 
 	@SuppressWarnings("NullAway.Init")
@@ -98,6 +107,10 @@ public class TcpOutboundGateway extends AbstractReplyProducingMessageHandler
 
 	private @Nullable MessageChannel unsolicitedMessageChannel;
 
+	private @Nullable CorrelationStrategy requestCorrelationStrategy;
+
+	private @Nullable CorrelationStrategy replyCorrelationStrategy;
+
 	public void setConnectionFactory(AbstractClientConnectionFactory connectionFactory) {
 		this.connectionFactory = connectionFactory;
 		connectionFactory.registerListener(this);
@@ -193,6 +206,36 @@ public class TcpOutboundGateway extends AbstractReplyProducingMessageHandler
 		this.secondChanceDelay = secondChanceDelay;
 	}
 
+	/**
+	 * Set a {@link CorrelationStrategy} to extract a correlation key from request and reply messages
+	 * and enable the multiplexed mode: concurrent requests are sent over the shared connection
+	 * without waiting for previous replies, and replies are correlated by this key instead of the connection.
+	 * The key must be unique among in-flight requests, e.g. a request id in the payload or a header,
+	 * which the server echoes back in the reply.
+	 * Requires a shared connection ({@code singleUse=false}).
+	 * Combine with the {@link #setAsync(boolean) async} mode to return a {@link CompletableFuture}
+	 * for the reply without blocking a thread per request.
+	 * A connection failure fails all the pending replies for that connection.
+	 * @param correlationStrategy the strategy to extract the correlation key.
+	 * @since 7.2
+	 * @see #setReplyCorrelationStrategy(CorrelationStrategy)
+	 */
+	public void setCorrelationStrategy(CorrelationStrategy correlationStrategy) {
+		this.requestCorrelationStrategy = correlationStrategy;
+	}
+
+	/**
+	 * Set a {@link CorrelationStrategy} to extract a correlation key from reply messages
+	 * in the multiplexed mode, if it has to be different from the one for requests,
+	 * e.g. the request is a POJO and the reply is a {@code byte[]}.
+	 * Defaults to the {@link #setCorrelationStrategy(CorrelationStrategy) correlation strategy}.
+	 * @param replyCorrelationStrategy the strategy to extract the correlation key from replies.
+	 * @since 7.2
+	 */
+	public void setReplyCorrelationStrategy(CorrelationStrategy replyCorrelationStrategy) {
+		this.replyCorrelationStrategy = replyCorrelationStrategy;
+	}
+
 	@Override
 	public String getComponentType() {
 		return "ip:tcp-outbound-gateway";
@@ -207,10 +250,20 @@ public class TcpOutboundGateway extends AbstractReplyProducingMessageHandler
 		}
 		Assert.state(!this.closeStreamAfterSend || this.isSingleUse,
 				"Single use connection needed with closeStreamAfterSend");
+		if (this.requestCorrelationStrategy != null) {
+			Assert.state(!this.isSingleUse, "A shared connection is needed with a 'correlationStrategy'");
+			if (this.replyCorrelationStrategy == null) {
+				this.replyCorrelationStrategy = this.requestCorrelationStrategy;
+			}
+		}
 	}
 
 	@Override
 	protected Object handleRequestMessage(Message<?> requestMessage) {
+		CorrelationStrategy correlationStrategy = this.requestCorrelationStrategy;
+		if (correlationStrategy != null) {
+			return handleMultiplexedRequest(requestMessage, correlationStrategy);
+		}
 		boolean haveSemaphore = false;
 		TcpConnection connection = null;
 		String connectionId = null;
@@ -262,6 +315,48 @@ public class TcpOutboundGateway extends AbstractReplyProducingMessageHandler
 		}
 	}
 
+	private Object handleMultiplexedRequest(Message<?> requestMessage, CorrelationStrategy correlationStrategy) {
+		Object correlationKey = correlationStrategy.getCorrelationKey(requestMessage);
+		if (correlationKey == null) {
+			throw new MessageHandlingException(requestMessage, "No correlation key for request message");
+		}
+		try {
+			TcpConnection connection = this.connectionFactory.getConnection();
+			AsyncReply reply = new AsyncReply(getRemoteTimeout(requestMessage), connection, false, requestMessage,
+					true, correlationKey);
+			if (this.multiplexedReplies.putIfAbsent(correlationKey, reply) != null) {
+				throw new MessageHandlingException(requestMessage,
+						"A request with correlation key '" + correlationKey + "' is already in flight");
+			}
+			logger.debug(() -> "Added pending reply " + correlationKey);
+			try {
+				connection.send(requestMessage);
+			}
+			catch (Exception ex) {
+				this.multiplexedReplies.remove(correlationKey, reply);
+				throw ex;
+			}
+			if (isAsync()) {
+				return reply.getFuture();
+			}
+			return reply.getFuture().get();
+		}
+		catch (ExecutionException ex) {
+			Throwable cause = ex.getCause();
+			throw IntegrationUtils.wrapInHandlingExceptionIfNecessary(requestMessage,
+					() -> "Failed to receive a reply", cause != null ? cause : ex);
+		}
+		catch (RuntimeException ex) {
+			logger.error(ex, "Tcp Gateway exception");
+			throw IntegrationUtils.wrapInHandlingExceptionIfNecessary(requestMessage,
+					() -> "Failed to send or receive", ex);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new MessageHandlingException(requestMessage, "Interrupted in the [" + this + ']', ex);
+		}
+	}
+
 	private void checkAsync(TcpConnection connection, boolean async) {
 		if (async && connection instanceof TcpNioConnectionSupport) {
 			setAsync(false);
@@ -324,6 +419,11 @@ public class TcpOutboundGateway extends AbstractReplyProducingMessageHandler
 
 	@Override
 	public void onMessage(Message<?> message) {
+		CorrelationStrategy correlationStrategy = this.replyCorrelationStrategy;
+		if (correlationStrategy != null) {
+			onMultiplexedMessage(message, correlationStrategy);
+			return;
+		}
 		String connectionId = message.getHeaders().get(IpHeaders.CONNECTION_ID, String.class);
 		if (connectionId == null) {
 			if (unsolicitedSupported(message)) {
@@ -359,6 +459,43 @@ public class TcpOutboundGateway extends AbstractReplyProducingMessageHandler
 		}
 	}
 
+	private void onMultiplexedMessage(Message<?> message, CorrelationStrategy correlationStrategy) {
+		String connectionId = message.getHeaders().get(IpHeaders.CONNECTION_ID, String.class);
+		if (message instanceof ErrorMessage errorMessage) {
+			/*
+			 * Socket errors are sent here; fail all the requests pending on that connection.
+			 */
+			if (connectionId != null) {
+				failPendingReplies(connectionId, errorMessage.getPayload());
+			}
+			return;
+		}
+		Object correlationKey = correlationStrategy.getCorrelationKey(message);
+		logger.trace(() -> "onMessage: " + correlationKey + "(" + message + ")");
+		AsyncReply reply = correlationKey != null ? this.multiplexedReplies.remove(correlationKey) : null;
+		if (reply == null) {
+			if (unsolicitedSupported(message)) {
+				return;
+			}
+			String errorMessage = "Cannot correlate response - no pending reply for " + correlationKey;
+			logger.error(errorMessage);
+			publishNoConnectionEvent(message, connectionId, errorMessage);
+			return;
+		}
+		reply.getFuture().complete(message);
+	}
+
+	private void failPendingReplies(String connectionId, Throwable cause) {
+		Iterator<AsyncReply> iterator = this.multiplexedReplies.values().iterator();
+		while (iterator.hasNext()) {
+			AsyncReply reply = iterator.next();
+			if (connectionId.equals(reply.getConnection().getConnectionId())) {
+				iterator.remove();
+				reply.getFuture().completeExceptionally(cause);
+			}
+		}
+	}
+
 	private boolean unsolicitedSupported(Message<?> message) {
 		String channelName = this.unsolicitedMessageChannelName;
 		if (channelName != null) {
@@ -444,6 +581,12 @@ public class TcpOutboundGateway extends AbstractReplyProducingMessageHandler
 		AsyncReply(long remoteTimeout, TcpConnection connection, boolean haveSemaphore, Message<?> requestMessage,
 				boolean async) {
 
+			this(remoteTimeout, connection, haveSemaphore, requestMessage, async, null);
+		}
+
+		AsyncReply(long remoteTimeout, TcpConnection connection, boolean haveSemaphore, Message<?> requestMessage,
+				boolean async, @Nullable Object correlationKey) {
+
 			this.latch = new CountDownLatch(1);
 			this.secondChanceLatch = new CountDownLatch(1);
 			this.remoteTimeout = remoteTimeout;
@@ -457,7 +600,13 @@ public class TcpOutboundGateway extends AbstractReplyProducingMessageHandler
 											new MessageTimeoutException(requestMessage,
 													"Timed out waiting for response"))) {
 
-										cleanUp(this.haveSemaphore, this.connection, this.connection.getConnectionId());
+										if (correlationKey != null) {
+											TcpOutboundGateway.this.multiplexedReplies.remove(correlationKey, this);
+										}
+										else {
+											cleanUp(this.haveSemaphore, this.connection,
+													this.connection.getConnectionId());
+										}
 									}
 								}, Instant.now().plusMillis(remoteTimeout));
 			}
@@ -23,6 +23,8 @@ import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.SocketException;
 import java.net.SocketTimeoutException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Executor;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.locks.Lock;
@@ -46,6 +48,10 @@ import org.springframework.util.PatternMatchUtils;
  * A channel adapter to receive incoming UDP packets. Packets can optionally be preceded by a
  * 4 byte length field, used to validate that all data was received. Packets may also contain
  * information indicating an acknowledgment needs to be sent.
+ * <p>
+ * For high packet rates, several {@link #setReceiverCount(int) receivers} can share the socket,
+ * and the receive buffers can be {@link #setReceiveBufferPoolSize(int) pooled} instead of
+ * being allocated for every packet.
  *
  * @author Gary Russell
  * @author Artem Bilan
@@ -73,6 +79,10 @@ public class UnicastReceivingChannelAdapter extends AbstractInternetProtocolRece
 
 	private String[] trustedAckAddresses = { };
 
+	private int receiverCount = 1;
+
+	private @Nullable BlockingQueue<byte[]> receiveBufferPool;
+
 	/**
 	 * Construct a UnicastReceivingChannelAdapter that listens on the specified port.
 	 * @param port The port.
@@ -133,6 +143,33 @@ public class UnicastReceivingChannelAdapter extends AbstractInternetProtocolRece
 		this.mapper.setAcknowledge(true);
 	}
 
+	/**
+	 * Set the number of threads receiving packets from the socket concurrently.
+	 * The receiver threads are obtained from the {@link #setTaskExecutor(Executor) task executor},
+	 * which also runs the conversion and sending of messages for received packets,
+	 * so the {@link #setPoolSize(int) pool size} of the default executor must be increased
+	 * accordingly.
+	 * @param receiverCount the number of receivers. Defaults to {@code 1}.
+	 * @since 7.2
+	 */
+	public void setReceiverCount(int receiverCount) {
+		Assert.isTrue(receiverCount > 0, "'receiverCount' must be greater than 0");
+		this.receiverCount = receiverCount;
+	}
+
+	/**
+	 * Set the maximum number of receive buffers (of the {@link #setReceiveBufferSize(int)}) to keep
+	 * for reuse. A buffer is returned to the pool as soon as a message for the packet is created,
+	 * so the pool size should be about the number of packets being converted concurrently.
+	 * A new buffer is allocated if the pool is empty.
+	 * @param receiveBufferPoolSize the pool size; {@code 0} (default) to allocate a buffer for every packet.
+	 * @since 7.2
+	 */
+	public void setReceiveBufferPoolSize(int receiveBufferPoolSize) {
+		Assert.isTrue(receiveBufferPoolSize >= 0, "'receiveBufferPoolSize' must not be negative");
+		this.receiveBufferPool = receiveBufferPoolSize > 0 ? new ArrayBlockingQueue<>(receiveBufferPoolSize) : null;
+	}
+
 	@Override
 	public boolean isLongLived() {
 		return true;
@@ -164,6 +201,17 @@ public class UnicastReceivingChannelAdapter extends AbstractInternetProtocolRece
 
 		setListening(true);
 
+		Executor taskExecutor = getTaskExecutor();
+		if (taskExecutor != null) {
+			for (int i = 1; i < this.receiverCount; i++) {
+				taskExecutor.execute(this::receiveWhileActive);
+			}
+		}
+		receiveWhileActive();
+		setListening(false);
+	}
+
+	private void receiveWhileActive() {
 		// Do as little as possible here so we can loop around and catch the next packet.
 		// Just schedule the packet for processing.
 		while (isActive()) {
@@ -183,7 +231,6 @@ public class UnicastReceivingChannelAdapter extends AbstractInternetProtocolRece
 				throw new MessagingException("failed to receive DatagramPacket", ex);
 			}
 		}
-		setListening(false);
 	}
 
 	protected void sendAck(Message<byte[]> message) {
@@ -224,16 +271,29 @@ public class UnicastReceivingChannelAdapter extends AbstractInternetProtocolRece
 		Executor taskExecutor = getTaskExecutor();
 		if (taskExecutor != null) {
 			try {
-				taskExecutor.execute(() -> doSend(packet));
+				taskExecutor.execute(() -> doSendAndReleaseBuffer(packet));
 			}
 			catch (RejectedExecutionException ex) {
 				logger.debug("Adapter stopped, sending on main thread");
-				doSend(packet);
+				doSendAndReleaseBuffer(packet);
 			}
 		}
 		return true;
 	}
 
+	private void doSendAndReleaseBuffer(DatagramPacket packet) {
+		try {
+			doSend(packet);
+		}
+		finally {
+			BlockingQueue<byte[]> pool = this.receiveBufferPool;
+			// The mapper copies the payload, so the buffer can be reused for the next packet
+			if (pool != null && packet.getData().length == getReceiveBufferSize()) {
+				pool.offer(packet.getData());
+			}
+		}
+	}
+
 	protected void doSend(final DatagramPacket packet) {
 		Message<byte[]> message = null;
 		try {
@@ -258,9 +318,21 @@ public class UnicastReceivingChannelAdapter extends AbstractInternetProtocolRece
 	}
 
 	protected DatagramPacket receive() throws IOException {
-		final byte[] buffer = new byte[getReceiveBufferSize()];
+		BlockingQueue<byte[]> pool = this.receiveBufferPool;
+		byte[] buffer = pool != null ? pool.poll() : null;
+		if (buffer == null) {
+			buffer = new byte[getReceiveBufferSize()];
+		}
 		DatagramPacket packet = new DatagramPacket(buffer, buffer.length);
-		getSocket().receive(packet);
+		try {
+			getSocket().receive(packet);
+		}
+		catch (IOException ex) {
+			if (pool != null) {
+				pool.offer(buffer);
+			}
+			throw ex;
+		}
 		return packet;
 	}
 
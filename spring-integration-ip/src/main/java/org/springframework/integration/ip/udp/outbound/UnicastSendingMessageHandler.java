@@ -25,10 +25,9 @@ import java.net.SocketAddress;
 import java.net.SocketException;
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
@@ -77,7 +76,7 @@ public class UnicastSendingMessageHandler extends
 
 	private final DatagramPacketMessageMapper mapper = new DatagramPacketMessageMapper();
 
-	private final Map<String, CountDownLatch> ackControl = Collections.synchronizedMap(new HashMap<>());
+	private final Map<String, CountDownLatch> ackControl = new ConcurrentHashMap<>();
 
 	private final @Nullable Expression destinationExpression;
 
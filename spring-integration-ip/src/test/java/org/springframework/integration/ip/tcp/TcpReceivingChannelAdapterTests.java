@@ -45,6 +45,7 @@ import org.springframework.integration.channel.DirectChannel;
 import org.springframework.integration.channel.QueueChannel;
 import org.springframework.integration.handler.ServiceActivatingHandler;
 import org.springframework.integration.ip.tcp.connection.AbstractClientConnectionFactory;
+import org.springframework.integration.ip.tcp.connection.AbstractConnectionFactory;
 import org.springframework.integration.ip.tcp.connection.AbstractServerConnectionFactory;
 import org.springframework.integration.ip.tcp.connection.TcpConnectionInterceptorFactory;
 import org.springframework.integration.ip.tcp.connection.TcpConnectionInterceptorFactoryChain;
@@ -63,6 +64,7 @@ import org.springframework.scheduling.concurrent.SimpleAsyncTaskScheduler;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 import static org.mockito.Mockito.mock;
 
 /**
@@ -196,6 +198,61 @@ public class TcpReceivingChannelAdapterTests extends AbstractTcpChannelAdapterTe
 		scf.stop();
 	}
 
+	@Test
+	public void testNioBackpressure() throws Exception {
+		TcpNioServerConnectionFactory scf = new TcpNioServerConnectionFactory(0);
+		ByteArrayCrLfSerializer serializer = new ByteArrayCrLfSerializer();
+		scf.setSerializer(serializer);
+		scf.setDeserializer(serializer);
+		scf.setSoTimeout(1000);
+		scf.setBeanFactory(TEST_INTEGRATION_CONTEXT);
+		noopPublisher(scf);
+		scf.afterPropertiesSet();
+		TcpReceivingChannelAdapter adapter = new TcpReceivingChannelAdapter();
+		adapter.setConnectionFactory(scf);
+		adapter.setBackpressureWaterMarks(5, 2);
+		scf.start();
+		TestingUtilities.waitListening(scf, null);
+		QueueChannel channel = new QueueChannel(100);
+		adapter.setOutputChannel(channel);
+		adapter.setBeanFactory(mock());
+		adapter.setTaskScheduler(new SimpleAsyncTaskScheduler());
+		adapter.afterPropertiesSet();
+		Socket socket = SocketFactory.getDefault().createSocket("localhost", scf.getPort());
+		for (int i = 0; i < 20; i++) {
+			socket.getOutputStream().write(("Test" + i + "\r\n").getBytes());
+		}
+		await().until(() -> pausedConnectionCount(scf) == 1);
+		assertThat(channel.getQueueSize()).isGreaterThanOrEqualTo(5);
+
+		// Only the saturating connection is paused: the other one is read and paused on its own message
+		Socket otherSocket = SocketFactory.getDefault().createSocket("localhost", scf.getPort());
+		otherSocket.getOutputStream().write("Other\r\n".getBytes());
+		await().until(() -> pausedConnectionCount(scf) == 2);
+
+		// The paused connections are not timed out
+		Thread.sleep(1500);
+		assertThat(scf.getOpenConnectionIds()).hasSize(2);
+
+		Set<String> results = new HashSet<>();
+		for (int i = 0; i < 21; i++) {
+			Message<?> message = channel.receive(10000);
+			assertThat(message).isNotNull();
+			results.add(new String((byte[]) message.getPayload()));
+		}
+		assertThat(results).hasSize(21).contains("Test0", "Test19", "Other");
+		await().until(() -> pausedConnectionCount(scf) == 0);
+		otherSocket.close();
+		socket.close();
+		scf.stop();
+	}
+
+	private static long pausedConnectionCount(AbstractConnectionFactory connectionFactory) {
+		return connectionFactory.getOpenConnectionIds().stream()
+				.filter(connectionFactory::isReadPaused)
+				.count();
+	}
+
 	@Test
 	public void testNetShared() throws Exception {
 		AbstractServerConnectionFactory scf = new TcpNetServerConnectionFactory(0);
@@ -61,6 +61,7 @@ import org.springframework.integration.support.MessageBuilder;
 import org.springframework.integration.test.condition.LogLevels;
 import org.springframework.integration.test.support.TestApplicationContextAware;
 import org.springframework.integration.test.util.TestUtils;
+import org.springframework.integration.util.ConcurrentBagPool;
 import org.springframework.integration.util.PoolItemNotAvailableException;
 import org.springframework.integration.util.SimplePool;
 import org.springframework.messaging.Message;
@@ -231,6 +232,35 @@ public class CachingClientConnectionFactoryTests implements TestApplicationConte
 				.isThrownBy(cachingFactory::getConnection);
 	}
 
+	@Test
+	public void testReuseAndLimitWithConcurrentBagPool() throws Exception {
+		AbstractClientConnectionFactory factory = mock(AbstractClientConnectionFactory.class);
+		when(factory.isRunning()).thenReturn(true);
+		TcpConnectionSupport mockConn1 = makeMockConnection("conn1");
+		TcpConnectionSupport mockConn2 = makeMockConnection("conn2");
+		when(factory.getConnection()).thenReturn(mockConn1).thenReturn(mockConn2);
+		CachingClientConnectionFactory cachingFactory = new CachingClientConnectionFactory(factory,
+				new ConcurrentBagPool<>(2, CachingClientConnectionFactory.poolItemCallback(factory)));
+		cachingFactory.setConnectionWaitTimeout(10);
+		cachingFactory.start();
+		TcpConnection conn1 = cachingFactory.getConnection();
+		assertThat(conn1.toString()).isEqualTo("Cached:" + mockConn1.toString());
+		conn1.close();
+		assertThat(cachingFactory.getIdleCount()).isEqualTo(1);
+		conn1 = cachingFactory.getConnection();
+		assertThat(conn1.toString()).isEqualTo("Cached:" + mockConn1.toString());
+		TcpConnection conn2 = cachingFactory.getConnection();
+		assertThat(conn2.toString()).isEqualTo("Cached:" + mockConn2.toString());
+		assertThat(cachingFactory.getActiveCount()).isEqualTo(2);
+		assertThatExceptionOfType(PoolItemNotAvailableException.class)
+				.isThrownBy(cachingFactory::getConnection);
+		conn1.close();
+		conn2.close();
+		cachingFactory.setPoolSize(1);
+		assertThat(cachingFactory.getPoolSize()).isEqualTo(1);
+		assertThat(cachingFactory.getAllocatedCount()).isEqualTo(1);
+	}
+
 	@Test
 	public void testStop() throws Exception {
 		AbstractClientConnectionFactory factory = mock(AbstractClientConnectionFactory.class);
@@ -944,6 +944,89 @@ public class TcpNioConnectionTests implements TestApplicationContextAware {
 		}
 	}
 
+	@Test
+	void connectionsAreDistributedAcrossReactors() throws Exception {
+		CountDownLatch latch = new CountDownLatch(4);
+		TcpNioServerConnectionFactory server = new TcpNioServerConnectionFactory(0);
+		server.setReactorCount(2);
+		server.registerListener(message -> latch.countDown());
+		server.setBeanFactory(TEST_INTEGRATION_CONTEXT);
+		server.afterPropertiesSet();
+		server.start();
+		TestingUtilities.waitListening(server, null);
+
+		TcpNioClientConnectionFactory client = new TcpNioClientConnectionFactory("localhost", server.getPort());
+		client.setSingleUse(true);
+		client.setReactorCount(2);
+		client.setApplicationEventPublisher(this.nullPublisher);
+		client.start();
+		List<TcpConnection> connections = new ArrayList<>();
+		try {
+			for (int i = 0; i < 4; i++) {
+				TcpConnection connection = client.getConnection();
+				connection.send(MessageBuilder.withPayload("foo" + i).build());
+				connections.add(connection);
+			}
+			assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+			assertThat(server.getReactorConnectionCounts()).containsExactly(2, 2);
+			assertThat(client.getReactorConnectionCounts()).containsExactly(2, 2);
+		}
+		finally {
+			connections.forEach(TcpConnection::close);
+			client.stop();
+			server.stop();
+		}
+	}
+
+	@Test
+	void concurrentSendsAreCoalesced() throws Exception {
+		int threads = 4;
+		int messagesPerThread = 500;
+		CountDownLatch latch = new CountDownLatch(threads * messagesPerThread);
+		Set<String> received = Collections.synchronizedSet(new HashSet<>());
+		TcpNioServerConnectionFactory server = new TcpNioServerConnectionFactory(0);
+		server.registerListener(message -> {
+			received.add(new String((byte[]) message.getPayload()));
+			latch.countDown();
+		});
+		server.setBeanFactory(TEST_INTEGRATION_CONTEXT);
+		server.afterPropertiesSet();
+		server.start();
+		TestingUtilities.waitListening(server, null);
+
+		TcpNioClientConnectionFactory client = new TcpNioClientConnectionFactory("localhost", server.getPort());
+		client.setWriteCoalescing(true);
+		client.setApplicationEventPublisher(this.nullPublisher);
+		client.start();
+		ExecutorService exec = Executors.newFixedThreadPool(threads);
+		try {
+			TcpConnection connection = client.getConnection();
+			assertThat(connection).isInstanceOf(TcpNioConnection.class);
+			List<Future<?>> futures = new ArrayList<>();
+			for (int i = 0; i < threads; i++) {
+				int thread = i;
+				futures.add(exec.submit(() -> {
+					for (int j = 0; j < messagesPerThread; j++) {
+						connection.send(new GenericMessage<>("foo" + thread + "-" + j));
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get(10, TimeUnit.SECONDS);
+			}
+			assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+			assertThat(received).hasSize(threads * messagesPerThread);
+			TcpNioConnection nioConnection = (TcpNioConnection) connection;
+			assertThat(nioConnection.getWrittenFrameCount()).isEqualTo(threads * messagesPerThread);
+			assertThat(nioConnection.getWriteCount()).isBetween(1L, nioConnection.getWrittenFrameCount());
+		}
+		finally {
+			exec.shutdownNow();
+			client.stop();
+			server.stop();
+		}
+	}
+
 	private static void readFully(InputStream is, byte[] buff) throws IOException {
 		for (int i = 0; i < buff.length; i++) {
 			buff[i] = (byte) is.read();
@@ -961,6 +961,78 @@ public class TcpOutboundGatewayTests implements TestApplicationContextAware {
 		testAsync(false);
 	}
 
+	@Test
+	void testMultiplexedOutOfOrderReplies() throws Exception {
+		CountDownLatch latch = new CountDownLatch(1);
+		AtomicBoolean done = new AtomicBoolean();
+		AtomicReference<ServerSocket> serverSocket = new AtomicReference<>();
+		ThreadPoolTaskScheduler sched = new ThreadPoolTaskScheduler();
+		sched.initialize();
+		TcpOutboundGateway gateway = null;
+		try {
+			this.executor.execute(() -> {
+				try {
+					ServerSocket server = ServerSocketFactory.getDefault().createServerSocket(0, 10);
+					serverSocket.set(server);
+					latch.countDown();
+					Socket socket = server.accept();
+					InputStream is = socket.getInputStream();
+					OutputStream os = socket.getOutputStream();
+					ByteArrayCrLfSerializer serializer = new ByteArrayCrLfSerializer();
+					String request1 = new String(serializer.deserialize(is));
+					String request2 = new String(serializer.deserialize(is));
+					serializer.serialize((request2 + ":reply").getBytes(), os);
+					serializer.serialize((request1 + ":reply").getBytes(), os);
+				}
+				catch (Exception e) {
+					if (!done.get()) {
+						e.printStackTrace();
+					}
+				}
+			});
+			assertThat(latch.await(10000, TimeUnit.MILLISECONDS)).isTrue();
+			AbstractClientConnectionFactory ccf = new TcpNetClientConnectionFactory("localhost",
+					serverSocket.get().getLocalPort());
+			ccf.setSoTimeout(10000);
+			ccf.setSingleUse(false);
+			ccf.setBeanFactory(TEST_INTEGRATION_CONTEXT);
+			ccf.setApplicationEventPublisher(TEST_INTEGRATION_CONTEXT);
+			ccf.afterPropertiesSet();
+			ccf.start();
+			gateway = new TcpOutboundGateway();
+			gateway.setConnectionFactory(ccf);
+			gateway.setAsync(true);
+			gateway.setCorrelationStrategy(message ->
+					(message.getPayload() instanceof byte[] bytes ? new String(bytes) : (String) message.getPayload())
+							.split(":")[0]);
+			QueueChannel replyChannel = new QueueChannel();
+			gateway.setRequiresReply(true);
+			gateway.setOutputChannel(replyChannel);
+			gateway.setBeanFactory(TEST_INTEGRATION_CONTEXT);
+			gateway.setTaskScheduler(sched);
+			gateway.afterPropertiesSet();
+			gateway.handleMessage(MessageBuilder.withPayload("1:Test1").setHeader("request", 1).build());
+			gateway.handleMessage(MessageBuilder.withPayload("2:Test2").setHeader("request", 2).build());
+			Message<?> reply1 = replyChannel.receive(10000);
+			assertThat(reply1).isNotNull();
+			assertThat(reply1.getPayload()).isEqualTo("2:Test2:reply".getBytes());
+			assertThat(reply1.getHeaders()).containsEntry("request", 2);
+			Message<?> reply2 = replyChannel.receive(10000);
+			assertThat(reply2).isNotNull();
+			assertThat(reply2.getPayload()).isEqualTo("1:Test1:reply".getBytes());
+			assertThat(reply2.getHeaders()).containsEntry("request", 1);
+			assertThat(TestUtils.<Map<?, ?>>getPropertyValue(gateway, "multiplexedReplies")).isEmpty();
+		}
+		finally {
+			if (gateway != null) {
+				gateway.stop();
+			}
+			done.set(true);
+			serverSocket.get().close();
+			sched.shutdown();
+		}
+	}
+
 	private void testAsync(boolean singleUse) throws Exception {
 		final CountDownLatch latch = new CountDownLatch(1);
 		final AtomicBoolean done = new AtomicBoolean();
@@ -23,6 +23,8 @@ import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.NetworkInterface;
 import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
@@ -260,6 +262,39 @@ public class UdpChannelAdapterTests implements TestApplicationContextAware {
 		handler.stop();
 	}
 
+	@Test
+	public void testUnicastReceiverWithSeveralReceiversAndPooledBuffers() throws IOException {
+		QueueChannel channel = new QueueChannel();
+		UnicastReceivingChannelAdapter adapter = new UnicastReceivingChannelAdapter(0);
+		adapter.setOutputChannel(channel);
+		adapter.setReceiverCount(3);
+		adapter.setReceiveBufferPoolSize(2);
+		adapter.setPoolSize(6);
+		adapter.setBeanFactory(TEST_INTEGRATION_CONTEXT);
+		adapter.setApplicationEventPublisher(TEST_INTEGRATION_CONTEXT);
+		adapter.afterPropertiesSet();
+		adapter.start();
+		SocketTestUtils.waitListening(adapter);
+		int port = adapter.getPort();
+
+		try (DatagramSocket datagramSocket = new DatagramSocket()) {
+			InetSocketAddress destination = new InetSocketAddress("localhost", port);
+			for (int i = 0; i < 20; i++) {
+				byte[] payload = ("packet" + i).getBytes();
+				datagramSocket.send(new DatagramPacket(payload, payload.length, destination));
+			}
+		}
+
+		Set<String> received = new HashSet<>();
+		for (int i = 0; i < 20; i++) {
+			Message<?> message = channel.receive(10000);
+			assertThat(message).isNotNull();
+			received.add(new String((byte[]) message.getPayload()));
+		}
+		assertThat(received).hasSize(20).contains("packet0", "packet19");
+		adapter.stop();
+	}
+
 	@SuppressWarnings("unchecked")
 	@RetryingTest(20)
 	@DisabledOnJre(JRE.JAVA_17)
@@ -17,9 +17,15 @@
 package org.springframework.integration.jdbc.channel;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
 
 import org.jspecify.annotations.Nullable;
 
@@ -50,6 +56,15 @@ import org.springframework.util.ReflectionUtils;
  * for sending notifications upon newly arrived messages. This trigger is defined
  * in the <i>schema-postgresql.sql</i> file within this artifact but commented
  * out.
+ * <p/>
+ * Notifications received while messages are being drained are coalesced:
+ * at most one drain loop is active for a channel at a time, and it re-checks the
+ * store once more if new notifications arrived in the meantime.
+ * With a {@link #setBatchSize(int) batch size} greater than 1, up to that number of
+ * messages are polled in one transaction (without a transaction manager, those not dispatched yet
+ * are lost on a crash), and with a {@link #setConcurrency(int) concurrency}
+ * greater than 1, the batch is dispatched in parallel lanes, with the order preserved for
+ * messages with the same {@link #setOrderingKeyFunction(Function) ordering key}.
  *
  * @author Rafael Winterhalter
  * @author Artem Bilan
@@ -75,6 +90,10 @@ public class PostgresSubscribableChannel extends AbstractSubscribableChannel
 
 	private final ReentrantReadWriteLock hasHandlersLock = new ReentrantReadWriteLock(true);
 
+	private final AtomicBoolean notified = new AtomicBoolean();
+
+	private final AtomicBoolean draining = new AtomicBoolean();
+
 	private @Nullable TransactionTemplate transactionTemplate;
 
 	private RetryTemplate retryTemplate =
@@ -85,6 +104,15 @@ public class PostgresSubscribableChannel extends AbstractSubscribableChannel
 	@SuppressWarnings("NullAway.Init")
 	private Executor executor;
 
+	@SuppressWarnings("NullAway.Init")
+	private Executor batchDispatchExecutor;
+
+	private int batchSize = 1;
+
+	private int concurrency = 1;
+
+	private @Nullable Function<Message<?>, ?> orderingKeyFunction;
+
 	private volatile boolean hasHandlers;
 
 	/**
@@ -114,14 +142,16 @@ public class PostgresSubscribableChannel extends AbstractSubscribableChannel
 	}
 
 	/**
-	 * Set the transaction manager to use for message processing. Each message will be processed in a
-	 * separate transaction
+	 * Set the transaction manager to use for message processing. Each message (or each batch of messages,
+	 * if {@link #setBatchSize(int)} is greater than 1) will be processed in a separate transaction.
+	 * Cannot be used together with a {@link #setConcurrency(int) concurrency} greater than 1.
 	 * @param transactionManager The transaction manager to use
 	 * @since 6.0.5
 	 * @see PlatformTransactionManager
 	 */
 	public void setTransactionManager(PlatformTransactionManager transactionManager) {
 		Assert.notNull(transactionManager, "A platform transaction manager must be provided.");
+		assertNoParallelLanesInTransaction(this.concurrency, transactionManager);
 		this.transactionTemplate = new TransactionTemplate(transactionManager);
 	}
 
@@ -147,12 +177,86 @@ public class PostgresSubscribableChannel extends AbstractSubscribableChannel
 		this.errorHandler = errorHandler;
 	}
 
+	/**
+	 * Set the maximum number of messages to poll from the store per transaction.
+	 * With a transaction manager, a failure for any message in the batch rolls back
+	 * the whole batch, and all its messages are polled and dispatched again.
+	 * <p>
+	 * <b>Without a transaction manager</b>, the messages are removed from the store when they
+	 * are polled: if the application crashes while a batch is dispatched, up to {@code batchSize}
+	 * polled, but not yet dispatched messages are lost (instead of one with a batch size of 1).
+	 * Configure a {@link #setTransactionManager(PlatformTransactionManager) transaction manager}
+	 * if messages must not be lost; note that it cannot be used together with parallel lanes.
+	 * @param batchSize the batch size. Defaults to {@code 1}.
+	 * @since 7.2
+	 * @see #setTransactionManager(PlatformTransactionManager)
+	 */
+	public void setBatchSize(int batchSize) {
+		Assert.isTrue(batchSize > 0, "'batchSize' must be greater than 0.");
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Set the number of parallel lanes to dispatch a polled batch of messages.
+	 * The messages are distributed to the lanes according to the
+	 * {@link #setOrderingKeyFunction(Function) ordering key}, or round-robin if
+	 * no ordering key function is provided.
+	 * Messages in the same lane are dispatched in the order they were polled from the store.
+	 * Parallel lanes are not supported together with a
+	 * {@link #setTransactionManager(PlatformTransactionManager) transaction manager}:
+	 * the lanes are dispatched on other threads, outside the transaction the batch is polled in.
+	 * @param concurrency the number of lanes. Defaults to {@code 1}.
+	 * @since 7.2
+	 * @see #setBatchSize(int)
+	 * @see #setBatchDispatchExecutor(Executor)
+	 */
+	public void setConcurrency(int concurrency) {
+		Assert.isTrue(concurrency > 0, "'concurrency' must be greater than 0.");
+		assertNoParallelLanesInTransaction(concurrency, this.transactionTemplate);
+		this.concurrency = concurrency;
+	}
+
+	private static void assertNoParallelLanesInTransaction(int concurrency, @Nullable Object transactionManager) {
+		Assert.state(concurrency == 1 || transactionManager == null,
+				"A 'concurrency' greater than 1 is not supported together with a 'transactionManager': " +
+						"the parallel lanes would be dispatched outside the transaction.");
+	}
+
+	/**
+	 * Set a function to extract an ordering key from a message, e.g. a correlation id header.
+	 * Messages with the same key are dispatched in the same lane, in the store order.
+	 * @param orderingKeyFunction the function to extract an ordering key.
+	 * @since 7.2
+	 * @see #setConcurrency(int)
+	 */
+	public void setOrderingKeyFunction(Function<Message<?>, ?> orderingKeyFunction) {
+		Assert.notNull(orderingKeyFunction, "'orderingKeyFunction' must not be null.");
+		this.orderingKeyFunction = orderingKeyFunction;
+	}
+
+	/**
+	 * Set the executor for the parallel dispatch lanes.
+	 * Must not be the same as the {@link #setDispatcherExecutor(Executor) dispatcher executor},
+	 * which waits for the lanes to complete.
+	 * Defaults to a {@link SimpleAsyncTaskExecutor}.
+	 * @param batchDispatchExecutor the executor to use.
+	 * @since 7.2
+	 * @see #setConcurrency(int)
+	 */
+	public void setBatchDispatchExecutor(Executor batchDispatchExecutor) {
+		Assert.notNull(batchDispatchExecutor, "A batchDispatchExecutor must be provided.");
+		this.batchDispatchExecutor = batchDispatchExecutor;
+	}
+
 	@Override
 	protected void onInit() {
 		super.onInit();
 		if (this.executor == null) {
 			this.executor = new SimpleAsyncTaskExecutor(getBeanName() + "-dispatcher-");
 		}
+		if (this.batchDispatchExecutor == null) {
+			this.batchDispatchExecutor = new SimpleAsyncTaskExecutor(getBeanName() + "-batch-dispatcher-");
+		}
 	}
 
 	@Override
@@ -195,30 +299,57 @@ public class PostgresSubscribableChannel extends AbstractSubscribableChannel
 
 	@Override
 	public void notifyUpdate() {
-		this.executor.execute(() -> {
-			Optional<?> dispatchedMessage;
+		this.notified.set(true);
+		if (this.draining.compareAndSet(false, true)) {
+			try {
+				this.executor.execute(this::drain);
+			}
+			catch (RuntimeException ex) {
+				this.draining.set(false);
+				throw ex;
+			}
+		}
+	}
+
+	private void drain() {
+		try {
 			do {
-				dispatchedMessage = pollAndDispatchMessage();
-			} while (dispatchedMessage.isPresent());
-		});
+				this.notified.set(false);
+				Optional<?> dispatchedMessages;
+				do {
+					dispatchedMessages = pollAndDispatchMessages();
+				} while (dispatchedMessages.isPresent());
+			} while (this.notified.get());
+		}
+		finally {
+			this.draining.set(false);
+		}
+		// A notification might have arrived after the last check, but before the drain flag was reset
+		if (this.notified.get()) {
+			notifyUpdate();
+		}
 	}
 
-	private Optional<?> pollAndDispatchMessage() {
+	private Optional<?> pollAndDispatchMessages() {
 		try {
-			return doPollAndDispatchMessage();
+			return doPollAndDispatchMessages();
 		}
 		catch (Exception ex) {
-			try {
-				this.errorHandler.handleError(ex);
-			}
-			catch (Exception ex1) {
-				LOGGER.error(ex, "Exception during message dispatch");
-			}
+			handleError(ex);
 			return FALLBACK_STUB;
 		}
 	}
 
-	private Optional<?> doPollAndDispatchMessage() {
+	private void handleError(Exception ex) {
+		try {
+			this.errorHandler.handleError(ex);
+		}
+		catch (Exception ex1) {
+			LOGGER.error(ex, "Exception during message dispatch");
+		}
+	}
+
+	private Optional<?> doPollAndDispatchMessages() {
 		this.hasHandlersLock.readLock().lock();
 		try {
 			if (this.hasHandlers) {
@@ -226,11 +357,11 @@ public class PostgresSubscribableChannel extends AbstractSubscribableChannel
 				if (transactionTemplateToUse != null) {
 					return executeWithRetry(() ->
 							transactionTemplateToUse.execute(status ->
-									pollMessage().map(this::dispatch)));
+									pollMessages().map(messages -> dispatchBatch(messages, false))));
 				}
 				else {
-					return pollMessage()
-							.map(message -> executeWithRetry(() -> dispatch(message)));
+					return pollMessages()
+							.map(messages -> dispatchBatch(messages, true));
 				}
 			}
 		}
@@ -253,8 +384,92 @@ public class PostgresSubscribableChannel extends AbstractSubscribableChannel
 		}
 	}
 
-	private Optional<Message<?>> pollMessage() {
-		return Optional.ofNullable(this.jdbcChannelMessageStore.pollMessageFromGroup(this.groupId));
+	private Optional<List<Message<?>>> pollMessages() {
+		List<Message<?>> messages = new ArrayList<>();
+		Message<?> message;
+		while (messages.size() < this.batchSize
+				&& (message = this.jdbcChannelMessageStore.pollMessageFromGroup(this.groupId)) != null) {
+
+			messages.add(message);
+		}
+		return messages.isEmpty() ? Optional.empty() : Optional.of(messages);
+	}
+
+	private List<Message<?>> dispatchBatch(List<Message<?>> messages, boolean retryEachMessage) {
+		int lanesCount = Math.min(this.concurrency, messages.size());
+		if (lanesCount == 1) {
+			dispatchLane(messages, retryEachMessage);
+			return messages;
+		}
+
+		List<List<Message<?>>> lanes = new ArrayList<>(lanesCount);
+		for (int i = 0; i < lanesCount; i++) {
+			lanes.add(new ArrayList<>());
+		}
+		Function<Message<?>, ?> orderingKeyFunctionToUse = this.orderingKeyFunction;
+		for (int i = 0; i < messages.size(); i++) {
+			Message<?> message = messages.get(i);
+			int lane = i % lanesCount;
+			if (orderingKeyFunctionToUse != null) {
+				Object orderingKey = orderingKeyFunctionToUse.apply(message);
+				lane = orderingKey != null ? Math.floorMod(orderingKey.hashCode(), lanesCount) : 0;
+			}
+			lanes.get(lane).add(message);
+		}
+
+		List<CompletableFuture<Void>> futures = new ArrayList<>(lanesCount - 1);
+		for (int i = 1; i < lanesCount; i++) {
+			List<Message<?>> lane = lanes.get(i);
+			if (!lane.isEmpty()) {
+				futures.add(CompletableFuture.runAsync(() -> dispatchLane(lane, retryEachMessage),
+						this.batchDispatchExecutor));
+			}
+		}
+
+		RuntimeException failure = null;
+		try {
+			dispatchLane(lanes.get(0), retryEachMessage);
+		}
+		catch (RuntimeException ex) {
+			failure = ex;
+		}
+		for (CompletableFuture<Void> future : futures) {
+			try {
+				future.join();
+			}
+			catch (CompletionException ex) {
+				RuntimeException cause =
+						ex.getCause() instanceof RuntimeException runtimeException
+								? runtimeException
+								: ex;
+				if (failure == null) {
+					failure = cause;
+				}
+				else {
+					failure.addSuppressed(cause);
+				}
+			}
+		}
+		if (failure != null) {
+			throw failure;
+		}
+		return messages;
+	}
+
+	private void dispatchLane(List<Message<?>> messages, boolean retryEachMessage) {
+		for (Message<?> message : messages) {
+			if (retryEachMessage) {
+				try {
+					executeWithRetry(() -> dispatch(message));
+				}
+				catch (Exception ex) {
+					handleError(ex);
+				}
+			}
+			else {
+				dispatch(message);
+			}
+		}
 	}
 
 	private Message<?> dispatch(Message<?> message) {
@@ -16,6 +16,8 @@
 
 package org.springframework.integration.jdbc.dsl;
 
+import java.util.function.Function;
+
 import org.springframework.integration.dsl.MessageSourceSpec;
 import org.springframework.integration.jdbc.SqlParameterSourceFactory;
 import org.springframework.integration.jdbc.inbound.JdbcPollingChannelAdapter;
@@ -100,4 +102,40 @@ public class JdbcInboundChannelAdapterSpec
 		return this;
 	}
 
+	/**
+	 * @param fetchSize the fetchSize
+	 * @return the spec
+	 * @since 7.2
+	 * @see JdbcPollingChannelAdapter#setFetchSize(int)
+	 */
+	public JdbcInboundChannelAdapterSpec fetchSize(int fetchSize) {
+		this.target.setFetchSize(fetchSize);
+		return this;
+	}
+
+	/**
+	 * @param keysetExtractor the function to extract a keyset value from the last row
+	 * @param initialValue the keyset value for the first poll
+	 * @return the spec
+	 * @since 7.2
+	 * @see JdbcPollingChannelAdapter#setKeysetExtractor(Function)
+	 * @see JdbcPollingChannelAdapter#setKeysetValue(Object)
+	 */
+	public JdbcInboundChannelAdapterSpec keyset(Function<Object, ?> keysetExtractor, Object initialValue) {
+		this.target.setKeysetExtractor(keysetExtractor);
+		this.target.setKeysetValue(initialValue);
+		return this;
+	}
+
+	/**
+	 * @param keysetParameterName the keysetParameterName
+	 * @return the spec
+	 * @since 7.2
+	 * @see JdbcPollingChannelAdapter#setKeysetParameterName(String)
+	 */
+	public JdbcInboundChannelAdapterSpec keysetParameterName(String keysetParameterName) {
+		this.target.setKeysetParameterName(keysetParameterName);
+		return this;
+	}
+
 }
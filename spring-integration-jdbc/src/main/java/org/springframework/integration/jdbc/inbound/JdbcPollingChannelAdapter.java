@@ -22,12 +22,15 @@ import java.sql.SQLException;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 import javax.sql.DataSource;
 
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.beans.factory.BeanFactory;
+import org.springframework.integration.IntegrationMessageHeaderAccessor;
+import org.springframework.integration.acks.AcknowledgmentCallback;
 import org.springframework.integration.endpoint.AbstractMessageSource;
 import org.springframework.integration.jdbc.ExpressionEvaluatingSqlParameterSourceFactory;
 import org.springframework.integration.jdbc.SqlParameterSourceFactory;
@@ -43,12 +46,18 @@ import org.springframework.jdbc.core.SqlProvider;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
 
 /**
  * A polling channel adapter that creates messages from the payload returned by
  * executing a select query. Optionally an update can be executed after the
  * select in order to update processed rows.
+ * <p>
+ * To drain large tables with bounded memory, the {@link #setMaxRows(int) max rows}
+ * (the chunk size emitted per poll) can be combined with a {@link #setFetchSize(int) fetch size}
+ * and the keyset pagination across polls; see {@link #setKeysetExtractor(Function)}.
  *
  * @author Jonas Partner
  * @author Dave Syer
@@ -73,6 +82,14 @@ public class JdbcPollingChannelAdapter extends AbstractMessageSource<Object> {
 
 	private int maxRows = 0;
 
+	private int fetchSize = 0;
+
+	private String keysetParameterName = "lastKey";
+
+	private @Nullable Function<Object, ?> keysetExtractor;
+
+	private volatile @Nullable Object keysetValue;
+
 	private volatile String selectQuery;
 
 	private volatile @Nullable String updateSql;
@@ -104,7 +121,7 @@ public class JdbcPollingChannelAdapter extends AbstractMessageSource<Object> {
 						super.getPreparedStatementCreator(sql, paramSource, customizer);
 
 				return new PreparedStatementCreatorWithMaxRows(preparedStatementCreator,
-						JdbcPollingChannelAdapter.this.maxRows);
+						JdbcPollingChannelAdapter.this.maxRows, JdbcPollingChannelAdapter.this.fetchSize);
 			}
 
 		};
@@ -140,6 +157,7 @@ public class JdbcPollingChannelAdapter extends AbstractMessageSource<Object> {
 
 	/**
 	 * Set a flag to update per record or not. Defaults to false.
+	 * Starting with version 7.2, the per-record updates are executed as a single JDBC batch.
 	 * @param updatePerRow the flag to control an update per record or whole batch.
 	 */
 	public void setUpdatePerRow(boolean updatePerRow) {
@@ -172,6 +190,70 @@ public class JdbcPollingChannelAdapter extends AbstractMessageSource<Object> {
 		this.maxRows = maxRows;
 	}
 
+	/**
+	 * Set the number of rows to fetch from the database in one round trip while reading
+	 * the forward-only result set of the select query.
+	 * Default is zero - the JDBC driver default.
+	 * @param fetchSize the fetch size.
+	 * @since 7.2
+	 * @see PreparedStatement#setFetchSize(int)
+	 */
+	public void setFetchSize(int fetchSize) {
+		this.fetchSize = fetchSize;
+	}
+
+	/**
+	 * Set a function to extract a keyset pagination value from a mapped row.
+	 * When set, the value from the last row of a poll result is provided to the next
+	 * select query as the {@link #setKeysetParameterName(String) keyset parameter},
+	 * e.g. {@code SELECT * FROM item WHERE id > :lastKey ORDER BY id}.
+	 * Together with the {@link #setMaxRows(int) max rows}, a table is drained in chunks
+	 * without an update query marking the processed rows.
+	 * The message for a chunk carries an {@link AcknowledgmentCallback} header, and the keyset value
+	 * is advanced only when the message is acknowledged as {@link AcknowledgmentCallback.Status#ACCEPT accepted}
+	 * (after the commit if a transaction is active), which is done automatically by the
+	 * {@link org.springframework.integration.endpoint.SourcePollingChannelAdapter} on a successful dispatch.
+	 * Otherwise, the same chunk is polled again (at-least-once).
+	 * @param keysetExtractor the function to extract a key from the last row.
+	 * @since 7.2
+	 * @see #setKeysetValue(Object)
+	 */
+	public void setKeysetExtractor(@Nullable Function<Object, ?> keysetExtractor) {
+		this.keysetExtractor = keysetExtractor;
+	}
+
+	/**
+	 * Set the name of the select query parameter for the keyset pagination value.
+	 * Defaults to {@code lastKey}.
+	 * @param keysetParameterName the parameter name.
+	 * @since 7.2
+	 * @see #setKeysetExtractor(Function)
+	 */
+	public void setKeysetParameterName(String keysetParameterName) {
+		Assert.hasText(keysetParameterName, "'keysetParameterName' must not be empty");
+		this.keysetParameterName = keysetParameterName;
+	}
+
+	/**
+	 * Set the current keyset pagination value, e.g. the initial value before the first poll,
+	 * or a value restored after a restart.
+	 * @param keysetValue the keyset value.
+	 * @since 7.2
+	 * @see #setKeysetExtractor(Function)
+	 */
+	public void setKeysetValue(@Nullable Object keysetValue) {
+		this.keysetValue = keysetValue;
+	}
+
+	/**
+	 * Return the current keyset pagination value - the key of the last row accepted.
+	 * @return the keyset value.
+	 * @since 7.2
+	 */
+	public @Nullable Object getKeysetValue() {
+		return this.keysetValue;
+	}
+
 	@Override
 	protected void onInit() {
 		BeanFactory beanFactory = getBeanFactory();
@@ -193,20 +275,30 @@ public class JdbcPollingChannelAdapter extends AbstractMessageSource<Object> {
 	 */
 	@Override
 	protected @Nullable Object doReceive() {
-		List<?> payload = doPoll(this.sqlQueryParameterSource);
+		SqlParameterSource parameterSource = this.sqlQueryParameterSource;
+		Function<Object, ?> keyset = this.keysetExtractor;
+		if (keyset != null) {
+			parameterSource = new KeysetSqlParameterSource(parameterSource, this.keysetParameterName, this.keysetValue);
+		}
+		List<?> payload = doPoll(parameterSource);
 		if (payload.isEmpty()) {
 			payload = null;
 		}
 		if (payload != null && this.updateSql != null) {
 			if (this.updatePerRow) {
-				for (Object row : payload) {
-					executeUpdateQuery(row);
-				}
+				executeBatchUpdateQuery(payload);
 			}
 			else {
 				executeUpdateQuery(payload);
 			}
 		}
+		if (payload != null && keyset != null) {
+			Object nextKeysetValue = keyset.apply(payload.get(payload.size() - 1));
+			return getMessageBuilderFactory()
+					.withPayload(payload)
+					.setHeader(IntegrationMessageHeaderAccessor.ACKNOWLEDGMENT_CALLBACK,
+							new KeysetAcknowledgmentCallback(nextKeysetValue));
+		}
 		return payload;
 	}
 
@@ -229,13 +321,25 @@ public class JdbcPollingChannelAdapter extends AbstractMessageSource<Object> {
 		this.jdbcOperations.update(this.updateSql, this.sqlParameterSourceFactory.createParameterSource(obj));
 	}
 
-	private record PreparedStatementCreatorWithMaxRows(PreparedStatementCreator delegate, int maxRows)
+	@SuppressWarnings("NullAway") // Dataflow analysis limitation
+	private void executeBatchUpdateQuery(List<?> rows) {
+		SqlParameterSource[] batchArgs =
+				rows.stream()
+						.map(this.sqlParameterSourceFactory::createParameterSource)
+						.toArray(SqlParameterSource[]::new);
+		this.jdbcOperations.batchUpdate(this.updateSql, batchArgs);
+	}
+
+	private record PreparedStatementCreatorWithMaxRows(PreparedStatementCreator delegate, int maxRows, int fetchSize)
 			implements PreparedStatementCreator, PreparedStatementSetter, SqlProvider, ParameterDisposer {
 
 		@Override
 		public PreparedStatement createPreparedStatement(Connection con) throws SQLException {
 			PreparedStatement preparedStatement = this.delegate.createPreparedStatement(con);
 			preparedStatement.setMaxRows(this.maxRows); // We can't mutate provided JdbOperations for this option
+			if (this.fetchSize != 0) {
+				preparedStatement.setFetchSize(this.fetchSize);
+			}
 			return preparedStatement;
 		}
 
@@ -265,4 +369,85 @@ public class JdbcPollingChannelAdapter extends AbstractMessageSource<Object> {
 
 	}
 
+	/**
+	 * The {@link AcknowledgmentCallback} to advance the keyset pagination value
+	 * when the chunk is accepted; after the commit if a transaction is active.
+	 */
+	private final class KeysetAcknowledgmentCallback implements AcknowledgmentCallback {
+
+		private final @Nullable Object nextKeysetValue;
+
+		private volatile boolean acknowledged;
+
+		KeysetAcknowledgmentCallback(@Nullable Object nextKeysetValue) {
+			this.nextKeysetValue = nextKeysetValue;
+		}
+
+		@Override
+		public void acknowledge(Status status) {
+			this.acknowledged = true;
+			if (Status.ACCEPT.equals(status)) {
+				if (TransactionSynchronizationManager.isSynchronizationActive()) {
+					TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+						@Override
+						public void afterCommit() {
+							advance();
+						}
+
+					});
+				}
+				else {
+					advance();
+				}
+			}
+		}
+
+		@Override
+		public boolean isAcknowledged() {
+			return this.acknowledged;
+		}
+
+		private void advance() {
+			JdbcPollingChannelAdapter.this.keysetValue = this.nextKeysetValue;
+		}
+
+	}
+
+	private record KeysetSqlParameterSource(@Nullable SqlParameterSource delegate, String keysetParameterName,
+			@Nullable Object keysetValue) implements SqlParameterSource {
+
+		@Override
+		public boolean hasValue(String paramName) {
+			return this.keysetParameterName.equals(paramName)
+					|| (this.delegate != null && this.delegate.hasValue(paramName));
+		}
+
+		@Override
+		public @Nullable Object getValue(String paramName) throws IllegalArgumentException {
+			if (this.keysetParameterName.equals(paramName)) {
+				return this.keysetValue;
+			}
+			if (this.delegate != null) {
+				return this.delegate.getValue(paramName);
+			}
+			throw new IllegalArgumentException("No value registered for key '" + paramName + "'");
+		}
+
+		@Override
+		public int getSqlType(String paramName) {
+			return this.delegate != null && !this.keysetParameterName.equals(paramName)
+					? this.delegate.getSqlType(paramName)
+					: TYPE_UNKNOWN;
+		}
+
+		@Override
+		public @Nullable String getTypeName(String paramName) {
+			return this.delegate != null && !this.keysetParameterName.equals(paramName)
+					? this.delegate.getTypeName(paramName)
+					: null;
+		}
+
+	}
+
 }
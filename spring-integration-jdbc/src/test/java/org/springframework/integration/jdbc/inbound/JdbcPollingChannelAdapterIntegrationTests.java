@@ -28,6 +28,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.EnabledForJreRange;
 import org.junit.jupiter.api.condition.JRE;
 
+import org.springframework.integration.StaticMessageHeaderAccessor;
+import org.springframework.integration.acks.AcknowledgmentCallback;
 import org.springframework.integration.test.support.TestApplicationContextAware;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
@@ -276,6 +278,61 @@ public class JdbcPollingChannelAdapterIntegrationTests implements TestApplicatio
 		assertThat(countOfStatusTen).as("Status not updated incorrect number of rows with status 10").isEqualTo(2);
 	}
 
+	@Test
+	public void testKeysetPaginationInChunks() {
+		JdbcPollingChannelAdapter adapter = new JdbcPollingChannelAdapter(embeddedDatabase,
+				"select * from item where id > :lastKey order by id");
+		adapter.setRowMapper(new ItemRowMapper());
+		adapter.setMaxRows(2);
+		adapter.setFetchSize(2);
+		adapter.setKeysetExtractor((row) -> ((Item) row).id());
+		adapter.setKeysetValue(0);
+		adapter.setUpdateSql("update item set status = 10 where id = :id");
+		adapter.setUpdatePerRow(true);
+		adapter.setBeanFactory(TEST_INTEGRATION_CONTEXT);
+		adapter.afterPropertiesSet();
+		for (int i = 1; i <= 5; i++) {
+			jdbcTemplate.update("insert into item values(?, 2)", i);
+		}
+
+		Message<Object> message = adapter.receive();
+		assertThat(message.getPayload())
+				.asInstanceOf(list(Item.class))
+				.extracting(Item::id)
+				.containsExactly(1, 2);
+		// The keyset value is not advanced until the chunk is accepted
+		StaticMessageHeaderAccessor.getAcknowledgmentCallback(message)
+				.acknowledge(AcknowledgmentCallback.Status.REQUEUE);
+		assertThat(adapter.getKeysetValue()).isEqualTo(0);
+
+		message = adapter.receive();
+		assertThat(message.getPayload())
+				.asInstanceOf(list(Item.class))
+				.extracting(Item::id)
+				.containsExactly(1, 2);
+		StaticMessageHeaderAccessor.getAcknowledgmentCallback(message).acknowledge();
+
+		message = adapter.receive();
+		assertThat(message.getPayload())
+				.asInstanceOf(list(Item.class))
+				.extracting(Item::id)
+				.containsExactly(3, 4);
+		StaticMessageHeaderAccessor.getAcknowledgmentCallback(message).acknowledge();
+
+		message = adapter.receive();
+		assertThat(message.getPayload())
+				.asInstanceOf(list(Item.class))
+				.extracting(Item::id)
+				.containsExactly(5);
+		StaticMessageHeaderAccessor.getAcknowledgmentCallback(message).acknowledge();
+
+		assertThat(adapter.receive()).isNull();
+		assertThat(adapter.getKeysetValue()).isEqualTo(5);
+
+		int countOfStatusTen = jdbcTemplate.queryForObject("select count(*) from item where status = 10", Integer.class);
+		assertThat(countOfStatusTen).isEqualTo(5);
+	}
+
 	@Test
 	public void testEmptyPoll() {
 		JdbcPollingChannelAdapter adapter = new JdbcPollingChannelAdapter(embeddedDatabase, "select * from item");
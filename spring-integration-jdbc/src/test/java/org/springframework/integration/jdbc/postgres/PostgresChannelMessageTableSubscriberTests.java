@@ -21,6 +21,9 @@ import java.sql.SQLException;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -68,6 +71,7 @@ import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 
 /**
  * @author Rafael Winterhalter
@@ -349,6 +353,39 @@ public class PostgresChannelMessageTableSubscriberTests implements PostgresConta
 		assertThat(inStoreCount + receivedCount).isEqualTo(numberOfMessages);
 	}
 
+	@Test
+	void batchedParallelDispatchPreservesOrderPerKey() throws InterruptedException {
+		int numberOfMessages = 30;
+		CountDownLatch latch = new CountDownLatch(numberOfMessages);
+		Map<Integer, List<Integer>> payloadsPerKey = new ConcurrentHashMap<>();
+		postgresSubscribableChannel.setBatchSize(10);
+		postgresSubscribableChannel.setConcurrency(3);
+		postgresSubscribableChannel.setOrderingKeyFunction(message -> (Integer) message.getPayload() % 3);
+
+		IntStream.range(0, numberOfMessages)
+				.forEach(i -> messageStore.addMessageToGroup(groupId, new GenericMessage<>(i)));
+
+		postgresSubscribableChannel.subscribe(message -> {
+			Integer payload = (Integer) message.getPayload();
+			payloadsPerKey.computeIfAbsent(payload % 3, key -> new CopyOnWriteArrayList<>()).add(payload);
+			latch.countDown();
+		});
+		postgresChannelMessageTableSubscriber.start();
+
+		assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+		assertThat(payloadsPerKey).hasSize(3);
+		payloadsPerKey.values().forEach(payloads -> assertThat(payloads).hasSize(10).isSorted());
+		assertThat(messageStore.messageGroupSize(groupId)).isEqualTo(0);
+	}
+
+	@Test
+	void parallelLanesAreRejectedWithTransactionManager() {
+		postgresSubscribableChannel.setTransactionManager(transactionManager);
+		assertThatIllegalStateException()
+				.isThrownBy(() -> postgresSubscribableChannel.setConcurrency(3))
+				.withMessageContaining("not supported together with a 'transactionManager'");
+	}
+
 	@Configuration
 	@EnableIntegration
 	public static class Config {
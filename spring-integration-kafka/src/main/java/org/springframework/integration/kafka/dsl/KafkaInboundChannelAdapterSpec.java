@@ -89,6 +89,18 @@ public class KafkaInboundChannelAdapterSpec<K, V>
 		return this;
 	}
 
+	/**
+	 * Set to true to emit all the records from a poll as a single message.
+	 * @param batchMode true to enable the batch mode.
+	 * @return the spec.
+	 * @since 7.2
+	 * @see KafkaMessageSource#setBatchMode(boolean)
+	 */
+	public KafkaInboundChannelAdapterSpec<K, V> batchMode(boolean batchMode) {
+		this.target.setBatchMode(batchMode);
+		return this;
+	}
+
 	/**
 	 * Set to true to include the raw {@link org.apache.kafka.clients.consumer.ConsumerRecord} as headers with keys
 	 * {@link org.springframework.kafka.support.KafkaHeaders#RAW_DATA} and
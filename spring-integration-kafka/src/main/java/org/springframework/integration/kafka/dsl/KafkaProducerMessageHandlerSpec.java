@@ -291,6 +291,30 @@ public class KafkaProducerMessageHandlerSpec<K, V, S extends KafkaProducerMessag
 		return _this();
 	}
 
+	/**
+	 * Set the maximum number of records sent, but not acknowledged yet, in the async mode.
+	 * @param maxInFlight the maximum number of in-flight records.
+	 * @return the spec.
+	 * @since 7.2
+	 * @see KafkaProducerMessageHandler#setMaxInFlight(int)
+	 */
+	public S maxInFlight(int maxInFlight) {
+		this.target.setMaxInFlight(maxInFlight);
+		return _this();
+	}
+
+	/**
+	 * Set the maximum total size of records sent, but not acknowledged yet, in the async mode.
+	 * @param maxInFlightBytes the maximum number of in-flight bytes.
+	 * @return the spec.
+	 * @since 7.2
+	 * @see KafkaProducerMessageHandler#setMaxInFlightBytes(long)
+	 */
+	public S maxInFlightBytes(long maxInFlightBytes) {
+		this.target.setMaxInFlightBytes(maxInFlightBytes);
+		return _this();
+	}
+
 	/**
 	 * Specify a timeout in milliseconds how long {@link KafkaProducerMessageHandler}
 	 * should wait for send operation results. Defaults to 10 seconds.
@@ -73,6 +73,8 @@ import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.kafka.support.KafkaUtils;
 import org.springframework.kafka.support.LogIfLevelEnabled;
 import org.springframework.kafka.support.TopicPartitionOffset;
+import org.springframework.kafka.support.converter.BatchMessageConverter;
+import org.springframework.kafka.support.converter.BatchMessagingMessageConverter;
 import org.springframework.kafka.support.converter.KafkaMessageHeaders;
 import org.springframework.kafka.support.converter.MessagingMessageConverter;
 import org.springframework.kafka.support.converter.RecordMessageConverter;
@@ -97,6 +99,11 @@ import org.springframework.util.StringUtils;
  * allows you to pause and resume the {@link Consumer}. While the consumer is
  * paused, you must continue to call {@link #receive()} within
  * {@code max.poll.interval.ms}, to prevent a rebalance.
+ * <p>
+ * Starting with version 7.2, in the {@link #setBatchMode(boolean) batch mode}, the
+ * whole poll result is emitted as a single message with a {@link KafkaBatchAckCallback}
+ * acknowledging the offset range of the batch; the records can also be acknowledged
+ * individually, in any order, e.g. when partitions are processed in parallel.
  *
  * @param <K> the key type.
  * @param <V> the value type.
@@ -157,6 +164,10 @@ public class KafkaMessageSource<K, V> extends AbstractMessageSource<Object>
 
 	private RecordMessageConverter messageConverter = new MessagingMessageConverter();
 
+	private BatchMessageConverter batchMessageConverter = new BatchMessagingMessageConverter();
+
+	private boolean batchMode;
+
 	private @Nullable Class<?> payloadType;
 
 	private boolean rawMessageHeader;
@@ -345,6 +356,35 @@ public class KafkaMessageSource<K, V> extends AbstractMessageSource<Object>
 		this.messageConverter = messageConverter;
 	}
 
+	/**
+	 * Set to true to emit all the records from a poll as a single message with a {@link List} payload
+	 * (converted by the {@link #setBatchMessageConverter(BatchMessageConverter) batch message converter})
+	 * instead of a message per record.
+	 * The {@link IntegrationMessageHeaderAccessor#ACKNOWLEDGMENT_CALLBACK} header of such a message is a
+	 * {@link KafkaBatchAckCallback} which acknowledges (or requeues) the offset range of the whole batch
+	 * with a single commit (or seek) per partition.
+	 * Its {@link KafkaBatchAckCallback#getRecordCallbacks()} can be used to acknowledge records individually,
+	 * in any order, e.g. when the batch is split by partitions for parallel processing; commits are deferred
+	 * until all the earlier records in the partition are acknowledged, so unprocessed records are never skipped.
+	 * Requires {@code allowMultiFetch} to receive more than one record per poll.
+	 * @param batchMode true to enable the batch mode.
+	 * @since 7.2
+	 */
+	public void setBatchMode(boolean batchMode) {
+		this.batchMode = batchMode;
+	}
+
+	/**
+	 * Set the message converter for the {@link #setBatchMode(boolean) batch mode} to replace the default
+	 * {@link BatchMessagingMessageConverter}.
+	 * @param batchMessageConverter the converter.
+	 * @since 7.2
+	 */
+	public void setBatchMessageConverter(BatchMessageConverter batchMessageConverter) {
+		Assert.notNull(batchMessageConverter, "'batchMessageConverter' must not be null");
+		this.batchMessageConverter = batchMessageConverter;
+	}
+
 	protected @Nullable Class<?> getPayloadType() {
 		return this.payloadType;
 	}
@@ -491,6 +531,11 @@ public class KafkaMessageSource<K, V> extends AbstractMessageSource<Object>
 			this.receiveLock.unlock();
 		}
 
+		if (this.batchMode) {
+			ConsumerRecords<K, V> records = pollRecords();
+			return records != null ? recordsToMessage(records) : null;
+		}
+
 		ConsumerRecord<K, V> record = pollRecord();
 
 		return record != null ? recordToMessage(record) : null;
@@ -612,6 +657,30 @@ public class KafkaMessageSource<K, V> extends AbstractMessageSource<Object>
 		}
 	}
 
+	private @Nullable ConsumerRecords<K, V> pollRecords() {
+		this.consumerLock.lock();
+		try {
+			Assert.state(this.consumer != null, "'consumer' must not be null");
+			ConsumerRecords<K, V> records = this.consumer
+					.poll(this.assignedPartitions.isEmpty() ? this.assignTimeout : this.pollTimeout);
+			this.logger.debug(() -> records == null
+					? "Received null"
+					: "Received " + records.count() + " records");
+			return records == null || records.isEmpty() ? null : records;
+		}
+		catch (WakeupException ex) {
+			this.logger.debug("Woken");
+			if (this.newAssignment) {
+				this.newAssignment = false;
+				return pollRecords();
+			}
+			return null;
+		}
+		finally {
+			this.consumerLock.unlock();
+		}
+	}
+
 	private ConsumerRecord<K, V> nextRecord() {
 		ConsumerRecord<K, V> record;
 		Assert.state(this.recordsIterator != null, "'recordsIterator' must not be null");
@@ -661,6 +730,40 @@ public class KafkaMessageSource<K, V> extends AbstractMessageSource<Object>
 		}
 	}
 
+	private Object recordsToMessage(ConsumerRecords<K, V> records) {
+		List<ConsumerRecord<?, ?>> recordList = new ArrayList<>(records.count());
+		List<AcknowledgmentCallback> recordCallbacks = new ArrayList<>(records.count());
+		for (ConsumerRecord<K, V> record : records) {
+			TopicPartition topicPartition = new TopicPartition(record.topic(), record.partition());
+			KafkaAckInfo<K, V> ackInfo = new KafkaAckInfoImpl(record, topicPartition);
+			recordCallbacks.add(this.ackCallbackFactory.createCallback(ackInfo));
+			this.inflightRecords.computeIfAbsent(topicPartition, tp -> Collections.synchronizedSet(new TreeSet<>()))
+					.add(ackInfo);
+			recordList.add(record);
+		}
+		KafkaBatchAckCallback ackCallback = new KafkaBatchAckCallback(recordCallbacks);
+		Message<?> message = this.batchMessageConverter.toMessage(recordList, ackCallback, this.consumer,
+				this.payloadType != null ? this.payloadType : Object.class);
+		if (message.getHeaders() instanceof KafkaMessageHeaders) {
+			Map<String, Object> rawHeaders = ((KafkaMessageHeaders) message.getHeaders()).getRawHeaders();
+			rawHeaders.put(IntegrationMessageHeaderAccessor.ACKNOWLEDGMENT_CALLBACK, ackCallback);
+			if (this.rawMessageHeader) {
+				rawHeaders.put(KafkaHeaders.RAW_DATA, records);
+				rawHeaders.put(IntegrationMessageHeaderAccessor.SOURCE_DATA, records);
+			}
+			return message;
+		}
+		else {
+			AbstractIntegrationMessageBuilder<?> builder = getMessageBuilderFactory().fromMessage(message)
+					.setHeader(IntegrationMessageHeaderAccessor.ACKNOWLEDGMENT_CALLBACK, ackCallback);
+			if (this.rawMessageHeader) {
+				builder.setHeader(KafkaHeaders.RAW_DATA, records);
+				builder.setHeader(IntegrationMessageHeaderAccessor.SOURCE_DATA, records);
+			}
+			return builder;
+		}
+	}
+
 	private void checkDeserializationException(ConsumerRecord<K, V> record, String headerName) {
 		DeserializationException exception = SerializationUtils.getExceptionFromHeader(record, headerName, this.logger);
 		if (exception != null) {
@@ -971,6 +1074,81 @@ public class KafkaMessageSource<K, V> extends AbstractMessageSource<Object>
 
 	}
 
+	/**
+	 * AcknowledgmentCallback for a batch of records, received in the
+	 * {@link #setBatchMode(boolean) batch mode}.
+	 * Acknowledges all the records of the batch which have not been acknowledged individually yet.
+	 * The records are acknowledged in the descending offset order, so the deferred acks are committed
+	 * with a single commit per partition and a requeue seeks each partition to the lowest offset of the batch.
+	 *
+	 * @since 7.2
+	 */
+	public static class KafkaBatchAckCallback implements AcknowledgmentCallback, Acknowledgment {
+
+		private final List<AcknowledgmentCallback> recordCallbacks;
+
+		private volatile boolean acknowledged;
+
+		private boolean autoAckEnabled = true;
+
+		/**
+		 * Construct an instance with the callbacks for the records of the batch.
+		 * @param recordCallbacks the callbacks in the order of the records in the batch.
+		 */
+		public KafkaBatchAckCallback(List<AcknowledgmentCallback> recordCallbacks) {
+			Assert.notNull(recordCallbacks, "'recordCallbacks' cannot be null");
+			this.recordCallbacks = Collections.unmodifiableList(recordCallbacks);
+		}
+
+		/**
+		 * Return the callbacks for individual records, in the order of the records in the batch payload.
+		 * @return the record callbacks.
+		 */
+		public List<AcknowledgmentCallback> getRecordCallbacks() {
+			return this.recordCallbacks;
+		}
+
+		@Override
+		public void acknowledge(Status status) {
+			Assert.notNull(status, "'status' cannot be null");
+			if (this.acknowledged) {
+				throw new IllegalStateException("Already acknowledged");
+			}
+			try {
+				for (int i = this.recordCallbacks.size() - 1; i >= 0; i--) {
+					AcknowledgmentCallback callback = this.recordCallbacks.get(i);
+					if (!callback.isAcknowledged()) {
+						callback.acknowledge(status);
+					}
+				}
+			}
+			finally {
+				this.acknowledged = true;
+			}
+		}
+
+		@Override
+		public boolean isAcknowledged() {
+			return this.acknowledged;
+		}
+
+		@Override
+		public void acknowledge() {
+			acknowledge(Status.ACCEPT);
+		}
+
+		@Override
+		public void noAutoAck() {
+			this.autoAckEnabled = false;
+		}
+
+		@Override
+		public boolean isAutoAck() {
+			return this.autoAckEnabled;
+		}
+
+	}
+
 	/**
 	 * Information for building an KafkaAckCallback.
 	 */
@@ -21,8 +21,10 @@ import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
@@ -33,6 +35,7 @@ import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.common.header.Headers;
 import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.utils.Bytes;
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.expression.EvaluationContext;
@@ -48,6 +51,8 @@ import org.springframework.integration.kafka.support.KafkaSendFailureException;
 import org.springframework.integration.support.DefaultErrorMessageStrategy;
 import org.springframework.integration.support.ErrorMessageStrategy;
 import org.springframework.integration.support.management.ManageableLifecycle;
+import org.springframework.integration.support.management.metrics.MetricsCaptor;
+import org.springframework.integration.util.InFlightWindow;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.requestreply.ReplyingKafkaTemplate;
 import org.springframework.kafka.requestreply.RequestReplyFuture;
@@ -122,6 +127,14 @@ public class KafkaProducerMessageHandler<K, V> extends AbstractReplyProducingMes
 
 	private final long deliveryTimeoutMsProperty;
 
+	private final Queue<InFlightRecord> inFlightRecords = new ConcurrentLinkedQueue<>();
+
+	private final AtomicBoolean draining = new AtomicBoolean();
+
+	private final InFlightWindow inFlightWindow =
+			new InFlightWindow("spring.integration.kafka.producer.in.flight",
+					"spring.integration.kafka.producer.ack");
+
 	@SuppressWarnings("NullAway.Init")
 	private EvaluationContext evaluationContext;
 
@@ -171,6 +184,8 @@ public class KafkaProducerMessageHandler<K, V> extends AbstractReplyProducingMes
 
 	private Duration assignmentDuration = DEFAULT_ASSIGNMENT_TIMEOUT;
 
+	private boolean inFlightOrdered;
+
 	@SuppressWarnings({"this-escape", "removal"})
 	public KafkaProducerMessageHandler(final KafkaTemplate<K, V> kafkaTemplate) {
 		Assert.notNull(kafkaTemplate, "kafkaTemplate cannot be null");
@@ -436,6 +451,52 @@ public class KafkaProducerMessageHandler<K, V> extends AbstractReplyProducingMes
 		this.assignmentDuration = assignmentDuration;
 	}
 
+	/**
+	 * Set the maximum number of records which have been sent, but not acknowledged yet,
+	 * when the handler is in the async mode (not {@link #setSync(boolean) sync} and not a gateway).
+	 * When this window is full, the handler blocks the sending thread until an acknowledgement
+	 * (or failure) for a previous record is received, up to the
+	 * {@link #setSendTimeoutExpression(Expression) send timeout}.
+	 * In this mode, the messages to the {@link #setSendSuccessChannel(MessageChannel) sendSuccessChannel}
+	 * and {@link #setSendFailureChannel(MessageChannel) sendFailureChannel} are emitted in the order
+	 * of the records sent, regardless of the order of acknowledgements from different partitions.
+	 * Defaults to 0 - no limit.
+	 * @param maxInFlight the maximum number of in-flight records.
+	 * @since 7.2
+	 * @see #setMaxInFlightBytes(long)
+	 */
+	public void setMaxInFlight(int maxInFlight) {
+		Assert.isTrue(maxInFlight >= 0, "'maxInFlight' must not be negative");
+		this.inFlightWindow.setMaxInFlight(maxInFlight);
+	}
+
+	/**
+	 * Set the maximum total size of records which have been sent, but not acknowledged yet,
+	 * when the handler is in the async mode.
+	 * The size of a record is estimated from its key and value when they are {@code byte[]},
+	 * {@link Bytes} or {@link String}; other types are not counted.
+	 * A single record exceeding this limit is sent when no other records are in flight.
+	 * Defaults to 0 - no limit.
+	 * @param maxInFlightBytes the maximum number of in-flight bytes.
+	 * @since 7.2
+	 * @see #setMaxInFlight(int)
+	 */
+	public void setMaxInFlightBytes(long maxInFlightBytes) {
+		Assert.isTrue(maxInFlightBytes >= 0, "'maxInFlightBytes' must not be negative");
+		this.inFlightWindow.setMaxInFlightSize(maxInFlightBytes);
+	}
+
+	/**
+	 * Return the number of records which have been sent, but not acknowledged yet,
+	 * when an in-flight window is configured.
+	 * @return the number of in-flight records.
+	 * @since 7.2
+	 * @see #setMaxInFlight(int)
+	 */
+	public int getInFlightCount() {
+		return this.inFlightWindow.getInFlightCount();
+	}
+
 	@Override
 	public String getComponentType() {
 		return this.isGateway ? "kafka:outbound-gateway" : "kafka:outbound-channel-adapter";
@@ -477,6 +538,20 @@ public class KafkaProducerMessageHandler<K, V> extends AbstractReplyProducingMes
 	@Override
 	protected void doInit() {
 		this.evaluationContext = ExpressionUtils.createStandardEvaluationContext(getBeanFactory());
+		this.inFlightOrdered = !this.sync && !this.isGateway
+				&& (this.inFlightWindow.getMaxInFlight() > 0 || this.inFlightWindow.getMaxInFlightSize() > 0);
+	}
+
+	@Override
+	public void registerMetricsCaptor(MetricsCaptor metricsCaptor) {
+		super.registerMetricsCaptor(metricsCaptor);
+		this.inFlightWindow.registerMetrics(metricsCaptor, getComponentName());
+	}
+
+	@Override
+	public void destroy() {
+		super.destroy();
+		this.inFlightWindow.removeMetrics();
 	}
 
 	@Override
@@ -517,6 +592,7 @@ public class KafkaProducerMessageHandler<K, V> extends AbstractReplyProducingMes
 		}
 		CompletableFuture<SendResult<K, V>> sendFuture;
 		RequestReplyFuture<K, V, Object> gatewayFuture = null;
+		InFlightRecord inFlightRecord = this.inFlightOrdered ? acquireInFlight(message, producerRecord) : null;
 		try {
 			if (this.isGateway) {
 				waitForAssignment();
@@ -535,10 +611,24 @@ public class KafkaProducerMessageHandler<K, V> extends AbstractReplyProducingMes
 			}
 		}
 		catch (RuntimeException rtex) {
-			sendFailure(message, producerRecord, getSendFailureChannel(), rtex);
+			if (inFlightRecord != null) {
+				completeInFlight(inFlightRecord, null, rtex);
+			}
+			else {
+				sendFailure(message, producerRecord, getSendFailureChannel(), rtex);
+			}
 			throw rtex;
 		}
 		sendFutureIfRequested(sendFuture, futureToken);
+		if (inFlightRecord != null) {
+			InFlightRecord recordToComplete = inFlightRecord;
+			sendFuture.whenComplete((sendResult, exception) ->
+					completeInFlight(recordToComplete, sendResult, exception));
+			if (flush) {
+				this.kafkaTemplate.flush();
+			}
+			return null;
+		}
 		if (flush) {
 			this.kafkaTemplate.flush();
 		}
@@ -690,6 +780,94 @@ public class KafkaProducerMessageHandler<K, V> extends AbstractReplyProducingMes
 		}
 	}
 
+	private InFlightRecord acquireInFlight(Message<?> message, ProducerRecord<K, V> producerRecord) {
+		long size = estimateSize(producerRecord.key()) + estimateSize(producerRecord.value());
+		Long sendTimeout = this.sendTimeoutExpression.getValue(this.evaluationContext, message, Long.class);
+		long timeout = sendTimeout == null || sendTimeout < 0 ? Long.MAX_VALUE : sendTimeout;
+		InFlightWindow.Permit permit;
+		try {
+			permit = this.inFlightWindow.tryAcquire(true, size, timeout);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new MessageHandlingException(message, "Interrupted waiting for the in-flight window", ex);
+		}
+		if (permit == null) {
+			throw new MessageTimeoutException(message, "Timed out waiting for a free slot in the in-flight window");
+		}
+		InFlightRecord inFlightRecord = new InFlightRecord(message, producerRecord, permit);
+		this.inFlightRecords.add(inFlightRecord);
+		return inFlightRecord;
+	}
+
+	private static long estimateSize(@Nullable Object object) {
+		if (object instanceof byte[] bytes) {
+			return bytes.length;
+		}
+		else if (object instanceof Bytes bytes) {
+			return bytes.get().length;
+		}
+		else if (object instanceof String string) {
+			return string.length();
+		}
+		return 0;
+	}
+
+	private void completeInFlight(InFlightRecord inFlightRecord, @Nullable SendResult<K, V> sendResult,
+			@Nullable Throwable exception) {
+
+		inFlightRecord.permit.complete(exception == null);
+		inFlightRecord.complete(sendResult, exception);
+		drainInFlight();
+	}
+
+	/**
+	 * Emit the results of completed records to the success and failure channels in the order
+	 * the records have been sent; a single thread drains the queue at a time.
+	 */
+	private void drainInFlight() {
+		while (this.draining.compareAndSet(false, true)) {
+			try {
+				InFlightRecord head;
+				while ((head = this.inFlightRecords.peek()) != null && head.done) {
+					this.inFlightRecords.poll();
+					emitInFlightResult(head);
+				}
+			}
+			finally {
+				this.draining.set(false);
+			}
+			InFlightRecord head = this.inFlightRecords.peek();
+			if (head == null || !head.done) {
+				break;
+			}
+		}
+	}
+
+	private void emitInFlightResult(InFlightRecord inFlightRecord) {
+		try {
+			Throwable exception = inFlightRecord.exception;
+			if (exception != null) {
+				sendFailure(inFlightRecord.message, inFlightRecord.producerRecord, getSendFailureChannel(),
+						exception);
+			}
+			else {
+				MessageChannel successChannel = getSendSuccessChannel();
+				SendResult<K, V> sendResult = inFlightRecord.sendResult;
+				if (successChannel != null && sendResult != null) {
+					this.messagingTemplate.send(successChannel,
+							getMessageBuilderFactory()
+									.fromMessage(inFlightRecord.message)
+									.setHeader(KafkaHeaders.RECORD_METADATA, sendResult.getRecordMetadata())
+									.build());
+				}
+			}
+		}
+		catch (Exception ex) {
+			this.logger.error(ex, () -> "Failed to emit the send result for " + inFlightRecord.message);
+		}
+	}
+
 	private void sendFailure(final Message<?> message, final ProducerRecord<K, V> producerRecord,
 			@Nullable MessageChannel failureChannel, Throwable exception) {
 
@@ -707,6 +885,34 @@ public class KafkaProducerMessageHandler<K, V> extends AbstractReplyProducingMes
 		return new ConvertingReplyFuture(future);
 	}
 
+	private final class InFlightRecord {
+
+		private final Message<?> message;
+
+		private final ProducerRecord<K, V> producerRecord;
+
+		private final InFlightWindow.Permit permit;
+
+		private volatile boolean done;
+
+		private @Nullable SendResult<K, V> sendResult;
+
+		private @Nullable Throwable exception;
+
+		InFlightRecord(Message<?> message, ProducerRecord<K, V> producerRecord, InFlightWindow.Permit permit) {
+			this.message = message;
+			this.producerRecord = producerRecord;
+			this.permit = permit;
+		}
+
+		void complete(@Nullable SendResult<K, V> sendResult, @Nullable Throwable exception) {
+			this.sendResult = sendResult;
+			this.exception = exception;
+			this.done = true;
+		}
+
+	}
+
 	private final class ConvertingReplyFuture extends CompletableFuture<Object> {
 
 		ConvertingReplyFuture(RequestReplyFuture<?, ?, Object> future) {
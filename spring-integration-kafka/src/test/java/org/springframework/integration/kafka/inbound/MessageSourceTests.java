@@ -51,6 +51,7 @@ import org.apache.kafka.clients.consumer.internals.AutoOffsetResetStrategy;
 import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.header.internals.RecordHeaders;
 import org.apache.kafka.common.record.TimestampType;
+import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
@@ -774,6 +775,66 @@ class MessageSourceTests {
 		inOrder.verifyNoMoreInteractions();
 	}
 
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	@Test
+	void testBatchMode() {
+		Consumer consumer = mock(Consumer.class);
+		TopicPartition topicPartition0 = new TopicPartition("foo", 0);
+		TopicPartition topicPartition1 = new TopicPartition("foo", 1);
+		willAnswer(i -> {
+			((ConsumerRebalanceListener) i.getArgument(1))
+					.onPartitionsAssigned(Arrays.asList(topicPartition0, topicPartition1));
+			return null;
+		}).given(consumer).subscribe(anyCollection(), any(ConsumerRebalanceListener.class));
+		Map<TopicPartition, List<ConsumerRecord>> records = new LinkedHashMap<>();
+		records.put(topicPartition0, Arrays.asList(
+				new ConsumerRecord("foo", 0, 0L, 0L, TimestampType.NO_TIMESTAMP_TYPE, 0, 0, null, "foo",
+						new RecordHeaders(), Optional.empty()),
+				new ConsumerRecord("foo", 0, 1L, 0L, TimestampType.NO_TIMESTAMP_TYPE, 0, 0, null, "bar",
+						new RecordHeaders(), Optional.empty()),
+				new ConsumerRecord("foo", 0, 2L, 0L, TimestampType.NO_TIMESTAMP_TYPE, 0, 0, null, "baz",
+						new RecordHeaders(), Optional.empty())));
+		records.put(topicPartition1, Arrays.asList(
+				new ConsumerRecord("foo", 1, 0L, 0L, TimestampType.NO_TIMESTAMP_TYPE, 0, 0, null, "qux",
+						new RecordHeaders(), Optional.empty()),
+				new ConsumerRecord("foo", 1, 1L, 0L, TimestampType.NO_TIMESTAMP_TYPE, 0, 0, null, "fiz",
+						new RecordHeaders(), Optional.empty())));
+		ConsumerRecords cr1 = new ConsumerRecords(records, Map.of());
+		ConsumerRecords cr2 = new ConsumerRecords(Collections.emptyMap(), Map.of());
+		given(consumer.poll(any(Duration.class))).willReturn(cr1, cr2);
+		ConsumerFactory consumerFactory = mock(ConsumerFactory.class);
+		willReturn(Collections.singletonMap(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 10)).given(consumerFactory)
+				.getConfigurationProperties();
+		given(consumerFactory.createConsumer(isNull(), anyString(), isNull(), any())).willReturn(consumer);
+		KafkaMessageSource source = new KafkaMessageSource(consumerFactory, new ConsumerProperties("foo"), true);
+		source.setBatchMode(true);
+
+		Message<?> received = source.receive();
+		assertThat(received).isNotNull();
+		assertThat(received.getPayload()).asInstanceOf(InstanceOfAssertFactories.LIST)
+				.containsExactly("foo", "bar", "baz", "qux", "fiz");
+		AcknowledgmentCallback ackCallback = StaticMessageHeaderAccessor.getAcknowledgmentCallback(received);
+		assertThat(ackCallback).isInstanceOf(KafkaMessageSource.KafkaBatchAckCallback.class);
+		List<AcknowledgmentCallback> recordCallbacks =
+				((KafkaMessageSource.KafkaBatchAckCallback) ackCallback).getRecordCallbacks();
+		assertThat(recordCallbacks).hasSize(5);
+		// out of order - deferred until offset 0 of partition 1 is acknowledged
+		recordCallbacks.get(4).acknowledge(AcknowledgmentCallback.Status.ACCEPT);
+		ackCallback.acknowledge(AcknowledgmentCallback.Status.ACCEPT);
+		assertThat(ackCallback.isAcknowledged()).isTrue();
+		assertThat(recordCallbacks).allMatch(AcknowledgmentCallback::isAcknowledged);
+		assertThat(source.receive()).isNull();
+		source.destroy();
+		InOrder inOrder = inOrder(consumer);
+		inOrder.verify(consumer).subscribe(anyCollection(), any(ConsumerRebalanceListener.class));
+		inOrder.verify(consumer).poll(any(Duration.class));
+		inOrder.verify(consumer).commitSync(Collections.singletonMap(topicPartition1, new OffsetAndMetadata(2L)));
+		inOrder.verify(consumer).commitSync(Collections.singletonMap(topicPartition0, new OffsetAndMetadata(3L)));
+		inOrder.verify(consumer).poll(any(Duration.class));
+		inOrder.verify(consumer).close(any(CloseOptions.class));
+		inOrder.verifyNoMoreInteractions();
+	}
+
 	@SuppressWarnings("unchecked")
 	@Test
 	void testTopicPatternBasedMessageSource() {
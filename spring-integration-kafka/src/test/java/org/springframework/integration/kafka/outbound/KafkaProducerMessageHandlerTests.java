@@ -20,8 +20,10 @@ import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
@@ -381,6 +383,61 @@ class KafkaProducerMessageHandlerTests implements TestApplicationContextAware {
 				.isEqualTo(rte);
 	}
 
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	@Test
+	void testInFlightWindow() throws Exception {
+		Producer producer = mock();
+		List<Callback> callbacks = new CopyOnWriteArrayList<>();
+		willAnswer(invocation -> {
+			callbacks.add(invocation.getArgument(1));
+			return new CompletableFuture<>();
+		}).given(producer).send(any(ProducerRecord.class), any(Callback.class));
+		ProducerFactory pf = mock();
+		given(pf.createProducer()).willReturn(producer);
+		KafkaTemplate template = new KafkaTemplate(pf);
+		template.setDefaultTopic("foo");
+		KafkaProducerMessageHandler handler = new KafkaProducerMessageHandler<>(template);
+		QueueChannel successes = new QueueChannel();
+		QueueChannel failures = new QueueChannel();
+		handler.setSendSuccessChannel(successes);
+		handler.setSendFailureChannel(failures);
+		handler.setMaxInFlight(2);
+		handler.setBeanFactory(TEST_INTEGRATION_CONTEXT);
+		handler.afterPropertiesSet();
+
+		handler.handleMessage(new GenericMessage<>("one"));
+		handler.handleMessage(new GenericMessage<>("two"));
+		assertThat(handler.getInFlightCount()).isEqualTo(2);
+
+		CountDownLatch thirdSent = new CountDownLatch(1);
+		new Thread(() -> {
+			handler.handleMessage(new GenericMessage<>("three"));
+			thirdSent.countDown();
+		}).start();
+		assertThat(thirdSent.await(100, TimeUnit.MILLISECONDS)).isFalse();
+
+		RecordMetadata metadata = new RecordMetadata(new TopicPartition("foo", 0), 0L, 0, 0L, 0, 0);
+		callbacks.get(1).onCompletion(metadata, null);
+		assertThat(thirdSent.await(10, TimeUnit.SECONDS)).isTrue();
+		assertThat(successes.receive(0)).isNull();
+
+		callbacks.get(0).onCompletion(null, new RuntimeException("test.failure"));
+		Message<?> failure = failures.receive(0);
+		assertThat(failure).isNotNull();
+		assertThat(((KafkaSendFailureException) failure.getPayload()).getFailedMessage().getPayload())
+				.isEqualTo("one");
+		Message<?> success = successes.receive(0);
+		assertThat(success).isNotNull();
+		assertThat(success.getPayload()).isEqualTo("two");
+		assertThat(success.getHeaders().get(KafkaHeaders.RECORD_METADATA)).isSameAs(metadata);
+
+		callbacks.get(2).onCompletion(metadata, null);
+		success = successes.receive(0);
+		assertThat(success).isNotNull();
+		assertThat(success.getPayload()).isEqualTo("three");
+		assertThat(handler.getInFlightCount()).isEqualTo(0);
+	}
+
 	@Test
 	void testOutboundWithCustomHeaderMapper() {
 		Map<String, Object> producerProps = KafkaTestUtils.producerProps(embeddedKafka);
@@ -18,6 +18,7 @@ package org.springframework.integration.mongodb.dsl;
 
 import org.springframework.data.mongodb.core.ChangeStreamOptions;
 import org.springframework.integration.dsl.MessageProducerSpec;
+import org.springframework.integration.metadata.MetadataStore;
 import org.springframework.integration.mongodb.inbound.MongoDbChangeStreamMessageProducer;
 
 /**
@@ -78,4 +79,40 @@ public class MongoDbChangeStreamMessageProducerSpec
 		return this;
 	}
 
+	/**
+	 * Configure a {@link MetadataStore} to checkpoint the change stream resume token into.
+	 * @param resumeTokenStore the store to use.
+	 * @return the spec.
+	 * @since 7.2
+	 * @see MongoDbChangeStreamMessageProducer#setResumeTokenStore(MetadataStore)
+	 */
+	public MongoDbChangeStreamMessageProducerSpec resumeTokenStore(MetadataStore resumeTokenStore) {
+		this.target.setResumeTokenStore(resumeTokenStore);
+		return this;
+	}
+
+	/**
+	 * Configure a key for the resume token in the store.
+	 * @param resumeTokenKey the key to use.
+	 * @return the spec.
+	 * @since 7.2
+	 * @see MongoDbChangeStreamMessageProducer#setResumeTokenKey(String)
+	 */
+	public MongoDbChangeStreamMessageProducerSpec resumeTokenKey(String resumeTokenKey) {
+		this.target.setResumeTokenKey(resumeTokenKey);
+		return this;
+	}
+
+	/**
+	 * Configure the number of events between resume token checkpoints.
+	 * @param checkpointInterval the number of events.
+	 * @return the spec.
+	 * @since 7.2
+	 * @see MongoDbChangeStreamMessageProducer#setCheckpointInterval(int)
+	 */
+	public MongoDbChangeStreamMessageProducerSpec checkpointInterval(int checkpointInterval) {
+		this.target.setCheckpointInterval(checkpointInterval);
+		return this;
+	}
+
 }
@@ -16,6 +16,7 @@
 
 package org.springframework.integration.mongodb.dsl;
 
+import java.time.Duration;
 import java.util.function.Function;
 
 import org.springframework.data.mongodb.ReactiveMongoDatabaseFactory;
@@ -90,4 +91,28 @@ public class ReactiveMongoDbMessageHandlerSpec
 		return this;
 	}
 
+	/**
+	 * Configure the number of payloads to insert with a single bulk write.
+	 * @param batchSize the batch size.
+	 * @return the spec
+	 * @since 7.2
+	 * @see ReactiveMongoDbStoringMessageHandler#setBatchSize(int)
+	 */
+	public ReactiveMongoDbMessageHandlerSpec batchSize(int batchSize) {
+		this.reactiveMessageHandler.setBatchSize(batchSize);
+		return this;
+	}
+
+	/**
+	 * Configure the max time for payloads to stay in a not full batch.
+	 * @param batchTimeout the batch timeout.
+	 * @return the spec
+	 * @since 7.2
+	 * @see ReactiveMongoDbStoringMessageHandler#setBatchTimeout(Duration)
+	 */
+	public ReactiveMongoDbMessageHandlerSpec batchTimeout(Duration batchTimeout) {
+		this.reactiveMessageHandler.setBatchTimeout(batchTimeout);
+		return this;
+	}
+
 }
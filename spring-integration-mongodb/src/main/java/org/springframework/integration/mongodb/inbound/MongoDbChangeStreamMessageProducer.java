@@ -16,13 +16,21 @@
 
 package org.springframework.integration.mongodb.inbound;
 
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
 import org.bson.Document;
 import org.jspecify.annotations.Nullable;
 import reactor.core.publisher.Flux;
 
+import org.springframework.data.mongodb.core.ChangeStreamEvent;
 import org.springframework.data.mongodb.core.ChangeStreamOptions;
 import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
 import org.springframework.integration.endpoint.MessageProducerSupport;
+import org.springframework.integration.metadata.MetadataStore;
 import org.springframework.integration.mongodb.support.MongoHeaders;
 import org.springframework.integration.support.MessageBuilder;
 import org.springframework.messaging.Message;
@@ -33,6 +41,11 @@ import org.springframework.util.Assert;
  * The functionality is based on the
  * {@link ReactiveMongoOperations#changeStream(String, ChangeStreamOptions, Class)}
  * and {@link MessageProducerSupport#subscribeToPublisher(org.reactivestreams.Publisher)} consumption.
+ * <p>
+ * When a {@link #setResumeTokenStore(MetadataStore) resume token store} is provided,
+ * the resume token of the change events is checkpointed into that store every
+ * {@link #setCheckpointInterval(int) checkpoint interval} events, and the change stream
+ * is resumed after the stored token on the next start.
  *
  * @author Artem Bilan
  *
@@ -50,6 +63,16 @@ public class MongoDbChangeStreamMessageProducer extends MessageProducerSupport {
 
 	private boolean extractBody = true;
 
+	private final AtomicLong eventCount = new AtomicLong();
+
+	private @Nullable MetadataStore resumeTokenStore;
+
+	private @Nullable String resumeTokenKey;
+
+	private int checkpointInterval = 1;
+
+	private volatile @Nullable BsonValue lastResumeToken;
+
 	/**
 	 * Create an instance based on the provided {@link ReactiveMongoOperations}.
 	 * @param mongoOperations the {@link ReactiveMongoOperations} to use.
@@ -101,6 +124,43 @@ public class MongoDbChangeStreamMessageProducer extends MessageProducerSupport {
 		this.extractBody = extractBody;
 	}
 
+	/**
+	 * Specify a {@link MetadataStore} to checkpoint the change stream resume token into.
+	 * On start, if the store contains a token for the {@link #setResumeTokenKey(String) key}
+	 * and the {@link #setOptions(ChangeStreamOptions) options} have no resume token,
+	 * the change stream is resumed after the stored token.
+	 * Since a token is stored when the next event arrives, the change stream is resumed with
+	 * at-least-once semantics: up to {@link #setCheckpointInterval(int) checkpoint interval}
+	 * events may be redelivered after a restart.
+	 * @param resumeTokenStore the {@link MetadataStore} for resume tokens.
+	 * @since 7.2
+	 */
+	public void setResumeTokenStore(MetadataStore resumeTokenStore) {
+		this.resumeTokenStore = resumeTokenStore;
+	}
+
+	/**
+	 * Specify a key for the resume token in the {@link #setResumeTokenStore(MetadataStore) store}.
+	 * Defaults to the component name plus {@code .resumeToken} suffix.
+	 * @param resumeTokenKey the key for resume token.
+	 * @since 7.2
+	 */
+	public void setResumeTokenKey(String resumeTokenKey) {
+		Assert.hasText(resumeTokenKey, "'resumeTokenKey' must not be empty");
+		this.resumeTokenKey = resumeTokenKey;
+	}
+
+	/**
+	 * Specify the number of events after which the resume token is stored.
+	 * @param checkpointInterval the number of events between checkpoints. Defaults to {@code 1}.
+	 * @since 7.2
+	 * @see #setResumeTokenStore(MetadataStore)
+	 */
+	public void setCheckpointInterval(int checkpointInterval) {
+		Assert.isTrue(checkpointInterval > 0, "'checkpointInterval' must be greater than 0");
+		this.checkpointInterval = checkpointInterval;
+	}
+
 	@Override
 	public String getComponentType() {
 		return "mongo:change-stream-inbound-channel-adapter";
@@ -109,7 +169,8 @@ public class MongoDbChangeStreamMessageProducer extends MessageProducerSupport {
 	@Override
 	protected void doStart() {
 		Flux<Message<?>> changeStreamFlux =
-				this.mongoOperations.changeStream(this.collection, this.options, this.domainType)
+				this.mongoOperations.changeStream(this.collection, resolveOptions(), this.domainType)
+						.doOnNext(this::checkpointIfNecessary)
 						.map(event ->
 								MessageBuilder
 										.withPayload(
@@ -125,4 +186,45 @@ public class MongoDbChangeStreamMessageProducer extends MessageProducerSupport {
 		subscribeToPublisher(changeStreamFlux);
 	}
 
+	private ChangeStreamOptions resolveOptions() {
+		MetadataStore store = this.resumeTokenStore;
+		if (store == null || this.options.getResumeToken().isPresent()) {
+			return this.options;
+		}
+		String storedToken = store.get(resumeTokenKey());
+		if (storedToken == null) {
+			return this.options;
+		}
+		ChangeStreamOptions.ChangeStreamOptionsBuilder builder =
+				ChangeStreamOptions.builder()
+						.resumeAfter(BsonDocument.parse(storedToken));
+		this.options.getCollation().ifPresent(builder::collation);
+		this.options.getFullDocumentLookup().ifPresent(builder::fullDocumentLookup);
+		this.options.getFullDocumentBeforeChangeLookup().ifPresent(builder::fullDocumentBeforeChangeLookup);
+		this.options.getFilter().ifPresent((filter) -> {
+			if (filter instanceof Aggregation aggregation) {
+				builder.filter(aggregation);
+			}
+			else if (filter instanceof List<?> documents) {
+				builder.filter(documents.toArray(new Document[0]));
+			}
+		});
+		return builder.build();
+	}
+
+	private void checkpointIfNecessary(ChangeStreamEvent<?> event) {
+		MetadataStore store = this.resumeTokenStore;
+		if (store != null) {
+			BsonValue previousToken = this.lastResumeToken;
+			this.lastResumeToken = event.getResumeToken();
+			if (previousToken != null && this.eventCount.incrementAndGet() % this.checkpointInterval == 0) {
+				store.put(resumeTokenKey(), previousToken.asDocument().toJson());
+			}
+		}
+	}
+
+	private String resumeTokenKey() {
+		return this.resumeTokenKey != null ? this.resumeTokenKey : getComponentName() + ".resumeToken";
+	}
+
 }
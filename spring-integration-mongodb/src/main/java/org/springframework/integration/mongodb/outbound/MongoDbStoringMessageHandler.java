@@ -16,9 +16,23 @@
 
 package org.springframework.integration.mongodb.outbound;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.mongodb.bulk.BulkWriteError;
 import org.jspecify.annotations.Nullable;
 
+import org.springframework.data.mongodb.BulkOperationException;
 import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.convert.MongoConverter;
@@ -27,22 +41,30 @@ import org.springframework.expression.common.LiteralExpression;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.integration.expression.ExpressionUtils;
 import org.springframework.integration.handler.AbstractMessageHandler;
+import org.springframework.integration.support.management.ManageableLifecycle;
 import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandlingException;
+import org.springframework.messaging.support.ErrorMessage;
 import org.springframework.util.Assert;
 
 /**
  * Implementation of {@link org.springframework.messaging.MessageHandler}
  * which writes Message payload into a MongoDb collection
  * identified by evaluation of the {@link #collectionNameExpression}.
+ * <p>
+ * Starting with version 7.2, the payloads can be buffered and inserted with unordered
+ * bulk writes per collection; see {@link #setBatchSize(int)}.
  *
  * @author Amol Nayak
  * @author Oleg Zhurakousky
  * @author Gary Russell
+ * @author Artem Bilan
  *
  * @since 2.2
  *
  */
-public class MongoDbStoringMessageHandler extends AbstractMessageHandler {
+public class MongoDbStoringMessageHandler extends AbstractMessageHandler implements ManageableLifecycle {
 
 	private final @Nullable MongoDatabaseFactory mongoDbFactory;
 
@@ -58,6 +80,22 @@ public class MongoDbStoringMessageHandler extends AbstractMessageHandler {
 
 	private volatile boolean initialized = false;
 
+	private final Lock batchLock = new ReentrantLock();
+
+	private final Map<String, List<Message<?>>> batch = new LinkedHashMap<>();
+
+	private int batchCount;
+
+	private int batchSize = 1;
+
+	private Duration batchTimeout = Duration.ofMillis(100);
+
+	private volatile @Nullable ScheduledFuture<?> batchFlushTask;
+
+	private @Nullable MessageChannel errorChannel;
+
+	private volatile boolean running;
+
 	/**
 	 * Will construct this instance using provided {@link MongoDatabaseFactory}.
 	 * @param mongoDbFactory The mongodb factory.
@@ -100,6 +138,52 @@ public class MongoDbStoringMessageHandler extends AbstractMessageHandler {
 		this.collectionNameExpression = collectionNameExpression;
 	}
 
+	/**
+	 * Specify the number of payloads to accumulate before writing them to MongoDb.
+	 * The accumulated payloads are inserted with an unordered bulk write per collection.
+	 * A not full batch is written after the {@link #setBatchTimeout(Duration) batch timeout}
+	 * since its first payload, and when this handler is stopped.
+	 * Payloads are batched only while this handler is {@link #isRunning() running}
+	 * and are inserted one by one otherwise.
+	 * Note that in batch mode the payloads are inserted instead of saved (upserted),
+	 * and a message is considered as handled as soon as it is added to the batch:
+	 * from that point the handler owns the document, so a failure of a batch write is never
+	 * thrown to the caller.
+	 * If a bulk write fails as a whole, its documents stay in the batch and are retried with the next flush.
+	 * If a bulk write fails with a {@link BulkOperationException}, all the documents except the reported
+	 * ones have been inserted: the reported ones are not retried, but sent as {@link ErrorMessage}s
+	 * to the {@link #setErrorChannel(MessageChannel) error channel}, or logged if it is not provided.
+	 * @param batchSize the batch size. Defaults to {@code 1} - no batching.
+	 * @since 7.2
+	 */
+	public void setBatchSize(int batchSize) {
+		Assert.isTrue(batchSize > 0, "'batchSize' must be greater than 0");
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Specify the max time for payloads to stay in a not full batch.
+	 * @param batchTimeout the batch timeout. Defaults to 100 milliseconds.
+	 * @since 7.2
+	 * @see #setBatchSize(int)
+	 */
+	public void setBatchTimeout(Duration batchTimeout) {
+		Assert.isTrue(!batchTimeout.isNegative() && !batchTimeout.isZero(), "'batchTimeout' must be positive");
+		this.batchTimeout = batchTimeout;
+	}
+
+	/**
+	 * Specify a {@link MessageChannel} for the {@link ErrorMessage}s with the messages whose
+	 * payloads have been rejected by a bulk write in the batch mode.
+	 * @param errorChannel the error channel.
+	 * @since 7.2
+	 * @see #setBatchSize(int)
+	 */
+	public void setErrorChannel(MessageChannel errorChannel) {
+		Assert.notNull(errorChannel, "'errorChannel' must not be null");
+		this.errorChannel = errorChannel;
+	}
+
 	@Override
 	public String getComponentType() {
 		return "mongo:outbound-channel-adapter";
@@ -116,15 +200,145 @@ public class MongoDbStoringMessageHandler extends AbstractMessageHandler {
 		this.initialized = true;
 	}
 
+	@Override
+	public void start() {
+		this.running = true;
+	}
+
+	@Override
+	public void stop() {
+		this.batchLock.lock();
+		try {
+			if (this.running) {
+				this.running = false;
+				if (this.batchCount > 0) {
+					writeBatch();
+				}
+			}
+		}
+		finally {
+			this.batchLock.unlock();
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return this.running;
+	}
+
 	@Override
 	protected void handleMessageInternal(Message<?> message) {
 		Assert.isTrue(this.initialized, "This class is not yet initialized. Invoke its afterPropertiesSet() method");
 		String collectionName = this.collectionNameExpression.getValue(this.evaluationContext, message, String.class);
 		Assert.notNull(collectionName, "'collectionNameExpression' must not evaluate to null");
 
-		Object payload = message.getPayload();
+		if (this.batchSize > 1) {
+			addToBatch(collectionName, message);
+		}
+		else {
+			this.mongoTemplate.save(message.getPayload(), collectionName);
+		}
+	}
+
+	private void addToBatch(String collectionName, Message<?> message) {
+		this.batchLock.lock();
+		try {
+			if (!this.running) {
+				// Nothing is going to flush the batch when not running: write the payload through
+				this.mongoTemplate.insert(message.getPayload(), collectionName);
+				return;
+			}
+			this.batch.computeIfAbsent(collectionName, (key) -> new ArrayList<>()).add(message);
+			if (++this.batchCount >= this.batchSize) {
+				writeBatch();
+			}
+			else {
+				scheduleBatchFlush();
+			}
+		}
+		finally {
+			this.batchLock.unlock();
+		}
+	}
+
+	/**
+	 * Must be called under the {@link #batchLock}.
+	 */
+	private void scheduleBatchFlush() {
+		if (this.batchFlushTask == null) {
+			this.batchFlushTask =
+					getTaskScheduler().schedule(this::flushBatch, Instant.now().plus(this.batchTimeout));
+		}
+	}
 
-		this.mongoTemplate.save(payload, collectionName);
+	private void flushBatch() {
+		this.batchLock.lock();
+		try {
+			this.batchFlushTask = null;
+			if (this.batchCount > 0) {
+				writeBatch();
+			}
+		}
+		finally {
+			this.batchLock.unlock();
+		}
+	}
+
+	/**
+	 * Must be called under the {@link #batchLock}.
+	 * The documents of a collection are removed from the batch only when its bulk write is performed:
+	 * the documents rejected by the bulk write are reported to the error channel,
+	 * and the documents of a failed bulk write are retried with the next flush.
+	 */
+	private void writeBatch() {
+		ScheduledFuture<?> flushTask = this.batchFlushTask;
+		if (flushTask != null) {
+			flushTask.cancel(false);
+			this.batchFlushTask = null;
+		}
+		Iterator<Map.Entry<String, List<Message<?>>>> iterator = this.batch.entrySet().iterator();
+		while (iterator.hasNext()) {
+			Map.Entry<String, List<Message<?>>> entry = iterator.next();
+			String collectionName = entry.getKey();
+			List<Message<?>> messages = entry.getValue();
+			try {
+				this.mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, collectionName)
+						.insert(messages.stream().map(Message::getPayload).toList())
+						.execute();
+				iterator.remove();
+				this.batchCount -= messages.size();
+			}
+			catch (BulkOperationException ex) {
+				iterator.remove();
+				this.batchCount -= messages.size();
+				for (BulkWriteError error : ex.getErrors()) {
+					documentRejected(messages.get(error.getIndex()), collectionName, error, ex);
+				}
+			}
+			catch (RuntimeException ex) {
+				logger.error(ex, () -> "Failed to write a batch of " + messages.size() + " documents into the '" +
+						collectionName + "' collection; the documents are retried with the next flush");
+			}
+		}
+		if (this.batchCount > 0) {
+			scheduleBatchFlush();
+		}
+	}
+
+	private void documentRejected(Message<?> message, String collectionName, BulkWriteError error,
+			BulkOperationException cause) {
+
+		MessageHandlingException exception =
+				new MessageHandlingException(message,
+						"Failed to insert the payload into the '" + collectionName + "' collection: " +
+								error.getMessage(), cause);
+		MessageChannel errorChannelToUse = this.errorChannel;
+		if (errorChannelToUse != null) {
+			errorChannelToUse.send(new ErrorMessage(exception, message));
+		}
+		else {
+			logger.error(exception, "The document has been rejected by the bulk write");
+		}
 	}
 
 }
@@ -16,10 +16,22 @@
 
 package org.springframework.integration.mongodb.outbound;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
 import org.jspecify.annotations.Nullable;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 
 import org.springframework.data.mongodb.ReactiveMongoDatabaseFactory;
+import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.ReactiveMongoOperations;
 import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
 import org.springframework.data.mongodb.core.convert.MongoConverter;
@@ -28,6 +40,7 @@ import org.springframework.expression.common.LiteralExpression;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.integration.expression.ExpressionUtils;
 import org.springframework.integration.handler.AbstractReactiveMessageHandler;
+import org.springframework.integration.support.management.ManageableLifecycle;
 import org.springframework.messaging.Message;
 import org.springframework.util.Assert;
 
@@ -35,13 +48,17 @@ import org.springframework.util.Assert;
  * Implementation of {@link org.springframework.messaging.ReactiveMessageHandler} which writes
  * Message payload into a MongoDb collection, using reactive MongoDb support, The
  * collection is identified by evaluation of the {@link #collectionNameExpression}.
+ * <p>
+ * Starting with version 7.2, the payloads can be buffered and inserted with unordered
+ * bulk writes per collection; see {@link #setBatchSize(int)}.
  *
  * @author David Turanski
  * @author Artem Bilan
  *
  * @since 5.3
  */
-public class ReactiveMongoDbStoringMessageHandler extends AbstractReactiveMessageHandler {
+public class ReactiveMongoDbStoringMessageHandler extends AbstractReactiveMessageHandler
+		implements ManageableLifecycle {
 
 	@SuppressWarnings("NullAway.Init")
 	private ReactiveMongoOperations mongoTemplate;
@@ -57,6 +74,20 @@ public class ReactiveMongoDbStoringMessageHandler extends AbstractReactiveMessag
 
 	private volatile boolean initialized = false;
 
+	private final Lock batchLock = new ReentrantLock();
+
+	private final Map<String, List<PendingDocument>> batch = new LinkedHashMap<>();
+
+	private int batchCount;
+
+	private int batchSize = 1;
+
+	private Duration batchTimeout = Duration.ofMillis(100);
+
+	private volatile @Nullable ScheduledFuture<?> batchFlushTask;
+
+	private volatile boolean running;
+
 	/**
 	 * Construct this instance using a provided {@link ReactiveMongoDatabaseFactory}.
 	 * @param mongoDbFactory The reactive mongoDatabase factory.
@@ -98,6 +129,34 @@ public class ReactiveMongoDbStoringMessageHandler extends AbstractReactiveMessag
 		this.collectionNameExpression = collectionNameExpression;
 	}
 
+	/**
+	 * Specify the number of payloads to accumulate before writing them to MongoDb.
+	 * The accumulated payloads are inserted with an unordered bulk write per collection.
+	 * A not full batch is written after the {@link #setBatchTimeout(Duration) batch timeout}
+	 * since its first payload, and when this handler is stopped.
+	 * The {@link Mono} returned for a message is completed (or failed) when its batch is written.
+	 * Payloads are batched only while this handler is {@link #isRunning() running}
+	 * and are inserted one by one otherwise.
+	 * Note that in batch mode the payloads are inserted instead of saved (upserted).
+	 * @param batchSize the batch size. Defaults to {@code 1} - no batching.
+	 * @since 7.2
+	 */
+	public void setBatchSize(int batchSize) {
+		Assert.isTrue(batchSize > 0, "'batchSize' must be greater than 0");
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Specify the max time for payloads to stay in a not full batch.
+	 * @param batchTimeout the batch timeout. Defaults to 100 milliseconds.
+	 * @since 7.2
+	 * @see #setBatchSize(int)
+	 */
+	public void setBatchTimeout(Duration batchTimeout) {
+		Assert.isTrue(!batchTimeout.isNegative() && !batchTimeout.isZero(), "'batchTimeout' must be positive");
+		this.batchTimeout = batchTimeout;
+	}
+
 	@Override
 	public String getComponentType() {
 		return "mongo:reactive-outbound-channel-adapter";
@@ -117,15 +176,106 @@ public class ReactiveMongoDbStoringMessageHandler extends AbstractReactiveMessag
 		this.initialized = true;
 	}
 
+	@Override
+	public void start() {
+		this.running = true;
+	}
+
+	@Override
+	public void stop() {
+		this.batchLock.lock();
+		try {
+			if (this.running) {
+				this.running = false;
+				if (this.batchCount > 0) {
+					writeBatch();
+				}
+			}
+		}
+		finally {
+			this.batchLock.unlock();
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return this.running;
+	}
+
 	@Override
 	protected Mono<Void> handleMessageInternal(Message<?> message) {
 		Assert.isTrue(this.initialized, "This class is not yet initialized. Invoke its afterPropertiesSet() method");
 
+		if (this.batchSize > 1) {
+			return evaluateCollectionNameExpression(message)
+					.flatMap(collection -> addToBatch(collection, message.getPayload()));
+		}
+
 		return evaluateCollectionNameExpression(message)
 				.flatMap(collection -> this.mongoTemplate.save(message.getPayload(), collection))
 				.then();
 	}
 
+	private Mono<Void> addToBatch(String collectionName, Object payload) {
+		Sinks.One<Void> result = Sinks.one();
+		this.batchLock.lock();
+		try {
+			if (!this.running) {
+				// Nothing is going to flush the batch when not running: write the payload through
+				return this.mongoTemplate.insert(payload, collectionName).then();
+			}
+			this.batch.computeIfAbsent(collectionName, (key) -> new ArrayList<>())
+					.add(new PendingDocument(payload, result));
+			if (++this.batchCount >= this.batchSize) {
+				writeBatch();
+			}
+			else if (this.batchFlushTask == null) {
+				this.batchFlushTask =
+						getTaskScheduler().schedule(this::flushBatch, Instant.now().plus(this.batchTimeout));
+			}
+		}
+		finally {
+			this.batchLock.unlock();
+		}
+		return result.asMono();
+	}
+
+	private void flushBatch() {
+		this.batchLock.lock();
+		try {
+			this.batchFlushTask = null;
+			if (this.batchCount > 0) {
+				writeBatch();
+			}
+		}
+		finally {
+			this.batchLock.unlock();
+		}
+	}
+
+	/**
+	 * Must be called under the {@link #batchLock}.
+	 */
+	private void writeBatch() {
+		ScheduledFuture<?> flushTask = this.batchFlushTask;
+		if (flushTask != null) {
+			flushTask.cancel(false);
+			this.batchFlushTask = null;
+		}
+		Map<String, List<PendingDocument>> documents = new LinkedHashMap<>(this.batch);
+		this.batch.clear();
+		this.batchCount = 0;
+		for (Map.Entry<String, List<PendingDocument>> entry : documents.entrySet()) {
+			List<PendingDocument> pendingDocuments = entry.getValue();
+			this.mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, entry.getKey())
+					.insert(pendingDocuments.stream().map(PendingDocument::payload).toList())
+					.execute()
+					.subscribe(
+							(bulkWriteResult) -> pendingDocuments.forEach((pending) -> pending.result().tryEmitEmpty()),
+							(ex) -> pendingDocuments.forEach((pending) -> pending.result().tryEmitError(ex)));
+		}
+	}
+
 	private Mono<String> evaluateCollectionNameExpression(Message<?> message) {
 		return Mono.fromSupplier(() -> {
 			String collectionName =
@@ -135,4 +285,8 @@ public class ReactiveMongoDbStoringMessageHandler extends AbstractReactiveMessag
 		});
 	}
 
+	private record PendingDocument(Object payload, Sinks.One<Void> result) {
+
+	}
+
 }
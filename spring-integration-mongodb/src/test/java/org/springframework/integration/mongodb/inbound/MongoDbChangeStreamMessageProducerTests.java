@@ -42,6 +42,7 @@ import org.springframework.integration.config.EnableIntegration;
 import org.springframework.integration.dsl.IntegrationFlow;
 import org.springframework.integration.dsl.MessageChannels;
 import org.springframework.integration.endpoint.MessageProducerSupport;
+import org.springframework.integration.metadata.SimpleMetadataStore;
 import org.springframework.integration.mongodb.Person;
 import org.springframework.integration.mongodb.dsl.MongoDb;
 import org.springframework.integration.mongodb.support.MongoHeaders;
@@ -74,6 +75,9 @@ public class MongoDbChangeStreamMessageProducerTests {
 	@Autowired
 	MessageProducerSupport changeStreamMessageProducer;
 
+	@Autowired
+	SimpleMetadataStore resumeTokenStore;
+
 	@BeforeAll
 	static void setup() {
 		mongoClient = MongoClients.create(CONNECTION_STRING);
@@ -141,6 +145,56 @@ public class MongoDbChangeStreamMessageProducerTests {
 
 		stepVerifier.verify(Duration.ofSeconds(10));
 
+		assertThat(this.resumeTokenStore.get("changeStreamFlow.resumeToken")).contains("_data");
+
+		this.changeStreamMessageProducer.stop();
+	}
+
+	@Test
+	void testChangeStreamResumesAfterStoredToken() {
+		this.resumeTokenStore.remove("changeStreamFlow.resumeToken");
+
+		Person person1 = new Person("John", 38);
+		Person person2 = new Person("Josh", 39);
+		Person person3 = new Person("Jack", 37);
+
+		this.changeStreamMessageProducer.start();
+
+		StepVerifier stepVerifier =
+				Flux.from(this.fluxMessageChannel)
+						.map((message) -> ((ChangeStreamEvent<?>) message.getPayload()).getBody())
+						.as(StepVerifier::create)
+						.expectNext(person1, person2)
+						.thenCancel()
+						.verifyLater();
+
+		Flux.concat(this.mongoTemplate.insert(person1), this.mongoTemplate.insert(person2))
+				.as(StepVerifier::create)
+				.expectNextCount(2)
+				.verifyComplete();
+
+		stepVerifier.verify(Duration.ofSeconds(10));
+
+		this.changeStreamMessageProducer.stop();
+
+		this.mongoTemplate.insert(person3)
+				.as(StepVerifier::create)
+				.expectNextCount(1)
+				.verifyComplete();
+
+		stepVerifier =
+				Flux.from(this.fluxMessageChannel)
+						.map((message) -> ((ChangeStreamEvent<?>) message.getPayload()).getBody())
+						.as(StepVerifier::create)
+						// The token of the last event is not stored yet, so that event is redelivered
+						.expectNext(person2, person3)
+						.thenCancel()
+						.verifyLater();
+
+		this.changeStreamMessageProducer.start();
+
+		stepVerifier.verify(Duration.ofSeconds(10));
+
 		this.changeStreamMessageProducer.stop();
 	}
 
@@ -153,6 +207,11 @@ public class MongoDbChangeStreamMessageProducerTests {
 			return new ReactiveMongoTemplate(mongoClient, "test");
 		}
 
+		@Bean
+		SimpleMetadataStore resumeTokenStore() {
+			return new SimpleMetadataStore();
+		}
+
 		@Bean
 		IntegrationFlow changeStreamFlow() {
 			return IntegrationFlow.from(
@@ -160,6 +219,8 @@ public class MongoDbChangeStreamMessageProducerTests {
 									.domainType(Person.class)
 									.collection("person")
 									.extractBody(false)
+									.resumeTokenStore(resumeTokenStore())
+									.resumeTokenKey("changeStreamFlow.resumeToken")
 									.autoStartup(false)
 									.shouldTrack(true))
 					.channel(MessageChannels.flux())
@@ -16,13 +16,22 @@
 
 package org.springframework.integration.mongodb.outbound;
 
+import java.time.Duration;
+import java.util.List;
+
+import com.mongodb.bulk.BulkWriteError;
+import org.bson.BsonDocument;
 import org.bson.conversions.Bson;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
 import org.mockito.Mockito;
 
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.BulkOperationException;
 import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
@@ -30,13 +39,19 @@ import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
 import org.springframework.data.mongodb.core.query.BasicQuery;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.expression.common.LiteralExpression;
+import org.springframework.integration.channel.QueueChannel;
 import org.springframework.integration.mongodb.MongoDbContainerTest;
 import org.springframework.integration.support.MessageBuilder;
 import org.springframework.integration.test.support.TestApplicationContextAware;
 import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHandlingException;
+import org.springframework.messaging.support.ErrorMessage;
+import org.springframework.messaging.support.GenericMessage;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -154,4 +169,94 @@ class MongoDbStoringMessageHandlerTests implements MongoDbContainerTest, TestApp
 		verify(converter, times(1)).write(Mockito.any(), Mockito.any(Bson.class));
 	}
 
+	@Test
+	void batchedBulkInserts() {
+		this.template.dropCollection("batch");
+		MongoDbStoringMessageHandler handler = new MongoDbStoringMessageHandler(MONGO_DATABASE_FACTORY);
+		handler.setCollectionNameExpression(new LiteralExpression("batch"));
+		handler.setBatchSize(3);
+		handler.setBatchTimeout(Duration.ofMinutes(1));
+		handler.setBeanFactory(TEST_INTEGRATION_CONTEXT);
+		handler.afterPropertiesSet();
+		handler.start();
+
+		handler.handleMessage(MessageBuilder.withPayload(MongoDbContainerTest.createPerson("Bob")).build());
+		handler.handleMessage(MessageBuilder.withPayload(MongoDbContainerTest.createPerson("Bill")).build());
+		assertThat(this.template.count(new Query(), "batch")).isEqualTo(0);
+
+		handler.handleMessage(MessageBuilder.withPayload(MongoDbContainerTest.createPerson("Jack")).build());
+		assertThat(this.template.count(new Query(), "batch")).isEqualTo(3);
+
+		handler.handleMessage(MessageBuilder.withPayload(MongoDbContainerTest.createPerson("Jane")).build());
+		handler.stop();
+		assertThat(this.template.count(new Query(), "batch")).isEqualTo(4);
+	}
+
+	@Test
+	void failedBatchIsRetainedForNextFlush() {
+		BulkOperations bulkOperations = mock(BulkOperations.class, Answers.RETURNS_SELF);
+		given(bulkOperations.execute())
+				.willThrow(new DataAccessResourceFailureException("intentional"))
+				.willReturn(null);
+		MongoOperations mongoOperations = mock(MongoOperations.class);
+		given(mongoOperations.bulkOps(BulkOperations.BulkMode.UNORDERED, "batch")).willReturn(bulkOperations);
+
+		MongoDbStoringMessageHandler handler = new MongoDbStoringMessageHandler(mongoOperations);
+		handler.setCollectionNameExpression(new LiteralExpression("batch"));
+		handler.setBatchSize(2);
+		handler.setBatchTimeout(Duration.ofMinutes(1));
+		handler.setBeanFactory(TEST_INTEGRATION_CONTEXT);
+		handler.afterPropertiesSet();
+		handler.start();
+
+		handler.handleMessage(new GenericMessage<>("foo"));
+		handler.handleMessage(new GenericMessage<>("bar"));
+
+		handler.stop();
+
+		verify(bulkOperations, times(2)).insert(List.of("foo", "bar"));
+		verify(bulkOperations, times(2)).execute();
+	}
+
+	@Test
+	void rejectedDocumentsAreSentToErrorChannel() {
+		BulkOperationException bulkOperationException = mock(BulkOperationException.class);
+		given(bulkOperationException.getErrors())
+				.willReturn(List.of(new BulkWriteError(11000, "duplicate key", new BsonDocument(), 1)));
+		BulkOperations bulkOperations = mock(BulkOperations.class, Answers.RETURNS_SELF);
+		given(bulkOperations.execute()).willThrow(bulkOperationException);
+		MongoOperations mongoOperations = mock(MongoOperations.class);
+		given(mongoOperations.bulkOps(BulkOperations.BulkMode.UNORDERED, "batch")).willReturn(bulkOperations);
+
+		QueueChannel errorChannel = new QueueChannel();
+		MongoDbStoringMessageHandler handler = new MongoDbStoringMessageHandler(mongoOperations);
+		handler.setCollectionNameExpression(new LiteralExpression("batch"));
+		handler.setBatchSize(3);
+		handler.setBatchTimeout(Duration.ofMinutes(1));
+		handler.setErrorChannel(errorChannel);
+		handler.setBeanFactory(TEST_INTEGRATION_CONTEXT);
+		handler.afterPropertiesSet();
+		handler.start();
+
+		Message<String> rejected = new GenericMessage<>("bar");
+		handler.handleMessage(new GenericMessage<>("foo"));
+		handler.handleMessage(rejected);
+		handler.handleMessage(new GenericMessage<>("baz"));
+
+		Message<?> errorMessage = errorChannel.receive(0);
+		assertThat(errorMessage).isInstanceOf(ErrorMessage.class);
+		assertThat(((ErrorMessage) errorMessage).getOriginalMessage()).isSameAs(rejected);
+		assertThat(errorMessage.getPayload())
+				.isInstanceOf(MessageHandlingException.class)
+				.hasMessageContaining("duplicate key")
+				.hasCause(bulkOperationException);
+		assertThat(((MessageHandlingException) errorMessage.getPayload()).getFailedMessage()).isSameAs(rejected);
+		assertThat(errorChannel.receive(0)).isNull();
+
+		handler.stop();
+
+		verify(bulkOperations).insert(List.of("foo", "bar", "baz"));
+		verify(bulkOperations).execute();
+	}
+
 }
@@ -35,6 +35,9 @@ import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
 import org.springframework.data.mongodb.core.query.BasicQuery;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.expression.common.LiteralExpression;
+import org.springframework.integration.channel.DirectChannel;
+import org.springframework.integration.endpoint.EventDrivenConsumer;
+import org.springframework.integration.handler.ReactiveMessageHandlerAdapter;
 import org.springframework.integration.mongodb.MongoDbContainerTest;
 import org.springframework.integration.support.MessageBuilder;
 import org.springframework.integration.test.support.TestApplicationContextAware;
@@ -201,6 +204,37 @@ class ReactiveMongoDbStoringMessageHandlerTests implements MongoDbContainerTest,
 						.extracting("name", "address.state").contains("Bob", "PA"));
 	}
 
+	@Test
+	void partialBatchIsWrittenByTimeoutWhenStartedByEventDrivenConsumer() {
+		ReactiveMongoDbStoringMessageHandler handler =
+				new ReactiveMongoDbStoringMessageHandler(REACTIVE_MONGO_DATABASE_FACTORY);
+		handler.setCollectionNameExpression(new LiteralExpression("batch"));
+		handler.setBatchSize(10);
+		handler.setBatchTimeout(Duration.ofMillis(100));
+		handler.setBeanFactory(TEST_INTEGRATION_CONTEXT);
+		handler.setApplicationContext(mock(ApplicationContext.class, Answers.RETURNS_MOCKS));
+		handler.afterPropertiesSet();
+		waitFor(this.template.dropCollection("batch"));
+
+		DirectChannel inputChannel = new DirectChannel();
+		EventDrivenConsumer consumer =
+				new EventDrivenConsumer(inputChannel, new ReactiveMessageHandlerAdapter(handler));
+		consumer.start();
+
+		assertThat(handler.isRunning()).isTrue();
+
+		inputChannel.send(MessageBuilder.withPayload(MongoDbContainerTest.createPerson("Bob")).build());
+		Mono<Void> result =
+				handler.handleMessage(MessageBuilder.withPayload(MongoDbContainerTest.createPerson("Bill")).build());
+
+		// The Mono for a message in a not full batch is completed when the batch is written by timeout
+		waitFor(result);
+		assertThat(waitFor(this.template.count(new Query(), "batch"))).isEqualTo(2L);
+
+		consumer.stop();
+		assertThat(handler.isRunning()).isFalse();
+	}
+
 	private static <T> T waitFor(Mono<T> mono) {
 		return mono.block(Duration.ofSeconds(10));
 	}
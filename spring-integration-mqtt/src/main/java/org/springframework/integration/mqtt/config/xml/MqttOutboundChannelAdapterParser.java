@@ -67,6 +67,7 @@ public class MqttOutboundChannelAdapterParser extends AbstractOutboundChannelAda
 				"retainedExpressionString");
 		IntegrationNamespaceUtils.setValueIfAttributeDefined(builder, element, "async");
 		IntegrationNamespaceUtils.setValueIfAttributeDefined(builder, element, "async-events");
+		IntegrationNamespaceUtils.setValueIfAttributeDefined(builder, element, "max-in-flight");
 
 		return builder.getBeanDefinition();
 
@@ -37,7 +37,10 @@ import org.springframework.integration.mqtt.event.MqttMessageSentEvent;
 import org.springframework.integration.mqtt.support.MqttHeaders;
 import org.springframework.integration.mqtt.support.MqttMessageConverter;
 import org.springframework.integration.support.management.ManageableLifecycle;
+import org.springframework.integration.support.management.metrics.MetricsCaptor;
+import org.springframework.integration.util.InFlightWindow;
 import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHandlingException;
 import org.springframework.messaging.converter.MessageConverter;
 import org.springframework.util.Assert;
 
@@ -74,6 +77,10 @@ public abstract class AbstractMqttMessageHandler<T, C> extends AbstractMessageHa
 
 	private final AtomicBoolean running = new AtomicBoolean();
 
+	private final InFlightWindow inFlightWindow =
+			new InFlightWindow("spring.integration.mqtt.outbound.in.flight",
+					"spring.integration.mqtt.outbound.delivery");
+
 	private final @Nullable String url;
 
 	private final String clientId;
@@ -354,6 +361,48 @@ public abstract class AbstractMqttMessageHandler<T, C> extends AbstractMessageHa
 		this.asyncEvents = asyncEvents;
 	}
 
+	/**
+	 * Set the maximum number of QoS 1 and 2 messages which have been published in the
+	 * {@link #setAsync(boolean) async} mode, but not delivered yet.
+	 * When this window is full, the handler blocks the sending thread until a delivery
+	 * (or failure) of a previous message, up to the {@link #setCompletionTimeout(long) completion timeout}.
+	 * Should not exceed the maximum number of in-flight messages of the MQTT client
+	 * (e.g. {@code MqttConnectOptions.setMaxInflight()}), which rejects a publish instead of blocking.
+	 * With a persistent MQTT session ({@code cleanSession = false} or {@code cleanStart = false}),
+	 * a connection loss does not fail the delivery tokens of QoS 1 and 2 messages: their slots remain
+	 * taken until the client reconnects and completes the delivery, so publishing may block
+	 * (and time out) meanwhile.
+	 * Defaults to 0 - no limit.
+	 * @param maxInFlight the maximum number of in-flight messages.
+	 * @since 7.2
+	 */
+	public void setMaxInFlight(int maxInFlight) {
+		this.inFlightWindow.setMaxInFlight(maxInFlight);
+	}
+
+	/**
+	 * Return the number of QoS 1 and 2 messages which have been published, but not delivered yet,
+	 * when an in-flight window is configured.
+	 * @return the number of in-flight messages.
+	 * @since 7.2
+	 * @see #setMaxInFlight(int)
+	 */
+	public int getInFlightCount() {
+		return this.inFlightWindow.getInFlightCount();
+	}
+
+	@Override
+	public void registerMetricsCaptor(MetricsCaptor metricsCaptor) {
+		super.registerMetricsCaptor(metricsCaptor);
+		this.inFlightWindow.registerMetrics(metricsCaptor, getComponentName());
+	}
+
+	@Override
+	public void destroy() {
+		super.destroy();
+		this.inFlightWindow.removeMetrics();
+	}
+
 	@Override
 	protected void onInit() {
 		super.onInit();
@@ -429,6 +478,47 @@ public abstract class AbstractMqttMessageHandler<T, C> extends AbstractMessageHa
 		}
 	}
 
+	/**
+	 * Start a publish operation: in the {@link #setAsync(boolean) async} mode with the
+	 * {@link #setMaxInFlight(int) in-flight window}, a QoS 1 or 2 publish waits for a free slot.
+	 * The returned object must be provided to the MQTT client as a user context of the publish
+	 * operation, and then to the {@link #publishCompleted(Object, Throwable)} when the operation
+	 * is complete or fails.
+	 * @param message the message to publish.
+	 * @param qos the QoS of the MQTT message.
+	 * @return the publish context.
+	 * @since 7.2
+	 */
+	protected Object publishStarted(Message<?> message, int qos) {
+		InFlightWindow.Permit permit;
+		try {
+			permit = this.inFlightWindow.tryAcquire(this.async && qos > 0, this.completionTimeout);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new MessageHandlingException(message, "Interrupted waiting for the in-flight window", ex);
+		}
+		if (permit == null) {
+			throw new MessageHandlingException(message, "Timed out waiting for a free slot in the in-flight window");
+		}
+		return permit;
+	}
+
+	/**
+	 * Complete a publish operation started by the {@link #publishStarted(Message, int)}:
+	 * record the delivery time and release the in-flight window slot, if any.
+	 * Has no effect for the second call with the same context, or for a context not returned
+	 * from the {@link #publishStarted(Message, int)}.
+	 * @param publishContext the context returned from the {@link #publishStarted(Message, int)}.
+	 * @param exception the publish failure, if any.
+	 * @since 7.2
+	 */
+	protected void publishCompleted(@Nullable Object publishContext, @Nullable Throwable exception) {
+		if (publishContext instanceof InFlightWindow.Permit permit) {
+			permit.complete(exception == null);
+		}
+	}
+
 	protected abstract void publish(String topic, Object mqttMessage, Message<?> message);
 
 }
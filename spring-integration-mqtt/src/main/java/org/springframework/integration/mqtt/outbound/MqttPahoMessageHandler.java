@@ -206,9 +206,10 @@ public class MqttPahoMessageHandler extends AbstractMqttMessageHandler<IMqttAsyn
 	@Override
 	protected void publish(String topic, Object mqttMessage, Message<?> message) {
 		Assert.isInstanceOf(MqttMessage.class, mqttMessage, "The 'mqttMessage' must be an instance of 'MqttMessage'");
+		Object publishContext = publishStarted(message, ((MqttMessage) mqttMessage).getQos());
 		try {
 			IMqttDeliveryToken token = checkConnection()
-					.publish(topic, (MqttMessage) mqttMessage, null, this.mqttPublishActionListener);
+					.publish(topic, (MqttMessage) mqttMessage, publishContext, this.mqttPublishActionListener);
 			if (!isAsync()) {
 				token.waitForCompletion(getCompletionTimeout()); // NOSONAR (sync)
 			}
@@ -217,8 +218,13 @@ public class MqttPahoMessageHandler extends AbstractMqttMessageHandler<IMqttAsyn
 			}
 		}
 		catch (MqttException e) {
+			publishCompleted(publishContext, e);
 			throw new MessageHandlingException(message, "Failed to publish to MQTT in the [" + this + ']', e);
 		}
+		catch (RuntimeException e) {
+			publishCompleted(publishContext, e);
+			throw e;
+		}
 	}
 
 	@Override
@@ -260,11 +266,13 @@ public class MqttPahoMessageHandler extends AbstractMqttMessageHandler<IMqttAsyn
 
 		@Override
 		public void onSuccess(IMqttToken asyncActionToken) {
+			publishCompleted(asyncActionToken.getUserContext(), null);
 			sendDeliveryCompleteEvent(asyncActionToken.getMessageId());
 		}
 
 		@Override
 		public void onFailure(IMqttToken asyncActionToken, Throwable exception) {
+			publishCompleted(asyncActionToken.getUserContext(), exception);
 			sendFailedDeliveryEvent(asyncActionToken.getMessageId(), exception);
 		}
 
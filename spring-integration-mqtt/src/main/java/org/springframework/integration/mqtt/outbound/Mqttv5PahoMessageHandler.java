@@ -257,6 +257,7 @@ public class Mqttv5PahoMessageHandler extends AbstractMqttMessageHandler<IMqttAs
 	protected void publish(String topic, Object mqttMessage, Message<?> message) {
 		Assert.isInstanceOf(MqttMessage.class, mqttMessage, "The 'mqttMessage' must be an instance of 'MqttMessage'");
 		long completionTimeout = getCompletionTimeout();
+		Object publishContext = publishStarted(message, ((MqttMessage) mqttMessage).getQos());
 		try {
 			if (!this.mqttClient.isConnected()) {
 				this.lock.lock();
@@ -282,7 +283,8 @@ public class Mqttv5PahoMessageHandler extends AbstractMqttMessageHandler<IMqttAs
 			}
 
 			IMqttToken token =
-					this.mqttClient.publish(topic, (MqttMessage) mqttMessage, null, this.mqttPublishActionListener);
+					this.mqttClient.publish(topic, (MqttMessage) mqttMessage, publishContext,
+							this.mqttPublishActionListener);
 			if (!isAsync()) {
 				token.waitForCompletion(completionTimeout);
 			}
@@ -291,11 +293,16 @@ public class Mqttv5PahoMessageHandler extends AbstractMqttMessageHandler<IMqttAs
 			}
 		}
 		catch (MqttException | InterruptedException ex) {
+			publishCompleted(publishContext, ex);
 			if (ex instanceof InterruptedException) {
 				Thread.currentThread().interrupt();
 			}
 			throw new MessageHandlingException(message, "Failed to publish to MQTT in the [" + this + ']', ex);
 		}
+		catch (RuntimeException ex) {
+			publishCompleted(publishContext, ex);
+			throw ex;
+		}
 	}
 
 	@Override
@@ -336,11 +343,13 @@ public class Mqttv5PahoMessageHandler extends AbstractMqttMessageHandler<IMqttAs
 
 		@Override
 		public void onSuccess(IMqttToken asyncActionToken) {
+			publishCompleted(asyncActionToken.getUserContext(), null);
 			sendDeliveryCompleteEvent(asyncActionToken.getMessageId());
 		}
 
 		@Override
 		public void onFailure(IMqttToken asyncActionToken, Throwable exception) {
+			publishCompleted(asyncActionToken.getUserContext(), exception);
 			sendFailedDeliveryEvent(asyncActionToken.getMessageId(), exception);
 		}
 
@@ -19,6 +19,7 @@ package org.springframework.integration.mqtt;
 import java.lang.reflect.Method;
 import java.util.Properties;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -28,6 +29,7 @@ import java.util.function.Supplier;
 import javax.net.SocketFactory;
 
 import org.aopalliance.intercept.MethodInterceptor;
+import org.eclipse.paho.client.mqttv3.IMqttActionListener;
 import org.eclipse.paho.client.mqttv3.IMqttAsyncClient;
 import org.eclipse.paho.client.mqttv3.IMqttToken;
 import org.eclipse.paho.client.mqttv3.MqttAsyncClient;
@@ -197,6 +199,61 @@ public class MqttAdapterTests implements TestApplicationContextAware {
 		handler.stop();
 	}
 
+	@Test
+	void testAsyncPublishInFlightWindow() throws Exception {
+		DefaultMqttPahoClientFactory factory = spy(new DefaultMqttPahoClientFactory());
+		MqttAsyncClient client = mock(MqttAsyncClient.class);
+		willAnswer(invocation -> client).given(factory).getAsyncClientInstance(anyString(), anyString());
+		given(client.isConnected()).willReturn(true);
+		willReturn(mock(MqttToken.class)).given(client).connect(any(MqttConnectOptions.class));
+
+		BlockingQueue<Object> publishContexts = new LinkedBlockingQueue<>();
+		AtomicReference<IMqttActionListener> actionListener = new AtomicReference<>();
+		willAnswer(invocation -> {
+			publishContexts.add(invocation.getArgument(2));
+			actionListener.set(invocation.getArgument(3));
+			return mock(MqttDeliveryToken.class);
+		}).given(client).publish(anyString(), any(), any(), any());
+
+		MqttPahoMessageHandler handler = new MqttPahoMessageHandler("foo", "bar", factory);
+		handler.setDefaultTopic("mqtt-foo");
+		handler.setDefaultQos(1);
+		handler.setAsync(true);
+		handler.setMaxInFlight(2);
+		handler.setBeanFactory(TEST_INTEGRATION_CONTEXT);
+		handler.afterPropertiesSet();
+		handler.start();
+
+		handler.handleMessage(new GenericMessage<>("one"));
+		handler.handleMessage(new GenericMessage<>("two"));
+		assertThat(handler.getInFlightCount()).isEqualTo(2);
+
+		CountDownLatch thirdPublished = new CountDownLatch(1);
+		new Thread(() -> {
+			handler.handleMessage(new GenericMessage<>("three"));
+			thirdPublished.countDown();
+		}).start();
+
+		assertThat(thirdPublished.await(100, TimeUnit.MILLISECONDS)).isFalse();
+
+		IMqttToken deliveredToken = mock(IMqttToken.class);
+		given(deliveredToken.getUserContext()).willReturn(publishContexts.poll());
+		actionListener.get().onSuccess(deliveredToken);
+
+		assertThat(thirdPublished.await(10, TimeUnit.SECONDS)).isTrue();
+		assertThat(handler.getInFlightCount()).isEqualTo(2);
+
+		actionListener.get().onSuccess(deliveredToken);
+		assertThat(handler.getInFlightCount()).isEqualTo(2);
+
+		IMqttToken failedToken = mock(IMqttToken.class);
+		given(failedToken.getUserContext()).willReturn(publishContexts.poll());
+		actionListener.get().onFailure(failedToken, new MqttException(MqttException.REASON_CODE_CONNECTION_LOST));
+		assertThat(handler.getInFlightCount()).isEqualTo(1);
+
+		handler.stop();
+	}
+
 	@Test
 	void testClientManagerIsNotConnectedAndClosedInHandler() throws Exception {
 		// given
@@ -109,6 +109,7 @@ public class MqttOutboundChannelAdapterParserTests {
 				.isSameAs(clientFactory);
 		assertThat(TestUtils.<Boolean>getPropertyValue(withDefaultConverterHandler, "async")).isTrue();
 		assertThat(TestUtils.<Boolean>getPropertyValue(withDefaultConverterHandler, "asyncEvents")).isTrue();
+		assertThat(TestUtils.<Integer>getPropertyValue(withDefaultConverterHandler, "maxInFlight")).isEqualTo(10);
 	}
 
 }
@@ -287,6 +287,19 @@ public final class Redis {
 		return new RedisStreamInboundChannelAdapterSpec(connectionFactory, streamKey);
 	}
 
+	/**
+	 * The factory to produce a {@link RedisStreamMessageDrivenChannelAdapterSpec}.
+	 * @param connectionFactory the {@link RedisConnectionFactory} to build on
+	 * @param streamKey The streamKey of the Redis stream to build on
+	 * @return the {@link RedisStreamMessageDrivenChannelAdapterSpec} instance
+	 * @since 7.2
+	 */
+	public static RedisStreamMessageDrivenChannelAdapterSpec streamMessageDrivenChannelAdapter(
+			RedisConnectionFactory connectionFactory, String streamKey) {
+
+		return new RedisStreamMessageDrivenChannelAdapterSpec(connectionFactory, streamKey);
+	}
+
 	private Redis() {
 	}
 
@@ -116,4 +116,16 @@ public class RedisQueueInboundChannelAdapterSpec extends
 		return this;
 	}
 
+	/**
+	 * Specify the max number of elements to pop from the Redis Queue in one command.
+	 * @param batchSize the batchSize
+	 * @return the spec
+	 * @since 7.2
+	 * @see RedisQueueMessageDrivenEndpoint#setBatchSize(int)
+	 */
+	public RedisQueueInboundChannelAdapterSpec batchSize(int batchSize) {
+		this.target.setBatchSize(batchSize);
+		return this;
+	}
+
 }
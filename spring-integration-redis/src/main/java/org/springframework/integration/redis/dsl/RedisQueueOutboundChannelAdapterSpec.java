@@ -16,6 +16,8 @@
 
 package org.springframework.integration.redis.dsl;
 
+import java.time.Duration;
+
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.expression.Expression;
@@ -73,4 +75,40 @@ public class RedisQueueOutboundChannelAdapterSpec extends
 		return this;
 	}
 
+	/**
+	 * Specify the number of elements to accumulate before pushing them to the Redis Queue.
+	 * @param batchSize the batchSize
+	 * @return the spec
+	 * @since 7.2
+	 * @see RedisQueueOutboundChannelAdapter#setBatchSize(int)
+	 */
+	public RedisQueueOutboundChannelAdapterSpec batchSize(int batchSize) {
+		this.target.setBatchSize(batchSize);
+		return this;
+	}
+
+	/**
+	 * Specify the maximum number of elements to keep in memory when the batches cannot be pushed to Redis.
+	 * @param maxPending the maxPending
+	 * @return the spec
+	 * @since 7.2
+	 * @see RedisQueueOutboundChannelAdapter#setMaxPending(int)
+	 */
+	public RedisQueueOutboundChannelAdapterSpec maxPending(int maxPending) {
+		this.target.setMaxPending(maxPending);
+		return this;
+	}
+
+	/**
+	 * Specify the max time for elements to stay in a not full batch.
+	 * @param batchTimeout the batchTimeout
+	 * @return the spec
+	 * @since 7.2
+	 * @see RedisQueueOutboundChannelAdapter#setBatchTimeout(Duration)
+	 */
+	public RedisQueueOutboundChannelAdapterSpec batchTimeout(Duration batchTimeout) {
+		this.target.setBatchTimeout(batchTimeout);
+		return this;
+	}
+
 }
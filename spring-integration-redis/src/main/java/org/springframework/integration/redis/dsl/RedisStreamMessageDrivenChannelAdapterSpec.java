@@ -0,0 +1,206 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.redis.dsl;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.integration.dsl.MessageProducerSpec;
+import org.springframework.integration.redis.inbound.RedisStreamMessageDrivenEndpoint;
+import org.springframework.messaging.MessageChannel;
+
+/**
+ * A {@link MessageProducerSpec} for a {@link RedisStreamMessageDrivenEndpoint}.
+ *
+ * @author Artem Bilan
+ *
+ * @since 7.2
+ */
+public class RedisStreamMessageDrivenChannelAdapterSpec extends
+		MessageProducerSpec<RedisStreamMessageDrivenChannelAdapterSpec, RedisStreamMessageDrivenEndpoint> {
+
+	protected RedisStreamMessageDrivenChannelAdapterSpec(RedisConnectionFactory connectionFactory, String streamKey) {
+		this.target = new RedisStreamMessageDrivenEndpoint(connectionFactory, streamKey);
+	}
+
+	/**
+	 * Specify the name of the consumer group.
+	 * @param consumerGroup the consumerGroup
+	 * @return the spec
+	 * @see RedisStreamMessageDrivenEndpoint#setConsumerGroup(String)
+	 */
+	public RedisStreamMessageDrivenChannelAdapterSpec consumerGroup(String consumerGroup) {
+		this.target.setConsumerGroup(consumerGroup);
+		return this;
+	}
+
+	/**
+	 * Specify the name of the consumer.
+	 * @param consumerName the consumerName
+	 * @return the spec
+	 * @see RedisStreamMessageDrivenEndpoint#setConsumerName(String)
+	 */
+	public RedisStreamMessageDrivenChannelAdapterSpec consumerName(String consumerName) {
+		this.target.setConsumerName(consumerName);
+		return this;
+	}
+
+	/**
+	 * Specify whether create the consumer group.
+	 * @param createConsumerGroup the createConsumerGroup
+	 * @return the spec
+	 * @see RedisStreamMessageDrivenEndpoint#setCreateConsumerGroup(boolean)
+	 */
+	public RedisStreamMessageDrivenChannelAdapterSpec createConsumerGroup(boolean createConsumerGroup) {
+		this.target.setCreateConsumerGroup(createConsumerGroup);
+		return this;
+	}
+
+	/**
+	 * Specify the batch size for the COUNT option.
+	 * @param batchSize the batchSize
+	 * @return the spec
+	 * @see RedisStreamMessageDrivenEndpoint#setBatchSize(int)
+	 */
+	public RedisStreamMessageDrivenChannelAdapterSpec batchSize(int batchSize) {
+		this.target.setBatchSize(batchSize);
+		return this;
+	}
+
+	/**
+	 * Specify the poll timeout for the BLOCK option.
+	 * @param pollTimeout the pollTimeout
+	 * @return the spec
+	 * @see RedisStreamMessageDrivenEndpoint#setPollTimeout(Duration)
+	 */
+	public RedisStreamMessageDrivenChannelAdapterSpec pollTimeout(Duration pollTimeout) {
+		this.target.setPollTimeout(pollTimeout);
+		return this;
+	}
+
+	/**
+	 * Specify whether acknowledge records automatically.
+	 * @param autoAck the acknowledge option
+	 * @return the spec
+	 * @see RedisStreamMessageDrivenEndpoint#setAutoAck(boolean)
+	 */
+	public RedisStreamMessageDrivenChannelAdapterSpec autoAck(boolean autoAck) {
+		this.target.setAutoAck(autoAck);
+		return this;
+	}
+
+	/**
+	 * Specify whether extract payload.
+	 * @param extractPayload the extractPayload
+	 * @return the spec
+	 * @see RedisStreamMessageDrivenEndpoint#setExtractPayload(boolean)
+	 */
+	public RedisStreamMessageDrivenChannelAdapterSpec extractPayload(boolean extractPayload) {
+		this.target.setExtractPayload(extractPayload);
+		return this;
+	}
+
+	/**
+	 * Specify an executor to process the records of a read in parallel.
+	 * @param processingExecutor the processingExecutor
+	 * @return the spec
+	 * @see RedisStreamMessageDrivenEndpoint#setProcessingExecutor(Executor)
+	 */
+	public RedisStreamMessageDrivenChannelAdapterSpec processingExecutor(Executor processingExecutor) {
+		this.target.setProcessingExecutor(processingExecutor);
+		return this;
+	}
+
+	/**
+	 * Specify the idle time after which pending records of other consumers are claimed.
+	 * @param claimMinIdleTime the claimMinIdleTime
+	 * @return the spec
+	 * @see RedisStreamMessageDrivenEndpoint#setClaimMinIdleTime(Duration)
+	 */
+	public RedisStreamMessageDrivenChannelAdapterSpec claimMinIdleTime(Duration claimMinIdleTime) {
+		this.target.setClaimMinIdleTime(claimMinIdleTime);
+		return this;
+	}
+
+	/**
+	 * Specify the interval between scans for pending records to claim.
+	 * @param claimInterval the claimInterval
+	 * @return the spec
+	 * @see RedisStreamMessageDrivenEndpoint#setClaimInterval(Duration)
+	 */
+	public RedisStreamMessageDrivenChannelAdapterSpec claimInterval(Duration claimInterval) {
+		this.target.setClaimInterval(claimInterval);
+		return this;
+	}
+
+	/**
+	 * Specify the number of deliveries after which a pending record is dead-lettered instead of claimed.
+	 * @param maxDeliveries the maxDeliveries
+	 * @return the spec
+	 * @see RedisStreamMessageDrivenEndpoint#setMaxDeliveries(int)
+	 */
+	public RedisStreamMessageDrivenChannelAdapterSpec maxDeliveries(int maxDeliveries) {
+		this.target.setMaxDeliveries(maxDeliveries);
+		return this;
+	}
+
+	/**
+	 * Specify the channel for records which have reached the max deliveries.
+	 * @param deadLetterChannel the deadLetterChannel
+	 * @return the spec
+	 * @see RedisStreamMessageDrivenEndpoint#setDeadLetterChannel(MessageChannel)
+	 */
+	public RedisStreamMessageDrivenChannelAdapterSpec deadLetterChannel(MessageChannel deadLetterChannel) {
+		this.target.setDeadLetterChannel(deadLetterChannel);
+		return this;
+	}
+
+	/**
+	 * Specify the interval to refresh the pending count and lag metrics.
+	 * @param metricsRefreshInterval the metricsRefreshInterval
+	 * @return the spec
+	 * @see RedisStreamMessageDrivenEndpoint#setMetricsRefreshInterval(Duration)
+	 */
+	public RedisStreamMessageDrivenChannelAdapterSpec metricsRefreshInterval(Duration metricsRefreshInterval) {
+		this.target.setMetricsRefreshInterval(metricsRefreshInterval);
+		return this;
+	}
+
+	/**
+	 * Specify the executor for the listener task.
+	 * @param taskExecutor the taskExecutor
+	 * @return the spec
+	 * @see RedisStreamMessageDrivenEndpoint#setTaskExecutor(Executor)
+	 */
+	public RedisStreamMessageDrivenChannelAdapterSpec taskExecutor(Executor taskExecutor) {
+		this.target.setTaskExecutor(taskExecutor);
+		return this;
+	}
+
+	/**
+	 * Specify the time to wait before restarting the listener task after a failure.
+	 * @param recoveryInterval the recoveryInterval
+	 * @return the spec
+	 * @see RedisStreamMessageDrivenEndpoint#setRecoveryInterval(long)
+	 */
+	public RedisStreamMessageDrivenChannelAdapterSpec recoveryInterval(long recoveryInterval) {
+		this.target.setRecoveryInterval(recoveryInterval);
+		return this;
+	}
+
+}
@@ -17,6 +17,8 @@
 package org.springframework.integration.redis.inbound;
 
 import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.Executor;
 
@@ -87,6 +89,8 @@ public class RedisQueueMessageDrivenEndpoint extends MessageProducerSupport
 
 	private boolean rightPop = true;
 
+	private int batchSize = 1;
+
 	private volatile boolean listening;
 
 	private volatile @Nullable Runnable stopCallback;
@@ -190,6 +194,20 @@ public class RedisQueueMessageDrivenEndpoint extends MessageProducerSupport
 		this.rightPop = rightPop;
 	}
 
+	/**
+	 * Specify the maximum number of elements to pop from the Redis List in one round trip
+	 * ({@code RPOP key count} or {@code LPOP key count}; requires Redis 6.2 or later).
+	 * The elements are emitted as separate messages, in the queue order.
+	 * When the list is empty, this endpoint falls back to the blocking pop of a single element
+	 * with the {@link #setReceiveDuration(Duration) receive timeout}.
+	 * @param batchSize the max number of elements to pop at once. Defaults to {@code 1}.
+	 * @since 7.2
+	 */
+	public void setBatchSize(int batchSize) {
+		Assert.isTrue(batchSize > 0, "'batchSize' must be greater than 0");
+		this.batchSize = batchSize;
+	}
+
 	@Override
 	protected void onInit() {
 		super.onInit();
@@ -217,32 +235,76 @@ public class RedisQueueMessageDrivenEndpoint extends MessageProducerSupport
 		return "redis:queue-inbound-channel-adapter";
 	}
 
-	@SuppressWarnings("unchecked")
-	private void popMessageAndSend() {
-		byte[] value = popForValue();
-
-		Message<Object> message = null;
+	private void popMessagesAndSend() {
+		List<byte[]> values = popForValues();
+		for (int i = 0; i < values.size(); i++) {
+			if (!this.listening) {
+				pushBack(values.subList(i, values.size()));
+				return;
+			}
+			try {
+				convertAndSend(values.get(i));
+			}
+			catch (RuntimeException ex) {
+				pushBack(values.subList(i + 1, values.size()));
+				throw ex;
+			}
+		}
+	}
 
-		if (value != null) {
-			if (this.expectMessage) {
-				try {
-					if (this.serializer != null) {
-						message = (Message<Object>) this.serializer.deserialize(value);
-					}
-				}
-				catch (Exception e) {
-					throw new MessagingException("Deserialization of Message failed.", e);
+	private List<byte[]> popForValues() {
+		if (this.batchSize > 1) {
+			try {
+				List<byte[]> values =
+						this.rightPop
+								? this.boundListOperations.rightPop(this.batchSize)
+								: this.boundListOperations.leftPop(this.batchSize);
+				if (values != null && !values.isEmpty()) {
+					return values;
 				}
 			}
+			catch (Exception ex) {
+				handlePopException(ex);
+				return Collections.emptyList();
+			}
+		}
+		byte[] value = popForValue();
+		return value != null ? Collections.singletonList(value) : Collections.emptyList();
+	}
+
+	private void pushBack(List<byte[]> values) {
+		for (int i = values.size() - 1; i >= 0; i--) {
+			if (this.rightPop) {
+				this.boundListOperations.rightPush(values.get(i));
+			}
 			else {
-				Object payload = value;
+				this.boundListOperations.leftPush(values.get(i));
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private void convertAndSend(byte[] value) {
+		Message<Object> message = null;
+
+		if (this.expectMessage) {
+			try {
 				if (this.serializer != null) {
-					payload = this.serializer.deserialize(value);
-				}
-				if (payload != null) {
-					message = getMessageBuilderFactory().withPayload(payload).build();
+					message = (Message<Object>) this.serializer.deserialize(value);
 				}
 			}
+			catch (Exception e) {
+				throw new MessagingException("Deserialization of Message failed.", e);
+			}
+		}
+		else {
+			Object payload = value;
+			if (this.serializer != null) {
+				payload = this.serializer.deserialize(value);
+			}
+			if (payload != null) {
+				message = getMessageBuilderFactory().withPayload(payload).build();
+			}
 		}
 
 		if (message != null) {
@@ -271,21 +333,25 @@ public class RedisQueueMessageDrivenEndpoint extends MessageProducerSupport
 			}
 		}
 		catch (Exception ex) {
-			this.listening = false;
-			if (isActive()) {
-				logger.error(ex,
-						"Failed to execute listening task. Will attempt to resubmit in " + this.recoveryInterval
-								+ " milliseconds.");
-				publishException(ex);
-				sleepBeforeRecoveryAttempt();
-			}
-			else {
-				logger.debug(() -> "Failed to execute listening task. " + ex.getClass() + ": " + ex.getMessage());
-			}
+			handlePopException(ex);
 		}
 		return value;
 	}
 
+	private void handlePopException(Exception ex) {
+		this.listening = false;
+		if (isActive()) {
+			logger.error(ex,
+					"Failed to execute listening task. Will attempt to resubmit in " + this.recoveryInterval
+							+ " milliseconds.");
+			publishException(ex);
+			sleepBeforeRecoveryAttempt();
+		}
+		else {
+			logger.debug(() -> "Failed to execute listening task. " + ex.getClass() + ": " + ex.getMessage());
+		}
+	}
+
 	@Override
 	protected void doStart() {
 		restart();
@@ -371,7 +437,7 @@ public class RedisQueueMessageDrivenEndpoint extends MessageProducerSupport
 			try {
 				while (isActive()) {
 					RedisQueueMessageDrivenEndpoint.this.listening = true;
-					popMessageAndSend();
+					popMessagesAndSend();
 				}
 			}
 			finally {
@@ -0,0 +1,698 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.redis.inbound;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationEventPublisherAware;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.PendingMessagesSummary;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamInfo;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.integration.IntegrationMessageHeaderAccessor;
+import org.springframework.integration.acks.SimpleAcknowledgment;
+import org.springframework.integration.endpoint.MessageProducerSupport;
+import org.springframework.integration.redis.event.RedisExceptionEvent;
+import org.springframework.integration.redis.support.RedisHeaders;
+import org.springframework.integration.support.AbstractIntegrationMessageBuilder;
+import org.springframework.integration.support.management.IntegrationManagedResource;
+import org.springframework.integration.support.management.metrics.GaugeFacade;
+import org.springframework.integration.support.management.metrics.MetricsCaptor;
+import org.springframework.jmx.export.annotation.ManagedMetric;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.scheduling.SchedulingAwareRunnable;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * A {@link MessageProducerSupport} for reading records from a Redis Stream with a Consumer Group
+ * ({@code XREADGROUP}) on a blocking connection and publishing them into the provided output channel.
+ * <p>
+ * The ids of the processed records are acknowledged in batches: a single {@code XACK} command
+ * with all the ids accumulated during a read cycle.
+ * When a {@link #setProcessingExecutor(Executor) processing executor} is provided, the records of
+ * a read are processed in parallel, but still acknowledged in the stream order.
+ * Records which failed to be processed stay in the Pending Entries List of the group.
+ * When a {@link #setClaimMinIdleTime(Duration) claim min idle time} is provided, this endpoint
+ * periodically scans the Pending Entries List and claims ({@code XCLAIM}) the entries which have not
+ * been acknowledged for that time, e.g. those delivered to dead consumers, and processes them again.
+ * The entries which have been delivered {@link #setMaxDeliveries(int) max deliveries} times are not
+ * processed again, but sent to the {@link #setDeadLetterChannel(MessageChannel) dead letter channel}
+ * (if any) and acknowledged.
+ *
+ * @author Artem Bilan
+ *
+ * @since 7.2
+ *
+ * @see ReactiveRedisStreamMessageProducer
+ */
+@ManagedResource
+@IntegrationManagedResource
+public class RedisStreamMessageDrivenEndpoint extends MessageProducerSupport
+		implements ApplicationEventPublisherAware {
+
+	public static final long DEFAULT_RECOVERY_INTERVAL = 5000;
+
+	public static final int DEFAULT_MAX_DELIVERIES = 10;
+
+	private final StreamOperations<String, String, String> streamOperations;
+
+	private final String streamKey;
+
+	private final Queue<RecordId> pendingAcks = new ConcurrentLinkedQueue<>();
+
+	private @Nullable ApplicationEventPublisher applicationEventPublisher;
+
+	@SuppressWarnings("NullAway.Init")
+	private Executor taskExecutor;
+
+	private @Nullable Executor processingExecutor;
+
+	@SuppressWarnings("NullAway.Init")
+	private String consumerGroup;
+
+	@SuppressWarnings("NullAway.Init")
+	private String consumerName;
+
+	private boolean createConsumerGroup;
+
+	private int batchSize = 10;
+
+	private Duration pollTimeout = Duration.ofSeconds(1);
+
+	private boolean autoAck = true;
+
+	private boolean extractPayload = true;
+
+	private @Nullable Duration claimMinIdleTime;
+
+	private Duration claimInterval = Duration.ofSeconds(30);
+
+	private long recoveryInterval = DEFAULT_RECOVERY_INTERVAL;
+
+	private int maxDeliveries = DEFAULT_MAX_DELIVERIES;
+
+	private @Nullable MessageChannel deadLetterChannel;
+
+	private Duration metricsRefreshInterval = Duration.ofSeconds(5);
+
+	private @Nullable GaugeFacade pendingGauge;
+
+	private @Nullable GaugeFacade lagGauge;
+
+	private long nextClaimTime;
+
+	private long nextMetricsRefreshTime;
+
+	private volatile long pendingCount = -1;
+
+	private volatile long lag = -1;
+
+	private volatile boolean listening;
+
+	private volatile @Nullable Runnable stopCallback;
+
+	/**
+	 * Create an instance for the provided stream and connection factory.
+	 * The field names and values of the records are deserialized as strings.
+	 * @param connectionFactory the connection factory.
+	 * @param streamKey the key of the stream to read.
+	 */
+	public RedisStreamMessageDrivenEndpoint(RedisConnectionFactory connectionFactory, String streamKey) {
+		Assert.notNull(connectionFactory, "'connectionFactory' must not be null");
+		Assert.hasText(streamKey, "'streamKey' must be set");
+		this.streamOperations = new StringRedisTemplate(connectionFactory).opsForStream();
+		this.streamKey = streamKey;
+	}
+
+	@Override
+	public void setApplicationEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
+		this.applicationEventPublisher = applicationEventPublisher;
+	}
+
+	/**
+	 * Set the name of the Consumer Group. If not set, the bean name is used.
+	 * @param consumerGroup the Consumer Group name.
+	 */
+	public void setConsumerGroup(String consumerGroup) {
+		this.consumerGroup = consumerGroup;
+	}
+
+	/**
+	 * Set the name of the consumer in the Consumer Group; must be unique in the group.
+	 * If not set, the consumer group name is used.
+	 * @param consumerName the consumer name.
+	 */
+	public void setConsumerName(String consumerName) {
+		this.consumerName = consumerName;
+	}
+
+	/**
+	 * Create the Consumer Group (and the stream, see {@code MKSTREAM}) if it does not exist.
+	 * @param createConsumerGroup true to create the Consumer Group; {@code false} by default.
+	 */
+	public void setCreateConsumerGroup(boolean createConsumerGroup) {
+		this.createConsumerGroup = createConsumerGroup;
+	}
+
+	/**
+	 * Set the maximum number of records to read ({@code COUNT}) or claim in one round trip.
+	 * Defaults to 10.
+	 * @param batchSize the batch size.
+	 */
+	public void setBatchSize(int batchSize) {
+		Assert.isTrue(batchSize > 0, "'batchSize' must be greater than 0");
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Set the time to block ({@code BLOCK}) waiting for new records.
+	 * Pending acknowledgments are flushed at least once per this time.
+	 * Defaults to 1 second.
+	 * @param pollTimeout the poll timeout.
+	 */
+	public void setPollTimeout(Duration pollTimeout) {
+		Assert.isTrue(!pollTimeout.isNegative() && !pollTimeout.isZero(), "'pollTimeout' must be positive");
+		this.pollTimeout = pollTimeout;
+	}
+
+	/**
+	 * Set to false to acknowledge records manually via the
+	 * {@link IntegrationMessageHeaderAccessor#ACKNOWLEDGMENT_CALLBACK} header.
+	 * Manual acknowledgments are batched the same way as automatic ones.
+	 * Defaults to true.
+	 * @param autoAck false for manual acknowledgment.
+	 */
+	public void setAutoAck(boolean autoAck) {
+		this.autoAck = autoAck;
+	}
+
+	/**
+	 * Configure this endpoint to extract the value (a {@link java.util.Map}) from the record.
+	 * Defaults to true.
+	 * @param extractPayload false to use the whole {@link MapRecord} as a payload.
+	 */
+	public void setExtractPayload(boolean extractPayload) {
+		this.extractPayload = extractPayload;
+	}
+
+	/**
+	 * Set an {@link Executor} for processing the records of a read in parallel.
+	 * The next read is performed only when all the records of the current read have been processed;
+	 * the successfully processed records are acknowledged in the stream order.
+	 * By default, the records are processed on the listener thread.
+	 * @param processingExecutor the executor.
+	 */
+	public void setProcessingExecutor(Executor processingExecutor) {
+		this.processingExecutor = processingExecutor;
+	}
+
+	/**
+	 * Set the time after which a pending (delivered, but not acknowledged) record is considered
+	 * abandoned by its consumer and is claimed by this one.
+	 * No claims are performed if not set.
+	 * @param claimMinIdleTime the min idle time for pending records to claim.
+	 * @see #setClaimInterval(Duration)
+	 */
+	public void setClaimMinIdleTime(Duration claimMinIdleTime) {
+		this.claimMinIdleTime = claimMinIdleTime;
+	}
+
+	/**
+	 * Set the interval between scans of the Pending Entries List for records to claim.
+	 * Defaults to 30 seconds.
+	 * @param claimInterval the interval.
+	 * @see #setClaimMinIdleTime(Duration)
+	 */
+	public void setClaimInterval(Duration claimInterval) {
+		this.claimInterval = claimInterval;
+	}
+
+	/**
+	 * Set the number of deliveries after which a pending record is not claimed for processing
+	 * any more, but sent to the {@link #setDeadLetterChannel(MessageChannel) dead letter channel}
+	 * (if any) and acknowledged, so a record which cannot be processed is not re-claimed forever.
+	 * Defaults to {@value #DEFAULT_MAX_DELIVERIES}; 0 means no limit.
+	 * @param maxDeliveries the max number of deliveries for a record.
+	 * @see #setClaimMinIdleTime(Duration)
+	 */
+	public void setMaxDeliveries(int maxDeliveries) {
+		Assert.isTrue(maxDeliveries >= 0, "'maxDeliveries' must not be negative");
+		this.maxDeliveries = maxDeliveries;
+	}
+
+	/**
+	 * Set the channel to send the records which have reached the {@link #setMaxDeliveries(int) max deliveries} to.
+	 * The record is acknowledged when the message is sent; it stays pending if the send fails.
+	 * Without this channel, such records are logged and acknowledged.
+	 * @param deadLetterChannel the channel for records which cannot be processed.
+	 */
+	public void setDeadLetterChannel(MessageChannel deadLetterChannel) {
+		this.deadLetterChannel = deadLetterChannel;
+	}
+
+	/**
+	 * Set the interval for the listener thread to refresh the values of the
+	 * {@link #getPendingCount()} and {@link #getLag()} metrics from Redis.
+	 * Defaults to 5 seconds.
+	 * @param metricsRefreshInterval the interval.
+	 */
+	public void setMetricsRefreshInterval(Duration metricsRefreshInterval) {
+		this.metricsRefreshInterval = metricsRefreshInterval;
+	}
+
+	/**
+	 * Set the {@link Executor} for the listener task.
+	 * @param taskExecutor the executor.
+	 */
+	public void setTaskExecutor(Executor taskExecutor) {
+		this.taskExecutor = taskExecutor;
+	}
+
+	public void setRecoveryInterval(long recoveryInterval) {
+		this.recoveryInterval = recoveryInterval;
+	}
+
+	@Override
+	public String getComponentType() {
+		return "redis:stream-message-driven-channel-adapter";
+	}
+
+	@Override
+	protected void onInit() {
+		super.onInit();
+		if (!StringUtils.hasText(this.consumerGroup)) {
+			this.consumerGroup = getBeanName();
+		}
+		if (!StringUtils.hasText(this.consumerName)) {
+			this.consumerName = this.consumerGroup;
+		}
+		if (this.taskExecutor == null) {
+			String beanName = getComponentName();
+			this.taskExecutor = new SimpleAsyncTaskExecutor((beanName == null ? "" : beanName + "-")
+					+ getComponentType());
+		}
+	}
+
+	@Override
+	public void registerMetricsCaptor(MetricsCaptor metricsCaptor) {
+		String name = getComponentName() == null ? "unknown" : getComponentName();
+		this.pendingGauge =
+				metricsCaptor.gaugeBuilder("spring.integration.redis.stream.pending", this,
+								(endpoint) -> getPendingCount())
+						.tag("name", name)
+						.description("The number of records delivered to the consumer group, but not acknowledged")
+						.build();
+		this.lagGauge =
+				metricsCaptor.gaugeBuilder("spring.integration.redis.stream.lag", this,
+								(endpoint) -> getLag())
+						.tag("name", name)
+						.description("The number of records in the stream not delivered to the consumer group yet")
+						.build();
+	}
+
+	@Override
+	protected void doStart() {
+		if (this.createConsumerGroup) {
+			createConsumerGroupIfNecessary();
+		}
+		restart();
+	}
+
+	private void createConsumerGroupIfNecessary() {
+		try {
+			this.streamOperations.createGroup(this.streamKey, ReadOffset.from("0-0"), this.consumerGroup);
+		}
+		catch (Exception ex) {
+			logger.debug(() -> "Consumer group '" + this.consumerGroup + "' is not created: " + ex.getMessage());
+		}
+	}
+
+	private void restart() {
+		this.taskExecutor.execute(new ListenerTask());
+	}
+
+	@Override
+	protected void doStop(Runnable callback) {
+		this.stopCallback = callback;
+		doStop();
+	}
+
+	@Override
+	protected void doStop() {
+		super.doStop();
+		this.listening = false;
+	}
+
+	@Override
+	public void destroy() {
+		super.destroy();
+		if (this.pendingGauge != null) {
+			this.pendingGauge.remove();
+		}
+		if (this.lagGauge != null) {
+			this.lagGauge.remove();
+		}
+	}
+
+	public boolean isListening() {
+		return this.listening;
+	}
+
+	/**
+	 * Return the number of records delivered to the consumer group, but not acknowledged yet
+	 * (the size of the Pending Entries List), as of the last refresh by the listener thread.
+	 * @return the number of pending records or -1 if not available yet.
+	 * @see #setMetricsRefreshInterval(Duration)
+	 */
+	@ManagedMetric
+	public long getPendingCount() {
+		return this.pendingCount;
+	}
+
+	/**
+	 * Return the number of records in the stream which are not delivered to the consumer group yet,
+	 * as of the last refresh by the listener thread.
+	 * Requires Redis 7.0 or later.
+	 * @return the lag of the consumer group or -1 if not available.
+	 * @see #setMetricsRefreshInterval(Duration)
+	 */
+	@ManagedMetric
+	public long getLag() {
+		return this.lag;
+	}
+
+	private void refreshMetricsIfNecessary() {
+		long now = System.currentTimeMillis();
+		if (now < this.nextMetricsRefreshTime) {
+			return;
+		}
+		this.nextMetricsRefreshTime = now + this.metricsRefreshInterval.toMillis();
+		try {
+			PendingMessagesSummary summary = this.streamOperations.pending(this.streamKey, this.consumerGroup);
+			this.pendingCount = summary != null ? summary.getTotalPendingMessages() : 0;
+			this.lag = fetchLag();
+		}
+		catch (RuntimeException ex) {
+			logger.debug(ex, "Failed to refresh the pending count and lag metrics; keeping the previous values");
+		}
+	}
+
+	private long fetchLag() {
+		StreamInfo.XInfoGroups groups = this.streamOperations.groups(this.streamKey);
+		for (int i = 0; i < groups.size(); i++) {
+			StreamInfo.XInfoGroup group = groups.get(i);
+			if (this.consumerGroup.equals(group.groupName())) {
+				Object lag = group.getRaw().get("lag");
+				if (lag instanceof Number number) {
+					return number.longValue();
+				}
+				if (lag != null && StringUtils.hasText(lag.toString())) {
+					return Long.parseLong(lag.toString());
+				}
+			}
+		}
+		return -1;
+	}
+
+	private void readAndProcess() {
+		refreshMetricsIfNecessary();
+		claimPendingIfNecessary();
+		List<MapRecord<String, String, String>> records =
+				this.streamOperations.read(Consumer.from(this.consumerGroup, this.consumerName),
+						StreamReadOptions.empty().count(this.batchSize).block(this.pollTimeout),
+						StreamOffset.create(this.streamKey, ReadOffset.lastConsumed()));
+		if (records != null && !records.isEmpty()) {
+			process(records);
+		}
+		flushAcks();
+	}
+
+	private void claimPendingIfNecessary() {
+		Duration minIdleTime = this.claimMinIdleTime;
+		long now = System.currentTimeMillis();
+		if (minIdleTime == null || now < this.nextClaimTime) {
+			return;
+		}
+		this.nextClaimTime = now + this.claimInterval.toMillis();
+		Range<String> range = Range.unbounded();
+		while (this.listening) {
+			PendingMessages pendingMessages =
+					this.streamOperations.pending(this.streamKey, this.consumerGroup, range, this.batchSize);
+			List<RecordId> idsToClaim = new ArrayList<>();
+			List<RecordId> exhaustedIds = new ArrayList<>();
+			for (PendingMessage pendingMessage : pendingMessages) {
+				if (pendingMessage.getElapsedTimeSinceLastDelivery().compareTo(minIdleTime) >= 0) {
+					if (this.maxDeliveries > 0 && pendingMessage.getTotalDeliveryCount() >= this.maxDeliveries) {
+						exhaustedIds.add(pendingMessage.getId());
+					}
+					else {
+						idsToClaim.add(pendingMessage.getId());
+					}
+				}
+			}
+			if (!exhaustedIds.isEmpty()) {
+				deadLetter(this.streamOperations.claim(this.streamKey, this.consumerGroup, this.consumerName,
+						minIdleTime, exhaustedIds.toArray(new RecordId[0])));
+			}
+			if (!idsToClaim.isEmpty()) {
+				List<MapRecord<String, String, String>> claimed =
+						this.streamOperations.claim(this.streamKey, this.consumerGroup, this.consumerName,
+								minIdleTime, idsToClaim.toArray(new RecordId[0]));
+				logger.debug(() -> "Claimed " + claimed.size() + " pending records from " + this.streamKey);
+				if (!claimed.isEmpty()) {
+					process(claimed);
+				}
+			}
+			if (pendingMessages.size() < this.batchSize) {
+				break;
+			}
+			String lastId = pendingMessages.get(pendingMessages.size() - 1).getIdAsString();
+			range = Range.rightUnbounded(Range.Bound.exclusive(lastId));
+		}
+	}
+
+	private void deadLetter(List<MapRecord<String, String, String>> records) {
+		MessageChannel channel = this.deadLetterChannel;
+		for (MapRecord<String, String, String> record : records) {
+			if (channel == null) {
+				logger.warn(() -> "Record " + record.getId() + " has been delivered " + this.maxDeliveries
+						+ " times; acknowledging and discarding it");
+				this.pendingAcks.add(record.getId());
+			}
+			else {
+				try {
+					getMessagingTemplate().send(channel, buildMessageFromRecord(record));
+					this.pendingAcks.add(record.getId());
+				}
+				catch (Exception ex) {
+					logger.error(ex, () -> "Failed to send record " + record.getId()
+							+ " to the dead letter channel; it stays pending in the consumer group");
+				}
+			}
+		}
+	}
+
+	private void process(List<MapRecord<String, String, String>> records) {
+		Executor executor = this.processingExecutor;
+		if (executor == null || records.size() == 1) {
+			for (MapRecord<String, String, String> record : records) {
+				if (processRecord(record) && this.autoAck) {
+					this.pendingAcks.add(record.getId());
+				}
+			}
+			return;
+		}
+		boolean[] processed = new boolean[records.size()];
+		CountDownLatch latch = new CountDownLatch(records.size());
+		for (int i = 0; i < records.size(); i++) {
+			int index = i;
+			Runnable task = () -> {
+				try {
+					processed[index] = processRecord(records.get(index));
+				}
+				finally {
+					latch.countDown();
+				}
+			};
+			try {
+				executor.execute(task);
+			}
+			catch (RejectedExecutionException ex) {
+				task.run();
+			}
+		}
+		try {
+			latch.await();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			logger.debug("Interrupted waiting for the records to be processed; they stay pending");
+			return;
+		}
+		if (this.autoAck) {
+			for (int i = 0; i < records.size(); i++) {
+				if (processed[i]) {
+					this.pendingAcks.add(records.get(i).getId());
+				}
+			}
+		}
+	}
+
+	private boolean processRecord(MapRecord<String, String, String> record) {
+		try {
+			sendMessage(buildMessageFromRecord(record));
+			return true;
+		}
+		catch (Exception ex) {
+			logger.error(ex, () -> "Failed to process record " + record.getId()
+					+ "; it stays pending in the consumer group");
+			return false;
+		}
+	}
+
+	private Message<?> buildMessageFromRecord(MapRecord<String, String, String> record) {
+		AbstractIntegrationMessageBuilder<?> builder =
+				getMessageBuilderFactory()
+						.withPayload(this.extractPayload ? record.getValue() : record)
+						.setHeader(RedisHeaders.STREAM_KEY, record.getStream())
+						.setHeader(RedisHeaders.STREAM_MESSAGE_ID, record.getId())
+						.setHeader(RedisHeaders.CONSUMER_GROUP, this.consumerGroup)
+						.setHeader(RedisHeaders.CONSUMER, this.consumerName);
+
+		if (!this.autoAck) {
+			builder.setHeader(IntegrationMessageHeaderAccessor.ACKNOWLEDGMENT_CALLBACK,
+					(SimpleAcknowledgment) () -> this.pendingAcks.add(record.getId()));
+		}
+
+		return builder.build();
+	}
+
+	private void flushAcks() {
+		List<RecordId> ids = new ArrayList<>();
+		RecordId id;
+		while ((id = this.pendingAcks.poll()) != null) {
+			ids.add(id);
+		}
+		if (!ids.isEmpty()) {
+			try {
+				this.streamOperations.acknowledge(this.streamKey, this.consumerGroup, ids.toArray(new RecordId[0]));
+			}
+			catch (RuntimeException ex) {
+				this.pendingAcks.addAll(ids);
+				throw ex;
+			}
+		}
+	}
+
+	private void handleListenerException(Exception ex) {
+		this.listening = false;
+		if (isActive()) {
+			logger.error(ex, "Failed to execute listening task. Will attempt to resubmit in " + this.recoveryInterval
+					+ " milliseconds.");
+			publishException(ex);
+			sleepBeforeRecoveryAttempt();
+		}
+		else {
+			logger.debug(() -> "Failed to execute listening task. " + ex.getClass() + ": " + ex.getMessage());
+		}
+	}
+
+	private void sleepBeforeRecoveryAttempt() {
+		if (this.recoveryInterval > 0) {
+			try {
+				Thread.sleep(this.recoveryInterval);
+			}
+			catch (InterruptedException e) {
+				logger.debug("Thread interrupted while sleeping the recovery interval");
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	private void publishException(Exception ex) {
+		ApplicationEventPublisher eventPublisher = this.applicationEventPublisher;
+		if (eventPublisher != null) {
+			eventPublisher.publishEvent(new RedisExceptionEvent(this, ex));
+		}
+		else {
+			logger.debug(() -> "No application event publisher for exception: " + ex.getMessage());
+		}
+	}
+
+	private class ListenerTask implements SchedulingAwareRunnable {
+
+		ListenerTask() {
+		}
+
+		@Override
+		public boolean isLongLived() {
+			return true;
+		}
+
+		@Override
+		public void run() {
+			try {
+				while (isActive()) {
+					RedisStreamMessageDrivenEndpoint.this.listening = true;
+					readAndProcess();
+				}
+				flushAcks();
+			}
+			catch (Exception ex) {
+				handleListenerException(ex);
+			}
+			finally {
+				if (isActive()) {
+					restart();
+				}
+				else {
+					Runnable callback = RedisStreamMessageDrivenEndpoint.this.stopCallback;
+					if (callback != null) {
+						callback.run();
+						RedisStreamMessageDrivenEndpoint.this.stopCallback = null;
+					}
+				}
+			}
+		}
+
+	}
+
+}
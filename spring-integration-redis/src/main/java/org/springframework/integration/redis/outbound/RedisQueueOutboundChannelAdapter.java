@@ -16,7 +16,22 @@
 
 package org.springframework.integration.redis.outbound;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.jspecify.annotations.Nullable;
+
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisPipelineException;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializer;
@@ -26,7 +41,9 @@ import org.springframework.expression.Expression;
 import org.springframework.expression.common.LiteralExpression;
 import org.springframework.integration.expression.ExpressionUtils;
 import org.springframework.integration.handler.AbstractMessageHandler;
+import org.springframework.integration.support.management.ManageableLifecycle;
 import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageDeliveryException;
 import org.springframework.util.Assert;
 
 /**
@@ -36,7 +53,7 @@ import org.springframework.util.Assert;
  * @author Rainer Frey
  * @since 3.0
  */
-public class RedisQueueOutboundChannelAdapter extends AbstractMessageHandler {
+public class RedisQueueOutboundChannelAdapter extends AbstractMessageHandler implements ManageableLifecycle {
 
 	private final RedisSerializer<String> stringSerializer = new StringRedisSerializer();
 
@@ -55,6 +72,22 @@ public class RedisQueueOutboundChannelAdapter extends AbstractMessageHandler {
 
 	private volatile boolean leftPush = true;
 
+	private final Lock batchLock = new ReentrantLock();
+
+	private final Map<String, List<byte[]>> batch = new LinkedHashMap<>();
+
+	private int batchCount;
+
+	private int batchSize = 1;
+
+	private int maxPending = 10_000;
+
+	private Duration batchTimeout = Duration.ofMillis(100);
+
+	private volatile @Nullable ScheduledFuture<?> batchFlushTask;
+
+	private volatile boolean running;
+
 	public RedisQueueOutboundChannelAdapter(String queueName, RedisConnectionFactory connectionFactory) {
 		this(new LiteralExpression(queueName), connectionFactory);
 	}
@@ -90,6 +123,51 @@ public class RedisQueueOutboundChannelAdapter extends AbstractMessageHandler {
 		this.leftPush = leftPush;
 	}
 
+	/**
+	 * Specify the number of elements to accumulate before pushing them to Redis.
+	 * The accumulated elements are pushed in a single pipeline, with one multi-value
+	 * {@code LPUSH} (or {@code RPUSH}) per target queue, preserving the order of messages.
+	 * Pending elements are also pushed every {@link #setBatchTimeout(Duration) batch timeout}
+	 * and when this adapter is stopped.
+	 * Messages are batched only while this adapter is running; otherwise they are pushed
+	 * straight away (after the pending elements, if any).
+	 * Note that a message is considered as handled as soon as it is added to the batch:
+	 * from that point the adapter owns the element, so a failure to push a batch is only logged,
+	 * and the elements of a failed push stay in the batch and are retried with the next flush.
+	 * When the number of pending elements reaches the {@link #setMaxPending(int) max pending} limit,
+	 * a new message is rejected with a {@link MessageDeliveryException} unless the pending elements
+	 * can be pushed first.
+	 * @param batchSize the batch size. Defaults to {@code 1} - no batching.
+	 * @since 7.2
+	 */
+	public void setBatchSize(int batchSize) {
+		Assert.isTrue(batchSize > 0, "'batchSize' must be greater than 0");
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Specify the maximum number of elements to keep in memory when the batches cannot be pushed to Redis.
+	 * Must not be less than the {@link #setBatchSize(int) batch size}.
+	 * @param maxPending the max number of pending elements. Defaults to {@code 10000}.
+	 * @since 7.2
+	 * @see #setBatchSize(int)
+	 */
+	public void setMaxPending(int maxPending) {
+		Assert.isTrue(maxPending > 0, "'maxPending' must be greater than 0");
+		this.maxPending = maxPending;
+	}
+
+	/**
+	 * Specify the max time for elements to stay in a not full batch.
+	 * @param batchTimeout the batch timeout. Defaults to 100 milliseconds.
+	 * @since 7.2
+	 * @see #setBatchSize(int)
+	 */
+	public void setBatchTimeout(Duration batchTimeout) {
+		Assert.isTrue(!batchTimeout.isNegative() && !batchTimeout.isZero(), "'batchTimeout' must be positive");
+		this.batchTimeout = batchTimeout;
+	}
+
 	public void setIntegrationEvaluationContext(EvaluationContext evaluationContext) {
 		this.evaluationContext = evaluationContext;
 	}
@@ -102,11 +180,41 @@ public class RedisQueueOutboundChannelAdapter extends AbstractMessageHandler {
 	@Override
 	protected void onInit() {
 		super.onInit();
+		Assert.state(this.maxPending >= this.batchSize, "'maxPending' must not be less than 'batchSize'");
 		if (this.evaluationContext == null) {
 			this.evaluationContext = ExpressionUtils.createStandardEvaluationContext(getBeanFactory());
 		}
 	}
 
+	@Override
+	public void start() {
+		if (!this.running) {
+			if (this.batchSize > 1) {
+				this.batchFlushTask =
+						getTaskScheduler().scheduleAtFixedRate(this::flushBatchSilently, this.batchTimeout);
+			}
+			this.running = true;
+		}
+	}
+
+	@Override
+	public void stop() {
+		if (this.running) {
+			this.running = false;
+			ScheduledFuture<?> flushTask = this.batchFlushTask;
+			if (flushTask != null) {
+				flushTask.cancel(false);
+				this.batchFlushTask = null;
+			}
+			flushBatchSilently();
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return this.running;
+	}
+
 	@Override
 	@SuppressWarnings("unchecked")
 	protected void handleMessageInternal(Message<?> message) {
@@ -128,6 +236,15 @@ public class RedisQueueOutboundChannelAdapter extends AbstractMessageHandler {
 		String queueName = this.queueNameExpression.getValue(this.evaluationContext, message, String.class);
 		Assert.notNull(queueName, "'queueName' must not be null");
 		Assert.notNull(value, "'value' must not be null");
+		if (this.batchSize > 1) {
+			addToBatch(message, queueName, (byte[]) value);
+		}
+		else {
+			push(queueName, value);
+		}
+	}
+
+	private void push(String queueName, Object value) {
 		if (this.leftPush) {
 			this.template.boundListOps(queueName).leftPush(value); // NOSONAR
 		}
@@ -136,4 +253,100 @@ public class RedisQueueOutboundChannelAdapter extends AbstractMessageHandler {
 		}
 	}
 
+	private void addToBatch(Message<?> message, String queueName, byte[] value) {
+		this.batchLock.lock();
+		try {
+			if (!this.running) {
+				if (this.batchCount > 0) {
+					pushBatch();
+				}
+				push(queueName, value);
+				return;
+			}
+			if (this.batchCount >= this.maxPending) {
+				try {
+					pushBatch();
+				}
+				catch (RuntimeException ex) {
+					throw new MessageDeliveryException(message,
+							"The batch has reached the 'maxPending' limit of " + this.maxPending +
+									" elements and cannot be pushed to Redis", ex);
+				}
+			}
+			this.batch.computeIfAbsent(queueName, (key) -> new ArrayList<>()).add(value);
+			if (++this.batchCount >= this.batchSize) {
+				pushBatchSilently();
+			}
+		}
+		finally {
+			this.batchLock.unlock();
+		}
+	}
+
+	/**
+	 * Must be called under the {@link #batchLock}.
+	 * The element added to the batch is owned by this adapter, so the failure is not thrown
+	 * to the caller which would otherwise retry a message which is still in the batch.
+	 */
+	private void pushBatchSilently() {
+		try {
+			pushBatch();
+		}
+		catch (Exception ex) {
+			logger.error(ex, "Failed to push a batch of elements to Redis; they are retried with the next flush");
+		}
+	}
+
+	private void flushBatchSilently() {
+		this.batchLock.lock();
+		try {
+			if (this.batchCount > 0) {
+				pushBatchSilently();
+			}
+		}
+		finally {
+			this.batchLock.unlock();
+		}
+	}
+
+	/**
+	 * Must be called under the {@link #batchLock} to preserve the order of elements between batches.
+	 * The elements for a queue are removed from the batch only when their push is performed,
+	 * so the failed pushes are retried with the next flush.
+	 */
+	private void pushBatch() {
+		try {
+			this.template.executePipelined((RedisCallback<?>) (connection) -> {
+				for (Map.Entry<String, List<byte[]>> entry : this.batch.entrySet()) {
+					byte[] key = entry.getKey().getBytes(StandardCharsets.UTF_8);
+					byte[][] values = entry.getValue().toArray(new byte[0][]);
+					if (this.leftPush) {
+						connection.listCommands().lPush(key, values);
+					}
+					else {
+						connection.listCommands().rPush(key, values);
+					}
+				}
+				return null;
+			});
+		}
+		catch (RedisPipelineException ex) {
+			// The results are in the order of commands: one push per queue
+			Iterator<Map.Entry<String, List<byte[]>>> iterator = this.batch.entrySet().iterator();
+			for (Object result : ex.getResults()) {
+				if (!iterator.hasNext()) {
+					break;
+				}
+				Map.Entry<String, List<byte[]>> entry = iterator.next();
+				if (!(result instanceof Exception)) {
+					this.batchCount -= entry.getValue().size();
+					iterator.remove();
+				}
+			}
+			throw ex;
+		}
+		this.batch.clear();
+		this.batchCount = 0;
+	}
+
 }
@@ -153,6 +153,36 @@ class RedisQueueMessageDrivenEndpointTests implements RedisContainerTest {
 		assertThat(stopLatch.await(10, TimeUnit.SECONDS)).isTrue();
 	}
 
+	@Test
+	void multiPopBatch() throws InterruptedException {
+		StringRedisTemplate redisTemplate = new StringRedisTemplate(this.connectionFactory);
+		for (int i = 0; i < 5; i++) {
+			redisTemplate.boundListOps(TEST_QUEUE).leftPush("" + i);
+		}
+
+		PollableChannel channel = new QueueChannel();
+
+		RedisQueueMessageDrivenEndpoint endpoint =
+				new RedisQueueMessageDrivenEndpoint(TEST_QUEUE, this.connectionFactory);
+		endpoint.setBeanFactory(Mockito.mock(BeanFactory.class));
+		endpoint.setSerializer(new StringRedisSerializer());
+		endpoint.setOutputChannel(channel);
+		endpoint.setReceiveTimeout(10);
+		endpoint.setBatchSize(3);
+		endpoint.afterPropertiesSet();
+		endpoint.start();
+
+		for (int i = 0; i < 5; i++) {
+			Message<?> receive = channel.receive(10000);
+			assertThat(receive).isNotNull();
+			assertThat(receive.getPayload()).isEqualTo("" + i);
+		}
+
+		CountDownLatch stopLatch = new CountDownLatch(1);
+		endpoint.stop(stopLatch::countDown);
+		assertThat(stopLatch.await(10, TimeUnit.SECONDS)).isTrue();
+	}
+
 	@Test
 	@SuppressWarnings("unchecked")
 	void testInt3014ExpectMessageTrue() throws InterruptedException {
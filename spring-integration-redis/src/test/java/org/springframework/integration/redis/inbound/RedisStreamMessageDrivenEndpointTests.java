@@ -0,0 +1,177 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.redis.inbound;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.integration.channel.DirectChannel;
+import org.springframework.integration.channel.QueueChannel;
+import org.springframework.integration.redis.RedisContainerTest;
+import org.springframework.integration.redis.support.RedisHeaders;
+import org.springframework.integration.test.support.TestApplicationContextAware;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * @author Artem Bilan
+ *
+ * @since 7.2
+ */
+class RedisStreamMessageDrivenEndpointTests implements RedisContainerTest, TestApplicationContextAware {
+
+	private static final String STREAM_KEY = RedisStreamMessageDrivenEndpointTests.class.getSimpleName() + ".stream";
+
+	private static final String GROUP = "testGroup";
+
+	private LettuceConnectionFactory connectionFactory;
+
+	private StringRedisTemplate template;
+
+	private RedisStreamMessageDrivenEndpoint endpoint;
+
+	@BeforeEach
+	void setUp() {
+		this.connectionFactory = RedisContainerTest.connectionFactory();
+		this.template = RedisContainerTest.createStringRedisTemplate(this.connectionFactory);
+		this.template.delete(STREAM_KEY);
+		this.template.opsForStream().createGroup(STREAM_KEY, ReadOffset.from("0-0"), GROUP);
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (this.endpoint != null) {
+			this.endpoint.stop();
+		}
+		this.connectionFactory.destroy();
+	}
+
+	@Test
+	void parallelProcessingAndBatchedAcks() {
+		for (int i = 0; i < 20; i++) {
+			this.template.opsForStream().add(STREAM_KEY, Map.of("index", "" + i));
+		}
+		QueueChannel output = new QueueChannel();
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		this.endpoint = createEndpoint(output);
+		this.endpoint.setBatchSize(5);
+		this.endpoint.setProcessingExecutor(executor);
+		this.endpoint.afterPropertiesSet();
+		this.endpoint.start();
+
+		Set<String> received = new HashSet<>();
+		for (int i = 0; i < 20; i++) {
+			Message<?> message = output.receive(10_000);
+			assertThat(message).isNotNull();
+			assertThat(message.getHeaders()).containsEntry(RedisHeaders.CONSUMER_GROUP, GROUP);
+			received.add(((Map<?, ?>) message.getPayload()).get("index").toString());
+		}
+		assertThat(received).hasSize(20);
+
+		await().untilAsserted(() -> {
+			assertThat(this.endpoint.getPendingCount()).isEqualTo(0);
+			assertThat(this.endpoint.getLag()).isEqualTo(0);
+		});
+		executor.shutdownNow();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void pendingRecordsOfDeadConsumerAreClaimed() {
+		for (int i = 0; i < 3; i++) {
+			this.template.opsForStream().add(STREAM_KEY, Map.of("index", "" + i));
+		}
+		List<MapRecord<String, Object, Object>> delivered = this.template.opsForStream()
+				.read(Consumer.from(GROUP, "deadConsumer"), StreamReadOptions.empty().count(10),
+						StreamOffset.create(STREAM_KEY, ReadOffset.lastConsumed()));
+		assertThat(delivered).hasSize(3);
+
+		QueueChannel output = new QueueChannel();
+		this.endpoint = createEndpoint(output);
+		this.endpoint.setClaimMinIdleTime(Duration.ofMillis(100));
+		this.endpoint.setClaimInterval(Duration.ofMillis(100));
+		this.endpoint.setPollTimeout(Duration.ofMillis(100));
+		this.endpoint.afterPropertiesSet();
+		this.endpoint.start();
+
+		for (int i = 0; i < 3; i++) {
+			Message<?> message = output.receive(10_000);
+			assertThat(message).isNotNull();
+			assertThat(message.getHeaders()).containsEntry(RedisHeaders.CONSUMER, "liveConsumer");
+			assertThat(((Map<String, String>) message.getPayload())).containsEntry("index", "" + i);
+		}
+
+		await().untilAsserted(() -> assertThat(this.endpoint.getPendingCount()).isEqualTo(0));
+	}
+
+	@Test
+	void recordsReachingMaxDeliveriesAreDeadLettered() {
+		this.template.opsForStream().add(STREAM_KEY, Map.of("index", "poison"));
+
+		DirectChannel output = new DirectChannel();
+		output.subscribe((message) -> {
+			throw new IllegalStateException("intentional");
+		});
+		QueueChannel deadLetterChannel = new QueueChannel();
+		this.endpoint = createEndpoint(output);
+		this.endpoint.setClaimMinIdleTime(Duration.ofMillis(100));
+		this.endpoint.setClaimInterval(Duration.ofMillis(100));
+		this.endpoint.setPollTimeout(Duration.ofMillis(100));
+		this.endpoint.setMaxDeliveries(2);
+		this.endpoint.setDeadLetterChannel(deadLetterChannel);
+		this.endpoint.afterPropertiesSet();
+		this.endpoint.start();
+
+		Message<?> message = deadLetterChannel.receive(10_000);
+		assertThat(message).isNotNull();
+		assertThat(message.getPayload()).isEqualTo(Map.of("index", "poison"));
+
+		await().untilAsserted(() -> assertThat(this.endpoint.getPendingCount()).isEqualTo(0));
+		assertThat(deadLetterChannel.receive(500)).isNull();
+	}
+
+	private RedisStreamMessageDrivenEndpoint createEndpoint(MessageChannel output) {
+		RedisStreamMessageDrivenEndpoint streamEndpoint =
+				new RedisStreamMessageDrivenEndpoint(this.connectionFactory, STREAM_KEY);
+		streamEndpoint.setConsumerGroup(GROUP);
+		streamEndpoint.setConsumerName("liveConsumer");
+		streamEndpoint.setMetricsRefreshInterval(Duration.ofMillis(100));
+		streamEndpoint.setOutputChannel(output);
+		streamEndpoint.setBeanFactory(TEST_INTEGRATION_CONTEXT);
+		return streamEndpoint;
+	}
+
+}
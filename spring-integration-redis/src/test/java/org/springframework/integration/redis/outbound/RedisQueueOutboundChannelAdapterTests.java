@@ -25,23 +25,28 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisPipelineException;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.serializer.GenericJacksonJsonRedisSerializer;
 import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.integration.mapping.InboundMessageMapper;
 import org.springframework.integration.redis.RedisContainerTest;
 import org.springframework.integration.support.MessageBuilder;
 import org.springframework.integration.support.json.JacksonJsonMessageParser;
 import org.springframework.integration.support.json.JsonInboundMessageMapper;
+import org.springframework.integration.test.support.TestApplicationContextAware;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
 import org.springframework.messaging.support.GenericMessage;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 /**
  * @author Gunnar Hillert
@@ -53,7 +58,7 @@ import static org.assertj.core.api.Assertions.assertThat;
  */
 @SpringJUnitConfig
 @DirtiesContext
-class RedisQueueOutboundChannelAdapterTests implements RedisContainerTest {
+class RedisQueueOutboundChannelAdapterTests implements RedisContainerTest, TestApplicationContextAware {
 
 	@Autowired
 	private RedisConnectionFactory connectionFactory;
@@ -210,4 +215,111 @@ class RedisQueueOutboundChannelAdapterTests implements RedisContainerTest {
 				.isEqualTo(payload2);
 	}
 
+	@Test
+	void batchesArePipelinedPerQueue() {
+		StringRedisTemplate redisTemplate = new StringRedisTemplate(this.connectionFactory);
+		redisTemplate.delete(Arrays.asList("si.test.batch1", "si.test.batch2"));
+
+		RedisQueueOutboundChannelAdapter handler =
+				new RedisQueueOutboundChannelAdapter(
+						new SpelExpressionParser().parseExpression("headers.queue"), this.connectionFactory);
+		handler.setBatchSize(3);
+		handler.setBatchTimeout(Duration.ofMinutes(1));
+		handler.setBeanFactory(TEST_INTEGRATION_CONTEXT);
+		handler.afterPropertiesSet();
+		handler.start();
+
+		handler.handleMessage(MessageBuilder.withPayload("1").setHeader("queue", "si.test.batch1").build());
+		handler.handleMessage(MessageBuilder.withPayload("2").setHeader("queue", "si.test.batch2").build());
+		assertThat(redisTemplate.opsForList().size("si.test.batch1")).isEqualTo(0);
+
+		handler.handleMessage(MessageBuilder.withPayload("3").setHeader("queue", "si.test.batch1").build());
+		assertThat(redisTemplate.opsForList().range("si.test.batch1", 0, -1)).containsExactly("3", "1");
+		assertThat(redisTemplate.opsForList().range("si.test.batch2", 0, -1)).containsExactly("2");
+
+		handler.handleMessage(MessageBuilder.withPayload("4").setHeader("queue", "si.test.batch2").build());
+		assertThat(redisTemplate.opsForList().size("si.test.batch2")).isEqualTo(1);
+
+		handler.stop();
+		assertThat(redisTemplate.opsForList().range("si.test.batch2", 0, -1)).containsExactly("4", "2");
+	}
+
+	@Test
+	void failedPushesStayInBatch() {
+		StringRedisTemplate redisTemplate = new StringRedisTemplate(this.connectionFactory);
+		redisTemplate.delete(Arrays.asList("si.test.batch.wrongType", "si.test.batch.good"));
+		redisTemplate.opsForValue().set("si.test.batch.wrongType", "not a list");
+
+		RedisQueueOutboundChannelAdapter handler =
+				new RedisQueueOutboundChannelAdapter(
+						new SpelExpressionParser().parseExpression("headers.queue"), this.connectionFactory);
+		handler.setBatchSize(2);
+		handler.setBatchTimeout(Duration.ofMinutes(1));
+		handler.setBeanFactory(TEST_INTEGRATION_CONTEXT);
+		handler.afterPropertiesSet();
+		handler.start();
+
+		handler.handleMessage(MessageBuilder.withPayload("1").setHeader("queue", "si.test.batch.wrongType").build());
+		handler.handleMessage(MessageBuilder.withPayload("2").setHeader("queue", "si.test.batch.good").build());
+
+		assertThat(redisTemplate.opsForList().range("si.test.batch.good", 0, -1)).containsExactly("2");
+
+		redisTemplate.delete("si.test.batch.wrongType");
+		handler.stop();
+
+		assertThat(redisTemplate.opsForList().range("si.test.batch.wrongType", 0, -1)).containsExactly("1");
+		assertThat(redisTemplate.opsForList().range("si.test.batch.good", 0, -1)).containsExactly("2");
+	}
+
+	@Test
+	void batchIsBoundedByMaxPending() {
+		StringRedisTemplate redisTemplate = new StringRedisTemplate(this.connectionFactory);
+		redisTemplate.delete("si.test.batch.maxPending");
+		redisTemplate.opsForValue().set("si.test.batch.maxPending", "not a list");
+
+		RedisQueueOutboundChannelAdapter handler =
+				new RedisQueueOutboundChannelAdapter("si.test.batch.maxPending", this.connectionFactory);
+		handler.setBatchSize(2);
+		handler.setMaxPending(2);
+		handler.setBatchTimeout(Duration.ofMinutes(1));
+		handler.setBeanFactory(TEST_INTEGRATION_CONTEXT);
+		handler.afterPropertiesSet();
+		handler.start();
+
+		handler.handleMessage(new GenericMessage<>("1"));
+		handler.handleMessage(new GenericMessage<>("2"));
+		assertThatExceptionOfType(MessageDeliveryException.class)
+				.isThrownBy(() -> handler.handleMessage(new GenericMessage<>("3")))
+				.withMessageContaining("'maxPending' limit of 2")
+				.withCauseInstanceOf(RedisPipelineException.class);
+
+		redisTemplate.delete("si.test.batch.maxPending");
+		handler.stop();
+
+		assertThat(redisTemplate.opsForList().range("si.test.batch.maxPending", 0, -1)).containsExactly("2", "1");
+	}
+
+	@Test
+	void messagesAreNotBatchedWhenNotRunning() {
+		StringRedisTemplate redisTemplate = new StringRedisTemplate(this.connectionFactory);
+		redisTemplate.delete("si.test.batch.notRunning");
+
+		RedisQueueOutboundChannelAdapter handler =
+				new RedisQueueOutboundChannelAdapter("si.test.batch.notRunning", this.connectionFactory);
+		handler.setBatchSize(3);
+		handler.setBeanFactory(TEST_INTEGRATION_CONTEXT);
+		handler.afterPropertiesSet();
+
+		handler.handleMessage(new GenericMessage<>("1"));
+		assertThat(redisTemplate.opsForList().range("si.test.batch.notRunning", 0, -1)).containsExactly("1");
+
+		handler.start();
+		handler.handleMessage(new GenericMessage<>("2"));
+		assertThat(redisTemplate.opsForList().size("si.test.batch.notRunning")).isEqualTo(1);
+
+		handler.stop();
+		handler.handleMessage(new GenericMessage<>("3"));
+		assertThat(redisTemplate.opsForList().range("si.test.batch.notRunning", 0, -1)).containsExactly("3", "2", "1");
+	}
+
 }
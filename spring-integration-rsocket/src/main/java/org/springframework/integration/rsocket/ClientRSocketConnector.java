@@ -17,8 +17,11 @@
 package org.springframework.integration.rsocket;
 
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import io.rsocket.transport.ClientTransport;
@@ -32,6 +35,10 @@ import org.springframework.util.MimeType;
 
 /**
  * A client {@link AbstractRSocketConnector} extension to the RSocket connection.
+ * <p>
+ * With a {@link #setPoolSize(int) pool size} greater than 1, this connector maintains several
+ * independent RSocket connections to the same server; they can be load-balanced
+ * by the {@link org.springframework.integration.rsocket.outbound.RSocketOutboundGateway}.
  *
  * @author Artem Bilan
  *
@@ -59,8 +66,9 @@ public class ClientRSocketConnector extends AbstractRSocketConnector {
 
 	private boolean autoConnect;
 
-	@SuppressWarnings("NullAway.Init")
-	private RSocketRequester rsocketRequester;
+	private int poolSize = 1;
+
+	private List<RSocketRequester> rsocketRequesters = Collections.emptyList();
 
 	/**
 	 * Instantiate a connector based on the {@link TcpClientTransport}.
@@ -152,11 +160,30 @@ public class ClientRSocketConnector extends AbstractRSocketConnector {
 		this.setupData = setupData;
 	}
 
+	/**
+	 * Set the number of RSocket connections (and respective {@link RSocketRequester}s) to create.
+	 * Each connection is established lazily, on its first request or on {@link #connect()}.
+	 * @param poolSize the number of connections; defaults to 1.
+	 * @since 7.2
+	 * @see #getRequesters()
+	 */
+	public void setPoolSize(int poolSize) {
+		Assert.isTrue(poolSize > 0, "'poolSize' must be greater than 0");
+		this.poolSize = poolSize;
+	}
+
 	@Override
 	public void afterPropertiesSet() {
 		super.afterPropertiesSet();
+		List<RSocketRequester> requesters = new ArrayList<>(this.poolSize);
+		for (int i = 0; i < this.poolSize; i++) {
+			requesters.add(createRequester());
+		}
+		this.rsocketRequesters = Collections.unmodifiableList(requesters);
+	}
 
-		this.rsocketRequester = RSocketRequester.builder()
+	private RSocketRequester createRequester() {
+		return RSocketRequester.builder()
 				.dataMimeType(getDataMimeType())
 				.metadataMimeType(getMetadataMimeType())
 				.rsocketStrategies(getRSocketStrategies())
@@ -183,23 +210,35 @@ public class ClientRSocketConnector extends AbstractRSocketConnector {
 
 	@Override
 	public void destroy() {
-		this.rsocketRequester.rsocketClient().dispose();
+		this.rsocketRequesters.forEach((requester) -> requester.rsocketClient().dispose());
 	}
 
 	/**
 	 * Perform subscription into the RSocket server for incoming requests.
 	 */
 	public void connect() {
-		this.rsocketRequester.rsocketClient().source().subscribe();
+		this.rsocketRequesters.forEach((requester) -> requester.rsocketClient().source().subscribe());
 	}
 
 	/**
 	 * Return the {@link RSocketRequester} this connector is built on.
+	 * With a pool, the requester for the first connection is returned.
 	 * @return the {@link RSocketRequester} this connector is built on.
 	 * @since 5.4
 	 */
 	public RSocketRequester getRequester() {
-		return this.rsocketRequester;
+		Assert.state(!this.rsocketRequesters.isEmpty(), "The connector is not initialized yet");
+		return this.rsocketRequesters.get(0);
+	}
+
+	/**
+	 * Return the {@link RSocketRequester}s for all the connections in the pool.
+	 * @return the {@link RSocketRequester}s this connector is built on.
+	 * @since 7.2
+	 * @see #setPoolSize(int)
+	 */
+	public List<RSocketRequester> getRequesters() {
+		return this.rsocketRequesters;
 	}
 
 }
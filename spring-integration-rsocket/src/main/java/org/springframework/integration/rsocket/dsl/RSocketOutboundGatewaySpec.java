@@ -58,6 +58,21 @@ public class RSocketOutboundGatewaySpec extends MessageHandlerSpec<RSocketOutbou
 		return this;
 	}
 
+	/**
+	 * Configure a {@link RSocketOutboundGateway.LoadBalancingStrategy} to select a connection
+	 * from the {@link ClientRSocketConnector} pool.
+	 * @param loadBalancingStrategy the {@link RSocketOutboundGateway.LoadBalancingStrategy} to use.
+	 * @return the spec
+	 * @since 7.2
+	 * @see RSocketOutboundGateway#setLoadBalancingStrategy(RSocketOutboundGateway.LoadBalancingStrategy)
+	 */
+	public RSocketOutboundGatewaySpec loadBalancingStrategy(
+			RSocketOutboundGateway.LoadBalancingStrategy loadBalancingStrategy) {
+
+		this.target.setLoadBalancingStrategy(loadBalancingStrategy);
+		return this;
+	}
+
 	/**
 	 * Configure an {@link RSocketInteractionModel} for the RSocket request type.
 	 * @param interactionModel the {@link RSocketInteractionModel} to use.
@@ -16,8 +16,12 @@
 
 package org.springframework.integration.rsocket.outbound;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.jspecify.annotations.Nullable;
 import org.reactivestreams.Publisher;
@@ -33,6 +37,8 @@ import org.springframework.integration.expression.ValueExpression;
 import org.springframework.integration.handler.AbstractReplyProducingMessageHandler;
 import org.springframework.integration.rsocket.ClientRSocketConnector;
 import org.springframework.integration.rsocket.RSocketInteractionModel;
+import org.springframework.integration.support.management.metrics.GaugeFacade;
+import org.springframework.integration.support.management.metrics.MetricsCaptor;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.rsocket.RSocketRequester;
 import org.springframework.messaging.rsocket.annotation.support.RSocketRequesterMethodArgumentResolver;
@@ -62,6 +68,12 @@ import org.springframework.util.MimeType;
  * and subscribe to it by itself. The {@link Mono} reply from this component is subscribed from the downstream
  * {@link org.springframework.integration.channel.FluxMessageChannel} or it is adapted to the
  * {@link java.util.concurrent.CompletableFuture} otherwise.
+ * <p>
+ * When the {@link ClientRSocketConnector} maintains a pool of connections, the client side requests
+ * are distributed over them according to the {@link LoadBalancingStrategy}.
+ * The number of outstanding requests is tracked per connection.
+ * For the {@link RSocketInteractionModel#requestStream} and {@link RSocketInteractionModel#requestChannel}
+ * interactions, the request is outstanding until the reply {@link reactor.core.publisher.Flux} is terminated.
  *
  * @author Artem Bilan
  *
@@ -89,7 +101,13 @@ public class RSocketOutboundGateway extends AbstractReplyProducingMessageHandler
 	@SuppressWarnings("NullAway.Init")
 	private EvaluationContext evaluationContext;
 
-	private @Nullable RSocketRequester rsocketRequester;
+	private final List<GaugeFacade> gauges = new ArrayList<>();
+
+	private final AtomicInteger requestCounter = new AtomicInteger();
+
+	private LoadBalancingStrategy loadBalancingStrategy = LoadBalancingStrategy.ROUND_ROBIN;
+
+	private List<PooledRequester> rsocketRequesters = List.of();
 
 	/**
 	 * Instantiate based on the provided RSocket endpoint {@code route}
@@ -214,12 +232,66 @@ public class RSocketOutboundGateway extends AbstractReplyProducingMessageHandler
 		this.metadataExpression = metadataExpression;
 	}
 
+	/**
+	 * Configure a {@link LoadBalancingStrategy} to select a connection from the
+	 * {@link ClientRSocketConnector} pool for client side requests.
+	 * @param loadBalancingStrategy the {@link LoadBalancingStrategy} to use;
+	 * defaults to {@link LoadBalancingStrategy#ROUND_ROBIN}.
+	 * @since 7.2
+	 * @see ClientRSocketConnector#setPoolSize(int)
+	 */
+	public void setLoadBalancingStrategy(LoadBalancingStrategy loadBalancingStrategy) {
+		Assert.notNull(loadBalancingStrategy, "'loadBalancingStrategy' must not be null");
+		this.loadBalancingStrategy = loadBalancingStrategy;
+	}
+
+	/**
+	 * Return the number of outstanding client side requests for each connection
+	 * of the {@link ClientRSocketConnector} pool.
+	 * @return the numbers of outstanding requests in the order of the pool connections.
+	 * @since 7.2
+	 */
+	public List<Integer> getOutstandingRequests() {
+		return this.rsocketRequesters.stream()
+				.map((pooledRequester) -> pooledRequester.outstanding.get())
+				.toList();
+	}
+
+	@Override
+	public void registerMetricsCaptor(MetricsCaptor metricsCaptor) {
+		super.registerMetricsCaptor(metricsCaptor);
+		buildGauges(metricsCaptor);
+	}
+
 	@Override
 	protected void doInit() {
 		super.doInit();
 		this.evaluationContext = ExpressionUtils.createStandardEvaluationContext(getBeanFactory());
 		if (this.clientRSocketConnector != null) {
-			this.rsocketRequester = this.clientRSocketConnector.getRequester();
+			this.rsocketRequesters =
+					this.clientRSocketConnector.getRequesters()
+							.stream()
+							.map(PooledRequester::new)
+							.toList();
+			MetricsCaptor metricsCaptor = getMetricsCaptor();
+			if (metricsCaptor != null) {
+				buildGauges(metricsCaptor);
+			}
+		}
+	}
+
+	private void buildGauges(MetricsCaptor metricsCaptor) {
+		if (this.gauges.isEmpty()) {
+			for (int i = 0; i < this.rsocketRequesters.size(); i++) {
+				PooledRequester pooledRequester = this.rsocketRequesters.get(i);
+				this.gauges.add(
+						metricsCaptor.gaugeBuilder("spring.integration.rsocket.outstanding", pooledRequester,
+										(requester) -> ((PooledRequester) requester).outstanding.get())
+								.tag("name", getComponentName() == null ? "unknown" : getComponentName())
+								.tag("connection", Integer.toString(i))
+								.description("The number of outstanding requests over the RSocket connection")
+								.build());
+			}
 		}
 	}
 
@@ -228,14 +300,52 @@ public class RSocketOutboundGateway extends AbstractReplyProducingMessageHandler
 		RSocketRequester requester =
 				requestMessage.getHeaders()
 						.get(RSocketRequesterMethodArgumentResolver.RSOCKET_REQUESTER_HEADER, RSocketRequester.class);
-		if (requester == null) {
-			requester = this.rsocketRequester;
+		if (requester != null) {
+			return performRequest(requester, requestMessage);
 		}
 
-		Assert.notNull(requester,
+		Assert.state(!this.rsocketRequesters.isEmpty(),
 				() -> "The 'RSocketRequester' must be configured via 'ClientRSocketConnector' or provided in the '" +
 						RSocketRequesterMethodArgumentResolver.RSOCKET_REQUESTER_HEADER + "' request message headers.");
 
+		PooledRequester pooledRequester = selectRequester();
+		return Mono.defer(() -> {
+			Runnable release = pooledRequester.acquire();
+			return performRequest(pooledRequester.requester, requestMessage)
+					.map((reply) -> reply instanceof Flux<?> flux ? countOutstanding(pooledRequester, flux) : reply)
+					.doFinally((signal) -> release.run());
+		});
+	}
+
+	/**
+	 * The stream is requested over the connection only when the reply {@link Flux} is subscribed,
+	 * so count it as outstanding from a subscription until it completes, fails or is cancelled.
+	 * A reply {@link Flux} which is never subscribed does not hold the connection slot.
+	 */
+	private static Flux<?> countOutstanding(PooledRequester pooledRequester, Flux<?> flux) {
+		return Flux.defer(() -> {
+			Runnable release = pooledRequester.acquire();
+			return flux.doFinally((signal) -> release.run());
+		});
+	}
+
+	private PooledRequester selectRequester() {
+		List<PooledRequester> requesters = this.rsocketRequesters;
+		int size = requesters.size();
+		int start = Math.floorMod(this.requestCounter.getAndIncrement(), size);
+		PooledRequester selected = requesters.get(start);
+		if (LoadBalancingStrategy.LEAST_OUTSTANDING.equals(this.loadBalancingStrategy)) {
+			for (int i = 1; i < size && selected.outstanding.get() > 0; i++) {
+				PooledRequester candidate = requesters.get((start + i) % size);
+				if (candidate.outstanding.get() < selected.outstanding.get()) {
+					selected = candidate;
+				}
+			}
+		}
+		return selected;
+	}
+
+	private Mono<?> performRequest(RSocketRequester requester, Message<?> requestMessage) {
 		return Mono.just(requester)
 				.map((rSocketRequester) -> createRequestSpec(rSocketRequester, requestMessage))
 				.map((requestSpec) -> prepareRetrieveSpec(requestSpec, requestMessage))
@@ -366,4 +476,56 @@ public class RSocketOutboundGateway extends AbstractReplyProducingMessageHandler
 		return (Void.class.equals(type.resolve()) || void.class.equals(type.resolve()));
 	}
 
+	@Override
+	public void destroy() {
+		super.destroy();
+		this.gauges.forEach(GaugeFacade::remove);
+		this.gauges.clear();
+	}
+
+	/**
+	 * The strategy to select a connection from the {@link ClientRSocketConnector} pool.
+	 *
+	 * @since 7.2
+	 */
+	public enum LoadBalancingStrategy {
+
+		/**
+		 * Select the connections in turn.
+		 */
+		ROUND_ROBIN,
+
+		/**
+		 * Select the connection with the smallest number of outstanding requests.
+		 */
+		LEAST_OUTSTANDING
+
+	}
+
+	private static final class PooledRequester {
+
+		private final RSocketRequester requester;
+
+		private final AtomicInteger outstanding = new AtomicInteger();
+
+		PooledRequester(RSocketRequester requester) {
+			this.requester = requester;
+		}
+
+		/**
+		 * Increment the number of outstanding requests.
+		 * @return the callback to decrement the number back; only the first call has an effect.
+		 */
+		Runnable acquire() {
+			this.outstanding.incrementAndGet();
+			AtomicBoolean released = new AtomicBoolean();
+			return () -> {
+				if (released.compareAndSet(false, true)) {
+					this.outstanding.decrementAndGet();
+				}
+			};
+		}
+
+	}
+
 }
@@ -66,6 +66,7 @@ import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 
 /**
  * @author Artem Bilan
@@ -230,6 +231,83 @@ public class RSocketOutboundGatewayIntegrationTests {
 		verifier.verify(Duration.ofSeconds(10));
 	}
 
+	@Test
+	void clientPooledEchoAsync() {
+		StepVerifier verifier =
+				StepVerifier.create(
+								Flux.from(this.resultChannel)
+										.map(Message::getPayload)
+										.cast(String.class))
+						.expectNextCount(10)
+						.thenCancel()
+						.verifyLater();
+
+		for (int i = 0; i < 10; i++) {
+			this.inputChannel.send(
+					MessageBuilder.withPayload("Hello " + i)
+							.setHeader(ROUTE_HEADER, "echo-async")
+							.setHeader(INTERACTION_MODEL_HEADER, RSocketInteractionModel.requestResponse)
+							.build());
+		}
+
+		verifier.verify(Duration.ofSeconds(10));
+
+		await().untilAsserted(() ->
+				assertThat(this.clientRsocketOutboundGateway.getOutstandingRequests()).containsExactly(0, 0));
+	}
+
+	@Test
+	void clientPooledEchoStreamIsOutstandingUntilFluxTerminates() {
+		@SuppressWarnings("unchecked")
+		StepVerifier verifier =
+				StepVerifier.create(
+								Flux.from(this.resultChannel)
+										.next()
+										.map(Message::getPayload)
+										.flatMapMany((payload) -> (Flux<String>) payload))
+						.expectNext("Hello 0")
+						.then(() ->
+								assertThat(this.clientRsocketOutboundGateway.getOutstandingRequests())
+										.containsExactlyInAnyOrder(0, 1))
+						.expectNextCount(2)
+						.thenCancel()
+						.verifyLater();
+
+		this.inputChannel.send(
+				MessageBuilder.withPayload("Hello")
+						.setHeader(ROUTE_HEADER, "echo-stream")
+						.setHeader(INTERACTION_MODEL_HEADER, RSocketInteractionModel.requestStream)
+						.build());
+
+		verifier.verify(Duration.ofSeconds(10));
+
+		await().untilAsserted(() ->
+				assertThat(this.clientRsocketOutboundGateway.getOutstandingRequests()).containsExactly(0, 0));
+	}
+
+	@Test
+	void clientPooledEchoStreamIsNotOutstandingWhenFluxIsNotSubscribed() {
+		StepVerifier verifier =
+				StepVerifier.create(
+								Flux.from(this.resultChannel)
+										.next()
+										.map(Message::getPayload))
+						.assertNext((payload) -> assertThat(payload).isInstanceOf(Flux.class))
+						.expectComplete()
+						.verifyLater();
+
+		this.inputChannel.send(
+				MessageBuilder.withPayload("Hello")
+						.setHeader(ROUTE_HEADER, "echo-stream")
+						.setHeader(INTERACTION_MODEL_HEADER, RSocketInteractionModel.requestStream)
+						.build());
+
+		verifier.verify(Duration.ofSeconds(10));
+
+		await().untilAsserted(() ->
+				assertThat(this.clientRsocketOutboundGateway.getOutstandingRequests()).containsExactly(0, 0));
+	}
+
 	@Test
 	void clientEchoStream() {
 		echoStream(this.inputChannel, this.resultChannel, null);
@@ -530,7 +608,10 @@ public class RSocketOutboundGatewayIntegrationTests {
 
 		@Bean
 		public ClientRSocketConnector clientRSocketConnector() {
-			return new ClientRSocketConnector("localhost", server.address().getPort());
+			ClientRSocketConnector clientRSocketConnector =
+					new ClientRSocketConnector("localhost", server.address().getPort());
+			clientRSocketConnector.setPoolSize(2);
+			return clientRSocketConnector;
 		}
 
 		@Override
@@ -538,6 +619,8 @@ public class RSocketOutboundGatewayIntegrationTests {
 		public RSocketOutboundGateway rsocketOutboundGateway() {
 			RSocketOutboundGateway rsocketOutboundGateway = super.rsocketOutboundGateway();
 			rsocketOutboundGateway.setClientRSocketConnector(clientRSocketConnector());
+			rsocketOutboundGateway.setLoadBalancingStrategy(
+					RSocketOutboundGateway.LoadBalancingStrategy.LEAST_OUTSTANDING);
 			return rsocketOutboundGateway;
 		}
 
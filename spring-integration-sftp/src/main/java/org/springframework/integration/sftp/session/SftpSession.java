@@ -55,6 +55,8 @@ import org.springframework.util.StringUtils;
  */
 public class SftpSession implements Session<SftpClient.DirEntry> {
 
+	private static final int BUFFER_SIZE = 32 * 1024;
+
 	private final SftpClient sftpClient;
 
 	private final boolean isSharedClient;
@@ -145,6 +147,30 @@ public class SftpSession implements Session<SftpClient.DirEntry> {
 		FileCopyUtils.copy(is, os);
 	}
 
+	@Override
+	public void read(String source, long offset, long length, OutputStream outputStream) throws IOException {
+		try (SftpClient.CloseableHandle handle = this.sftpClient.open(normalizePath(source), SftpClient.OpenMode.Read)) {
+			byte[] buffer = new byte[BUFFER_SIZE];
+			long position = offset;
+			long remaining = length;
+			while (remaining > 0) {
+				int read = this.sftpClient.read(handle, position, buffer, 0, (int) Math.min(buffer.length, remaining));
+				if (read < 0) {
+					throw new IOException("Failed to read " + length + " bytes at offset " + offset + " from '" +
+							source + "'; only " + (length - remaining) + " bytes were transferred");
+				}
+				outputStream.write(buffer, 0, read);
+				position += read;
+				remaining -= read;
+			}
+		}
+	}
+
+	@Override
+	public boolean supportsRangedRead() {
+		return true;
+	}
+
 	@Override
 	public InputStream readRaw(String source) throws IOException {
 		return this.sftpClient.read(normalizePath(source));
@@ -165,6 +191,26 @@ public class SftpSession implements Session<SftpClient.DirEntry> {
 		FileCopyUtils.copy(inputStream, outputStream);
 	}
 
+	@Override
+	public void write(InputStream inputStream, String destination, long offset) throws IOException {
+		try (SftpClient.CloseableHandle handle =
+				this.sftpClient.open(destination, SftpClient.OpenMode.Write, SftpClient.OpenMode.Create)) {
+
+			byte[] buffer = new byte[BUFFER_SIZE];
+			long position = offset;
+			int read;
+			while ((read = inputStream.read(buffer)) != -1) {
+				this.sftpClient.write(handle, position, buffer, 0, read);
+				position += read;
+			}
+		}
+	}
+
+	@Override
+	public boolean supportsPositionalWrite() {
+		return true;
+	}
+
 	@Override
 	public void append(InputStream inputStream, String destination) throws IOException {
 		OutputStream outputStream =
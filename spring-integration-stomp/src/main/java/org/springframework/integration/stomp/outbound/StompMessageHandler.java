@@ -36,8 +36,11 @@ import org.springframework.integration.stomp.event.StompExceptionEvent;
 import org.springframework.integration.stomp.event.StompReceiptEvent;
 import org.springframework.integration.stomp.support.StompHeaderMapper;
 import org.springframework.integration.support.management.ManageableLifecycle;
+import org.springframework.integration.support.management.metrics.MetricsCaptor;
+import org.springframework.integration.util.InFlightWindow;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.MessageHandlingException;
 import org.springframework.messaging.MessagingException;
 import org.springframework.messaging.simp.stomp.ConnectionLostException;
 import org.springframework.messaging.simp.stomp.StompCommand;
@@ -63,8 +66,14 @@ public class StompMessageHandler extends AbstractMessageHandler
 
 	private static final int DEFAULT_CONNECT_TIMEOUT = 3000;
 
+	private static final long DEFAULT_SEND_TIMEOUT = 30_000L;
+
 	private final Lock lock = new ReentrantLock();
 
+	private final InFlightWindow inFlightWindow =
+			new InFlightWindow("spring.integration.stomp.outbound.in.flight",
+					"spring.integration.stomp.outbound.receipt");
+
 	private final StompSessionHandler sessionHandler = new IntegrationOutboundStompSessionHandler();
 
 	private final StompSessionManager stompSessionManager;
@@ -83,6 +92,8 @@ public class StompMessageHandler extends AbstractMessageHandler
 
 	private long connectTimeout = DEFAULT_CONNECT_TIMEOUT;
 
+	private long sendTimeout = DEFAULT_SEND_TIMEOUT;
+
 	private volatile @Nullable StompSession stompSession;
 
 	private volatile @Nullable Throwable transportError;
@@ -120,6 +131,41 @@ public class StompMessageHandler extends AbstractMessageHandler
 		this.connectTimeout = connectTimeout;
 	}
 
+	/**
+	 * Set the maximum number of messages which have been sent, but not receipted yet.
+	 * Only applies when the {@link StompSessionManager#isAutoReceiptEnabled() auto receipt} is enabled.
+	 * When this window is full, the handler blocks the sending thread until a receipt
+	 * (or a receipt loss) for a previous message, up to the {@link #setSendTimeout(long) send timeout}.
+	 * Defaults to 0 - no limit.
+	 * @param maxInFlight the maximum number of in-flight messages.
+	 * @since 7.2
+	 */
+	public void setMaxInFlight(int maxInFlight) {
+		this.inFlightWindow.setMaxInFlight(maxInFlight);
+	}
+
+	/**
+	 * Specify the timeout in milliseconds to wait for a free slot in the in-flight window.
+	 * Defaults to 30 seconds.
+	 * @param sendTimeout the timeout to use.
+	 * @since 7.2
+	 * @see #setMaxInFlight(int)
+	 */
+	public void setSendTimeout(long sendTimeout) {
+		this.sendTimeout = sendTimeout;
+	}
+
+	/**
+	 * Return the number of messages which have been sent, but not receipted yet,
+	 * when an in-flight window is configured.
+	 * @return the number of in-flight messages.
+	 * @since 7.2
+	 * @see #setMaxInFlight(int)
+	 */
+	public int getInFlightCount() {
+		return this.inFlightWindow.getInFlightCount();
+	}
+
 	public void setIntegrationEvaluationContext(EvaluationContext evaluationContext) {
 		this.evaluationContext = evaluationContext;
 	}
@@ -138,6 +184,18 @@ public class StompMessageHandler extends AbstractMessageHandler
 		}
 	}
 
+	@Override
+	public void registerMetricsCaptor(MetricsCaptor metricsCaptor) {
+		super.registerMetricsCaptor(metricsCaptor);
+		this.inFlightWindow.registerMetrics(metricsCaptor, getComponentName());
+	}
+
+	@Override
+	public void destroy() {
+		super.destroy();
+		this.inFlightWindow.removeMetrics();
+	}
+
 	@Override
 	protected void handleMessageInternal(final Message<?> message) {
 		try {
@@ -158,9 +216,23 @@ public class StompMessageHandler extends AbstractMessageHandler
 			stompHeaders.setDestination(destination);
 		}
 
-		@SuppressWarnings("NullAway") // Dataflow analysis limitation
-		final StompSession.Receiptable receiptable = session.send(stompHeaders, message.getPayload());
-		if (receiptable.getReceiptId() != null) {
+		InFlightWindow.Permit permit = acquireInFlightPermit(message);
+		final StompSession.Receiptable receiptable;
+		try {
+			@SuppressWarnings("NullAway") // Dataflow analysis limitation
+			StompSession.Receiptable sent = session.send(stompHeaders, message.getPayload());
+			receiptable = sent;
+		}
+		catch (RuntimeException ex) {
+			permit.complete(false);
+			throw ex;
+		}
+		if (receiptable.getReceiptId() == null) {
+			permit.complete(false);
+		}
+		else {
+			receiptable.addReceiptTask(() -> permit.complete(true));
+			receiptable.addReceiptLostTask(() -> permit.complete(false));
 			final String destination = stompHeaders.getDestination();
 			final ApplicationEventPublisher eventPublisher = this.applicationEventPublisher;
 			if (eventPublisher != null) {
@@ -186,6 +258,23 @@ public class StompMessageHandler extends AbstractMessageHandler
 		}
 	}
 
+	private InFlightWindow.Permit acquireInFlightPermit(Message<?> message) {
+		InFlightWindow.Permit permit;
+		try {
+			permit =
+					this.inFlightWindow.tryAcquire(this.stompSessionManager.isAutoReceiptEnabled(),
+							this.sendTimeout);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new MessageHandlingException(message, "Interrupted waiting for the in-flight window", ex);
+		}
+		if (permit == null) {
+			throw new MessageDeliveryException(message, "Timed out waiting for a free slot in the in-flight window");
+		}
+		return permit;
+	}
+
 	private void connectIfNecessary() throws InterruptedException {
 		this.lock.lock();
 		try {
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.stomp.outbound;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.integration.stomp.StompSessionManager;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandler;
+import org.springframework.messaging.support.GenericMessage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * @author Artem Bilan
+ *
+ * @since 7.2
+ */
+class StompMessageHandlerTests {
+
+	@Test
+	void inFlightWindowIsReleasedByReceipts() throws InterruptedException {
+		StompSession stompSession = mock(StompSession.class);
+		BlockingQueue<Runnable> receiptTasks = new LinkedBlockingQueue<>();
+		BlockingQueue<Runnable> receiptLostTasks = new LinkedBlockingQueue<>();
+		given(stompSession.send(any(StompHeaders.class), any()))
+				.willAnswer(invocation -> {
+					StompSession.Receiptable receiptable = mock(StompSession.Receiptable.class);
+					given(receiptable.getReceiptId()).willReturn("receipt");
+					willAnswer(taskInvocation -> receiptTasks.add(taskInvocation.getArgument(0)))
+							.given(receiptable).addReceiptTask(any(Runnable.class));
+					willAnswer(taskInvocation -> receiptLostTasks.add(taskInvocation.getArgument(0)))
+							.given(receiptable).addReceiptLostTask(any(Runnable.class));
+					return receiptable;
+				});
+
+		StompSessionManager stompSessionManager = mock(StompSessionManager.class);
+		given(stompSessionManager.isAutoReceiptEnabled()).willReturn(true);
+		given(stompSessionManager.isConnected()).willReturn(true);
+		willAnswer(invocation -> {
+			invocation.<StompSessionHandler>getArgument(0).afterConnected(stompSession, new StompHeaders());
+			return null;
+		}).given(stompSessionManager).connect(any(StompSessionHandler.class));
+
+		StompMessageHandler handler = new StompMessageHandler(stompSessionManager);
+		handler.setDestination("/foo");
+		handler.setMaxInFlight(2);
+		handler.setSendTimeout(100);
+		handler.setBeanFactory(mock(BeanFactory.class));
+		handler.afterPropertiesSet();
+
+		handler.handleMessage(new GenericMessage<>("one"));
+		handler.handleMessage(new GenericMessage<>("two"));
+		assertThat(handler.getInFlightCount()).isEqualTo(2);
+
+		assertThatExceptionOfType(MessageDeliveryException.class)
+				.isThrownBy(() -> handler.handleMessage(new GenericMessage<>("three")))
+				.withMessageContaining("in-flight window");
+
+		handler.setSendTimeout(10_000);
+		CountDownLatch thirdSent = new CountDownLatch(1);
+		new Thread(() -> {
+			handler.handleMessage(new GenericMessage<>("three"));
+			thirdSent.countDown();
+		}).start();
+
+		assertThat(thirdSent.await(100, TimeUnit.MILLISECONDS)).isFalse();
+
+		Runnable firstReceiptTask = receiptTasks.poll();
+		firstReceiptTask.run();
+		firstReceiptTask.run();
+
+		assertThat(thirdSent.await(10, TimeUnit.SECONDS)).isTrue();
+		assertThat(handler.getInFlightCount()).isEqualTo(2);
+
+		// Skip the receipt lost tasks for the first message
+		receiptLostTasks.poll();
+		receiptLostTasks.poll();
+		receiptLostTasks.poll().run();
+		assertThat(handler.getInFlightCount()).isEqualTo(1);
+	}
+
+}
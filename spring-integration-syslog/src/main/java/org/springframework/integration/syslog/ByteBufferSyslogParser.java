@@ -0,0 +1,385 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.syslog;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.integration.transformer.SyslogToMapTransformer;
+import org.springframework.util.Assert;
+
+/**
+ * A syslog parser working directly on the bytes of a {@link ByteBuffer}, without decoding
+ * the whole message into a {@link String} first.
+ * Supports RFC 5424 messages (the result has the same keys as the {@link RFC5424SyslogParser})
+ * and RFC 3164 messages (the result has the same keys as the {@link SyslogToMapTransformer},
+ * but the {@code TIMESTAMP} is always a {@link String}).
+ * The format is detected by the byte following the {@code <PRI>} part: a version digit
+ * for RFC 5424.
+ * <p>
+ * The parser only records the positions of the fields; the returned {@link Map} decodes
+ * a field when it is accessed, and the structured data elements are split only when
+ * the {@link SyslogHeaders#STRUCTURED_DATA} entry is accessed.
+ * Therefore, the buffer content must not be modified while the map is in use.
+ *
+ * @author Artem Bilan
+ *
+ * @since 7.2
+ */
+public class ByteBufferSyslogParser {
+
+	private static final char NILVALUE = '-';
+
+	private static final char SPACE = ' ';
+
+	private static final int RFC3164_TIMESTAMP_LENGTH = 15;
+
+	private static final int RFC3164_MAX_TAG_LENGTH = 32;
+
+	private final Charset charset;
+
+	private final boolean retainOriginal;
+
+	/**
+	 * Construct a parser for UTF-8 content; the original message content is not retained
+	 * unless there is an error.
+	 */
+	public ByteBufferSyslogParser() {
+		this(StandardCharsets.UTF_8, false);
+	}
+
+	/**
+	 * Construct a parser with the provided charset for text fields.
+	 * @param charset the charset.
+	 * @param retainOriginal when true, include the original message content intact in the map.
+	 */
+	public ByteBufferSyslogParser(Charset charset, boolean retainOriginal) {
+		Assert.notNull(charset, "'charset' must not be null");
+		this.charset = charset;
+		this.retainOriginal = retainOriginal;
+	}
+
+	/**
+	 * Parse the remaining bytes of the buffer; the buffer position is not changed.
+	 * @param buffer the buffer with a single syslog message.
+	 * @return the map of syslog fields.
+	 */
+	public Map<String, ?> parse(ByteBuffer buffer) {
+		return parse(buffer, false);
+	}
+
+	/**
+	 * Parse the remaining bytes of the buffer; the buffer position is not changed.
+	 * @param buffer the buffer with a single syslog message.
+	 * @param priorityOpenConsumed true if the leading {@code <} of the message has already been
+	 * consumed by the framing (the buffer starts with the priority value).
+	 * @return the map of syslog fields.
+	 */
+	public Map<String, ?> parse(ByteBuffer buffer, boolean priorityOpenConsumed) {
+		ByteBuffer message = buffer.slice();
+		SyslogFieldMap map = new SyslogFieldMap(message, this.charset, priorityOpenConsumed);
+		int index = 0;
+		try {
+			if (!priorityOpenConsumed) {
+				index = expect(message, index, '<');
+			}
+			int start = index;
+			int pri = 0;
+			while (isDigit(message.get(index))) {
+				pri = pri * 10 + (message.get(index++) - '0'); // NOSONAR magic number
+			}
+			if (index == start) {
+				throw new IllegalStateException("Priority expected @" + (index + 1));
+			}
+			index = expect(message, index, '>');
+			int severity = pri & 0x7; // NOSONAR magic number
+			int facility = pri >> 3; // NOSONAR magic number
+			if (isDigit(message.get(index))) {
+				parseRfc5424(message, index, facility, severity, map);
+			}
+			else {
+				parseRfc3164(message, index, facility, severity, map);
+			}
+		}
+		catch (IllegalStateException | IndexOutOfBoundsException ex) {
+			map.reset();
+			map.add(SyslogHeaders.DECODE_ERRORS, "true");
+			map.add(SyslogHeaders.ERRORS,
+					(ex instanceof IndexOutOfBoundsException ? "Unexpected end of message: " : "") // NOSONAR
+							+ ex.getMessage());
+			map.addSegment(SyslogHeaders.UNDECODED, 0, message.limit());
+		}
+		return map;
+	}
+
+	private void parseRfc5424(ByteBuffer message, int startIndex, int facility, int severity, SyslogFieldMap map) {
+		int index = startIndex;
+		int version = 0;
+		while (isDigit(message.get(index))) {
+			version = version * 10 + (message.get(index++) - '0'); // NOSONAR magic number
+		}
+		index = expect(message, index, SPACE);
+
+		map.add(SyslogHeaders.FACILITY, facility);
+		map.add(SyslogHeaders.SEVERITY, severity);
+		map.add(SyslogHeaders.SEVERITY_TEXT, RFC5424SyslogParser.Severity.parseInt(severity).label());
+		map.add(SyslogHeaders.VERSION, version);
+
+		int end = tokenEnd(message, index);
+		if (message.get(index) != NILVALUE) {
+			if (!isDigit(message.get(index))) {
+				throw new IllegalStateException("Year expected @" + (index + 1));
+			}
+			map.addSegment(SyslogHeaders.TIMESTAMP, index, end);
+		}
+		index = end + 1;
+		String[] identifiers = {SyslogHeaders.HOST, SyslogHeaders.APP_NAME, SyslogHeaders.PROCID, SyslogHeaders.MSGID};
+		for (String identifier : identifiers) {
+			end = tokenEnd(message, index);
+			map.addSegment(identifier, index, end);
+			index = end + 1;
+		}
+
+		if (message.get(index) == NILVALUE) {
+			index++;
+		}
+		else {
+			int structuredDataStart = index;
+			while (index < message.limit() && message.get(index) == '[') {
+				index = elementEnd(message, index);
+			}
+			map.addStructuredData(structuredDataStart, index);
+		}
+
+		if (index < message.limit() && message.get(index) == SPACE) {
+			map.addSegment(SyslogHeaders.MESSAGE, index + 1, message.limit());
+		}
+		else {
+			map.add(SyslogHeaders.MESSAGE, "");
+		}
+		map.add(SyslogHeaders.DECODE_ERRORS, "false");
+		if (this.retainOriginal) {
+			map.addSegment(SyslogHeaders.UNDECODED, 0, message.limit());
+		}
+	}
+
+	private static void parseRfc3164(ByteBuffer message, int startIndex, int facility, int severity,
+			SyslogFieldMap map) {
+
+		int index = startIndex;
+		int timestampEnd = index + RFC3164_TIMESTAMP_LENGTH;
+		expect(message, timestampEnd, SPACE);
+		int hostStart = timestampEnd + 1;
+		int hostEnd = tokenEnd(message, hostStart);
+		if (hostEnd == hostStart) {
+			throw new IllegalStateException("Host expected @" + (hostStart + 1));
+		}
+		int tagStart = hostEnd + 1;
+		index = tagStart;
+		while (index < message.limit() && index - tagStart < RFC3164_MAX_TAG_LENGTH
+				&& message.get(index) > 0 && Character.isLetterOrDigit(message.get(index))) {
+			index++;
+		}
+		map.add(SyslogToMapTransformer.FACILITY, facility);
+		map.add(SyslogToMapTransformer.SEVERITY, severity);
+		map.addSegment(SyslogToMapTransformer.TIMESTAMP, startIndex, timestampEnd);
+		map.addSegment(SyslogToMapTransformer.HOST, hostStart, hostEnd);
+		if (index > tagStart) {
+			map.addSegment(SyslogToMapTransformer.TAG, tagStart, index);
+		}
+		map.addSegment(SyslogToMapTransformer.MESSAGE, index, message.limit());
+	}
+
+	private static int expect(ByteBuffer message, int index, char expected) {
+		if (message.get(index) != expected) {
+			throw new IllegalStateException("Expected '" + expected + "' @" + (index + 1));
+		}
+		return index + 1;
+	}
+
+	/**
+	 * Return the index of the space after the token starting at the index.
+	 */
+	private static int tokenEnd(ByteBuffer message, int startIndex) {
+		int index = startIndex;
+		while (message.get(index) != SPACE) {
+			index++;
+		}
+		return index;
+	}
+
+	/**
+	 * Return the index after the closing bracket of the structured data element starting at the index.
+	 */
+	private static int elementEnd(ByteBuffer message, int startIndex) {
+		int index = startIndex;
+		while (message.get(index) != ']' || message.get(index - 1) == '\\') {
+			index++;
+		}
+		return index + 1;
+	}
+
+	private static boolean isDigit(byte b) {
+		return b >= '0' && b <= '9';
+	}
+
+	/**
+	 * The map of syslog fields decoded from the message bytes on access.
+	 */
+	private static final class SyslogFieldMap extends AbstractMap<String, Object> {
+
+		private final List<String> keys = new ArrayList<>();
+
+		private final List<@Nullable Object> values = new ArrayList<>();
+
+		private final ByteBuffer message;
+
+		private final Charset charset;
+
+		private final boolean priorityOpenConsumed;
+
+		SyslogFieldMap(ByteBuffer message, Charset charset, boolean priorityOpenConsumed) {
+			this.message = message;
+			this.charset = charset;
+			this.priorityOpenConsumed = priorityOpenConsumed;
+		}
+
+		void add(String key, Object value) {
+			this.keys.add(key);
+			this.values.add(value);
+		}
+
+		void addSegment(String key, int start, int end) {
+			add(key, new Segment(start, end, false));
+		}
+
+		void addStructuredData(int start, int end) {
+			add(SyslogHeaders.STRUCTURED_DATA, new Segment(start, end, true));
+		}
+
+		void reset() {
+			this.keys.clear();
+			this.values.clear();
+		}
+
+		@Override
+		public int size() {
+			return this.keys.size();
+		}
+
+		@Override
+		public boolean containsKey(Object key) {
+			return this.keys.contains(key);
+		}
+
+		@Override
+		public @Nullable Object get(Object key) {
+			int index = this.keys.indexOf(key);
+			return index < 0 ? null : valueAt(index);
+		}
+
+		private Object valueAt(int index) {
+			Object value = this.values.get(index);
+			if (value instanceof Segment segment) {
+				if (segment.structuredData()) {
+					value = structuredData(segment);
+				}
+				else {
+					String decoded = decode(segment.start(), segment.end());
+					boolean original = SyslogHeaders.UNDECODED.equals(this.keys.get(index));
+					value = original && this.priorityOpenConsumed ? "<" + decoded : decoded;
+				}
+				this.values.set(index, value);
+			}
+			Assert.state(value != null, "The value must not be null");
+			return value;
+		}
+
+		private String decode(int start, int end) {
+			if (this.message.hasArray()) {
+				return new String(this.message.array(), this.message.arrayOffset() + start, end - start, this.charset);
+			}
+			byte[] bytes = new byte[end - start];
+			this.message.get(start, bytes);
+			return new String(bytes, this.charset);
+		}
+
+		private List<String> structuredData(Segment segment) {
+			List<String> elements = new ArrayList<>();
+			int index = segment.start();
+			while (index < segment.end()) {
+				int end = elementEnd(this.message, index);
+				elements.add(decode(index, end));
+				index = end;
+			}
+			return Collections.unmodifiableList(elements);
+		}
+
+		@Override
+		public Set<Entry<String, Object>> entrySet() {
+			return new AbstractSet<>() {
+
+				@Override
+				public Iterator<Entry<String, Object>> iterator() {
+					return new Iterator<>() {
+
+						private int index;
+
+						@Override
+						public boolean hasNext() {
+							return this.index < size();
+						}
+
+						@Override
+						public Entry<String, Object> next() {
+							if (!hasNext()) {
+								throw new NoSuchElementException();
+							}
+							int current = this.index++;
+							return new SimpleImmutableEntry<>(SyslogFieldMap.this.keys.get(current), valueAt(current));
+						}
+
+					};
+				}
+
+				@Override
+				public int size() {
+					return SyslogFieldMap.this.size();
+				}
+
+			};
+		}
+
+	}
+
+	private record Segment(int start, int end, boolean structuredData) {
+
+	}
+
+}
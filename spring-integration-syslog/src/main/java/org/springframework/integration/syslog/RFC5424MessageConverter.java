@@ -17,8 +17,11 @@
 package org.springframework.integration.syslog;
 
 import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
 import java.util.Map;
 
+import org.jspecify.annotations.Nullable;
+
 import org.springframework.integration.support.AbstractIntegrationMessageBuilder;
 import org.springframework.messaging.Message;
 import org.springframework.util.Assert;
@@ -34,7 +37,9 @@ import org.springframework.util.Assert;
  */
 public class RFC5424MessageConverter extends DefaultMessageConverter {
 
-	private final RFC5424SyslogParser parser;
+	private final @Nullable RFC5424SyslogParser parser;
+
+	private final @Nullable ByteBufferSyslogParser byteBufferParser;
 
 	private String charset = "UTF-8";
 
@@ -51,6 +56,19 @@ public class RFC5424MessageConverter extends DefaultMessageConverter {
 	 */
 	public RFC5424MessageConverter(RFC5424SyslogParser parser) {
 		this.parser = parser;
+		this.byteBufferParser = null;
+	}
+
+	/**
+	 * Construct an instance with a {@link ByteBufferSyslogParser} which parses the
+	 * {@code byte[]} payloads without decoding them into a {@link String} first.
+	 * The charset is defined by the parser.
+	 * @param byteBufferParser the parser.
+	 * @since 7.2
+	 */
+	public RFC5424MessageConverter(ByteBufferSyslogParser byteBufferParser) {
+		this.parser = null;
+		this.byteBufferParser = byteBufferParser;
 	}
 
 	/**
@@ -68,11 +86,16 @@ public class RFC5424MessageConverter extends DefaultMessageConverter {
 		Object originalContent;
 		if (!isMap) {
 			Assert.isInstanceOf(byte[].class, message.getPayload(), "Only byte[] and Map payloads are supported");
-			try {
-				map = this.parser.parse(new String(((byte[]) message.getPayload()), this.charset), 0, false);
+			if (this.byteBufferParser != null) {
+				map = this.byteBufferParser.parse(ByteBuffer.wrap((byte[]) message.getPayload()));
 			}
-			catch (UnsupportedEncodingException e) {
-				throw new IllegalStateException(e);
+			else {
+				try {
+					map = obtainParser().parse(new String(((byte[]) message.getPayload()), this.charset), 0, false);
+				}
+				catch (UnsupportedEncodingException e) {
+					throw new IllegalStateException(e);
+				}
 			}
 			originalContent = message.getPayload();
 		}
@@ -93,4 +116,9 @@ public class RFC5424MessageConverter extends DefaultMessageConverter {
 		return builder.build();
 	}
 
+	private RFC5424SyslogParser obtainParser() {
+		Assert.state(this.parser != null, "No 'RFC5424SyslogParser' provided");
+		return this.parser;
+	}
+
 }
@@ -20,12 +20,16 @@ import java.io.DataInputStream;
 import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.Map;
 
+import org.jspecify.annotations.Nullable;
+
 import org.springframework.core.serializer.Deserializer;
 import org.springframework.integration.ip.tcp.serializer.AbstractByteArraySerializer;
 import org.springframework.integration.ip.tcp.serializer.ByteArrayLfSerializer;
 import org.springframework.integration.ip.tcp.serializer.SoftEndOfStreamException;
+import org.springframework.integration.syslog.ByteBufferSyslogParser;
 import org.springframework.integration.syslog.RFC5424SyslogParser;
 
 /**
@@ -45,6 +49,8 @@ public class RFC6587SyslogDeserializer implements Deserializer<Map<String, ?>> {
 
 	private RFC5424SyslogParser parser = new RFC5424SyslogParser();
 
+	private @Nullable ByteBufferSyslogParser byteBufferParser;
+
 	private int maxMessageSize = AbstractByteArraySerializer.DEFAULT_MAX_MESSAGE_SIZE;
 
 	/**
@@ -74,6 +80,17 @@ public class RFC6587SyslogDeserializer implements Deserializer<Map<String, ?>> {
 		this.parser = parser;
 	}
 
+	/**
+	 * Set a {@link ByteBufferSyslogParser} to parse the frame bytes without decoding them
+	 * into a {@link String} first; when provided, the {@link #setParser(RFC5424SyslogParser) parser}
+	 * is only used to report an incomplete octet-counted frame.
+	 * @param byteBufferParser the parser.
+	 * @since 7.2
+	 */
+	public void setByteBufferParser(@Nullable ByteBufferSyslogParser byteBufferParser) {
+		this.byteBufferParser = byteBufferParser;
+	}
+
 	/**
 	 * Set the maximum frame size accepted for an octet-counted frame. A frame whose
 	 * declared octet count exceeds this value is rejected with an {@link IOException}
@@ -108,10 +125,16 @@ public class RFC6587SyslogDeserializer implements Deserializer<Map<String, ?>> {
 			catch (EOFException e) {
 				shortRead = true;
 			}
+			if (this.byteBufferParser != null && !shortRead) {
+				return this.byteBufferParser.parse(ByteBuffer.wrap(bytes));
+			}
 			line = new String(bytes, getCharset());
 		}
 		else if (peek == '<') {
 			byte[] bytes = this.delimitedDeserializer.deserialize(inputStream);
+			if (this.byteBufferParser != null) {
+				return this.byteBufferParser.parse(ByteBuffer.wrap(bytes), true);
+			}
 			line = "<" + new String(bytes, getCharset());
 		}
 		else if (peek < 0) {
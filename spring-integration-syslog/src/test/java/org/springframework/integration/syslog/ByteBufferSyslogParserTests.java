@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.syslog;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.integration.syslog.inbound.RFC6587SyslogDeserializer;
+import org.springframework.integration.transformer.SyslogToMapTransformer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Artem Bilan
+ *
+ * @since 7.2
+ */
+class ByteBufferSyslogParserTests {
+
+	private static final String RFC5424_ENTRY =
+			"<14>1 2014-06-20T09:14:07+00:00 loggregator d0602076-b14a-4c55-852a-981e7afeed38 DEA - " +
+					"[exampleSDID@32473 iut=\"3\"][exampleSDID@32473 escapedBracket=\"\\]\"] Removing instance";
+
+	private final ByteBufferSyslogParser parser = new ByteBufferSyslogParser();
+
+	@Test
+	void rfc5424EntryIsParsedAsWithStringParser() {
+		Map<String, ?> map = this.parser.parse(ByteBuffer.wrap(RFC5424_ENTRY.getBytes(StandardCharsets.UTF_8)));
+
+		assertThat(map).isEqualTo(new RFC5424SyslogParser().parse(RFC5424_ENTRY, 0, false));
+		assertThat(map.get(SyslogHeaders.HOST)).isEqualTo("loggregator");
+		assertThat(map.get(SyslogHeaders.MSGID)).isEqualTo("-");
+		assertThat(map.get(SyslogHeaders.MESSAGE)).isEqualTo("Removing instance");
+		assertThat((List<?>) map.get(SyslogHeaders.STRUCTURED_DATA))
+				.containsExactly("[exampleSDID@32473 iut=\"3\"]", "[exampleSDID@32473 escapedBracket=\"\\]\"]");
+	}
+
+	@Test
+	void rfc3164EntryIsParsed() {
+		String entry = "<157>JUL 26 22:08:35 WEBERN TESTING[70729]: TEST SYSLOG MESSAGE";
+		Map<String, ?> map = this.parser.parse(ByteBuffer.wrap(entry.getBytes(StandardCharsets.UTF_8)));
+
+		assertThat(map.get(SyslogToMapTransformer.FACILITY)).isEqualTo(19);
+		assertThat(map.get(SyslogToMapTransformer.SEVERITY)).isEqualTo(5);
+		assertThat(map.get(SyslogToMapTransformer.TIMESTAMP)).isEqualTo("JUL 26 22:08:35");
+		assertThat(map.get(SyslogToMapTransformer.HOST)).isEqualTo("WEBERN");
+		assertThat(map.get(SyslogToMapTransformer.TAG)).isEqualTo("TESTING");
+		assertThat(map.get(SyslogToMapTransformer.MESSAGE)).isEqualTo("[70729]: TEST SYSLOG MESSAGE");
+	}
+
+	@Test
+	void invalidEntryIsReportedAsUndecoded() {
+		Map<String, ?> map = this.parser.parse(ByteBuffer.wrap("<14>1 2014-06-20".getBytes(StandardCharsets.UTF_8)));
+
+		assertThat(map.get(SyslogHeaders.DECODE_ERRORS)).isEqualTo("true");
+		assertThat((String) map.get(SyslogHeaders.ERRORS)).startsWith("Unexpected end of message");
+		assertThat(map.get(SyslogHeaders.UNDECODED)).isEqualTo("<14>1 2014-06-20");
+	}
+
+	@Test
+	void deserializerUsesByteBufferParser() throws Exception {
+		RFC6587SyslogDeserializer deserializer = new RFC6587SyslogDeserializer();
+		deserializer.setByteBufferParser(this.parser);
+		byte[] frames = (RFC5424_ENTRY + "\n" + RFC5424_ENTRY.getBytes(StandardCharsets.UTF_8).length + " "
+				+ RFC5424_ENTRY).getBytes(StandardCharsets.UTF_8);
+		ByteArrayInputStream inputStream = new ByteArrayInputStream(frames);
+
+		Map<String, ?> delimited = deserializer.deserialize(inputStream);
+		Map<String, ?> octetCounted = deserializer.deserialize(inputStream);
+
+		assertThat(delimited.get(SyslogHeaders.DECODE_ERRORS)).isEqualTo("false");
+		assertThat(delimited).isEqualTo(octetCounted);
+		assertThat(delimited.get(SyslogHeaders.MESSAGE)).isEqualTo("Removing instance");
+	}
+
+}
@@ -22,6 +22,7 @@ import org.springframework.beans.factory.support.AbstractBeanDefinition;
 import org.springframework.beans.factory.support.BeanDefinitionBuilder;
 import org.springframework.beans.factory.xml.ParserContext;
 import org.springframework.integration.config.xml.AbstractOutboundChannelAdapterParser;
+import org.springframework.integration.config.xml.IntegrationNamespaceUtils;
 import org.springframework.integration.websocket.outbound.WebSocketOutboundMessageHandler;
 
 /**
@@ -37,6 +38,8 @@ public class WebSocketOutboundMessageHandlerParser extends AbstractOutboundChann
 	protected AbstractBeanDefinition parseConsumer(Element element, ParserContext parserContext) {
 		BeanDefinitionBuilder builder = BeanDefinitionBuilder.genericBeanDefinition(WebSocketOutboundMessageHandler.class);
 		WebSocketAdapterParsingUtils.configureWebSocketAdapter(builder, parserContext, element);
+		IntegrationNamespaceUtils.setValueIfAttributeDefined(builder, element, "broadcast");
+		IntegrationNamespaceUtils.setReferenceIfAttributeDefined(builder, element, "broadcast-executor");
 		return builder.getBeanDefinition();
 	}
 
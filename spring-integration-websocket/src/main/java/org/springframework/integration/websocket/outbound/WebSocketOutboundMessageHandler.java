@@ -17,13 +17,21 @@
 package org.springframework.integration.websocket.outbound;
 
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
 import org.jspecify.annotations.Nullable;
 
+import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.integration.handler.AbstractMessageHandler;
 import org.springframework.integration.support.json.JacksonPresent;
+import org.springframework.integration.support.management.metrics.CounterFacade;
+import org.springframework.integration.support.management.metrics.MetricsCaptor;
+import org.springframework.integration.support.management.metrics.TimerFacade;
 import org.springframework.integration.websocket.ClientWebSocketContainer;
 import org.springframework.integration.websocket.IntegrationWebSocketContainer;
 import org.springframework.integration.websocket.support.PassThruSubProtocolHandler;
@@ -41,10 +49,23 @@ import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.WebSocketMessage;
 import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.handler.SessionLimitExceededException;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+import org.springframework.web.socket.messaging.SubProtocolHandler;
 
 /**
+ * The {@link AbstractMessageHandler} to send messages into {@link WebSocketSession}s
+ * of the {@link IntegrationWebSocketContainer}.
+ * <p>
+ * By default, a message is sent to the session resolved from the message headers
+ * (or to the single session of the {@link ClientWebSocketContainer}).
+ * In the {@link #setBroadcast(boolean) broadcast} mode, a message is sent to all the sessions
+ * of the server container: the message is converted and serialized into a frame only once
+ * per {@link SubProtocolHandler}, and this frame is written to each session via the
+ * {@link #setBroadcastExecutor(Executor) broadcast executor}.
+ *
  * @author Artem Bilan
  *
  * @since 4.1
@@ -77,6 +98,14 @@ public class WebSocketOutboundMessageHandler extends AbstractMessageHandler {
 
 	private boolean mergeWithDefaultConverters = false;
 
+	private boolean broadcast;
+
+	private Executor broadcastExecutor = new SyncTaskExecutor();
+
+	private @Nullable TimerFacade broadcastTimer;
+
+	private @Nullable CounterFacade broadcastFailures;
+
 	public WebSocketOutboundMessageHandler(IntegrationWebSocketContainer webSocketContainer) {
 		this(webSocketContainer, new SubProtocolHandlerRegistry(new PassThruSubProtocolHandler()));
 	}
@@ -112,6 +141,39 @@ public class WebSocketOutboundMessageHandler extends AbstractMessageHandler {
 		this.mergeWithDefaultConverters = mergeWithDefaultConverters;
 	}
 
+	/**
+	 * Set to true to send each message to all the sessions of the server container.
+	 * The message is serialized into a frame only once per {@link SubProtocolHandler}
+	 * (using the first session handled by that sub-protocol), so the sub-protocol must not
+	 * produce session-specific frame content.
+	 * The session id header of the message is ignored in this mode.
+	 * A failure to send the frame to a session is logged and does not fail the broadcast;
+	 * a session exceeding its send buffer or time limits (see
+	 * {@link IntegrationWebSocketContainer#setSendBufferSizeLimit(int)} and
+	 * {@link IntegrationWebSocketContainer#setSendBufferOverflowStrategy}) is terminated.
+	 * Not supported for the {@link ClientWebSocketContainer}.
+	 * @param broadcast true to broadcast messages to all the sessions.
+	 * @since 7.2
+	 * @see #setBroadcastExecutor(Executor)
+	 */
+	public void setBroadcast(boolean broadcast) {
+		this.broadcast = broadcast;
+	}
+
+	/**
+	 * Set an {@link Executor} to write the broadcast frame into each session.
+	 * By default, the frames are written on the calling thread one session after another.
+	 * Since the container sessions buffer concurrently sent messages, the write into a session
+	 * already being flushed by another thread does not block.
+	 * @param broadcastExecutor the executor to write a frame into a session.
+	 * @since 7.2
+	 * @see #setBroadcast(boolean)
+	 */
+	public void setBroadcastExecutor(Executor broadcastExecutor) {
+		Assert.notNull(broadcastExecutor, "'broadcastExecutor' must not be null");
+		this.broadcastExecutor = broadcastExecutor;
+	}
+
 	@Override
 	public String getComponentType() {
 		return "websocket:outbound-channel-adapter";
@@ -120,6 +182,8 @@ public class WebSocketOutboundMessageHandler extends AbstractMessageHandler {
 	@Override
 	protected void onInit() {
 		super.onInit();
+		Assert.state(!this.broadcast || !this.client,
+				"The 'broadcast' mode is not supported for the 'ClientWebSocketContainer'");
 		if (!CollectionUtils.isEmpty(this.messageConverters)) {
 			List<MessageConverter> converters = this.messageConverter.getConverters();
 			if (this.mergeWithDefaultConverters) {
@@ -137,8 +201,39 @@ public class WebSocketOutboundMessageHandler extends AbstractMessageHandler {
 		}
 	}
 
+	@Override
+	public void registerMetricsCaptor(MetricsCaptor metricsCaptor) {
+		super.registerMetricsCaptor(metricsCaptor);
+		String name = getComponentName() == null ? "unknown" : getComponentName();
+		this.broadcastTimer =
+				metricsCaptor.timerBuilder("spring.integration.websocket.broadcast")
+						.tag("name", name)
+						.description("The time from the start of a broadcast to the frame written into a session")
+						.build();
+		this.broadcastFailures =
+				metricsCaptor.counterBuilder("spring.integration.websocket.broadcast.failures")
+						.tag("name", name)
+						.description("The number of sessions a broadcast frame has failed to be written into")
+						.build();
+	}
+
+	@Override
+	public void destroy() {
+		super.destroy();
+		if (this.broadcastTimer != null) {
+			this.broadcastTimer.remove();
+		}
+		if (this.broadcastFailures != null) {
+			this.broadcastFailures.remove();
+		}
+	}
+
 	@Override
 	protected void handleMessageInternal(Message<?> message) {
+		if (this.broadcast) {
+			broadcast(message);
+			return;
+		}
 		String sessionId;
 		if (!this.client) {
 			sessionId = this.subProtocolHandlerRegistry.resolveSessionId(message);
@@ -151,29 +246,112 @@ public class WebSocketOutboundMessageHandler extends AbstractMessageHandler {
 		}
 		WebSocketSession session = this.webSocketContainer.getSession(sessionId);
 		try {
-			SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.wrap(message);
-			headers.setLeaveMutable(true);
-			headers.setMessageTypeIfNotSet(SimpMessageType.MESSAGE);
-			Object payload = message.getPayload();
-			Message<?> messageToSend =
-					this.messageConverter.toMessage(payload, headers.getMessageHeaders());
-			Assert.state(messageToSend != null,
-					() -> "The message converter '" + this.messageConverter +
-							"' produced no message to send based on the request message: '" + message + "'");
-			this.subProtocolHandlerRegistry.findProtocolHandler(session).handleMessageToClient(session, messageToSend);
+			this.subProtocolHandlerRegistry.findProtocolHandler(session)
+					.handleMessageToClient(session, toMessageToSend(message));
 		}
 		catch (SessionLimitExceededException ex) {
-			try {
-				logger.error(ex, () -> "Terminating session id '" + sessionId + "'");
-				this.webSocketContainer.closeSession(session, ex.getStatus());
-			}
-			catch (Exception secondException) {
-				logger.error(secondException, () -> "Exception terminating session id '" + sessionId + "'");
-			}
+			terminateSession(session, ex);
 		}
 		catch (Exception e) {
 			throw new MessageHandlingException(message, "Failed to handle message in the [" + this + ']', e);
 		}
 	}
 
+	private Message<?> toMessageToSend(Message<?> message) {
+		SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.wrap(message);
+		headers.setLeaveMutable(true);
+		headers.setMessageTypeIfNotSet(SimpMessageType.MESSAGE);
+		Object payload = message.getPayload();
+		Message<?> messageToSend =
+				this.messageConverter.toMessage(payload, headers.getMessageHeaders());
+		Assert.state(messageToSend != null,
+				() -> "The message converter '" + this.messageConverter +
+						"' produced no message to send based on the request message: '" + message + "'");
+		return messageToSend;
+	}
+
+	private void broadcast(Message<?> message) {
+		long start = System.nanoTime();
+		Map<SubProtocolHandler, WebSocketMessage<?>> frames = new IdentityHashMap<>();
+		Message<?> messageToSend = toMessageToSend(message);
+		for (WebSocketSession session : this.webSocketContainer.getSessions().values()) {
+			SubProtocolHandler protocolHandler = this.subProtocolHandlerRegistry.findProtocolHandler(session);
+			WebSocketMessage<?> frame = frames.get(protocolHandler);
+			if (frame == null) {
+				try {
+					frame = serializeFrame(protocolHandler, session, messageToSend);
+				}
+				catch (Exception ex) {
+					throw new MessageHandlingException(message,
+							"Failed to serialize a broadcast frame in the [" + this + ']', ex);
+				}
+				frames.put(protocolHandler, frame);
+			}
+			WebSocketMessage<?> frameToSend = frame;
+			this.broadcastExecutor.execute(() -> sendFrame(session, frameToSend, start));
+		}
+	}
+
+	private static WebSocketMessage<?> serializeFrame(SubProtocolHandler protocolHandler, WebSocketSession session,
+			Message<?> messageToSend) throws Exception { // NOSONAR
+
+		FrameCapturingSession frameCapturingSession = new FrameCapturingSession(session);
+		protocolHandler.handleMessageToClient(frameCapturingSession, messageToSend);
+		WebSocketMessage<?> frame = frameCapturingSession.frame;
+		Assert.state(frame != null,
+				() -> "The sub-protocol handler '" + protocolHandler + "' produced no frame for: " + messageToSend);
+		return frame;
+	}
+
+	private void sendFrame(WebSocketSession session, WebSocketMessage<?> frame, long broadcastStart) {
+		try {
+			session.sendMessage(frame);
+			if (this.broadcastTimer != null) {
+				this.broadcastTimer.record(System.nanoTime() - broadcastStart, TimeUnit.NANOSECONDS);
+			}
+		}
+		catch (Exception ex) {
+			if (this.broadcastFailures != null) {
+				this.broadcastFailures.increment();
+			}
+			if (ex instanceof SessionLimitExceededException sessionLimitExceededException) {
+				terminateSession(session, sessionLimitExceededException);
+			}
+			else {
+				logger.warn(ex, () -> "Failed to send a broadcast frame to session id '" + session.getId() + "'");
+			}
+		}
+	}
+
+	private void terminateSession(WebSocketSession session, SessionLimitExceededException ex) {
+		String sessionId = session.getId();
+		try {
+			logger.error(ex, () -> "Terminating session id '" + sessionId + "'");
+			this.webSocketContainer.closeSession(session, ex.getStatus());
+		}
+		catch (Exception secondException) {
+			logger.error(secondException, () -> "Exception terminating session id '" + sessionId + "'");
+		}
+	}
+
+	/**
+	 * The {@link WebSocketSessionDecorator} to capture a frame serialized by a {@link SubProtocolHandler}
+	 * instead of sending it.
+	 */
+	private static final class FrameCapturingSession extends WebSocketSessionDecorator {
+
+		private @Nullable WebSocketMessage<?> frame;
+
+		FrameCapturingSession(WebSocketSession delegate) {
+			super(delegate);
+		}
+
+		@Override
+		public void sendMessage(WebSocketMessage<?> message) {
+			Assert.state(this.frame == null, "The sub-protocol handler produced more than one frame");
+			this.frame = message;
+		}
+
+	}
+
 }
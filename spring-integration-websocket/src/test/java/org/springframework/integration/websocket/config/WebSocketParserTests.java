@@ -21,6 +21,7 @@ import java.net.URISyntaxException;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 import org.junit.jupiter.api.Test;
 
@@ -135,6 +136,14 @@ public class WebSocketParserTests {
 	@Qualifier("customOutboundAdapter.handler")
 	private WebSocketOutboundMessageHandler customOutboundAdapter;
 
+	@Autowired
+	@Qualifier("broadcastOutboundAdapter.handler")
+	private WebSocketOutboundMessageHandler broadcastOutboundAdapter;
+
+	@Autowired
+	@Qualifier("broadcastExecutor")
+	private Executor broadcastExecutor;
+
 	@Autowired
 	private WebSocketHandlerDecoratorFactory decoratorFactory;
 
@@ -325,6 +334,13 @@ public class WebSocketParserTests {
 		assertThat(TestUtils.<Boolean>getPropertyValue(this.customOutboundAdapter, "client")).isTrue();
 	}
 
+	@Test
+	public void testBroadcastOutboundChannelAdapter() {
+		assertThat(TestUtils.<Boolean>getPropertyValue(this.broadcastOutboundAdapter, "broadcast")).isTrue();
+		assertThat(TestUtils.<Executor>getPropertyValue(this.broadcastOutboundAdapter, "broadcastExecutor"))
+				.isSameAs(this.broadcastExecutor);
+	}
+
 	private static class TestWebSocketHandlerDecoratorFactory implements WebSocketHandlerDecoratorFactory {
 
 		@Override
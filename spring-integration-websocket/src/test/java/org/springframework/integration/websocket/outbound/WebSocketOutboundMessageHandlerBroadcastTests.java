@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.websocket.outbound;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.integration.websocket.ClientWebSocketContainer;
+import org.springframework.integration.websocket.IntegrationWebSocketContainer;
+import org.springframework.integration.websocket.ServerWebSocketContainer;
+import org.springframework.messaging.support.GenericMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.client.WebSocketClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * @author Artem Bilan
+ *
+ * @since 7.2
+ */
+class WebSocketOutboundMessageHandlerBroadcastTests {
+
+	@Test
+	void broadcastSendsSameFrameToAllSessions() throws Exception {
+		ServerWebSocketContainer container = new ServerWebSocketContainer("/ws");
+		WebSocketSession session1 = mockSession(container, "session1");
+		WebSocketSession session2 = mockSession(container, "session2");
+		WebSocketSession failingSession = mockSession(container, "failingSession");
+		willThrow(new IOException("intentional")).given(failingSession).sendMessage(any());
+
+		WebSocketOutboundMessageHandler handler = new WebSocketOutboundMessageHandler(container);
+		handler.setBroadcast(true);
+		handler.setBeanFactory(mock(BeanFactory.class));
+		handler.afterPropertiesSet();
+
+		handler.handleMessage(new GenericMessage<>("Hello everyone"));
+
+		ArgumentCaptor<WebSocketMessage<?>> frame1 = ArgumentCaptor.captor();
+		verify(session1).sendMessage(frame1.capture());
+		ArgumentCaptor<WebSocketMessage<?>> frame2 = ArgumentCaptor.captor();
+		verify(session2).sendMessage(frame2.capture());
+
+		assertThat(frame1.getValue())
+				.isInstanceOf(TextMessage.class)
+				.isSameAs(frame2.getValue())
+				.extracting(WebSocketMessage::getPayload)
+				.isEqualTo("Hello everyone");
+		verify(failingSession).sendMessage(frame1.getValue());
+	}
+
+	@Test
+	void broadcastIsNotSupportedForClientContainer() {
+		WebSocketOutboundMessageHandler handler =
+				new WebSocketOutboundMessageHandler(
+						new ClientWebSocketContainer(mock(WebSocketClient.class), "ws://localhost/ws"));
+		handler.setBroadcast(true);
+		handler.setBeanFactory(mock(BeanFactory.class));
+
+		assertThatIllegalStateException()
+				.isThrownBy(handler::afterPropertiesSet)
+				.withMessageContaining("'broadcast' mode is not supported");
+	}
+
+	private static WebSocketSession mockSession(IntegrationWebSocketContainer container, String id) throws Exception {
+		WebSocketSession session = mock(WebSocketSession.class);
+		given(session.getId()).willReturn(id);
+		given(session.isOpen()).willReturn(true);
+		container.getWebSocketHandler().afterConnectionEstablished(session);
+		return session;
+	}
+
+}
@@ -17,10 +17,15 @@
 package org.springframework.integration.zeromq.channel;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.jspecify.annotations.Nullable;
@@ -30,12 +35,15 @@ import org.zeromq.ZMQ;
 import reactor.core.Disposable;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
 import org.springframework.integration.channel.AbstractMessageChannel;
 import org.springframework.integration.mapping.BytesMessageMapper;
 import org.springframework.integration.support.json.EmbeddedHeadersJsonMessageMapper;
+import org.springframework.integration.support.management.metrics.GaugeFacade;
+import org.springframework.integration.support.management.metrics.MetricsCaptor;
 import org.springframework.integration.zeromq.ZeroMqProxy;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageHandler;
@@ -61,6 +69,10 @@ import org.springframework.util.Assert;
  * <p>
  * This way sending and receiving operations on this channel are similar to interaction over a messaging broker.
  * <p>
+ * With a {@link #setBatchSize(int) batch size} greater than 1, messages sent concurrently are packed
+ * into ZeroMQ multipart messages (a frame per message) by the publishing thread.
+ * The subscriber side always produces a message for each frame of a received multipart message.
+ * <p>
  * An internal logic of this message channel implementation is based on the project Reactor using its
  * {@link Mono}, {@link Flux} and {@link Scheduler} API for better thread model and flow control to avoid
  * concurrency primitives for multi-publisher(subscriber) communication within the same application.
@@ -90,6 +102,11 @@ public class ZeroMqChannel extends AbstractMessageChannel implements Subscribabl
 
 	private final Flux<? extends Message<?>> subscriberData;
 
+	private final Queue<PendingFrame> pendingFrames = new ConcurrentLinkedQueue<>();
+
+	@Nullable
+	private GaugeFacade pendingGauge;
+
 	private Duration consumeDelay = DEFAULT_CONSUME_DELAY;
 
 	private BytesMessageMapper messageMapper = new EmbeddedHeadersJsonMessageMapper();
@@ -100,6 +117,12 @@ public class ZeroMqChannel extends AbstractMessageChannel implements Subscribabl
 	private Consumer<ZMQ.Socket> subscribeSocketConfigurer = (socket) -> {
 	};
 
+	private int batchSize = 1;
+
+	private int sendHighWaterMark = -1;
+
+	private int receiveHighWaterMark = -1;
+
 	@Nullable
 	private ZeroMqProxy zeroMqProxy;
 
@@ -172,7 +195,12 @@ public class ZeroMqChannel extends AbstractMessageChannel implements Subscribabl
 										? SocketType.PAIR
 										: (this.pubSub ? SocketType.PUB : SocketType.PUSH))
 				))
-				.doOnNext((socket) -> this.sendSocketConfigurer.accept(socket))
+				.doOnNext((socket) -> {
+					if (this.sendHighWaterMark >= 0) {
+						socket.setSndHWM(this.sendHighWaterMark);
+					}
+					this.sendSocketConfigurer.accept(socket);
+				})
 				.doOnNext((socket) ->
 						socket.connect(this.connectSendUrl != null
 								? this.connectSendUrl
@@ -188,7 +216,12 @@ public class ZeroMqChannel extends AbstractMessageChannel implements Subscribabl
 								this.connectSubscribeUrl == null
 										? SocketType.PAIR
 										: (this.pubSub ? SocketType.SUB : SocketType.PULL))))
-				.doOnNext((socket) -> this.subscribeSocketConfigurer.accept(socket))
+				.doOnNext((socket) -> {
+					if (this.receiveHighWaterMark >= 0) {
+						socket.setRcvHWM(this.receiveHighWaterMark);
+					}
+					this.subscribeSocketConfigurer.accept(socket);
+				})
 				.doOnNext((socket) -> {
 					if (this.connectSubscribeUrl != null) {
 						if (this.pubSub) {
@@ -211,20 +244,24 @@ public class ZeroMqChannel extends AbstractMessageChannel implements Subscribabl
 							if (this.initialized) {
 								byte[] data = socket.recv(ZMQ.NOBLOCK);
 								if (data != null) {
-									return Mono.just(data);
+									return Mono.just(receiveRemainingFrames(socket, data));
 								}
 							}
 							return Mono.empty();
 						})
 						.publishOn(Schedulers.parallel())
-						.map((data) -> this.messageMapper.toMessage(data))
+						.map((frames) ->
+								frames.stream()
+										.<Message<?>>map((data) -> this.messageMapper.toMessage(data))
+										.toList())
 						.doOnError((error) -> logger.error(error,
 								() -> "Error processing ZeroMQ message in the " + this))
 						.repeatWhenEmpty((repeat) ->
 								this.initialized
 										? repeat.delayElements(this.consumeDelay)
 										: repeat)
-						.repeat(() -> this.initialized);
+						.repeat(() -> this.initialized)
+						.flatMapIterable(Function.identity());
 
 		if (this.pubSub) {
 			receiveData =
@@ -234,6 +271,18 @@ public class ZeroMqChannel extends AbstractMessageChannel implements Subscribabl
 		return receiveData;
 	}
 
+	private static List<byte[]> receiveRemainingFrames(ZMQ.Socket socket, byte[] firstFrame) {
+		if (!socket.hasReceiveMore()) {
+			return List.of(firstFrame);
+		}
+		List<byte[]> frames = new ArrayList<>();
+		frames.add(firstFrame);
+		while (socket.hasReceiveMore()) {
+			frames.add(socket.recv());
+		}
+		return frames;
+	}
+
 	/**
 	 * Configure a connection to the ZeroMQ proxy with the pair of ports over colon
 	 * for proxy frontend and backend sockets. Mutually exclusive with the {@link #setZeroMqProxy(ZeroMqProxy)}.
@@ -300,6 +349,64 @@ public class ZeroMqChannel extends AbstractMessageChannel implements Subscribabl
 		this.subscribeSocketConfigurer = subscribeSocketConfigurer;
 	}
 
+	/**
+	 * Set the maximum number of messages to pack into one ZeroMQ multipart message.
+	 * Messages are queued by the sending threads and the publishing thread sends all the queued
+	 * messages in multipart messages of up to this number of frames.
+	 * Effective only when several threads send to this channel concurrently.
+	 * @param batchSize the maximum number of frames in a multipart message; defaults to 1 (no batching).
+	 * @since 7.2
+	 */
+	public void setBatchSize(int batchSize) {
+		Assert.isTrue(batchSize > 0, "'batchSize' must be greater than 0");
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Set the high-water mark for outbound messages of the send socket.
+	 * The send operation blocks when the mark is reached.
+	 * @param sendHighWaterMark the maximum number of outstanding messages; 0 means no limit.
+	 * Defaults to the ZeroMQ default (1000).
+	 * @since 7.2
+	 * @see ZMQ.Socket#setSndHWM(int)
+	 */
+	public void setSendHighWaterMark(int sendHighWaterMark) {
+		Assert.isTrue(sendHighWaterMark >= 0, "'sendHighWaterMark' must not be negative");
+		this.sendHighWaterMark = sendHighWaterMark;
+	}
+
+	/**
+	 * Set the high-water mark for inbound messages of the subscribe socket.
+	 * @param receiveHighWaterMark the maximum number of outstanding messages; 0 means no limit.
+	 * Defaults to the ZeroMQ default (1000).
+	 * @since 7.2
+	 * @see ZMQ.Socket#setRcvHWM(int)
+	 */
+	public void setReceiveHighWaterMark(int receiveHighWaterMark) {
+		Assert.isTrue(receiveHighWaterMark >= 0, "'receiveHighWaterMark' must not be negative");
+		this.receiveHighWaterMark = receiveHighWaterMark;
+	}
+
+	/**
+	 * Return the number of messages queued for sending in a batch.
+	 * @return the number of pending messages.
+	 * @since 7.2
+	 */
+	public int getPendingFrameCount() {
+		return this.pendingFrames.size();
+	}
+
+	@Override
+	public void registerMetricsCaptor(MetricsCaptor metricsCaptor) {
+		super.registerMetricsCaptor(metricsCaptor);
+		this.pendingGauge =
+				metricsCaptor.gaugeBuilder("spring.integration.zeromq.channel.pending", this,
+								(channel) -> getPendingFrameCount())
+						.tag("name", getComponentName() == null ? "unknown" : getComponentName())
+						.description("The number of messages queued for sending in a batch")
+						.build();
+	}
+
 	@Override
 	protected void onInit() {
 		Assert.state(this.zeroMqProxy == null || this.connectSendUrl == null,
@@ -316,15 +423,67 @@ public class ZeroMqChannel extends AbstractMessageChannel implements Subscribabl
 		byte[] data = this.messageMapper.fromMessage(message);
 		Assert.state(data != null, () -> "The '" + this.messageMapper + "' returned null for '" + message + '\'');
 
-		Mono<Boolean> sendMono = this.sendSocket.map((socket) -> socket.send(data));
-		Boolean sent =
-				timeout > 0
-						? sendMono.block(Duration.ofMillis(timeout))
-						: sendMono.block();
+		Boolean sent;
+		if (this.batchSize > 1) {
+			sent = sendBatched(data, timeout);
+		}
+		else {
+			Mono<Boolean> sendMono = this.sendSocket.map((socket) -> socket.send(data));
+			sent =
+					timeout > 0
+							? sendMono.block(Duration.ofMillis(timeout))
+							: sendMono.block();
+		}
 
 		return Boolean.TRUE.equals(sent);
 	}
 
+	private @Nullable Boolean sendBatched(byte[] data, long timeout) {
+		PendingFrame pendingFrame = new PendingFrame(data, Sinks.one());
+		this.pendingFrames.add(pendingFrame);
+		// The frame may be sent by the publisher thread on behalf of another sender,
+		// so wait for the result of this frame, not of this send task.
+		Mono<Boolean> sendMono =
+				this.sendSocket.doOnNext(this::sendPendingFrames)
+						.then(pendingFrame.result().asMono());
+		if (timeout > 0) {
+			// A frame still queued on timeout must not be sent later by another sender;
+			// otherwise it has been taken by the publisher thread already, and its result is coming.
+			sendMono =
+					sendMono.timeout(Duration.ofMillis(timeout),
+							Mono.defer(() ->
+									this.pendingFrames.remove(pendingFrame)
+											? Mono.just(false)
+											: pendingFrame.result().asMono()));
+		}
+		return sendMono.block();
+	}
+
+	/**
+	 * Send all the queued frames in multipart messages of up to {@link #batchSize} frames,
+	 * and complete the result of each frame.
+	 * Called on the publisher thread only; a frame queued by a concurrent sender may already
+	 * have been sent by a previous call.
+	 */
+	private void sendPendingFrames(ZMQ.Socket socket) {
+		int framesInBatch = 0;
+		PendingFrame frame = this.pendingFrames.poll();
+		while (frame != null) {
+			PendingFrame next = this.pendingFrames.poll();
+			boolean more = next != null && ++framesInBatch < this.batchSize;
+			try {
+				frame.result().tryEmitValue(socket.send(frame.data(), more ? ZMQ.SNDMORE : 0));
+			}
+			catch (RuntimeException ex) {
+				frame.result().tryEmitError(ex);
+			}
+			if (!more) {
+				framesInBatch = 0;
+			}
+			frame = next;
+		}
+	}
+
 	@Override
 	public boolean subscribe(MessageHandler handler) {
 		Assert.state(this.initialized, "the channel is not initialized yet or already destroyed");
@@ -355,6 +514,13 @@ public class ZeroMqChannel extends AbstractMessageChannel implements Subscribabl
 		if (this.subscriberDataDisposable != null) {
 			this.subscriberDataDisposable.dispose(); // NOSONAR
 		}
+		if (this.pendingGauge != null) {
+			this.pendingGauge.remove();
+		}
+	}
+
+	private record PendingFrame(byte[] data, Sinks.One<Boolean> result) {
+
 	}
 
 }
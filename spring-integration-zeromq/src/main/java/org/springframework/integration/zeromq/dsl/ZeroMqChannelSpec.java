@@ -106,4 +106,40 @@ public class ZeroMqChannelSpec extends MessageChannelSpec<ZeroMqChannelSpec, Zer
 		return this;
 	}
 
+	/**
+	 * Set the maximum number of messages to pack into one ZeroMQ multipart message.
+	 * @param batchSize the maximum number of frames in a multipart message; defaults to 1 (no batching).
+	 * @return the spec
+	 * @since 7.2
+	 * @see ZeroMqChannel#setBatchSize(int)
+	 */
+	public ZeroMqChannelSpec batchSize(int batchSize) {
+		this.channel.setBatchSize(batchSize);
+		return this;
+	}
+
+	/**
+	 * Set the high-water mark for outbound messages of the send socket.
+	 * @param sendHighWaterMark the maximum number of outstanding messages; 0 means no limit.
+	 * @return the spec
+	 * @since 7.2
+	 * @see ZeroMqChannel#setSendHighWaterMark(int)
+	 */
+	public ZeroMqChannelSpec sendHighWaterMark(int sendHighWaterMark) {
+		this.channel.setSendHighWaterMark(sendHighWaterMark);
+		return this;
+	}
+
+	/**
+	 * Set the high-water mark for inbound messages of the subscribe socket.
+	 * @param receiveHighWaterMark the maximum number of outstanding messages; 0 means no limit.
+	 * @return the spec
+	 * @since 7.2
+	 * @see ZeroMqChannel#setReceiveHighWaterMark(int)
+	 */
+	public ZeroMqChannelSpec receiveHighWaterMark(int receiveHighWaterMark) {
+		this.channel.setReceiveHighWaterMark(receiveHighWaterMark);
+		return this;
+	}
+
 }
@@ -160,6 +160,18 @@ public class ZeroMqMessageHandlerSpec
 		return this;
 	}
 
+	/**
+	 * Set the high-water mark for outbound messages of the socket.
+	 * @param highWaterMark the maximum number of outstanding messages; 0 means no limit.
+	 * @return the spec
+	 * @since 7.2
+	 * @see ZeroMqMessageHandler#setHighWaterMark(int)
+	 */
+	public ZeroMqMessageHandlerSpec highWaterMark(int highWaterMark) {
+		this.reactiveMessageHandler.setHighWaterMark(highWaterMark);
+		return this;
+	}
+
 	/**
 	 * Specify a topic the {@link SocketType#PUB} socket is going to use for distributing messages into the
 	 * subscriptions. It is ignored for all other {@link SocketType}s supported.
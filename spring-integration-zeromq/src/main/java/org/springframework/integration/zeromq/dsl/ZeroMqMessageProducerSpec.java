@@ -98,6 +98,18 @@ public class ZeroMqMessageProducerSpec
 		return this;
 	}
 
+	/**
+	 * Set the high-water mark for inbound messages of the socket.
+	 * @param highWaterMark the maximum number of outstanding messages; 0 means no limit.
+	 * @return the spec
+	 * @since 7.2
+	 * @see ZeroMqMessageProducer#setHighWaterMark(int)
+	 */
+	public ZeroMqMessageProducerSpec highWaterMark(int highWaterMark) {
+		this.target.setHighWaterMark(highWaterMark);
+		return this;
+	}
+
 	/**
 	 * Specify topics the {@link SocketType#SUB} socket is going to use for subscription.
 	 * It is ignored for all other {@link SocketType}s supported.
@@ -92,6 +92,8 @@ public class ZeroMqMessageProducer extends MessageProducerSupport {
 
 	private @Nullable String connectUrl;
 
+	private int highWaterMark = -1;
+
 	@SuppressWarnings("NullAway.Init")
 	private volatile Mono<ZMQ.Socket> socketMono;
 
@@ -187,6 +189,18 @@ public class ZeroMqMessageProducer extends MessageProducerSupport {
 		this.bindPort.set(port);
 	}
 
+	/**
+	 * Set the high-water mark for inbound messages of the socket.
+	 * @param highWaterMark the maximum number of outstanding messages; 0 means no limit.
+	 * Defaults to the ZeroMQ default (1000).
+	 * @since 7.2
+	 * @see ZMQ.Socket#setRcvHWM(int)
+	 */
+	public void setHighWaterMark(int highWaterMark) {
+		Assert.isTrue(highWaterMark >= 0, "'highWaterMark' must not be negative");
+		this.highWaterMark = highWaterMark;
+	}
+
 	/**
 	 * Return the port a socket is bound or 0 if this message producer has not been started yet
 	 * or the socket is connected - not bound.
@@ -253,7 +267,12 @@ public class ZeroMqMessageProducer extends MessageProducerSupport {
 		this.socketMono =
 				Mono.just(this.context.createSocket(this.socketType))
 						.publishOn(this.consumerScheduler)
-						.doOnNext(this.socketConfigurer)
+						.doOnNext((socket) -> {
+							if (this.highWaterMark >= 0) {
+								socket.setRcvHWM(this.highWaterMark);
+							}
+							this.socketConfigurer.accept(socket);
+						})
 						.doOnNext((socket) -> {
 							if (SocketType.SUB.equals(this.socketType)) {
 								for (String topic : this.topics) {
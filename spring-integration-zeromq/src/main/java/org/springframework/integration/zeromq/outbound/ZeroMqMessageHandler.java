@@ -25,7 +25,6 @@ import java.util.function.Supplier;
 import org.jspecify.annotations.Nullable;
 import org.zeromq.SocketType;
 import org.zeromq.ZContext;
-import org.zeromq.ZFrame;
 import org.zeromq.ZMQ;
 import org.zeromq.ZMsg;
 import reactor.core.Disposable;
@@ -61,6 +60,8 @@ import org.springframework.util.Assert;
  * <p>
  * When the payload of the request message is a {@link ZMsg}, no any conversion and topic extraction happen:
  * the {@link ZMsg} is sent into a socket as is, and it is not destroyed for possible further reusing.
+ * Otherwise, the topic (if any) and the converted data are sent as frames directly into the socket,
+ * without an intermediate {@link ZMsg}.
  *
  * @author Artem Bilan
  * @author Alessio Matricardi
@@ -98,6 +99,8 @@ public class ZeroMqMessageHandler extends AbstractReactiveMessageHandler
 
 	private volatile boolean wrapTopic = true;
 
+	private int highWaterMark = -1;
+
 	private final ZContext context;
 
 	private final SocketType socketType;
@@ -261,6 +264,19 @@ public class ZeroMqMessageHandler extends AbstractReactiveMessageHandler
 		this.wrapTopic = wrapTopic;
 	}
 
+	/**
+	 * Set the high-water mark for outbound messages of the socket.
+	 * Depending on the socket type, the send operation blocks or drops messages when the mark is reached.
+	 * @param highWaterMark the maximum number of outstanding messages; 0 means no limit.
+	 * Defaults to the ZeroMQ default (1000).
+	 * @since 7.2
+	 * @see ZMQ.Socket#setSndHWM(int)
+	 */
+	public void setHighWaterMark(int highWaterMark) {
+		Assert.isTrue(highWaterMark >= 0, "'highWaterMark' must not be negative");
+		this.highWaterMark = highWaterMark;
+	}
+
 	/**
 	 * Return the port a socket is bound or 0 if this message producer has not been started yet
 	 * or the socket is connected - not bound.
@@ -296,7 +312,12 @@ public class ZeroMqMessageHandler extends AbstractReactiveMessageHandler
 			this.socketMono =
 					Mono.just(this.context.createSocket(this.socketType))
 							.publishOn(this.publisherScheduler)
-							.doOnNext((socket) -> this.socketConfigurer.accept(socket))
+							.doOnNext((socket) -> {
+								if (this.highWaterMark >= 0) {
+									socket.setSndHWM(this.highWaterMark);
+								}
+								this.socketConfigurer.accept(socket);
+							})
 							.doOnNext((socket) -> {
 								if (this.connectUrl != null) {
 									socket.connect(this.connectUrl.get());
@@ -328,31 +349,31 @@ public class ZeroMqMessageHandler extends AbstractReactiveMessageHandler
 		Assert.state(this.initialized, "the message handler is not initialized yet or already destroyed");
 		return this.socketMono
 				.doOnNext((socket) -> {
-					ZMsg msg;
-					if (message.getPayload() instanceof ZMsg) {
-						msg = (ZMsg) message.getPayload();
+					if (message.getPayload() instanceof ZMsg msg) {
+						msg.send(socket, false);
 					}
 					else {
-						msg = new ZMsg();
-						msg.add(this.messageMapper.fromMessage(message));
-						if (socket.base() instanceof Pub) {
-							String topic = this.topicExpression.getValue(this.evaluationContext, message, String.class);
-							if (topic != null) {
-								ZFrame topicFrame = new ZFrame(topic);
-								if (this.wrapTopic) {
-									msg.wrap(topicFrame);
-								}
-								else {
-									msg.push(topicFrame);
-								}
-							}
-						}
+						sendFrames(socket, message);
 					}
-					msg.send(socket, false);
 				})
 				.then();
 	}
 
+	private void sendFrames(ZMQ.Socket socket, Message<?> message) {
+		byte[] data = this.messageMapper.fromMessage(message);
+		Assert.state(data != null, () -> "The '" + this.messageMapper + "' returned null for '" + message + '\'');
+		if (socket.base() instanceof Pub) {
+			String topic = this.topicExpression.getValue(this.evaluationContext, message, String.class);
+			if (topic != null) {
+				socket.sendMore(topic);
+				if (this.wrapTopic) {
+					socket.sendMore(ZMQ.MESSAGE_SEPARATOR);
+				}
+			}
+		}
+		socket.send(data);
+	}
+
 	@Override
 	public void destroy() {
 		this.initialized = false;
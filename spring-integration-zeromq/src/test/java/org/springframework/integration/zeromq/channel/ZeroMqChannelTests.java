@@ -18,10 +18,15 @@ package org.springframework.integration.zeromq.channel;
 
 import java.time.Duration;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Test;
@@ -31,6 +36,7 @@ import org.zeromq.ZCert;
 import org.zeromq.ZContext;
 import org.zeromq.ZMQ;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 import org.springframework.integration.support.json.EmbeddedHeadersJsonMessageMapper;
 import org.springframework.integration.test.support.TestApplicationContextAware;
@@ -115,6 +121,78 @@ public class ZeroMqChannelTests implements TestApplicationContextAware {
 		assertThat(customMessageMapperCalled.get()).isTrue();
 	}
 
+	@Test
+	void testBatchedSendAndReceive() {
+		ZeroMqChannel channel = new ZeroMqChannel(Z_CONTEXT);
+		channel.setBeanName("testChannelBatch");
+		channel.setConsumeDelay(Duration.ofMillis(10));
+		channel.setBatchSize(10);
+		channel.setSendHighWaterMark(500);
+		channel.setReceiveHighWaterMark(600);
+		channel.setBeanFactory(TEST_INTEGRATION_CONTEXT);
+		channel.afterPropertiesSet();
+
+		Mono<ZMQ.Socket> sendSocketMono = TestUtils.getPropertyValue(channel, "sendSocket");
+		assertThat(sendSocketMono.block(Duration.ofSeconds(10)).getSndHWM()).isEqualTo(500);
+		Mono<ZMQ.Socket> subscribeSocketMono = TestUtils.getPropertyValue(channel, "subscribeSocket");
+		assertThat(subscribeSocketMono.block(Duration.ofSeconds(10)).getRcvHWM()).isEqualTo(600);
+
+		Set<Object> received = ConcurrentHashMap.newKeySet();
+		channel.subscribe((message) -> received.add(message.getPayload()));
+
+		IntStream.range(0, 100)
+				.parallel()
+				.forEach((i) -> assertThat(channel.send(new GenericMessage<>("test" + i), 10000)).isTrue());
+
+		await().untilAsserted(() -> assertThat(received).hasSize(100).contains("test0", "test99"));
+		assertThat(channel.getPendingFrameCount()).isZero();
+
+		channel.destroy();
+	}
+
+	@Test
+	void testBatchedSendTimeoutDiscardsQueuedFrame() throws Exception {
+		ZeroMqChannel channel = new ZeroMqChannel(Z_CONTEXT);
+		channel.setBeanName("testChannelBatchTimeout");
+		channel.setConsumeDelay(Duration.ofMillis(10));
+		channel.setBatchSize(10);
+		channel.setBeanFactory(TEST_INTEGRATION_CONTEXT);
+		channel.afterPropertiesSet();
+
+		BlockingQueue<Object> received = new LinkedBlockingQueue<>();
+		channel.subscribe((message) -> received.add(message.getPayload()));
+
+		Mono<ZMQ.Socket> sendSocketMono = TestUtils.getPropertyValue(channel, "sendSocket");
+		sendSocketMono.block(Duration.ofSeconds(10));
+
+		CountDownLatch publisherBlocked = new CountDownLatch(1);
+		Scheduler publisherScheduler = TestUtils.getPropertyValue(channel, "publisherScheduler");
+		publisherScheduler.schedule(() -> {
+			try {
+				publisherBlocked.await(10, TimeUnit.SECONDS);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+		});
+
+		CompletableFuture<Boolean> sentFuture =
+				CompletableFuture.supplyAsync(() -> channel.send(new GenericMessage<>("sent"), 10000));
+		await().untilAsserted(() -> assertThat(channel.getPendingFrameCount()).isEqualTo(1));
+
+		assertThat(channel.send(new GenericMessage<>("timedOut"), 100)).isFalse();
+		assertThat(channel.getPendingFrameCount()).isEqualTo(1);
+
+		publisherBlocked.countDown();
+
+		assertThat(sentFuture.get(10, TimeUnit.SECONDS)).isTrue();
+		assertThat(received.poll(10, TimeUnit.SECONDS)).isEqualTo("sent");
+		assertThat(received.poll(100, TimeUnit.MILLISECONDS)).isNull();
+		assertThat(channel.getPendingFrameCount()).isZero();
+
+		channel.destroy();
+	}
+
 	@Test
 	void testPubSubLocal() throws InterruptedException {
 		ZeroMqChannel channel = new ZeroMqChannel(Z_CONTEXT, true);